@@ -18,178 +18,396 @@
 package walkingkooka;
 
 import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.LongRange;
 import walkingkooka.collect.Range;
 import walkingkooka.text.Ascii;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * A {@link HasValue} that holds a byte array.
+ * <br>
+ * Operations such as {@link #extract(Range)} and {@link #concat(Binary)} do not copy any bytes, instead they return
+ * views that share the bytes of the original {@link Binary}. Note a small view will keep the entire original alive.
  */
-public final class Binary implements HasValue<byte[]>,
+public abstract class Binary implements HasValue<byte[]>,
     CanBeEmpty,
     HasBinary {
 
     /**
      * A {@link Binary} with zero bytes.
      */
-    public final static Binary EMPTY = new Binary(new byte[0]);
+    public final static Binary EMPTY = BinaryArray.with(
+        new byte[0],
+        0,
+        0
+    );
 
     public static Binary with(final byte[] value) {
         Objects.requireNonNull(value, "value");
 
         return value.length == 0 ?
             EMPTY :
-            new Binary(
+            BinaryArray.with(
                 Arrays.copyOf(
                     value,
                     value.length
+                ),
+                0,
+                value.length
+            );
+    }
+
+    /**
+     * Creates a {@link Binary} which is the concatenation of all the given {@link Binary binaries} without copying any bytes.
+     */
+    public static Binary composite(final List<Binary> binaries) {
+        return BinaryComposite.with(binaries);
+    }
+
+    /**
+     * Creates a {@link Binary} holding the remaining bytes of the given {@link ByteBuffer}, which may be a direct buffer.
+     * The bytes are not copied, and the given buffer should not be modified afterwards.
+     */
+    @GwtIncompatible
+    public static Binary byteBuffer(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+
+        return buffer.hasRemaining() ?
+            BinaryByteBuffer.with(buffer) :
+            EMPTY;
+    }
+
+    /**
+     * Memory maps the given {@link Range} of the file. The bytes are never read on to the heap, and the file should not
+     * be modified while the {@link Binary} is in use.
+     */
+    @GwtIncompatible
+    public static Binary mapped(final Path path,
+                                final Range<Long> range) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(range, "range");
+
+        try (final FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = file.size();
+
+            final BinaryRangeVisitor bounds = BinaryRangeVisitor.bounds(
+                range,
+                fileSize
+            );
+            return mapped0(
+                file,
+                bounds.lower,
+                bounds.upper,
+                range
+            );
+        }
+    }
+
+    /**
+     * Memory maps the given {@link LongRange} of the file, without boxing any of the bounds.
+     */
+    @GwtIncompatible
+    public static Binary mapped(final Path path,
+                                final LongRange range) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(range, "range");
+
+        try (final FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = file.size();
+
+            return mapped0(
+                file,
+                lower(range),
+                upper(range, fileSize),
+                range
+            );
+        }
+    }
+
+    @GwtIncompatible
+    private static Binary mapped0(final FileChannel file,
+                                  final long lower,
+                                  final long upper,
+                                  final Object range) throws IOException {
+        final long fileSize = file.size();
+        if (lower < 0 || upper > fileSize || lower > upper) {
+            throw new IllegalArgumentException("Range out of bounds " + range + " for file with size: " + fileSize);
+        }
+
+        final long size = upper - lower;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range " + range + " size " + size + " > " + Integer.MAX_VALUE);
+        }
+
+        return 0 == size ?
+            EMPTY :
+            BinaryByteBuffer.with(
+                file.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    lower,
+                    size
                 )
             );
     }
 
-    private Binary(final byte[] value) {
+    /**
+     * Returns the inclusive lower offset, where an absent lower bound begins at zero. Like {@link BinaryRangeVisitor} an
+     * explicit negative lower bound, including {@link Long#MIN_VALUE}, is returned and later rejected.
+     */
+    private static long lower(final LongRange range) {
+        return range.isLowerAll() ?
+            0 :
+            range.lower();
+    }
+
+    /**
+     * Returns the exclusive upper offset, where an absent upper bound finishes at the given size. Like
+     * {@link BinaryRangeVisitor} an explicit {@link Long#MAX_VALUE} overflows and is later rejected.
+     */
+    private static long upper(final LongRange range,
+                              final long size) {
+        return range.isUpperAll() ?
+            size :
+            range.upper() + 1;
+    }
+
+    Binary() {
         super();
-        this.value = value;
     }
 
     @Override
-    public byte[] value() {
-        return Arrays.copyOf(
-            this.value,
-            this.value.length
+    public final byte[] value() {
+        final int size = this.size();
+        final byte[] copy = new byte[size];
+        this.copy(
+            0,
+            copy,
+            0,
+            size
         );
+        return copy;
     }
 
-    // BinaryRangeVisitor
-    private final byte[] value;
-
     /**
      * The size or number of bytes in this {@link Binary}
      */
-    public int size() {
-        return this.value.length;
-    }
+    public abstract int size();
+
+    /**
+     * Returns the byte at the given index.
+     */
+    // BinaryComposite
+    abstract byte byteAt(final int index);
+
+    /**
+     * Copies some bytes starting at from into the given array.
+     */
+    // BinaryComposite
+    abstract void copy(final int from,
+                       final byte[] to,
+                       final int toOffset,
+                       final int length);
 
     /**
      * Attempts to find the starting index of the given bytes within this binary, returning the index of any match with -1 meaning it was not found.
      * This is useful for operations such as finding a multi-part boundary with a Binary.
+     * When searching many {@link Binary} for the same bytes prefer {@link BinarySearcher#indexOf(Binary, int, int)}.
      */
-    public int indexOf(final byte[] bytes,
-                       final int start,
-                       final int end) {
+    public final int indexOf(final byte[] bytes,
+                             final int start,
+                             final int end) {
         Objects.requireNonNull(bytes, "bytes");
-
-        final byte[] binary = this.value;
-        final int binaryLength = binary.length;
-        if (start < 0 || start > binaryLength) {
-            throw new IllegalArgumentException("Got " + start + " not within 0 and " + binaryLength);
-        }
-        if (end < start || end > binaryLength) {
-            throw new IllegalArgumentException("Got " + end + " not within " + start + " and " + binaryLength);
-        }
-
-        int found = -1;
+        this.checkStartAndEnd(start, end);
 
         final int findLength = bytes.length;
 
         // $find cannot be found if its longer than value.length
-        if (findLength > 0 && findLength <= binary.length) {
-            final byte[] copy = Arrays.copyOf(
+        return findLength > 0 && findLength <= this.size() ?
+            this.indexOf0(
                 bytes,
-                findLength
-            );
-
-            final int last = end - (findLength - 1);
-            final byte firstByte = copy[0];
-
-            for (int i = start; i < last; i++) {
-                if (firstByte == binary[i]) {
-                    found = i;
+                start,
+                end
+            ) :
+            -1;
+    }
 
-                    for (int j = 1; j < findLength; j++) {
-                        if (copy[j] != binary[i + j]) {
-                            found = -1;
-                            break;
-                        }
-                    }
+    /**
+     * Sub-classes should search for the non empty bytes within the already validated start and end.
+     */
+    abstract int indexOf0(final byte[] bytes,
+                          final int start,
+                          final int end);
 
-                    // found!
-                    if (-1 != found) {
-                        break;
-                    }
-                }
-            }
+    /**
+     * Sub-classes should use the {@link BinarySearcher} within the already validated start and end.
+     */
+    // BinarySearcher
+    abstract int indexOf0(final BinarySearcher searcher,
+                          final int start,
+                          final int end);
+
+    // BinarySearcher
+    final void checkStartAndEnd(final int start,
+                                  final int end) {
+        final int binaryLength = this.size();
+        if (start < 0 || start > binaryLength) {
+            throw new IllegalArgumentException("Got " + start + " not within 0 and " + binaryLength);
+        }
+        if (end < start || end > binaryLength) {
+            throw new IllegalArgumentException("Got " + end + " not within " + start + " and " + binaryLength);
         }
-
-        return found;
     }
 
     /**
      * Extracts a {@link Binary} that matches the given {@link Range}.
      */
-    public Binary extract(final Range<Long> range) {
+    public final Binary extract(final Range<Long> range) {
         return BinaryRangeVisitor.extract(
             this,
             range
         );
     }
 
+    /**
+     * Extracts a {@link Binary} that matches the given {@link LongRange}, without boxing any of the bounds.
+     */
+    public final Binary extract(final LongRange range) {
+        Objects.requireNonNull(range, "range");
+
+        return this.extract0(
+            lower(range),
+            upper(
+                range,
+                this.size()
+            ),
+            range
+        );
+    }
+
     /**
      * Extracts and returns a {@link Binary} that matches the given bounds, returning this if possible.
      */
     // BinaryRangeVisitor
-    Binary extract0(final int lower,
-                    final int upper,
-                    final Range<Long> range) {
+    final Binary extract0(final long lower,
+                          final long upper,
+                          final Object range) {
         final int size = this.size();
-        if (lower < 0 || upper > size) {
+        if (lower < 0 || upper > size || lower > upper) {
             throw new IllegalArgumentException("Range out of bounds " + range + " for binary with size: " + size);
         }
         return 0 == lower && size == upper ?
             this :
-            new Binary(Arrays.copyOfRange(
-                this.value,
-                lower,
-                upper
+            lower == upper ?
+                EMPTY :
+                this.slice(
+                    (int) lower,
+                    (int) upper
+                );
+    }
+
+    /**
+     * Returns a view of this {@link Binary} without copying any bytes. The bounds have already been validated.
+     */
+    // BinaryComposite
+    abstract Binary slice(final int lower,
+                          final int upper);
+
+    /**
+     * Returns a {@link Binary} holding this and the given {@link Binary} without copying any bytes.
+     */
+    public final Binary concat(final Binary binary) {
+        Objects.requireNonNull(binary, "binary");
+
+        return binary.isEmpty() ?
+            this :
+            this.isEmpty() ?
+                binary :
+                this.concat0(binary);
+    }
+
+    /**
+     * Concatenates two non empty {@link Binary}.
+     */
+    // BinaryComposite
+    Binary concat0(final Binary binary) {
+        return BinaryComposite.with(
+            Arrays.asList(
+                this,
+                binary
             )
-            );
+        );
     }
 
     /**
      * Returns a {@link Binary} with its contents gzipped.
      */
     @GwtIncompatible
-    public Binary gzip() throws IOException {
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            try (final GZIPOutputStream gzip = new GZIPOutputStream(outputStream)) {
-                gzip.write(this.value);
-                gzip.flush();
-            }
-            return new Binary(outputStream.toByteArray());
-        }
+    public final Binary gzip() throws IOException {
+        return BinaryCompression.gzip()
+            .compress(this);
     }
 
     /**
-     * Returns a {@link InputStream} which may be used to read the bytes inside this {@link Binary}
+     * Returns a {@link Binary} with its gzipped contents decompressed.
+     */
+    @GwtIncompatible
+    public final Binary gunzip() throws IOException {
+        return BinaryCompression.gzip()
+            .decompress(this);
+    }
+
+    /**
+     * Writes all the bytes of this {@link Binary} to the given {@link OutputStream}, one segment at a time.
      */
-    public InputStream inputStream() {
-        return new ByteArrayInputStream(this.value);
+    public final void write(final OutputStream output) throws IOException {
+        Objects.requireNonNull(output, "output");
+
+        this.write0(output);
+    }
+
+    // BinaryComposite
+    abstract void write0(final OutputStream output) throws IOException;
+
+    /**
+     * Writes all the bytes of this {@link Binary} to the given {@link WritableByteChannel}. Memory mapped file regions
+     * are transferred without being copied through the heap.
+     */
+    @GwtIncompatible
+    public final void write(final WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "channel");
+
+        this.write0(channel);
     }
 
+    @GwtIncompatible
+    abstract void write0(final WritableByteChannel channel) throws IOException;
+
+    /**
+     * Returns a {@link InputStream} which may be used to read the bytes inside this {@link Binary}
+     */
+    public abstract InputStream inputStream();
+
     /**
      * Builds a {@link String} using the given {@link Charset}.
      */
     public String text(final Charset charset) {
         return new String(
-            this.value,
+            this.value(),
             Objects.requireNonNull(charset, "charset")
         );
     }
@@ -197,30 +415,108 @@ public final class Binary implements HasValue<byte[]>,
     // CanBeEmpty.......................................................................................................
 
     @Override
-    public boolean isEmpty() {
+    public final boolean isEmpty() {
         return 0 == this.size();
     }
 
     // Object...........................................................................................................
 
+    /**
+     * The hash code is the same as {@link Arrays#hashCode(byte[])} for the equivalent byte array. It is computed once
+     * and then cached, which is safe without locking because all {@link Binary} are immutable.
+     */
     @Override
-    public int hashCode() {
-        return Arrays.hashCode(this.value);
+    public final int hashCode() {
+        int hash = this.hashCode;
+        if (0 == hash && false == this.hashCodeZero) {
+            hash = this.hashCode(1);
+            if (0 == hash) {
+                this.hashCodeZero = true;
+            } else {
+                this.hashCode = hash;
+            }
+        }
+        return hash;
     }
 
-    public boolean equals(final Object other) {
+    /**
+     * The cached hash code, where 0 means not yet computed unless {@link #hashCodeZero} is true.
+     */
+    private int hashCode;
+
+    private boolean hashCodeZero;
+
+    /**
+     * Continues computing the hashcode from the given hash.
+     */
+    // BinaryComposite
+    abstract int hashCode(final int hash);
+
+    /**
+     * Returns the SHA-256 digest of the bytes in this {@link Binary}, computed once and then cached. This is useful as
+     * a key when de-duplicating large content.
+     */
+    @GwtIncompatible
+    public final Binary sha256() {
+        Binary sha256 = this.sha256;
+        if (null == sha256) {
+            sha256 = this.sha2560();
+            this.sha256 = sha256;
+        }
+        return sha256;
+    }
+
+    @GwtIncompatible
+    private Binary sha2560() {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException cause) {
+            throw new NeverError(cause.getMessage(), cause);
+        }
+
+        try (final DigestOutputStream output = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            this.write0(output);
+        } catch (final IOException cause) {
+            throw new NeverError(cause.getMessage(), cause);
+        }
+
+        final byte[] sha256 = digest.digest();
+        return BinaryArray.with(
+            sha256,
+            0,
+            sha256.length
+        );
+    }
+
+    /**
+     * The lazily computed SHA-256 digest.
+     */
+    private Binary sha256;
+
+    @Override
+    public final boolean equals(final Object other) {
         return this == other ||
             other instanceof Binary &&
                 this.equals0((Binary) other);
     }
 
+    /**
+     * Short circuits when the sizes, any cached hash codes or digests are different before comparing the bytes.
+     */
     private boolean equals0(final Binary other) {
-        return Arrays.equals(
-            this.value,
-            other.value
-        );
+        return this.size() == other.size() &&
+            (0 == this.hashCode || 0 == other.hashCode || this.hashCode == other.hashCode) &&
+            (null == this.sha256 || null == other.sha256 || this.sha256.equalsContent(other.sha256)) &&
+            this.equalsContent(other);
     }
 
+    /**
+     * Compares the bytes of this and the other {@link Binary} which have the same size.
+     */
+    // BinaryComposite
+    abstract boolean equalsContent(final Binary other);
+
     /**
      * Dumps two bytes in a row, the left holding the hex bytes separated by spaces and the right holding the ascii characters.
      * <pre>
@@ -228,11 +524,10 @@ public final class Binary implements HasValue<byte[]>,
      * </pre>
      */
     @Override
-    public String toString() {
+    public final String toString() {
         final StringBuilder buffer = new StringBuilder();
 
-        final byte[] bytes = this.value;
-        final int length = bytes.length;
+        final int length = this.size();
 
         int i = 0;
         while (i < length) {
@@ -244,7 +539,7 @@ public final class Binary implements HasValue<byte[]>,
                 final int k = i + j;
 
                 if (k < length) {
-                    final int b = 0xff & bytes[k];
+                    final int b = 0xff & this.byteAt(k);
 
                     buffer.append(
                         b < 0x10 ?
@@ -263,7 +558,7 @@ public final class Binary implements HasValue<byte[]>,
                 final int k = i + j;
 
                 if (k < length) {
-                    final char c = (char)(0xff & bytes[k]);
+                    final char c = (char)(0xff & this.byteAt(k));
                     if(Ascii.isPrintable(c)) {
                         buffer.append(c);
                     } else {
@@ -286,7 +581,7 @@ public final class Binary implements HasValue<byte[]>,
     // HasBinary........................................................................................................
 
     @Override
-    public Binary binary() {
+    public final Binary binary() {
         return this;
     }
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * A {@link Binary} that is a view of a range within a byte array. The array is never modified and may be shared
+ * by many {@link BinaryArray} instances.
+ */
+final class BinaryArray extends Binary {
+
+    static BinaryArray with(final byte[] value,
+                            final int offset,
+                            final int length) {
+        return new BinaryArray(
+            value,
+            offset,
+            length
+        );
+    }
+
+    private BinaryArray(final byte[] value,
+                        final int offset,
+                        final int length) {
+        super();
+        this.value = value;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int size() {
+        return this.length;
+    }
+
+    @Override
+    byte byteAt(final int index) {
+        return this.value[this.offset + index];
+    }
+
+    @Override
+    void copy(final int from,
+              final byte[] to,
+              final int toOffset,
+              final int length) {
+        System.arraycopy(
+            this.value,
+            this.offset + from,
+            to,
+            toOffset,
+            length
+        );
+    }
+
+    @Override
+    int indexOf0(final byte[] bytes,
+                 final int start,
+                 final int end) {
+        final byte[] binary = this.value;
+        final int offset = this.offset;
+        final int findLength = bytes.length;
+
+        int found = -1;
+
+        final int last = offset + end - (findLength - 1);
+        final byte firstByte = bytes[0];
+
+        for (int i = offset + start; i < last; i++) {
+            if (firstByte == binary[i]) {
+                found = i;
+
+                for (int j = 1; j < findLength; j++) {
+                    if (bytes[j] != binary[i + j]) {
+                        found = -1;
+                        break;
+                    }
+                }
+
+                // found!
+                if (-1 != found) {
+                    found = found - offset;
+                    break;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    int indexOf0(final BinarySearcher searcher,
+                 final int start,
+                 final int end) {
+        final int offset = this.offset;
+        final int found = searcher.indexOfArray(
+            this.value,
+            offset + start,
+            offset + end
+        );
+        return -1 == found ?
+            -1 :
+            found - offset;
+    }
+
+    /**
+     * Returns a new {@link BinaryArray} sharing the same array.
+     */
+    @Override
+    Binary slice(final int lower,
+                 final int upper) {
+        return new BinaryArray(
+            this.value,
+            this.offset + lower,
+            upper - lower
+        );
+    }
+
+    /**
+     * Returns true if the given {@link BinaryArray} immediately follows this within the same array.
+     */
+    // BinaryComposite
+    boolean isFollowedBy(final BinaryArray next) {
+        return this.value == next.value &&
+            this.offset + this.length == next.offset;
+    }
+
+    /**
+     * Creates a new {@link BinaryArray} spanning this and the next {@link BinaryArray} which must be adjacent.
+     */
+    // BinaryComposite
+    BinaryArray join(final BinaryArray next) {
+        return new BinaryArray(
+            this.value,
+            this.offset,
+            this.length + next.length
+        );
+    }
+
+    @Override
+    void write0(final OutputStream output) throws IOException {
+        output.write(
+            this.value,
+            this.offset,
+            this.length
+        );
+    }
+
+    @GwtIncompatible
+    @Override
+    void write0(final WritableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = this.byteBuffer();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns a {@link ByteBuffer} wrapping the bytes of this view.
+     */
+    // BinaryByteBuffer
+    @GwtIncompatible
+    ByteBuffer byteBuffer() {
+        return ByteBuffer.wrap(
+            this.value,
+            this.offset,
+            this.length
+        );
+    }
+
+    @Override
+    public InputStream inputStream() {
+        return new ByteArrayInputStream(
+            this.value,
+            this.offset,
+            this.length
+        );
+    }
+
+    @Override
+    public String text(final Charset charset) {
+        return new String(
+            this.value,
+            this.offset,
+            this.length,
+            Objects.requireNonNull(charset, "charset")
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    int hashCode(final int hash) {
+        final byte[] value = this.value;
+        final int end = this.offset + this.length;
+
+        int result = hash;
+        for (int i = this.offset; i < end; i++) {
+            result = 31 * result + value[i];
+        }
+        return result;
+    }
+
+    @Override
+    boolean equalsContent(final Binary other) {
+        return other instanceof BinaryArray ?
+            this.equalsContent0((BinaryArray) other) :
+            other.equalsContent(this);
+    }
+
+    private boolean equalsContent0(final BinaryArray other) {
+        final byte[] value = this.value;
+        final byte[] otherValue = other.value;
+        final int offset = this.offset;
+        final int otherOffset = other.offset;
+
+        boolean equals = value == otherValue && offset == otherOffset;
+        if (false == equals) {
+            final int length = this.length;
+
+            int i = 0;
+            while (i < length) {
+                if (value[offset + i] != otherValue[otherOffset + i]) {
+                    break;
+                }
+                i++;
+            }
+            equals = i == length;
+        }
+
+        return equals;
+    }
+
+    private final byte[] value;
+
+    private final int offset;
+
+    private final int length;
+}
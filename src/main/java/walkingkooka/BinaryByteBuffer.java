@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A {@link Binary} backed by a {@link ByteBuffer}, typically a direct buffer or a memory mapped region of a file.
+ * The bytes are never copied on to the heap, and writing to a {@link WritableByteChannel} writes the buffer directly.
+ */
+@GwtIncompatible
+final class BinaryByteBuffer extends Binary {
+
+    /**
+     * Wraps the remaining bytes of the given {@link ByteBuffer}.
+     */
+    static BinaryByteBuffer with(final ByteBuffer buffer) {
+        return new BinaryByteBuffer(
+            buffer.slice()
+                .asReadOnlyBuffer()
+        );
+    }
+
+    private BinaryByteBuffer(final ByteBuffer buffer) {
+        super();
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int size() {
+        return this.buffer.limit();
+    }
+
+    @Override
+    byte byteAt(final int index) {
+        return this.buffer.get(index);
+    }
+
+    @Override
+    void copy(final int from,
+              final byte[] to,
+              final int toOffset,
+              final int length) {
+        final ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(from);
+        buffer.get(
+            to,
+            toOffset,
+            length
+        );
+    }
+
+    @Override
+    int indexOf0(final byte[] bytes,
+                 final int start,
+                 final int end) {
+        return this.indexOf0(
+            BinarySearcher.with(bytes),
+            start,
+            end
+        );
+    }
+
+    @Override
+    int indexOf0(final BinarySearcher searcher,
+                 final int start,
+                 final int end) {
+        return searcher.indexOfBinary(
+            this,
+            start,
+            end
+        );
+    }
+
+    /**
+     * Returns a new {@link BinaryByteBuffer} sharing the same buffer.
+     */
+    @Override
+    Binary slice(final int lower,
+                 final int upper) {
+        final ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(lower);
+        buffer.limit(upper);
+
+        return new BinaryByteBuffer(
+            buffer.slice()
+        );
+    }
+
+    @Override
+    void write0(final OutputStream output) throws IOException {
+        final ByteBuffer buffer = this.buffer.duplicate();
+        final byte[] copy = new byte[Math.min(BUFFER_SIZE, buffer.remaining())];
+
+        while (buffer.hasRemaining()) {
+            final int length = Math.min(copy.length, buffer.remaining());
+            buffer.get(
+                copy,
+                0,
+                length
+            );
+            output.write(
+                copy,
+                0,
+                length
+            );
+        }
+    }
+
+    private final static int BUFFER_SIZE = 8192;
+
+    /**
+     * Writes the buffer itself, which for a mapped file region is the mapped snapshot rather than whatever the file
+     * now holds, avoiding reopening a file that may have since shrunk.
+     */
+    @Override
+    void write0(final WritableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = this.buffer.duplicate();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public InputStream inputStream() {
+        return new BinaryByteBufferInputStream(
+            this.buffer.duplicate()
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    int hashCode(final int hash) {
+        final ByteBuffer buffer = this.buffer;
+        final int size = buffer.limit();
+
+        int result = hash;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + buffer.get(i);
+        }
+        return result;
+    }
+
+    @Override
+    boolean equalsContent(final Binary other) {
+        final boolean equals;
+
+        if (other instanceof BinaryByteBuffer) {
+            equals = this.buffer.equals(((BinaryByteBuffer) other).buffer);
+        } else {
+            if (other instanceof BinaryArray) {
+                equals = this.buffer.equals(((BinaryArray) other).byteBuffer());
+            } else {
+                equals = other.equalsContent(this);
+            }
+        }
+
+        return equals;
+    }
+
+    /**
+     * A read only buffer with a position of 0 and the limit equal to the size.
+     */
+    private final ByteBuffer buffer;
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} that reads the remaining bytes of a {@link ByteBuffer} without copying them first.
+ */
+@GwtIncompatible
+final class BinaryByteBufferInputStream extends InputStream {
+
+    BinaryByteBufferInputStream(final ByteBuffer buffer) {
+        super();
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        final ByteBuffer buffer = this.buffer;
+
+        return buffer.hasRemaining() ?
+            0xff & buffer.get() :
+            -1;
+    }
+
+    @Override
+    public int read(final byte[] bytes,
+                    final int offset,
+                    final int length) {
+        final ByteBuffer buffer = this.buffer;
+
+        final int read;
+        if (0 == length) {
+            read = 0;
+        } else {
+            final int remaining = buffer.remaining();
+            if (0 == remaining) {
+                read = -1;
+            } else {
+                read = Math.min(remaining, length);
+                buffer.get(
+                    bytes,
+                    offset,
+                    read
+                );
+            }
+        }
+
+        return read;
+    }
+
+    @Override
+    public long skip(final long count) {
+        final ByteBuffer buffer = this.buffer;
+        final int skip = (int) Math.max(
+            0,
+            Math.min(count, buffer.remaining())
+        );
+        buffer.position(buffer.position() + skip);
+        return skip;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+
+    private final ByteBuffer buffer;
+
+    @Override
+    public String toString() {
+        return this.buffer.toString();
+    }
+}
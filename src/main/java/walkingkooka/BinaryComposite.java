@@ -0,0 +1,471 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Binary} made up of several segments, none of which are themselves composites or empty. Creating, slicing
+ * or concatenating a {@link BinaryComposite} never copies any bytes.
+ * <br>
+ * The segment arrays may have spare capacity, which {@link #concat0(Binary)} fills in place when no other
+ * {@link BinaryComposite} has already appended to them, so building a {@link Binary} by repeated concatenation has an
+ * amortised constant cost.
+ */
+final class BinaryComposite extends Binary {
+
+    /**
+     * Flattens any nested {@link BinaryComposite}, skips empty {@link Binary} and joins adjacent {@link BinaryArray}
+     * that share the same array, returning the only remaining segment or {@link Binary#EMPTY} when possible.
+     */
+    static Binary with(final List<Binary> binaries) {
+        Objects.requireNonNull(binaries, "binaries");
+
+        Binary[] segments = new Binary[binaries.size()];
+        int count = 0;
+        long size = 0;
+
+        for (final Binary binary : binaries) {
+            Objects.requireNonNull(binary, "binaries includes null");
+
+            if (binary instanceof BinaryComposite) {
+                final BinaryComposite composite = (BinaryComposite) binary;
+                final int compositeCount = composite.count;
+
+                segments = Arrays.copyOf(
+                    segments,
+                    segments.length + compositeCount
+                );
+                for (int i = 0; i < compositeCount; i++) {
+                    count = add(
+                        composite.segments[i],
+                        segments,
+                        count
+                    );
+                }
+            } else {
+                if (false == binary.isEmpty()) {
+                    count = add(
+                        binary,
+                        segments,
+                        count
+                    );
+                }
+            }
+
+            size = size + binary.size();
+        }
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total size " + size + " > " + Integer.MAX_VALUE);
+        }
+
+        final Binary with;
+        switch (count) {
+            case 0:
+                with = EMPTY;
+                break;
+            case 1:
+                with = segments[0];
+                break;
+            default:
+                with = new BinaryComposite(
+                    Arrays.copyOf(
+                        segments,
+                        count
+                    )
+                );
+                break;
+        }
+        return with;
+    }
+
+    /**
+     * Adds the segment, joining it with the previous segment if they are adjacent views of the same array.
+     */
+    private static int add(final Binary segment,
+                           final Binary[] segments,
+                           final int count) {
+        int newCount = count;
+
+        final Binary previous = 0 == count ?
+            null :
+            segments[count - 1];
+        if (previous instanceof BinaryArray &&
+            segment instanceof BinaryArray &&
+            ((BinaryArray) previous).isFollowedBy((BinaryArray) segment)) {
+            segments[count - 1] = ((BinaryArray) previous).join((BinaryArray) segment);
+        } else {
+            segments[count] = segment;
+            newCount++;
+        }
+
+        return newCount;
+    }
+
+    private BinaryComposite(final Binary[] segments) {
+        this(
+            segments,
+            offsets(segments),
+            segments.length,
+            new AtomicInteger(segments.length)
+        );
+    }
+
+    private static int[] offsets(final Binary[] segments) {
+        final int count = segments.length;
+        final int[] offsets = new int[count + 1];
+
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            offsets[i] = offset;
+            offset = offset + segments[i].size();
+        }
+        offsets[count] = offset;
+
+        return offsets;
+    }
+
+    private BinaryComposite(final Binary[] segments,
+                            final int[] offsets,
+                            final int count,
+                            final AtomicInteger appended) {
+        super();
+        this.segments = segments;
+        this.offsets = offsets;
+        this.count = count;
+        this.appended = appended;
+    }
+
+    /**
+     * Appends the segments of the given {@link Binary} into any spare capacity of the segment arrays. The slots are
+     * claimed by advancing the shared {@link #appended} count, and if another {@link BinaryComposite} has already
+     * claimed them or there is no room, the segments are copied into new arrays with double the capacity.
+     */
+    @Override
+    Binary concat0(final Binary binary) {
+        final Binary[] otherSegments;
+        final int otherCount;
+
+        if (binary instanceof BinaryComposite) {
+            final BinaryComposite composite = (BinaryComposite) binary;
+            otherSegments = composite.segments;
+            otherCount = composite.count;
+        } else {
+            otherSegments = new Binary[]{
+                binary
+            };
+            otherCount = 1;
+        }
+
+        final int count = this.count;
+        final Binary last = this.segments[count - 1];
+        final Binary first = otherSegments[0];
+
+        final Binary concat;
+        if (last instanceof BinaryArray &&
+            first instanceof BinaryArray &&
+            ((BinaryArray) last).isFollowedBy((BinaryArray) first)) {
+            // joining replaces the last segment which other composites may share
+            concat = super.concat0(binary);
+        } else {
+            final long size = (long) this.size() + binary.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Total size " + size + " > " + Integer.MAX_VALUE);
+            }
+
+            final int newCount = count + otherCount;
+
+            Binary[] segments = this.segments;
+            int[] offsets = this.offsets;
+            AtomicInteger appended = this.appended;
+
+            if (newCount > segments.length || false == appended.compareAndSet(count, newCount)) {
+                final int capacity = Math.max(
+                    newCount,
+                    count * 2
+                );
+
+                segments = new Binary[capacity];
+                System.arraycopy(
+                    this.segments,
+                    0,
+                    segments,
+                    0,
+                    count
+                );
+
+                offsets = new int[capacity + 1];
+                System.arraycopy(
+                    this.offsets,
+                    0,
+                    offsets,
+                    0,
+                    count + 1
+                );
+
+                appended = new AtomicInteger(newCount);
+            }
+
+            int offset = offsets[count];
+            for (int i = 0; i < otherCount; i++) {
+                final Binary segment = otherSegments[i];
+                segments[count + i] = segment;
+                offsets[count + i] = offset;
+                offset = offset + segment.size();
+            }
+            offsets[newCount] = offset;
+
+            concat = new BinaryComposite(
+                segments,
+                offsets,
+                newCount,
+                appended
+            );
+        }
+
+        return concat;
+    }
+
+    @Override
+    public int size() {
+        return this.offsets[this.count];
+    }
+
+    @Override
+    byte byteAt(final int index) {
+        final int segment = this.segmentIndex(index);
+        return this.segments[segment]
+            .byteAt(index - this.offsets[segment]);
+    }
+
+    @Override
+    void copy(final int from,
+              final byte[] to,
+              final int toOffset,
+              final int length) {
+        final Binary[] segments = this.segments;
+        final int[] offsets = this.offsets;
+
+        int i = this.segmentIndex(from);
+        int segmentFrom = from - offsets[i];
+        int copied = 0;
+
+        while (copied < length) {
+            final Binary segment = segments[i];
+            final int copy = Math.min(
+                segment.size() - segmentFrom,
+                length - copied
+            );
+            segment.copy(
+                segmentFrom,
+                to,
+                toOffset + copied,
+                copy
+            );
+            copied = copied + copy;
+            segmentFrom = 0;
+            i++;
+        }
+    }
+
+    /**
+     * Returns the index of the segment holding the given byte index.
+     */
+    private int segmentIndex(final int index) {
+        final int i = Arrays.binarySearch(
+            this.offsets,
+            0,
+            this.count,
+            index
+        );
+        return i >= 0 ?
+            i :
+            -i - 2;
+    }
+
+    /**
+     * Compiles a {@link BinarySearcher} rather than testing each byte many times across segments.
+     */
+    @Override
+    int indexOf0(final byte[] bytes,
+                 final int start,
+                 final int end) {
+        return this.indexOf0(
+            BinarySearcher.with(bytes),
+            start,
+            end
+        );
+    }
+
+    @Override
+    int indexOf0(final BinarySearcher searcher,
+                 final int start,
+                 final int end) {
+        return searcher.indexOfBinary(
+            this,
+            start,
+            end
+        );
+    }
+
+    /**
+     * Slices the first and last segments within the range sharing all segments between.
+     */
+    @Override
+    Binary slice(final int lower,
+                 final int upper) {
+        final Binary[] segments = this.segments;
+        final int[] offsets = this.offsets;
+
+        final int first = this.segmentIndex(lower);
+        final int last = this.segmentIndex(upper - 1);
+
+        final Binary slice;
+        if (first == last) {
+            final int offset = offsets[first];
+            slice = segments[first]
+                .extract0(
+                    lower - offset,
+                    upper - offset,
+                    null
+                );
+        } else {
+            final Binary[] sliced = Arrays.copyOfRange(
+                segments,
+                first,
+                last + 1
+            );
+            sliced[0] = sliced[0].extract0(
+                lower - offsets[first],
+                sliced[0].size(),
+                null
+            );
+            final int lastIndex = sliced.length - 1;
+            sliced[lastIndex] = sliced[lastIndex].extract0(
+                0,
+                upper - offsets[last],
+                null
+            );
+            slice = new BinaryComposite(sliced);
+        }
+        return slice;
+    }
+
+    @Override
+    void write0(final OutputStream output) throws IOException {
+        final Binary[] segments = this.segments;
+        final int count = this.count;
+
+        for (int i = 0; i < count; i++) {
+            segments[i].write0(output);
+        }
+    }
+
+    @GwtIncompatible
+    @Override
+    void write0(final WritableByteChannel channel) throws IOException {
+        final Binary[] segments = this.segments;
+        final int count = this.count;
+
+        for (int i = 0; i < count; i++) {
+            segments[i].write0(channel);
+        }
+    }
+
+    @Override
+    public InputStream inputStream() {
+        return new BinaryCompositeInputStream(
+            this.segments,
+            this.count
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    int hashCode(final int hash) {
+        final Binary[] segments = this.segments;
+        final int count = this.count;
+
+        int result = hash;
+        for (int i = 0; i < count; i++) {
+            result = segments[i].hashCode(result);
+        }
+        return result;
+    }
+
+    /**
+     * Compares each segment against the matching slice of the other {@link Binary}.
+     */
+    @Override
+    boolean equalsContent(final Binary other) {
+        final Binary[] segments = this.segments;
+        final int[] offsets = this.offsets;
+        final int count = this.count;
+
+        int i = 0;
+        while (i < count) {
+            final Binary segment = segments[i];
+            final Binary otherSlice = other.extract0(
+                offsets[i],
+                offsets[i + 1],
+                null
+            );
+            if (otherSlice instanceof BinaryComposite) {
+                // avoid ping-ponging between composites, compare the other segments against slices of this
+                if (false == otherSlice.equalsContent(segment)) {
+                    break;
+                }
+            } else {
+                if (false == segment.equalsContent(otherSlice)) {
+                    break;
+                }
+            }
+            i++;
+        }
+
+        return i == count;
+    }
+
+    /**
+     * The segments, only the first {@link #count} of which belong to this {@link BinaryComposite}.
+     */
+    private final Binary[] segments;
+
+    /**
+     * The starting offset of each segment, with the element at {@link #count} holding the total size.
+     */
+    private final int[] offsets;
+
+    private final int count;
+
+    /**
+     * The number of slots of the shared segment arrays that have been claimed by any {@link BinaryComposite}.
+     */
+    private final AtomicInteger appended;
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} that reads each segment of a {@link BinaryComposite} in turn.
+ */
+final class BinaryCompositeInputStream extends InputStream {
+
+    BinaryCompositeInputStream(final Binary[] segments,
+                               final int count) {
+        super();
+        this.segments = segments;
+        this.count = count;
+        this.current = segments[0].inputStream();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = -1;
+
+        while (null != this.current) {
+            read = this.current.read();
+            if (-1 != read) {
+                break;
+            }
+            this.next();
+        }
+
+        return read;
+    }
+
+    @Override
+    public int read(final byte[] bytes,
+                    final int offset,
+                    final int length) throws IOException {
+        int read = -1;
+
+        if (0 == length) {
+            read = 0;
+        } else {
+            while (null != this.current) {
+                read = this.current.read(
+                    bytes,
+                    offset,
+                    length
+                );
+                if (read > 0) {
+                    break;
+                }
+                this.next();
+            }
+        }
+
+        return read;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return null != this.current ?
+            this.current.available() :
+            0;
+    }
+
+    @Override
+    public void close() {
+        this.current = null;
+        this.segmentIndex = this.count;
+    }
+
+    /**
+     * Moves to the next segment or sets current to null when the last segment has been read.
+     */
+    private void next() {
+        final int next = this.segmentIndex + 1;
+
+        this.segmentIndex = next;
+        this.current = next < this.count ?
+            this.segments[next].inputStream() :
+            null;
+    }
+
+    private final Binary[] segments;
+
+    private final int count;
+
+    private int segmentIndex;
+
+    private InputStream current;
+
+    @Override
+    public String toString() {
+        return this.segmentIndex + "/" + this.count;
+    }
+}
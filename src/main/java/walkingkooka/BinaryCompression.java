@@ -0,0 +1,472 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * An immutable set of compression options, which may be used to compress or decompress any {@link Binary} using
+ * either gzip or deflate. Compressing streams the bytes of the {@link Binary} one segment at a time, and output may
+ * be written directly to an {@link OutputStream}.
+ * <br>
+ * When a {@link ForkJoinPool} is set, gzip compression splits the input into independent blocks that are compressed
+ * concurrently, writing each as a separate gzip member. The concatenation of members is itself a valid gzip stream.
+ */
+@GwtIncompatible
+public final class BinaryCompression {
+
+    /**
+     * The default buffer size used by the compress and decompress streams.
+     */
+    public final static int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The default block size when compressing in parallel.
+     */
+    public final static int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    /**
+     * Returns a {@link BinaryCompression} that uses gzip with the default level.
+     */
+    public static BinaryCompression gzip() {
+        return GZIP;
+    }
+
+    private final static BinaryCompression GZIP = new BinaryCompression(
+        true,
+        Deflater.DEFAULT_COMPRESSION,
+        DEFAULT_BUFFER_SIZE,
+        null,
+        DEFAULT_BLOCK_SIZE
+    );
+
+    /**
+     * Returns a {@link BinaryCompression} that uses deflate (zlib format) with the default level.
+     */
+    public static BinaryCompression deflate() {
+        return DEFLATE;
+    }
+
+    private final static BinaryCompression DEFLATE = new BinaryCompression(
+        false,
+        Deflater.DEFAULT_COMPRESSION,
+        DEFAULT_BUFFER_SIZE,
+        null,
+        DEFAULT_BLOCK_SIZE
+    );
+
+    private BinaryCompression(final boolean gzip,
+                              final int level,
+                              final int bufferSize,
+                              final ForkJoinPool pool,
+                              final int blockSize) {
+        super();
+        this.gzip = gzip;
+        this.level = level;
+        this.bufferSize = bufferSize;
+        this.pool = pool;
+        this.blockSize = blockSize;
+    }
+
+    // level............................................................................................................
+
+    public int level() {
+        return this.level;
+    }
+
+    /**
+     * Would be setter that returns a {@link BinaryCompression} with the given level, which must be between
+     * {@link Deflater#DEFAULT_COMPRESSION} and {@link Deflater#BEST_COMPRESSION}.
+     */
+    public BinaryCompression setLevel(final int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid level " + level + " not between " + Deflater.DEFAULT_COMPRESSION + " and " + Deflater.BEST_COMPRESSION);
+        }
+
+        return this.level == level ?
+            this :
+            new BinaryCompression(
+                this.gzip,
+                level,
+                this.bufferSize,
+                this.pool,
+                this.blockSize
+            );
+    }
+
+    private final int level;
+
+    // bufferSize.......................................................................................................
+
+    public int bufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Would be setter that returns a {@link BinaryCompression} with the given buffer size.
+     */
+    public BinaryCompression setBufferSize(final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size " + bufferSize + " <= 0");
+        }
+
+        return this.bufferSize == bufferSize ?
+            this :
+            new BinaryCompression(
+                this.gzip,
+                this.level,
+                bufferSize,
+                this.pool,
+                this.blockSize
+            );
+    }
+
+    private final int bufferSize;
+
+    // parallel.........................................................................................................
+
+    /**
+     * Would be setter that returns a gzip {@link BinaryCompression} that compresses independent blocks of the given
+     * size concurrently using the given {@link ForkJoinPool}. Deflate does not support concatenated streams and fails.
+     */
+    public BinaryCompression setParallel(final ForkJoinPool pool,
+                                         final int blockSize) {
+        Objects.requireNonNull(pool, "pool");
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invalid block size " + blockSize + " <= 0");
+        }
+        if (false == this.gzip) {
+            throw new IllegalStateException("Parallel compression requires gzip");
+        }
+
+        return this.pool == pool && this.blockSize == blockSize ?
+            this :
+            new BinaryCompression(
+                this.gzip,
+                this.level,
+                this.bufferSize,
+                pool,
+                blockSize
+            );
+    }
+
+    /**
+     * When present gzip blocks are compressed using this pool.
+     */
+    private final ForkJoinPool pool;
+
+    private final int blockSize;
+
+    // compress.........................................................................................................
+
+    /**
+     * Compresses the given {@link Binary} returning the compressed bytes.
+     */
+    public Binary compress(final Binary binary) throws IOException {
+        Objects.requireNonNull(binary, "binary");
+
+        final BinaryCompressionOutputStream output = new BinaryCompressionOutputStream();
+        this.compress0(
+            binary,
+            output
+        );
+        return output.binary();
+    }
+
+    /**
+     * Compresses the given {@link Binary} writing the compressed bytes to the {@link OutputStream}, which is not closed.
+     */
+    public void compress(final Binary binary,
+                         final OutputStream output) throws IOException {
+        Objects.requireNonNull(binary, "binary");
+        Objects.requireNonNull(output, "output");
+
+        this.compress0(
+            binary,
+            output
+        );
+    }
+
+    private void compress0(final Binary binary,
+                           final OutputStream output) throws IOException {
+        final ForkJoinPool pool = this.pool;
+
+        if (null != pool && binary.size() > this.blockSize) {
+            this.compressParallel(
+                binary,
+                output,
+                pool
+            );
+        } else {
+            this.compressSequential(
+                binary,
+                output
+            );
+        }
+    }
+
+    private void compressSequential(final Binary binary,
+                                    final OutputStream output) throws IOException {
+        final Deflater deflater = new Deflater(
+            this.level,
+            this.gzip // gzip writes its own header and trailer around a raw deflate stream
+        );
+
+        try {
+            final DeflaterOutputStream compress = this.gzip ?
+                this.gzipOutputStream(
+                    output,
+                    deflater
+                ) :
+                new DeflaterOutputStream(
+                    output,
+                    deflater,
+                    this.bufferSize
+                );
+
+            binary.write0(compress);
+            compress.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Creates a {@link GZIPOutputStream} that uses the given {@link Deflater}, so the level may be set.
+     */
+    private GZIPOutputStream gzipOutputStream(final OutputStream output,
+                                              final Deflater deflater) throws IOException {
+        return new GZIPOutputStream(
+            output,
+            this.bufferSize
+        ) {
+            {
+                this.def.end();
+                this.def = deflater;
+            }
+        };
+    }
+
+    /**
+     * Compresses blocks concurrently, writing each gzip member in order. At most a few blocks per thread are pending
+     * at any time so the entire compressed output is never held.
+     */
+    private void compressParallel(final Binary binary,
+                                  final OutputStream output,
+                                  final ForkJoinPool pool) throws IOException {
+        final int size = binary.size();
+        final int blockSize = this.blockSize;
+        final int window = Math.max(2, pool.getParallelism() * 2);
+
+        final Deque<Future<Binary>> pending = new ArrayDeque<>();
+
+        try {
+            int from = 0;
+            while (from < size || false == pending.isEmpty()) {
+                while (from < size && pending.size() < window) {
+                    final int to = (int) Math.min((long) from + blockSize, size);
+                    final Binary block = binary.extract0(
+                        from,
+                        to,
+                        null
+                    );
+                    pending.addLast(
+                        pool.submit(
+                            () -> this.compressBlock(block)
+                        )
+                    );
+                    from = to;
+                }
+
+                pending.removeFirst()
+                    .get()
+                    .write0(output);
+            }
+        } catch (final InterruptedException cause) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Parallel compression interrupted", cause);
+        } catch (final ExecutionException cause) {
+            final Throwable wrapped = cause.getCause();
+            if (wrapped instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) wrapped).getCause();
+            }
+            throw new IOException(wrapped.getMessage(), wrapped);
+        } finally {
+            for (final Future<Binary> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Compresses a single block into a complete gzip member.
+     */
+    private Binary compressBlock(final Binary block) {
+        try {
+            final BinaryCompressionOutputStream output = new BinaryCompressionOutputStream();
+            this.compressSequential(
+                block,
+                output
+            );
+            return output.binary();
+        } catch (final IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    // decompress.......................................................................................................
+
+    /**
+     * Decompresses the given {@link Binary} returning the decompressed bytes. Concatenated gzip members are supported.
+     */
+    public Binary decompress(final Binary binary) throws IOException {
+        Objects.requireNonNull(binary, "binary");
+
+        final BinaryCompressionOutputStream output = new BinaryCompressionOutputStream();
+        this.decompress0(
+            binary.inputStream(),
+            output
+        );
+        return output.binary();
+    }
+
+    /**
+     * Decompresses the {@link InputStream} writing the decompressed bytes to the {@link OutputStream}. Neither stream
+     * is closed.
+     */
+    public void decompress(final InputStream input,
+                           final OutputStream output) throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(output, "output");
+
+        this.decompress0(
+            input,
+            output
+        );
+    }
+
+    private void decompress0(final InputStream input,
+                             final OutputStream output) throws IOException {
+        final int bufferSize = this.bufferSize;
+
+        if (this.gzip) {
+            // closing releases the native memory of the Inflater
+            try (final GZIPInputStream decompress = new GZIPInputStream(
+                new BinaryCompressionInputStream(input),
+                bufferSize
+            )) {
+                copy(
+                    decompress,
+                    output,
+                    bufferSize
+                );
+            }
+        } else {
+            final Inflater inflater = new Inflater();
+            try {
+                copy(
+                    new InflaterInputStream(
+                        input,
+                        inflater,
+                        bufferSize
+                    ),
+                    output,
+                    bufferSize
+                );
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    private static void copy(final InputStream input,
+                             final OutputStream output,
+                             final int bufferSize) throws IOException {
+        final byte[] buffer = new byte[bufferSize];
+
+        for (; ; ) {
+            final int read = input.read(buffer);
+            if (-1 == read) {
+                break;
+            }
+            output.write(
+                buffer,
+                0,
+                read
+            );
+        }
+    }
+
+    /**
+     * True when gzip, false for deflate.
+     */
+    private final boolean gzip;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.gzip,
+            this.level,
+            this.bufferSize,
+            this.pool,
+            this.blockSize
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof BinaryCompression &&
+                this.equals0((BinaryCompression) other);
+    }
+
+    private boolean equals0(final BinaryCompression other) {
+        return this.gzip == other.gzip &&
+            this.level == other.level &&
+            this.bufferSize == other.bufferSize &&
+            this.pool == other.pool &&
+            this.blockSize == other.blockSize;
+    }
+
+    @Override
+    public String toString() {
+        return (this.gzip ? "gzip" : "deflate") +
+            " level=" + this.level +
+            " bufferSize=" + this.bufferSize +
+            (null != this.pool ? " parallel blockSize=" + this.blockSize : "");
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/**
+ * Wraps the caller's {@link InputStream} so closing a decompressing stream releases its resources without closing the
+ * caller's {@link InputStream}.
+ */
+@GwtIncompatible
+final class BinaryCompressionInputStream extends FilterInputStream {
+
+    BinaryCompressionInputStream(final InputStream input) {
+        super(input);
+    }
+
+    @Override
+    public void close() {
+        // the caller's stream is left open
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * A {@link ByteArrayOutputStream} that returns its buffer as a {@link Binary} without copying it.
+ */
+final class BinaryCompressionOutputStream extends ByteArrayOutputStream {
+
+    BinaryCompressionOutputStream() {
+        super();
+    }
+
+    /**
+     * Returns a {@link Binary} view of the bytes written so far. Nothing should be written afterwards.
+     */
+    Binary binary() {
+        return 0 == this.count ?
+            Binary.EMPTY :
+            BinaryArray.with(
+                this.buf,
+                0,
+                this.count
+            );
+    }
+}
@@ -18,7 +18,6 @@
 package walkingkooka;
 
 import walkingkooka.collect.Range;
-import walkingkooka.collect.RangeBound;
 import walkingkooka.collect.RangeVisitor;
 
 import java.util.Objects;
@@ -30,32 +29,54 @@ final class BinaryRangeVisitor extends RangeVisitor<Long> {
 
     // Binary.extractRange
     static Binary extract(final Binary binary, final Range<Long> range) {
+        final BinaryRangeVisitor visitor = bounds(
+            range,
+            binary.size()
+        );
+        return binary.extract0(
+            visitor.lower,
+            visitor.upper,
+            range
+        );
+    }
+
+    /**
+     * Computes the lower inclusive and upper exclusive bounds of the {@link Range} for something with the given size.
+     */
+    // Binary.mapped
+    static BinaryRangeVisitor bounds(final Range<Long> range,
+                                     final long size) {
         Objects.requireNonNull(range, "range");
 
-        final BinaryRangeVisitor visitor = new BinaryRangeVisitor(range);
-        visitor.binary = binary;
+        final BinaryRangeVisitor visitor = new BinaryRangeVisitor(
+            range,
+            size
+        );
         visitor.accept(range);
-        return visitor.binary;
+        return visitor;
     }
 
     // @Testing
-    BinaryRangeVisitor(final Range<Long> range) {
+    BinaryRangeVisitor(final Range<Long> range,
+                       final long size) {
         super();
         this.range = range;
+        this.size = size;
         this.lower = 0;
         this.upper = 0;
     }
 
     @Override
     protected void all() {
-        // this.binary is the answer
+        this.upper = this.size;
     }
 
     @Override
     protected void singleton(final Long value) {
-        final int integer = value.intValue();
+        final long longValue = value;
 
-        this.binary = this.binary.extract0(integer, integer + 1, this.range);
+        this.lower = longValue;
+        this.upper = longValue + 1;
     }
 
     @Override
@@ -65,42 +86,42 @@ final class BinaryRangeVisitor extends RangeVisitor<Long> {
 
     @Override
     protected void lowerBoundExclusive(final Long value) {
-        this.lower = value.intValue() + 1;
+        this.lower = value + 1;
     }
 
     @Override
     protected void lowerBoundInclusive(final Long value) {
-        this.lower = value.intValue();
-    }
-
-    /**
-     * Tries to create the new {@link Binary} give the known lower & upper bounds.
-     */
-    @Override
-    protected void endBetween(final RangeBound<Long> lowerBound,
-                              final RangeBound<Long> upperBound) {
-        this.binary = this.binary.extract0(this.lower, this.upper, this.range);
+        this.lower = value;
     }
 
     @Override
     protected void upperBoundAll() {
-        this.upper = this.binary.size();
+        this.upper = this.size;
     }
 
     @Override
     protected void upperBoundExclusive(final Long value) {
-        this.upper = value.intValue();
+        this.upper = value;
     }
 
     @Override
     protected void upperBoundInclusive(final Long value) {
-        this.upper = value.intValue() + 1;
+        this.upper = value + 1;
     }
 
-    private Binary binary;
     private final Range<Long> range;
-    private int lower;
-    private int upper;
+
+    private final long size;
+
+    /**
+     * The inclusive lower bound.
+     */
+    long lower;
+
+    /**
+     * The exclusive upper bound.
+     */
+    long upper;
 
     @Override
     public String toString() {
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A precompiled Boyer-Moore-Horspool searcher for a sequence of bytes, which may be reused to search many {@link Binary}
+ * or to split an {@link InputStream} into parts, such as finding multi-part boundaries.
+ */
+public final class BinarySearcher {
+
+    /**
+     * Creates a new {@link BinarySearcher} for the given non empty bytes. The bytes are copied.
+     */
+    public static BinarySearcher with(final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+
+        final int length = bytes.length;
+        if (0 == length) {
+            throw new IllegalArgumentException("Empty bytes");
+        }
+
+        return new BinarySearcher(
+            Arrays.copyOf(
+                bytes,
+                length
+            )
+        );
+    }
+
+    private BinarySearcher(final byte[] bytes) {
+        super();
+        this.bytes = bytes;
+
+        final int length = bytes.length;
+        final int[] skip = new int[256];
+        Arrays.fill(skip, length);
+
+        final int last = length - 1;
+        for (int i = 0; i < last; i++) {
+            skip[0xff & bytes[i]] = last - i;
+        }
+
+        this.skip = skip;
+    }
+
+    /**
+     * The number of bytes being searched for.
+     */
+    public int length() {
+        return this.bytes.length;
+    }
+
+    /**
+     * Attempts to find the starting index of the searched bytes within the given {@link Binary} between start and end,
+     * returning -1 if it was not found.
+     */
+    public int indexOf(final Binary binary,
+                       final int start,
+                       final int end) {
+        Objects.requireNonNull(binary, "binary");
+        binary.checkStartAndEnd(start, end);
+
+        return this.bytes.length <= end - start ?
+            binary.indexOf0(
+                this,
+                start,
+                end
+            ) :
+            -1;
+    }
+
+    /**
+     * Searches the array between start and end returning the absolute index of the first match or -1.
+     */
+    // BinaryArray
+    int indexOfArray(final byte[] array,
+                final int start,
+                final int end) {
+        final byte[] bytes = this.bytes;
+        final int[] skip = this.skip;
+        final int last = bytes.length - 1;
+        final int stop = end - bytes.length;
+
+        int found = -1;
+        int i = start;
+
+        while (i <= stop) {
+            int j = last;
+            while (bytes[j] == array[i + j]) {
+                if (0 == j) {
+                    found = i;
+                    break;
+                }
+                j--;
+            }
+            if (-1 != found) {
+                break;
+            }
+            i = i + skip[0xff & array[i + last]];
+        }
+
+        return found;
+    }
+
+    /**
+     * Searches any {@link Binary} one byte at a time between start and end, returning the index of the first match or -1.
+     */
+    // BinaryComposite
+    int indexOfBinary(final Binary binary,
+                final int start,
+                final int end) {
+        final byte[] bytes = this.bytes;
+        final int[] skip = this.skip;
+        final int last = bytes.length - 1;
+        final int stop = end - bytes.length;
+
+        int found = -1;
+        int i = start;
+
+        while (i <= stop) {
+            int j = last;
+            while (bytes[j] == binary.byteAt(i + j)) {
+                if (0 == j) {
+                    found = i;
+                    break;
+                }
+                j--;
+            }
+            if (-1 != found) {
+                break;
+            }
+            i = i + skip[0xff & binary.byteAt(i + last)];
+        }
+
+        return found;
+    }
+
+    /**
+     * Reads the {@link InputStream} until the end, passing each part between matches of the searched bytes to the
+     * given {@link Consumer}. The searched bytes are not included in any part, and a part is always emitted before the
+     * first and after the last match, even if it is empty. Only the current part is kept, never the entire stream.
+     */
+    public void split(final InputStream input,
+                      final int bufferSize,
+                      final Consumer<Binary> parts) throws IOException {
+        Objects.requireNonNull(input, "input");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size " + bufferSize + " <= 0");
+        }
+        Objects.requireNonNull(parts, "parts");
+
+        final int length = this.bytes.length;
+        final int carryMax = length - 1;
+
+        // the segments of the current part, joined once when the part is complete
+        final List<Binary> segments = new ArrayList<>();
+        byte[] carry = new byte[0];
+        boolean eof = false;
+
+        while (false == eof) {
+            // each chunk is a new array because parts share them
+            final int carryLength = carry.length;
+            final byte[] chunk = new byte[carryLength + Math.max(bufferSize, length)];
+            System.arraycopy(
+                carry,
+                0,
+                chunk,
+                0,
+                carryLength
+            );
+
+            // fill the chunk so short reads from sockets or pipes do not leave most of each array unused
+            int chunkLength = carryLength;
+            while (chunkLength < chunk.length) {
+                final int read = input.read(
+                    chunk,
+                    chunkLength,
+                    chunk.length - chunkLength
+                );
+                if (-1 == read) {
+                    eof = true;
+                    break;
+                }
+                chunkLength = chunkLength + read;
+            }
+
+            int from = 0;
+
+            for (; ; ) {
+                final int found = this.indexOfArray(
+                    chunk,
+                    from,
+                    chunkLength
+                );
+                if (-1 == found) {
+                    break;
+                }
+
+                segments.add(
+                    BinaryArray.with(
+                        chunk,
+                        from,
+                        found - from
+                    )
+                );
+                parts.accept(
+                    Binary.composite(segments)
+                );
+                segments.clear();
+                from = found + length;
+            }
+
+            if (eof) {
+                segments.add(
+                    BinaryArray.with(
+                        chunk,
+                        from,
+                        chunkLength - from
+                    )
+                );
+                parts.accept(
+                    Binary.composite(segments)
+                );
+            } else {
+                // keep any trailing bytes which may be the start of a match
+                final int carryFrom = Math.max(
+                    from,
+                    chunkLength - carryMax
+                );
+                segments.add(
+                    BinaryArray.with(
+                        chunk,
+                        from,
+                        carryFrom - from
+                    )
+                );
+                carry = Arrays.copyOfRange(
+                    chunk,
+                    carryFrom,
+                    chunkLength
+                );
+            }
+        }
+    }
+
+    private final byte[] bytes;
+
+    /**
+     * The Horspool bad character shift table, indexed by the unsigned byte value.
+     */
+    private final int[] skip;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bytes);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof BinarySearcher &&
+                Arrays.equals(
+                    this.bytes,
+                    ((BinarySearcher) other).bytes
+                );
+    }
+
+    @Override
+    public String toString() {
+        return Binary.with(this.bytes)
+            .toString();
+    }
+}
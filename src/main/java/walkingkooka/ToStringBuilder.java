@@ -17,11 +17,13 @@
 
 package walkingkooka;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.build.Builder;
 import walkingkooka.text.CharSequences;
 import walkingkooka.text.Indentation;
 import walkingkooka.text.LineEnding;
 
+import java.io.IOException;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Objects;
@@ -54,6 +56,42 @@ final public class ToStringBuilder implements Builder<String> {
         return builder.build();
     }
 
+    /**
+     * Similar to {@link #buildFrom(UsesToStringBuilder)} but reuses a {@link ToStringBuilder} belonging to the current
+     * {@link Thread}, which is {@link #reset()} after use. Nested calls will create a new {@link ToStringBuilder}.
+     */
+    @GwtIncompatible
+    public static String buildFromThreadLocal(final UsesToStringBuilder uses) {
+        Objects.requireNonNull(uses, "uses");
+
+        final ToStringBuilder builder = ToStringBuilderThreadLocal.INSTANCE.acquire();
+        try {
+            uses.buildToString(builder);
+            return builder.build();
+        } finally {
+            ToStringBuilderThreadLocal.INSTANCE.release(builder);
+        }
+    }
+
+    /**
+     * Builds the {@link UsesToStringBuilder} using a {@link ToStringBuilder} belonging to the current {@link Thread}
+     * and appends the result to the {@link Appendable} without creating a {@link String}.
+     */
+    @GwtIncompatible
+    public static void buildFromThreadLocal(final UsesToStringBuilder uses,
+                                            final Appendable appendable) throws IOException {
+        Objects.requireNonNull(uses, "uses");
+        Objects.requireNonNull(appendable, "appendable");
+
+        final ToStringBuilder builder = ToStringBuilderThreadLocal.INSTANCE.acquire();
+        try {
+            uses.buildToString(builder);
+            builder.buildTo(appendable);
+        } finally {
+            ToStringBuilderThreadLocal.INSTANCE.release(builder);
+        }
+    }
+
     /**
      * Creates an empty {@link ToStringBuilder}.
      */
@@ -145,6 +183,20 @@ final public class ToStringBuilder implements Builder<String> {
     private ToStringBuilder() {
         super();
 
+        this.options = EnumSet.noneOf(ToStringBuilderOption.class);
+        this.buffer = new StringBuilder();
+
+        this.reset();
+    }
+
+    /**
+     * Clears the built text and restores all state including lengths and options to defaults, allowing this
+     * {@link ToStringBuilder} and its buffer to be reused.
+     */
+    public ToStringBuilder reset() {
+        this.buffer.setLength(0);
+
+        this.label = null;
         this.before = DEFAULT_BEFORE_VALUES;
         this.after = DEFAULT_AFTER_VALUES;
 
@@ -154,12 +206,9 @@ final public class ToStringBuilder implements Builder<String> {
         this.maxValueLength = Integer.MAX_VALUE;
         this.callerBufferLengthSnapshot = 0;
 
-        this.options = EnumSet.noneOf(ToStringBuilderOption.class);
-        this.buffer = new StringBuilder();
-
         this.mode = ToStringBuilderMode.NONE;
 
-        this.defaults();
+        return this.defaults();
     }
 
     /**
@@ -172,13 +221,27 @@ final public class ToStringBuilder implements Builder<String> {
 
         final Set<ToStringBuilderOption> options = this.options;
         options.clear();
-        options.add(ToStringBuilderOption.QUOTE);
-        options.add(ToStringBuilderOption.INLINE_ELEMENTS);
-        options.add(ToStringBuilderOption.SKIP_IF_DEFAULT_VALUE);
+        options.addAll(DEFAULT_OPTIONS);
 
         return this;
     }
 
+    private final static Set<ToStringBuilderOption> DEFAULT_OPTIONS = EnumSet.of(
+        ToStringBuilderOption.QUOTE,
+        ToStringBuilderOption.INLINE_ELEMENTS,
+        ToStringBuilderOption.SKIP_IF_DEFAULT_VALUE
+    );
+
+    /**
+     * Returns true if the options and separators are the same as {@link #defaults()}.
+     */
+    private boolean isDefaults() {
+        return this.options.equals(DEFAULT_OPTIONS) &&
+            SEPARATOR.equals(this.separator) &&
+            LABEL_SEPARATOR.equals(this.labelSeparator) &&
+            DEFAULT_VALUE_SEPARATOR.equals(this.valueSeparator);
+    }
+
     // state/config.....................................................................................................
 
     /**
@@ -582,7 +645,7 @@ final public class ToStringBuilder implements Builder<String> {
      * label is cleared.
      */
     public ToStringBuilder append(final byte value) {
-        return this.appendFinish(value);
+        return this.appendFinishLong(value);
     }
 
     /**
@@ -596,6 +659,10 @@ final public class ToStringBuilder implements Builder<String> {
      * Adds a {@link double}. Note any orphaned label is cleared.
      */
     public ToStringBuilder append(final double value) {
+        if (this.bufferLeft() >= MAX_NUMBER_LENGTH) {
+            this.buffer.append(value);
+            return this.appendFinished();
+        }
         return this.appendFinish(value);
     }
 
@@ -603,6 +670,10 @@ final public class ToStringBuilder implements Builder<String> {
      * Adds a {@link float}. Note any orphaned label is cleared.
      */
     public ToStringBuilder append(final float value) {
+        if (this.bufferLeft() >= MAX_NUMBER_LENGTH) {
+            this.buffer.append(value);
+            return this.appendFinished();
+        }
         return this.appendFinish(value);
     }
 
@@ -610,21 +681,21 @@ final public class ToStringBuilder implements Builder<String> {
      * Adds a {@link int}. Note any orphaned label is cleared.
      */
     public ToStringBuilder append(final int value) {
-        return this.appendFinish(value);
+        return this.appendFinishLong(value);
     }
 
     /**
      * Adds a {@link long}. Note any orphaned label is cleared.
      */
     public ToStringBuilder append(final long value) {
-        return this.appendFinish(value);
+        return this.appendFinishLong(value);
     }
 
     /**
      * Adds a {@link short}. Note any orphaned label is cleared.
      */
     public ToStringBuilder append(final short value) {
-        return this.appendFinish(value);
+        return this.appendFinishLong(value);
     }
 
     /**
@@ -641,20 +712,37 @@ final public class ToStringBuilder implements Builder<String> {
      */
     void appendCharSequence(final CharSequence chars,
                             final char quote) {
-        CharSequence append = chars;
+        final StringBuilder buffer = this.buffer;
+
+        // only the chars that could possibly fit are escaped and appended, the caller trims any excess.
+        final int limit = Math.max(
+            Math.min(
+                this.valueLength,
+                this.bufferLeft()
+            ),
+            1
+        );
+        CharSequence append = unwrapIfIndentationAndLineEnding(chars);
+        if (append.length() > limit) {
+            append = append.subSequence(0, limit);
+        }
 
+        final boolean quoted = this.option(ToStringBuilderOption.QUOTE);
+        if (quoted) {
+            buffer.append(quote);
+        }
         if (this.option(ToStringBuilderOption.ESCAPE)) {
-            append = CharSequences.escape(
-                unwrapIfIndentationAndLineEnding(chars)
+            CharSequences.escape(
+                append,
+                buffer
             );
+        } else {
+            buffer.append(append);
         }
-        if (this.option(ToStringBuilderOption.QUOTE)) {
-            append = "" + quote +
-                unwrapIfIndentationAndLineEnding(append) +
-                quote;
+        if (quoted) {
+            buffer.append(quote);
         }
 
-        this.buffer.append(append);
         this.mode = ToStringBuilderMode.VALUE;
     }
 
@@ -700,6 +788,27 @@ final public class ToStringBuilder implements Builder<String> {
         return full;
     }
 
+    /**
+     * Appends the cached {@link Object#toString()} of the {@link UsesToStringBuilderCached} when building it again
+     * would produce the same text, that is the options and separators are defaults and no truncation would happen.
+     */
+    // ToStringBuilderAppenderScalarUsesToStringBuilder
+    void appendUsesToStringBuilderCached(final UsesToStringBuilderCached uses) {
+        final String cached = uses.toString();
+        final int length = cached.length();
+
+        if (length < VALUE_LENGTH &&
+            length <= this.valueLength &&
+            length <= this.bufferLeft() &&
+            this.isDefaults()) {
+            this.buffer.append(cached);
+            this.mode = ToStringBuilderMode.VALUE;
+        } else {
+            this.appendUsesToStringBuilder(uses);
+        }
+    }
+
+    // ToStringBuilderAppenderScalarUsesToStringBuilder
     void appendUsesToStringBuilder(final UsesToStringBuilder uses) {
         final String separator = this.separator;
         final String labelSeparator = this.labelSeparator;
@@ -767,7 +876,30 @@ final public class ToStringBuilder implements Builder<String> {
     }
 
     /**
-     * Appends the value, honours the global length.
+     * Appends whole numbers directly into the buffer when there is room for the longest possible number, otherwise
+     * the {@link String} form is truncated.
+     */
+    private ToStringBuilder appendFinishLong(final long value) {
+        if (this.bufferLeft() >= MAX_NUMBER_LENGTH) {
+            this.buffer.append(value);
+            return this.appendFinished();
+        }
+        return this.appendFinish(value);
+    }
+
+    /**
+     * The longest {@link String} form of any number, which includes long values and doubles in exponent form.
+     */
+    private final static int MAX_NUMBER_LENGTH = 32;
+
+    private ToStringBuilder appendFinished() {
+        this.mode = ToStringBuilderMode.APPEND;
+        return this.valueFinished();
+    }
+
+    /**
+     * Appends the value, honours the global length. Any {@link CharSequence} is appended directly without first
+     * creating a {@link String}, copying only the chars that fit before the global length is reached.
      */
     private ToStringBuilder appendFinish(final Object object) {
         final StringBuilder buffer = this.buffer;
@@ -776,10 +908,12 @@ final public class ToStringBuilder implements Builder<String> {
         final int left = globalLength - before;
 
         if (left > 0) {
-            final String string = String.valueOf(object);
-            final int copy = Math.min(string.length(), left);
+            final CharSequence chars = object instanceof CharSequence ?
+                (CharSequence) object :
+                String.valueOf(object);
+            final int copy = Math.min(chars.length(), left);
             if (copy > 0) {
-                buffer.append(string, 0, copy);
+                buffer.append(chars, 0, copy);
                 this.mode = ToStringBuilderMode.APPEND;
             }
         }
@@ -818,6 +952,15 @@ final public class ToStringBuilder implements Builder<String> {
         return this.buffer.toString();
     }
 
+    /**
+     * Appends the built text to the given {@link Appendable} without first creating a {@link String}.
+     */
+    public void buildTo(final Appendable appendable) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+
+        appendable.append(this.buffer);
+    }
+
     /**
      * Tests if the {@link StringBuilder} is full returning the maximum number of characters left. A
      * value less than or equal to 0 indicates its full.
@@ -40,8 +40,12 @@ final class ToStringBuilderAppenderScalarUsesToStringBuilder extends ToStringBui
     @Override
     void value(final ToStringBuilder builder) {
         final UsesToStringBuilder value = this.value;
-        if (null != value) {
-            builder.appendUsesToStringBuilder(value);
+        if (value instanceof UsesToStringBuilderCached) {
+            builder.appendUsesToStringBuilderCached((UsesToStringBuilderCached) value);
+        } else {
+            if (null != value) {
+                builder.appendUsesToStringBuilder(value);
+            }
         }
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+/**
+ * Holds a reusable {@link ToStringBuilder} for each {@link Thread}. The {@link ToStringBuilder} is removed while in use,
+ * so nested or re-entrant builds simply create a new {@link ToStringBuilder}.
+ */
+@GwtIncompatible
+final class ToStringBuilderThreadLocal extends ThreadLocal<ToStringBuilder> {
+
+    /**
+     * Singleton
+     */
+    final static ToStringBuilderThreadLocal INSTANCE = new ToStringBuilderThreadLocal();
+
+    /**
+     * Buffers that have grown beyond this capacity are released rather than being held by the {@link Thread}.
+     */
+    final static int MAX_CAPACITY = 16 * ToStringBuilder.GLOBAL_LENGTH;
+
+    private ToStringBuilderThreadLocal() {
+        super();
+    }
+
+    /**
+     * Returns the {@link ToStringBuilder} for the current {@link Thread} or a new one if it is already in use.
+     */
+    ToStringBuilder acquire() {
+        ToStringBuilder builder = this.get();
+        if (null == builder) {
+            builder = ToStringBuilder.empty();
+        } else {
+            this.set(null);
+        }
+        return builder;
+    }
+
+    /**
+     * Resets and returns the {@link ToStringBuilder} so it may be reused by the current {@link Thread}.
+     */
+    void release(final ToStringBuilder builder) {
+        builder.reset();
+
+        final StringBuilder buffer = builder.buffer;
+        if (buffer.capacity() > MAX_CAPACITY) {
+            buffer.trimToSize();
+        }
+        this.set(builder);
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+}
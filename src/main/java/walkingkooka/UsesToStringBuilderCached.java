@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+/**
+ * An immutable {@link UsesToStringBuilder} that builds its {@link Object#toString()} once using
+ * {@link ToStringBuilder#buildFrom(UsesToStringBuilder)} and caches the result. When such a value is added to another
+ * {@link ToStringBuilder} with default options, the cached {@link String} is appended rather than being rebuilt.
+ * Implementations typically use a racy single check without any locking.
+ * <pre>
+ * public String toString() {
+ *     String toString = this.toString;
+ *     if (null == toString) {
+ *         toString = ToStringBuilder.buildFrom(this);
+ *         this.toString = toString;
+ *     }
+ *     return toString;
+ * }
+ *
+ * private transient String toString;
+ * </pre>
+ */
+public interface UsesToStringBuilderCached extends UsesToStringBuilder {
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A persistent hash array mapped trie of elements, each found by the key returned by a {@link Function}. Each node
+ * uses two bitmaps, one for slots holding an element and another for slots holding a sub node, and elements whose
+ * keys have the same entire hash are held in a collision node.
+ * <br>
+ * Single element updates copy only the nodes along the path to that element, sharing all other nodes with the
+ * original, making them O(log n). The bulk operations modify the nodes they create in place, so each node is only
+ * ever copied once per operation, while nodes reachable from the original are never modified. Keys may be null, and
+ * elements are not returned in insertion order.
+ * <br>
+ * This is a supported public building block for persistent collections, and is the storage behind
+ * {@link walkingkooka.collect.set.Sets#persistent()} and {@link walkingkooka.collect.map.Maps#persistent()}, where a
+ * set uses each element as its own key, while a map holds entries keyed by their map key. Instances are immutable and
+ * so may be shared between threads, every update returns a new trie or this when nothing changed, and the original is
+ * never modified. The key {@link Function} must always return the same key for an element, and keys are compared
+ * using their {@link Object#hashCode()} and {@link Object#equals(Object)}. The {@link Iterator} does not support
+ * {@link Iterator#remove()}.
+ */
+public final class HashArrayMappedTrie<E> implements Iterable<E> {
+
+    /**
+     * Returns an empty {@link HashArrayMappedTrie} which uses the given {@link Function} to get the key of each element.
+     */
+    public static <E> HashArrayMappedTrie<E> empty(final Function<? super E, ?> keys) {
+        return new HashArrayMappedTrie<>(
+            Objects.requireNonNull(keys, "keys"),
+            HashArrayMappedTrieBitmapNode.EMPTY,
+            0
+        );
+    }
+
+    private HashArrayMappedTrie(final Function<? super E, ?> keys,
+                                final HashArrayMappedTrieNode<?> root,
+                                final int size) {
+        super();
+        this.keys = keys;
+        this.root = Cast.to(root);
+        this.size = size;
+    }
+
+    /**
+     * Returns the element with the given key or null if absent.
+     */
+    public E get(final Object key) {
+        final Object found = this.find(key);
+        return HashArrayMappedTrieNode.ABSENT == found ?
+            null :
+            Cast.to(found);
+    }
+
+    /**
+     * Tests if an element with the given key is present, which unlike {@link #get(Object)} supports null elements.
+     */
+    public boolean containsKey(final Object key) {
+        return HashArrayMappedTrieNode.ABSENT != this.find(key);
+    }
+
+    private Object find(final Object key) {
+        return this.root.find(
+            key,
+            HashArrayMappedTrieNode.hash(key),
+            0,
+            this.keys
+        );
+    }
+
+    /**
+     * Returns a {@link HashArrayMappedTrie} with the element added, or replacing the element with an equal key.
+     */
+    public HashArrayMappedTrie<E> set(final E element) {
+        final Function<? super E, ?> keys = this.keys;
+        final Object key = keys.apply(element);
+        final int hash = HashArrayMappedTrieNode.hash(key);
+        final HashArrayMappedTrieNode<E> root = this.root;
+
+        final Object found = root.find(
+            key,
+            hash,
+            0,
+            keys
+        );
+
+        final HashArrayMappedTrie<E> set;
+        if (HashArrayMappedTrieNode.ABSENT == found) {
+            set = this.replace(
+                root.add(
+                    element,
+                    hash,
+                    0,
+                    null,
+                    keys
+                ),
+                this.size + 1
+            );
+        } else {
+            set = found == element ?
+                this :
+                this.replace(
+                    root.replace(
+                        element,
+                        key,
+                        hash,
+                        0,
+                        null,
+                        keys
+                    ),
+                    this.size
+                );
+        }
+
+        return set;
+    }
+
+    /**
+     * Returns a {@link HashArrayMappedTrie} with the element added if no element has an equal key, otherwise returns
+     * this.
+     */
+    public HashArrayMappedTrie<E> concat(final E element) {
+        final Function<? super E, ?> keys = this.keys;
+        final Object key = keys.apply(element);
+        final int hash = HashArrayMappedTrieNode.hash(key);
+        final HashArrayMappedTrieNode<E> root = this.root;
+
+        return HashArrayMappedTrieNode.ABSENT != root.find(key, hash, 0, keys) ?
+            this :
+            this.replace(
+                root.add(
+                    element,
+                    hash,
+                    0,
+                    null,
+                    keys
+                ),
+                this.size + 1
+            );
+    }
+
+    /**
+     * Adds each element whose key is not already present, modifying in place the nodes created by this operation.
+     */
+    public HashArrayMappedTrie<E> concatAll(final Iterable<? extends E> elements) {
+        Objects.requireNonNull(elements, "elements");
+
+        final Function<? super E, ?> keys = this.keys;
+        final Object owner = new Object();
+        HashArrayMappedTrieNode<E> root = this.root;
+        int size = this.size;
+
+        for (final E element : elements) {
+            final Object key = keys.apply(element);
+            final int hash = HashArrayMappedTrieNode.hash(key);
+
+            if (HashArrayMappedTrieNode.ABSENT == root.find(key, hash, 0, keys)) {
+                root = root.add(
+                    element,
+                    hash,
+                    0,
+                    owner,
+                    keys
+                );
+                size++;
+            }
+        }
+
+        return this.replace(
+            root,
+            size
+        );
+    }
+
+    /**
+     * Returns a {@link HashArrayMappedTrie} without the element with the given key.
+     */
+    public HashArrayMappedTrie<E> delete(final Object key) {
+        final Function<? super E, ?> keys = this.keys;
+        final int hash = HashArrayMappedTrieNode.hash(key);
+        final HashArrayMappedTrieNode<E> root = this.root;
+
+        return HashArrayMappedTrieNode.ABSENT != root.find(key, hash, 0, keys) ?
+            this.replace(
+                root.remove(
+                    key,
+                    hash,
+                    0,
+                    null,
+                    keys
+                ),
+                this.size - 1
+            ) :
+            this;
+    }
+
+    /**
+     * Removes the elements with each of the given keys, modifying in place the nodes created by this operation.
+     */
+    public HashArrayMappedTrie<E> deleteAll(final Iterable<?> keys) {
+        Objects.requireNonNull(keys, "keys");
+
+        final Function<? super E, ?> keyFunction = this.keys;
+        final Object owner = new Object();
+        HashArrayMappedTrieNode<E> root = this.root;
+        int size = this.size;
+
+        for (final Object key : keys) {
+            final int hash = HashArrayMappedTrieNode.hash(key);
+
+            if (HashArrayMappedTrieNode.ABSENT != root.find(key, hash, 0, keyFunction)) {
+                root = root.remove(
+                    key,
+                    hash,
+                    0,
+                    owner,
+                    keyFunction
+                );
+                size--;
+            }
+        }
+
+        return this.replace(
+            root,
+            size
+        );
+    }
+
+    /**
+     * Removes the elements matched by the {@link Predicate}, modifying in place the nodes created by this operation.
+     */
+    public HashArrayMappedTrie<E> deleteIf(final Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        final Function<? super E, ?> keys = this.keys;
+        final Object owner = new Object();
+        HashArrayMappedTrieNode<E> root = this.root;
+        int size = this.size;
+
+        // nodes reachable from this are never modified so iterating this while removing is safe
+        for (final E element : this) {
+            if (predicate.test(element)) {
+                final Object key = keys.apply(element);
+
+                root = root.remove(
+                    key,
+                    HashArrayMappedTrieNode.hash(key),
+                    0,
+                    owner,
+                    keys
+                );
+                size--;
+            }
+        }
+
+        return this.replace(
+            root,
+            size
+        );
+    }
+
+    private HashArrayMappedTrie<E> replace(final HashArrayMappedTrieNode<E> root,
+                                           final int size) {
+        return root == this.root && size == this.size ?
+            this :
+            new HashArrayMappedTrie<>(
+                this.keys,
+                0 == size ?
+                    HashArrayMappedTrieBitmapNode.EMPTY :
+                    root,
+                size
+            );
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return HashArrayMappedTrieIterator.with(this.root);
+    }
+
+    private final Function<? super E, ?> keys;
+
+    private final HashArrayMappedTrieNode<E> root;
+
+    private final int size;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final List<E> elements = Lists.array();
+        for (final E element : this) {
+            elements.add(element);
+        }
+        return elements.toString();
+    }
+}
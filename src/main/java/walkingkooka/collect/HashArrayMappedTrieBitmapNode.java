@@ -0,0 +1,460 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link HashArrayMappedTrieNode} which uses two bitmaps to record which of the 32 slots for the current hash bits hold
+ * an element or a sub node. Elements are stored at the front of the content array in slot order, and sub nodes at the
+ * end in reverse slot order.
+ */
+final class HashArrayMappedTrieBitmapNode<E> extends HashArrayMappedTrieNode<E> {
+
+    /**
+     * The root of an empty {@link HashArrayMappedTrie}.
+     */
+    final static HashArrayMappedTrieBitmapNode<?> EMPTY = new HashArrayMappedTrieBitmapNode<>(
+        0,
+        0,
+        new Object[0],
+        null
+    );
+
+    /**
+     * Creates a node holding both elements, pushing them down into sub nodes until their hash bits differ.
+     */
+    static <E> HashArrayMappedTrieNode<E> merge(final E element0,
+                                                final int hash0,
+                                                final E element1,
+                                                final int hash1,
+                                                final int shift,
+                                                final Object owner) {
+        final HashArrayMappedTrieNode<E> node;
+
+        if (shift >= Integer.SIZE) {
+            node = new HashArrayMappedTrieCollisionNode<>(
+                hash0,
+                new Object[]{element0, element1},
+                owner
+            );
+        } else {
+            final int bit0 = bit(hash0, shift);
+            final int bit1 = bit(hash1, shift);
+
+            node = bit0 != bit1 ?
+                new HashArrayMappedTrieBitmapNode<>(
+                    bit0 | bit1,
+                    0,
+                    Integer.compareUnsigned(bit0, bit1) < 0 ?
+                        new Object[]{element0, element1} :
+                        new Object[]{element1, element0},
+                    owner
+                ) :
+                new HashArrayMappedTrieBitmapNode<>(
+                    0,
+                    bit0,
+                    new Object[]{
+                        merge(
+                            element0,
+                            hash0,
+                            element1,
+                            hash1,
+                            shift + BITS,
+                            owner
+                        )
+                    },
+                    owner
+                );
+        }
+
+        return node;
+    }
+
+    private static int bit(final int hash,
+                           final int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private HashArrayMappedTrieBitmapNode(final int dataMap,
+                                          final int nodeMap,
+                                          final Object[] content,
+                                          final Object owner) {
+        super(owner);
+        this.dataMap = dataMap;
+        this.nodeMap = nodeMap;
+        this.content = content;
+    }
+
+    @Override
+    Object find(final Object key,
+                final int hash,
+                final int shift,
+                final Function<? super E, ?> keys) {
+        final int bit = bit(hash, shift);
+        Object found = ABSENT;
+
+        if (0 != (this.dataMap & bit)) {
+            final E element = Cast.to(this.content[this.dataIndex(bit)]);
+            if (Objects.equals(keys.apply(element), key)) {
+                found = element;
+            }
+        } else {
+            if (0 != (this.nodeMap & bit)) {
+                found = this.subNode(this.nodeIndex(bit))
+                    .find(
+                        key,
+                        hash,
+                        shift + BITS,
+                        keys
+                    );
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> add(final E element,
+                                   final int hash,
+                                   final int shift,
+                                   final Object owner,
+                                   final Function<? super E, ?> keys) {
+        final int bit = bit(hash, shift);
+        final HashArrayMappedTrieNode<E> node;
+
+        if (0 != (this.dataMap & bit)) {
+            final int index = this.dataIndex(bit);
+            final E existing = Cast.to(this.content[index]);
+
+            node = this.migrateDataToNode(
+                bit,
+                index,
+                merge(
+                    existing,
+                    hash(keys.apply(existing)),
+                    element,
+                    hash,
+                    shift + BITS,
+                    owner
+                ),
+                owner
+            );
+        } else {
+            if (0 != (this.nodeMap & bit)) {
+                final int index = this.nodeIndex(bit);
+
+                node = this.setContent(
+                    index,
+                    this.subNode(index)
+                        .add(
+                            element,
+                            hash,
+                            shift + BITS,
+                            owner,
+                            keys
+                        ),
+                    owner
+                );
+            } else {
+                node = this.insertData(
+                    bit,
+                    element,
+                    owner
+                );
+            }
+        }
+
+        return node;
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> replace(final E element,
+                                       final Object key,
+                                       final int hash,
+                                       final int shift,
+                                       final Object owner,
+                                       final Function<? super E, ?> keys) {
+        final int bit = bit(hash, shift);
+        final HashArrayMappedTrieNode<E> node;
+
+        if (0 != (this.dataMap & bit)) {
+            node = this.setContent(
+                this.dataIndex(bit),
+                element,
+                owner
+            );
+        } else {
+            final int index = this.nodeIndex(bit);
+
+            node = this.setContent(
+                index,
+                this.subNode(index)
+                    .replace(
+                        element,
+                        key,
+                        hash,
+                        shift + BITS,
+                        owner,
+                        keys
+                    ),
+                owner
+            );
+        }
+
+        return node;
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> remove(final Object key,
+                                      final int hash,
+                                      final int shift,
+                                      final Object owner,
+                                      final Function<? super E, ?> keys) {
+        final int bit = bit(hash, shift);
+        HashArrayMappedTrieNode<E> node = this;
+
+        if (0 != (this.dataMap & bit)) {
+            final int index = this.dataIndex(bit);
+            if (Objects.equals(keys.apply(this.data(index)), key)) {
+                node = this.removeData(
+                    bit,
+                    index,
+                    owner
+                );
+            }
+        } else {
+            if (0 != (this.nodeMap & bit)) {
+                final int index = this.nodeIndex(bit);
+                final HashArrayMappedTrieNode<E> subNode = this.subNode(index)
+                    .remove(
+                        key,
+                        hash,
+                        shift + BITS,
+                        owner,
+                        keys
+                    );
+
+                node = subNode.hasSingleElement() ?
+                    this.migrateNodeToData(
+                        bit,
+                        index,
+                        subNode.data(0),
+                        owner
+                    ) :
+                    this.setContent(
+                        index,
+                        subNode,
+                        owner
+                    );
+            }
+        }
+
+        return node;
+    }
+
+    @Override
+    boolean hasSingleElement() {
+        return 0 == this.nodeMap && 1 == Integer.bitCount(this.dataMap);
+    }
+
+    @Override
+    int dataCount() {
+        return Integer.bitCount(this.dataMap);
+    }
+
+    @Override
+    E data(final int index) {
+        return Cast.to(this.content[index]);
+    }
+
+    @Override
+    int nodeCount() {
+        return Integer.bitCount(this.nodeMap);
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> node(final int index) {
+        return this.subNode(this.content.length - 1 - index);
+    }
+
+    private HashArrayMappedTrieNode<E> subNode(final int contentIndex) {
+        return Cast.to(this.content[contentIndex]);
+    }
+
+    private int dataIndex(final int bit) {
+        return Integer.bitCount(this.dataMap & (bit - 1));
+    }
+
+    private int nodeIndex(final int bit) {
+        return this.content.length - 1 - Integer.bitCount(this.nodeMap & (bit - 1));
+    }
+
+    // copy on write unless editable....................................................................................
+
+    /**
+     * Replaces the element or sub node at the given content index.
+     */
+    private HashArrayMappedTrieNode<E> setContent(final int index,
+                                                  final Object elementOrNode,
+                                                  final Object owner) {
+        final HashArrayMappedTrieNode<E> result;
+
+        if (this.isEditable(owner)) {
+            this.content[index] = elementOrNode;
+            result = this;
+        } else {
+            final Object[] content = this.content.clone();
+            content[index] = elementOrNode;
+
+            result = new HashArrayMappedTrieBitmapNode<>(
+                this.dataMap,
+                this.nodeMap,
+                content,
+                owner
+            );
+        }
+
+        return result;
+    }
+
+    private HashArrayMappedTrieNode<E> insertData(final int bit,
+                                                  final E element,
+                                                  final Object owner) {
+        final Object[] content = this.content;
+        final int index = this.dataIndex(bit);
+
+        final Object[] copy = new Object[content.length + 1];
+        System.arraycopy(content, 0, copy, 0, index);
+        copy[index] = element;
+        System.arraycopy(content, index, copy, index + 1, content.length - index);
+
+        return this.replace(
+            this.dataMap | bit,
+            this.nodeMap,
+            copy,
+            owner
+        );
+    }
+
+    private HashArrayMappedTrieNode<E> removeData(final int bit,
+                                                  final int index,
+                                                  final Object owner) {
+        final Object[] content = this.content;
+
+        final Object[] copy = new Object[content.length - 1];
+        System.arraycopy(content, 0, copy, 0, index);
+        System.arraycopy(content, index + 1, copy, index, content.length - index - 1);
+
+        return this.replace(
+            this.dataMap ^ bit,
+            this.nodeMap,
+            copy,
+            owner
+        );
+    }
+
+    /**
+     * Replaces the element at the given data index with a sub node, the content array length is unchanged.
+     */
+    private HashArrayMappedTrieNode<E> migrateDataToNode(final int bit,
+                                                         final int dataIndex,
+                                                         final HashArrayMappedTrieNode<E> node,
+                                                         final Object owner) {
+        final Object[] content = this.content;
+        final int length = content.length;
+        final int nodeIndex = length - 1 - Integer.bitCount(this.nodeMap & (bit - 1));
+
+        final Object[] copy = new Object[length];
+        System.arraycopy(content, 0, copy, 0, dataIndex);
+        System.arraycopy(content, dataIndex + 1, copy, dataIndex, nodeIndex - dataIndex);
+        copy[nodeIndex] = node;
+        System.arraycopy(content, nodeIndex + 1, copy, nodeIndex + 1, length - nodeIndex - 1);
+
+        return this.replace(
+            this.dataMap ^ bit,
+            this.nodeMap | bit,
+            copy,
+            owner
+        );
+    }
+
+    /**
+     * Replaces the sub node at the given content index with its only remaining element.
+     */
+    private HashArrayMappedTrieNode<E> migrateNodeToData(final int bit,
+                                                         final int nodeIndex,
+                                                         final E element,
+                                                         final Object owner) {
+        final Object[] content = this.content;
+        final int length = content.length;
+        final int dataIndex = this.dataIndex(bit);
+
+        final Object[] copy = new Object[length];
+        System.arraycopy(content, 0, copy, 0, dataIndex);
+        copy[dataIndex] = element;
+        System.arraycopy(content, dataIndex, copy, dataIndex + 1, nodeIndex - dataIndex);
+        System.arraycopy(content, nodeIndex + 1, copy, nodeIndex + 1, length - nodeIndex - 1);
+
+        return this.replace(
+            this.dataMap | bit,
+            this.nodeMap ^ bit,
+            copy,
+            owner
+        );
+    }
+
+    private HashArrayMappedTrieNode<E> replace(final int dataMap,
+                                               final int nodeMap,
+                                               final Object[] content,
+                                               final Object owner) {
+        final HashArrayMappedTrieNode<E> result;
+
+        if (this.isEditable(owner)) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+            result = this;
+        } else {
+            result = new HashArrayMappedTrieBitmapNode<>(
+                dataMap,
+                nodeMap,
+                content,
+                owner
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Bits for slots holding an element.
+     */
+    private int dataMap;
+
+    /**
+     * Bits for slots holding a sub node.
+     */
+    private int nodeMap;
+
+    private Object[] content;
+}
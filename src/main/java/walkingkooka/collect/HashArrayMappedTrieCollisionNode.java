@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link HashArrayMappedTrieNode} that holds elements whose keys have the same entire hash, found after all hash bits
+ * have been consumed.
+ */
+final class HashArrayMappedTrieCollisionNode<E> extends HashArrayMappedTrieNode<E> {
+
+    HashArrayMappedTrieCollisionNode(final int hash,
+                                     final Object[] elements,
+                                     final Object owner) {
+        super(owner);
+        this.hash = hash;
+        this.elements = elements;
+    }
+
+    @Override
+    Object find(final Object key,
+                final int hash,
+                final int shift,
+                final Function<? super E, ?> keys) {
+        final int index = this.hash == hash ?
+            this.indexOf(key, keys) :
+            -1;
+        return -1 != index ?
+            this.elements[index] :
+            ABSENT;
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> add(final E element,
+                                   final int hash,
+                                   final int shift,
+                                   final Object owner,
+                                   final Function<? super E, ?> keys) {
+        final Object[] elements = this.elements;
+        final int length = elements.length;
+
+        final Object[] copy = Arrays.copyOf(
+            elements,
+            length + 1
+        );
+        copy[length] = element;
+
+        return this.replace(
+            copy,
+            owner
+        );
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> replace(final E element,
+                                       final Object key,
+                                       final int hash,
+                                       final int shift,
+                                       final Object owner,
+                                       final Function<? super E, ?> keys) {
+        final Object[] copy = this.elements.clone();
+        copy[this.indexOf(key, keys)] = element;
+
+        return this.replace(
+            copy,
+            owner
+        );
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> remove(final Object key,
+                                      final int hash,
+                                      final int shift,
+                                      final Object owner,
+                                      final Function<? super E, ?> keys) {
+        HashArrayMappedTrieNode<E> node = this;
+
+        final int index = this.indexOf(key, keys);
+        if (-1 != index) {
+            final Object[] elements = this.elements;
+            final int length = elements.length;
+
+            final Object[] copy = new Object[length - 1];
+            System.arraycopy(elements, 0, copy, 0, index);
+            System.arraycopy(elements, index + 1, copy, index, length - index - 1);
+
+            node = this.replace(
+                copy,
+                owner
+            );
+        }
+
+        return node;
+    }
+
+    private int indexOf(final Object key,
+                        final Function<? super E, ?> keys) {
+        final Object[] elements = this.elements;
+        int index = -1;
+
+        for (int i = 0; i < elements.length; i++) {
+            if (Objects.equals(keys.apply(this.data(i)), key)) {
+                index = i;
+                break;
+            }
+        }
+
+        return index;
+    }
+
+    private HashArrayMappedTrieNode<E> replace(final Object[] elements,
+                                               final Object owner) {
+        final HashArrayMappedTrieNode<E> result;
+
+        if (this.isEditable(owner)) {
+            this.elements = elements;
+            result = this;
+        } else {
+            result = new HashArrayMappedTrieCollisionNode<>(
+                this.hash,
+                elements,
+                owner
+            );
+        }
+
+        return result;
+    }
+
+    @Override
+    boolean hasSingleElement() {
+        return 1 == this.elements.length;
+    }
+
+    @Override
+    int dataCount() {
+        return this.elements.length;
+    }
+
+    @Override
+    E data(final int index) {
+        return Cast.to(this.elements[index]);
+    }
+
+    @Override
+    int nodeCount() {
+        return 0;
+    }
+
+    @Override
+    HashArrayMappedTrieNode<E> node(final int index) {
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds size=0");
+    }
+
+    private final int hash;
+
+    private Object[] elements;
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} that walks the nodes of a {@link HashArrayMappedTrie} depth first using an explicit stack, returning
+ * the elements of each node before descending into its sub nodes.
+ */
+final class HashArrayMappedTrieIterator<E> implements Iterator<E> {
+
+    static <E> HashArrayMappedTrieIterator<E> with(final HashArrayMappedTrieNode<E> root) {
+        return new HashArrayMappedTrieIterator<>(root);
+    }
+
+    private HashArrayMappedTrieIterator(final HashArrayMappedTrieNode<E> root) {
+        super();
+        this.push(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean hasNext = false;
+
+        for (; ; ) {
+            final HashArrayMappedTrieNode<E> data = this.data;
+            if (null != data && this.dataIndex < data.dataCount()) {
+                hasNext = true;
+                break;
+            }
+            this.data = null;
+
+            // find the next unvisited sub node
+            while (this.depth > 0) {
+                final int top = this.depth - 1;
+                final HashArrayMappedTrieNode<E> node = this.nodes[top];
+                final int cursor = this.cursors[top];
+
+                if (cursor < node.nodeCount()) {
+                    this.cursors[top] = cursor + 1;
+                    this.push(node.node(cursor));
+                    break;
+                }
+                this.nodes[top] = null;
+                this.depth = top;
+            }
+
+            if (null == this.data) {
+                break;
+            }
+        }
+
+        return hasNext;
+    }
+
+    @Override
+    public E next() {
+        if (false == this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.data.data(this.dataIndex++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void push(final HashArrayMappedTrieNode<E> node) {
+        final int depth = this.depth;
+        this.nodes[depth] = node;
+        this.cursors[depth] = 0;
+        this.depth = depth + 1;
+
+        this.data = node;
+        this.dataIndex = 0;
+    }
+
+    /**
+     * The node whose elements are currently being returned.
+     */
+    private HashArrayMappedTrieNode<E> data;
+
+    private int dataIndex;
+
+    private final HashArrayMappedTrieNode<E>[] nodes = new HashArrayMappedTrieNode[HashArrayMappedTrieNode.MAX_DEPTH];
+
+    /**
+     * The index of the next sub node to visit for each node in {@link #nodes}.
+     */
+    private final int[] cursors = new int[HashArrayMappedTrieNode.MAX_DEPTH];
+
+    private int depth;
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Base class for the nodes of a {@link HashArrayMappedTrie}. Nodes are never modified once shared, except during a bulk
+ * operation which may modify in place any node created with the same owner token. Elements are found using the key
+ * returned by the key {@link Function} of the trie, which is passed to every operation.
+ */
+abstract class HashArrayMappedTrieNode<E> {
+
+    /**
+     * The number of hash bits consumed by each level of the trie.
+     */
+    final static int BITS = 5;
+
+    /**
+     * The deepest possible path, 7 bitmap levels consume all 32 hash bits followed by a collision node.
+     */
+    final static int MAX_DEPTH = 8;
+
+    /**
+     * Returned by {@link #find(Object, int, int, Function)} when no element has the key, because null may be an
+     * element.
+     */
+    final static Object ABSENT = new Object();
+
+    static int hash(final Object key) {
+        return Objects.hashCode(key);
+    }
+
+    HashArrayMappedTrieNode(final Object owner) {
+        super();
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the element with the given key and hash or {@link #ABSENT}.
+     */
+    abstract Object find(final Object key,
+                         final int hash,
+                         final int shift,
+                         final Function<? super E, ?> keys);
+
+    /**
+     * Returns a node that also includes the element, whose key must not already be present.
+     */
+    abstract HashArrayMappedTrieNode<E> add(final E element,
+                                            final int hash,
+                                            final int shift,
+                                            final Object owner,
+                                            final Function<? super E, ?> keys);
+
+    /**
+     * Returns a node with the element replacing the element with an equal key, which must be present.
+     */
+    abstract HashArrayMappedTrieNode<E> replace(final E element,
+                                                final Object key,
+                                                final int hash,
+                                                final int shift,
+                                                final Object owner,
+                                                final Function<? super E, ?> keys);
+
+    /**
+     * Returns a node without the element with the key, which must be present.
+     */
+    abstract HashArrayMappedTrieNode<E> remove(final Object key,
+                                               final int hash,
+                                               final int shift,
+                                               final Object owner,
+                                               final Function<? super E, ?> keys);
+
+    /**
+     * Returns true if this node holds a single element and no sub nodes, so it may be inlined into its parent.
+     */
+    abstract boolean hasSingleElement();
+
+    /**
+     * The number of elements held directly by this node.
+     */
+    abstract int dataCount();
+
+    abstract E data(final int index);
+
+    /**
+     * The number of sub nodes.
+     */
+    abstract int nodeCount();
+
+    abstract HashArrayMappedTrieNode<E> node(final int index);
+
+    /**
+     * Only nodes created during the same bulk operation may be modified in place.
+     */
+    final boolean isEditable(final Object owner) {
+        return null != owner && owner == this.owner;
+    }
+
+    private final Object owner;
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * A int specialisation of {@link Range} that holds its inclusive bounds as primitives, so {@link #test(int)} never
+ * boxes or allocates. An absent lower or upper bound is held as {@link Integer#MIN_VALUE} or {@link Integer#MAX_VALUE}, and
+ * is remembered apart from an explicit bound with the same value, just like {@link RangeBound#all()}.
+ */
+public final class IntRange implements IntPredicate {
+
+    /**
+     * A {@link IntRange} that matches all values.
+     */
+    public static IntRange all() {
+        return ALL;
+    }
+
+    /**
+     * The ALL singleton instance.
+     */
+    private final static IntRange ALL = new IntRange(
+        Integer.MIN_VALUE,
+        true,
+        Integer.MAX_VALUE,
+        true
+    );
+
+    /**
+     * A {@link IntRange} that holds a single value.
+     */
+    public static IntRange singleton(final int value) {
+        return new IntRange(
+            value,
+            false,
+            value,
+            false
+        );
+    }
+
+    /**
+     * A {@link IntRange} without a lower bound, matching all values less than or equal to the given value.
+     */
+    public static IntRange lessThanEquals(final int upper) {
+        return new IntRange(
+            Integer.MIN_VALUE,
+            true,
+            upper,
+            false
+        );
+    }
+
+    /**
+     * A {@link IntRange} without an upper bound, matching all values greater than or equal to the given value.
+     */
+    public static IntRange greaterThanEquals(final int lower) {
+        return new IntRange(
+            lower,
+            false,
+            Integer.MAX_VALUE,
+            true
+        );
+    }
+
+    /**
+     * Creates a new {@link IntRange} with the given inclusive bounds.
+     */
+    public static IntRange with(final int lower,
+                                final int upper) {
+        if (lower > upper) {
+            throw new IllegalArgumentException("Invalid range bounds " + lower + " > " + upper);
+        }
+
+        return new IntRange(
+            lower,
+            false,
+            upper,
+            false
+        );
+    }
+
+    /**
+     * Converts a {@link Range} into a {@link IntRange}, converting any exclusive bounds into the neighbouring inclusive
+     * value. Ranges that hold no values will fail with an {@link IllegalArgumentException}.
+     */
+    public static IntRange fromRange(final Range<Integer> range) {
+        Objects.requireNonNull(range, "range");
+
+        final RangeBound<Integer> lowerBound = range.lower;
+        final RangeBound<Integer> upperBound = range.upper;
+
+        int lower = Integer.MIN_VALUE;
+        if (false == lowerBound.isAll()) {
+            lower = value(lowerBound);
+
+            if (lowerBound.isExclusive()) {
+                if (Integer.MAX_VALUE == lower) {
+                    throw emptyRange(range);
+                }
+                lower++;
+            }
+        }
+
+        int upper = Integer.MAX_VALUE;
+        if (false == upperBound.isAll()) {
+            upper = value(upperBound);
+
+            if (upperBound.isExclusive()) {
+                if (Integer.MIN_VALUE == upper) {
+                    throw emptyRange(range);
+                }
+                upper--;
+            }
+        }
+
+        if (lower > upper) {
+            throw emptyRange(range);
+        }
+
+        return with(
+            lower,
+            lowerBound.isAll(),
+            upper,
+            upperBound.isAll()
+        );
+    }
+
+    private static IntRange with(final int lower,
+                                 final boolean lowerAll,
+                                 final int upper,
+                                 final boolean upperAll) {
+        return lowerAll && upperAll ?
+            ALL :
+            new IntRange(
+                lower,
+                lowerAll,
+                upper,
+                upperAll
+            );
+    }
+
+    private static int value(final RangeBound<Integer> bound) {
+        return ((RangeBoundExclusiveInclusive<Integer>) bound).value;
+    }
+
+    private static IllegalArgumentException emptyRange(final Range<Integer> range) {
+        return new IllegalArgumentException("Empty range " + range);
+    }
+
+    /**
+     * Private ctor use factory
+     */
+    private IntRange(final int lower,
+                     final boolean lowerAll,
+                     final int upper,
+                     final boolean upperAll) {
+        super();
+
+        this.lower = lower;
+        this.lowerAll = lowerAll;
+        this.upper = upper;
+        this.upperAll = upperAll;
+    }
+
+    /**
+     * Getter that returns the inclusive lower bound, which will be {@link Integer#MIN_VALUE} if absent.
+     */
+    public int lower() {
+        return this.lower;
+    }
+
+    private final int lower;
+
+    /**
+     * Returns true if this range has no lower bound, rather than an explicit {@link Integer#MIN_VALUE}.
+     */
+    public boolean isLowerAll() {
+        return this.lowerAll;
+    }
+
+    private final boolean lowerAll;
+
+    /**
+     * Getter that returns the inclusive upper bound, which will be {@link Integer#MAX_VALUE} if absent.
+     */
+    public int upper() {
+        return this.upper;
+    }
+
+    private final int upper;
+
+    /**
+     * Returns true if this range has no upper bound, rather than an explicit {@link Integer#MAX_VALUE}.
+     */
+    public boolean isUpperAll() {
+        return this.upperAll;
+    }
+
+    private final boolean upperAll;
+
+    // Predicate .......................................................................................................
+
+    /**
+     * Returns true if the given value is within this range.
+     */
+    @Override
+    public boolean test(final int value) {
+        return value >= this.lower &&
+            value <= this.upper;
+    }
+
+    // and..............................................................................................................
+
+    /**
+     * Returns a {@link IntRange} that matches values in both ranges.
+     */
+    public IntRange and(final IntRange other) {
+        Objects.requireNonNull(other, "other");
+
+        final int lower = Math.max(this.lower, other.lower);
+        final int upper = Math.min(this.upper, other.upper);
+
+        if (lower > upper) {
+            throw new IllegalArgumentException("Invalid range bounds " + this + " < " + other);
+        }
+
+        // a bound is only absent if it is absent in both
+        final boolean lowerAll = this.lowerAll && other.lowerAll;
+        final boolean upperAll = this.upperAll && other.upperAll;
+
+        return this.hasBounds(lower, lowerAll, upper, upperAll) ?
+            this :
+            other.hasBounds(lower, lowerAll, upper, upperAll) ?
+                other :
+                with(
+                    lower,
+                    lowerAll,
+                    upper,
+                    upperAll
+                );
+    }
+
+    private boolean hasBounds(final int lower,
+                              final boolean lowerAll,
+                              final int upper,
+                              final boolean upperAll) {
+        return this.lower == lower &&
+            this.lowerAll == lowerAll &&
+            this.upper == upper &&
+            this.upperAll == upperAll;
+    }
+
+    // isOverlapping....................................................................................................
+
+    /**
+     * Returns true if the two ranges overlap.
+     */
+    public boolean isOverlapping(final IntRange other) {
+        Objects.requireNonNull(other, "other");
+
+        return Math.max(this.lower, other.lower) <= Math.min(this.upper, other.upper);
+    }
+
+    // Range............................................................................................................
+
+    /**
+     * Converts this into an equivalent {@link Range}, with absent bounds becoming {@link RangeBound#all()}.
+     */
+    public Range<Integer> toRange() {
+        final int lower = this.lower;
+        final int upper = this.upper;
+        final boolean lowerAll = this.lowerAll;
+        final boolean upperAll = this.upperAll;
+
+        return lower == upper ?
+            Range.singleton(lower) :
+            lowerAll && upperAll ?
+                Range.all() :
+                Range.with(
+                    lowerAll ?
+                        RangeBound.all() :
+                        RangeBound.inclusive(lower),
+                    upperAll ?
+                        RangeBound.all() :
+                        RangeBound.inclusive(upper)
+                );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.lower) * 31 + Integer.hashCode(this.upper);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof IntRange &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final IntRange other) {
+        return other.hasBounds(
+            this.lower,
+            this.lowerAll,
+            this.upper,
+            this.upperAll
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.toRange()
+            .toString();
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * A long specialisation of {@link Range} that holds its inclusive bounds as primitives, so {@link #test(long)} never
+ * boxes or allocates. An absent lower or upper bound is held as {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}, and
+ * is remembered apart from an explicit bound with the same value, just like {@link RangeBound#all()}.
+ */
+public final class LongRange implements LongPredicate {
+
+    /**
+     * A {@link LongRange} that matches all values.
+     */
+    public static LongRange all() {
+        return ALL;
+    }
+
+    /**
+     * The ALL singleton instance.
+     */
+    private final static LongRange ALL = new LongRange(
+        Long.MIN_VALUE,
+        true,
+        Long.MAX_VALUE,
+        true
+    );
+
+    /**
+     * A {@link LongRange} that holds a single value.
+     */
+    public static LongRange singleton(final long value) {
+        return new LongRange(
+            value,
+            false,
+            value,
+            false
+        );
+    }
+
+    /**
+     * A {@link LongRange} without a lower bound, matching all values less than or equal to the given value.
+     */
+    public static LongRange lessThanEquals(final long upper) {
+        return new LongRange(
+            Long.MIN_VALUE,
+            true,
+            upper,
+            false
+        );
+    }
+
+    /**
+     * A {@link LongRange} without an upper bound, matching all values greater than or equal to the given value.
+     */
+    public static LongRange greaterThanEquals(final long lower) {
+        return new LongRange(
+            lower,
+            false,
+            Long.MAX_VALUE,
+            true
+        );
+    }
+
+    /**
+     * Creates a new {@link LongRange} with the given inclusive bounds.
+     */
+    public static LongRange with(final long lower,
+                                 final long upper) {
+        if (lower > upper) {
+            throw new IllegalArgumentException("Invalid range bounds " + lower + " > " + upper);
+        }
+
+        return new LongRange(
+            lower,
+            false,
+            upper,
+            false
+        );
+    }
+
+    /**
+     * Converts a {@link Range} into a {@link LongRange}, converting any exclusive bounds into the neighbouring inclusive
+     * value. Ranges that hold no values will fail with an {@link IllegalArgumentException}.
+     */
+    public static LongRange fromRange(final Range<Long> range) {
+        Objects.requireNonNull(range, "range");
+
+        final RangeBound<Long> lowerBound = range.lower;
+        final RangeBound<Long> upperBound = range.upper;
+
+        long lower = Long.MIN_VALUE;
+        if (false == lowerBound.isAll()) {
+            lower = value(lowerBound);
+
+            if (lowerBound.isExclusive()) {
+                if (Long.MAX_VALUE == lower) {
+                    throw emptyRange(range);
+                }
+                lower++;
+            }
+        }
+
+        long upper = Long.MAX_VALUE;
+        if (false == upperBound.isAll()) {
+            upper = value(upperBound);
+
+            if (upperBound.isExclusive()) {
+                if (Long.MIN_VALUE == upper) {
+                    throw emptyRange(range);
+                }
+                upper--;
+            }
+        }
+
+        if (lower > upper) {
+            throw emptyRange(range);
+        }
+
+        return with(
+            lower,
+            lowerBound.isAll(),
+            upper,
+            upperBound.isAll()
+        );
+    }
+
+    private static LongRange with(final long lower,
+                                  final boolean lowerAll,
+                                  final long upper,
+                                  final boolean upperAll) {
+        return lowerAll && upperAll ?
+            ALL :
+            new LongRange(
+                lower,
+                lowerAll,
+                upper,
+                upperAll
+            );
+    }
+
+    private static long value(final RangeBound<Long> bound) {
+        return ((RangeBoundExclusiveInclusive<Long>) bound).value;
+    }
+
+    private static IllegalArgumentException emptyRange(final Range<Long> range) {
+        return new IllegalArgumentException("Empty range " + range);
+    }
+
+    /**
+     * Private ctor use factory
+     */
+    private LongRange(final long lower,
+                      final boolean lowerAll,
+                      final long upper,
+                      final boolean upperAll) {
+        super();
+
+        this.lower = lower;
+        this.lowerAll = lowerAll;
+        this.upper = upper;
+        this.upperAll = upperAll;
+    }
+
+    /**
+     * Getter that returns the inclusive lower bound, which will be {@link Long#MIN_VALUE} if absent.
+     */
+    public long lower() {
+        return this.lower;
+    }
+
+    private final long lower;
+
+    /**
+     * Returns true if this range has no lower bound, rather than an explicit {@link Long#MIN_VALUE}.
+     */
+    public boolean isLowerAll() {
+        return this.lowerAll;
+    }
+
+    private final boolean lowerAll;
+
+    /**
+     * Getter that returns the inclusive upper bound, which will be {@link Long#MAX_VALUE} if absent.
+     */
+    public long upper() {
+        return this.upper;
+    }
+
+    private final long upper;
+
+    /**
+     * Returns true if this range has no upper bound, rather than an explicit {@link Long#MAX_VALUE}.
+     */
+    public boolean isUpperAll() {
+        return this.upperAll;
+    }
+
+    private final boolean upperAll;
+
+    // Predicate .......................................................................................................
+
+    /**
+     * Returns true if the given value is within this range.
+     */
+    @Override
+    public boolean test(final long value) {
+        return value >= this.lower &&
+            value <= this.upper;
+    }
+
+    // and..............................................................................................................
+
+    /**
+     * Returns a {@link LongRange} that matches values in both ranges.
+     */
+    public LongRange and(final LongRange other) {
+        Objects.requireNonNull(other, "other");
+
+        final long lower = Math.max(this.lower, other.lower);
+        final long upper = Math.min(this.upper, other.upper);
+
+        if (lower > upper) {
+            throw new IllegalArgumentException("Invalid range bounds " + this + " < " + other);
+        }
+
+        // a bound is only absent if it is absent in both
+        final boolean lowerAll = this.lowerAll && other.lowerAll;
+        final boolean upperAll = this.upperAll && other.upperAll;
+
+        return this.hasBounds(lower, lowerAll, upper, upperAll) ?
+            this :
+            other.hasBounds(lower, lowerAll, upper, upperAll) ?
+                other :
+                with(
+                    lower,
+                    lowerAll,
+                    upper,
+                    upperAll
+                );
+    }
+
+    private boolean hasBounds(final long lower,
+                              final boolean lowerAll,
+                              final long upper,
+                              final boolean upperAll) {
+        return this.lower == lower &&
+            this.lowerAll == lowerAll &&
+            this.upper == upper &&
+            this.upperAll == upperAll;
+    }
+
+    // isOverlapping....................................................................................................
+
+    /**
+     * Returns true if the two ranges overlap.
+     */
+    public boolean isOverlapping(final LongRange other) {
+        Objects.requireNonNull(other, "other");
+
+        return Math.max(this.lower, other.lower) <= Math.min(this.upper, other.upper);
+    }
+
+    // Range............................................................................................................
+
+    /**
+     * Converts this into an equivalent {@link Range}, with absent bounds becoming {@link RangeBound#all()}.
+     */
+    public Range<Long> toRange() {
+        final long lower = this.lower;
+        final long upper = this.upper;
+        final boolean lowerAll = this.lowerAll;
+        final boolean upperAll = this.upperAll;
+
+        return lower == upper ?
+            Range.singleton(lower) :
+            lowerAll && upperAll ?
+                Range.all() :
+                Range.with(
+                    lowerAll ?
+                        RangeBound.all() :
+                        RangeBound.inclusive(lower),
+                    upperAll ?
+                        RangeBound.all() :
+                        RangeBound.inclusive(upper)
+                );
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.lower) * 31 + Long.hashCode(this.upper);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof LongRange &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final LongRange other) {
+        return other.hasBounds(
+            this.lower,
+            this.lowerAll,
+            this.upper,
+            this.upperAll
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.toRange()
+            .toString();
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of {@link Range ranges}, normalised into a sorted array of disjoint ranges where any overlapping
+ * or touching ranges have been merged. Because the ranges are sorted and disjoint, stabbing queries via
+ * {@link #test(Comparable)} and overlap queries via {@link #isOverlapping(Range)} are answered with a binary search,
+ * while {@link #union(RangeSet)}, {@link #intersection(RangeSet)} and {@link #complement()} are linear merges.
+ */
+public final class RangeSet<C extends Comparable<C>> implements Predicate<C> {
+
+    /**
+     * Returns a {@link RangeSet} without any {@link Range ranges}.
+     */
+    public static <C extends Comparable<C>> RangeSet<C> empty() {
+        return Cast.to(EMPTY);
+    }
+
+    /**
+     * The empty singleton instance, which holds no ranges so the {@link Comparable} type is irrelevant.
+     */
+    private final static RangeSet<?> EMPTY = new RangeSet<String>(array(0));
+
+    /**
+     * Creates a new {@link RangeSet} merging any overlapping or touching {@link Range ranges}.
+     */
+    public static <C extends Comparable<C>> RangeSet<C> with(final Collection<Range<C>> ranges) {
+        Objects.requireNonNull(ranges, "ranges");
+
+        final Range<C>[] sorted = array(ranges.size());
+        int count = 0;
+        for (final Range<C> range : ranges) {
+            Objects.requireNonNull(range, "range");
+
+            // empty ranges such as (1..1) are dropped
+            if (false == isBefore(range.upper, range.lower)) {
+                sorted[count++] = range;
+            }
+        }
+
+        Arrays.sort(
+            sorted,
+            0,
+            count,
+            (l, r) -> compareLower(l.lower, r.lower)
+        );
+
+        return merge(
+            sorted,
+            count
+        );
+    }
+
+    /**
+     * Accepts an array of ranges sorted by their lower bound and merges any overlapping or touching neighbours.
+     */
+    private static <C extends Comparable<C>> RangeSet<C> merge(final Range<C>[] sorted,
+                                                               final int count) {
+        final Range<C>[] merged = array(count);
+        int mergedCount = 0;
+
+        for (int i = 0; i < count; i++) {
+            final Range<C> range = sorted[i];
+
+            if (mergedCount > 0) {
+                final Range<C> last = merged[mergedCount - 1];
+                if (isTouching(last.upper, range.lower)) {
+                    if (compareUpper(range.upper, last.upper) > 0) {
+                        merged[mergedCount - 1] = Range.with(
+                            last.lower,
+                            range.upper
+                        );
+                    }
+                    continue;
+                }
+            }
+            merged[mergedCount++] = range;
+        }
+
+        return 0 == mergedCount ?
+            empty() :
+            new RangeSet<>(
+                mergedCount == count ?
+                    merged :
+                    Arrays.copyOf(merged, mergedCount)
+            );
+    }
+
+    /**
+     * Private ctor use factory
+     */
+    private RangeSet(final Range<C>[] ranges) {
+        super();
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns the normalised ranges in ascending order.
+     */
+    public List<Range<C>> ranges() {
+        return Lists.readOnly(
+            Arrays.asList(this.ranges)
+        );
+    }
+
+    /**
+     * Returns true if this set has no ranges and therefore matches nothing.
+     */
+    public boolean isEmpty() {
+        return 0 == this.ranges.length;
+    }
+
+    /**
+     * Sorted, disjoint and non touching ranges.
+     */
+    private final Range<C>[] ranges;
+
+    // Predicate........................................................................................................
+
+    /**
+     * Returns true if the value is within any of the ranges.
+     */
+    @Override
+    public boolean test(final C value) {
+        boolean test = false;
+
+        if (null != value) {
+            final Range<C>[] ranges = this.ranges;
+            int low = 0;
+            int high = ranges.length - 1;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final Range<C> range = ranges[mid];
+
+                if (false == range.lower.lowerTest(value)) {
+                    high = mid - 1;
+                } else {
+                    if (range.upper.upperTest(value)) {
+                        test = true;
+                        break;
+                    }
+                    low = mid + 1;
+                }
+            }
+        }
+
+        return test;
+    }
+
+    // isOverlapping....................................................................................................
+
+    /**
+     * Returns true if the given {@link Range} overlaps any of the ranges in this set.
+     */
+    public boolean isOverlapping(final Range<C> range) {
+        Objects.requireNonNull(range, "range");
+
+        final Range<C>[] ranges = this.ranges;
+        final int index = this.firstNotBefore(range.lower);
+
+        return index < ranges.length &&
+            false == isBefore(range.upper, ranges[index].lower) &&
+            false == isBefore(range.upper, range.lower);
+    }
+
+    /**
+     * Returns the index of the first range that does not end before the given lower bound.
+     */
+    private int firstNotBefore(final RangeBound<C> lower) {
+        final Range<C>[] ranges = this.ranges;
+        int low = 0;
+        int high = ranges.length;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (isBefore(ranges[mid].upper, lower)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    // union............................................................................................................
+
+    /**
+     * Returns a {@link RangeSet} matching values in either set.
+     */
+    public RangeSet<C> union(final RangeSet<C> other) {
+        Objects.requireNonNull(other, "other");
+
+        return this.isEmpty() ?
+            other :
+            other.isEmpty() ?
+                this :
+                this.union0(other);
+    }
+
+    private RangeSet<C> union0(final RangeSet<C> other) {
+        final Range<C>[] left = this.ranges;
+        final Range<C>[] right = other.ranges;
+        final int count = left.length + right.length;
+        final Range<C>[] sorted = array(count);
+
+        int l = 0;
+        int r = 0;
+        for (int i = 0; i < count; i++) {
+            sorted[i] = r == right.length || l < left.length && compareLower(left[l].lower, right[r].lower) <= 0 ?
+                left[l++] :
+                right[r++];
+        }
+
+        return merge(
+            sorted,
+            count
+        );
+    }
+
+    // intersection.....................................................................................................
+
+    /**
+     * Returns a {@link RangeSet} matching values in both sets.
+     */
+    public RangeSet<C> intersection(final RangeSet<C> other) {
+        Objects.requireNonNull(other, "other");
+
+        final Range<C>[] left = this.ranges;
+        final Range<C>[] right = other.ranges;
+        final Range<C>[] intersection = array(left.length + right.length);
+        int count = 0;
+
+        int l = 0;
+        int r = 0;
+        while (l < left.length && r < right.length) {
+            final Range<C> leftRange = left[l];
+            final Range<C> rightRange = right[r];
+
+            final RangeBound<C> lower = compareLower(leftRange.lower, rightRange.lower) >= 0 ?
+                leftRange.lower :
+                rightRange.lower;
+            final int upperComparison = compareUpper(leftRange.upper, rightRange.upper);
+            final RangeBound<C> upper = upperComparison <= 0 ?
+                leftRange.upper :
+                rightRange.upper;
+
+            if (false == isBefore(upper, lower)) {
+                intersection[count++] = Range.with(
+                    lower,
+                    upper
+                );
+            }
+
+            // advance the range that ends first
+            if (upperComparison <= 0) {
+                l++;
+            }
+            if (upperComparison >= 0) {
+                r++;
+            }
+        }
+
+        return 0 == count ?
+            empty() :
+            new RangeSet<>(
+                Arrays.copyOf(intersection, count)
+            );
+    }
+
+    // complement.......................................................................................................
+
+    /**
+     * Returns a {@link RangeSet} matching all values not matched by this set.
+     */
+    public RangeSet<C> complement() {
+        final Range<C>[] ranges = this.ranges;
+        final int length = ranges.length;
+        final Range<C>[] complement = array(length + 1);
+        int count = 0;
+
+        if (0 == length) {
+            complement[count++] = Range.all();
+        } else {
+            final RangeBound<C> first = ranges[0].lower;
+            if (false == first.isAll()) {
+                complement[count++] = Range.with(
+                    RangeBound.all(),
+                    flip(first)
+                );
+            }
+
+            for (int i = 1; i < length; i++) {
+                complement[count++] = Range.with(
+                    flip(ranges[i - 1].upper),
+                    flip(ranges[i].lower)
+                );
+            }
+
+            final RangeBound<C> last = ranges[length - 1].upper;
+            if (false == last.isAll()) {
+                complement[count++] = Range.with(
+                    flip(last),
+                    RangeBound.all()
+                );
+            }
+        }
+
+        return 0 == count ?
+            empty() :
+            new RangeSet<>(
+                Arrays.copyOf(complement, count)
+            );
+    }
+
+    /**
+     * Creates an array to hold ranges, the only place a generic {@link Range} array is created.
+     */
+    @SuppressWarnings("unchecked")
+    private static <C extends Comparable<C>> Range<C>[] array(final int length) {
+        return (Range<C>[]) new Range[length];
+    }
+
+    /**
+     * Converts an inclusive bound into an exclusive bound and vice versa, so the bound may be used on the opposite
+     * end of a neighbouring range.
+     */
+    private static <C extends Comparable<C>> RangeBound<C> flip(final RangeBound<C> bound) {
+        final C value = bound.value().get();
+        return bound.isInclusive() ?
+            RangeBound.exclusive(value) :
+            RangeBound.inclusive(value);
+    }
+
+    // bound comparisons................................................................................................
+
+    /**
+     * Compares two lower bounds, where all is the lowest and an inclusive bound is lower than an exclusive bound with
+     * the same value.
+     */
+    private static <C extends Comparable<C>> int compareLower(final RangeBound<C> left,
+                                                              final RangeBound<C> right) {
+        return left.isAll() ?
+            right.isAll() ? 0 : -1 :
+            right.isAll() ?
+                +1 :
+                compareValues(left, right, left.isExclusive(), right.isExclusive());
+    }
+
+    /**
+     * Compares two upper bounds, where all is the highest and an exclusive bound is lower than an inclusive bound with
+     * the same value.
+     */
+    private static <C extends Comparable<C>> int compareUpper(final RangeBound<C> left,
+                                                              final RangeBound<C> right) {
+        return left.isAll() ?
+            right.isAll() ? 0 : +1 :
+            right.isAll() ?
+                -1 :
+                compareValues(left, right, left.isInclusive(), right.isInclusive());
+    }
+
+    private static <C extends Comparable<C>> int compareValues(final RangeBound<C> left,
+                                                               final RangeBound<C> right,
+                                                               final boolean leftHigher,
+                                                               final boolean rightHigher) {
+        final int comparison = value(left).compareTo(value(right));
+        return 0 != comparison ?
+            comparison :
+            Boolean.compare(leftHigher, rightHigher);
+    }
+
+    /**
+     * Returns true if a range ending with the upper bound finishes before a range starting with the lower bound,
+     * without sharing any value.
+     */
+    private static <C extends Comparable<C>> boolean isBefore(final RangeBound<C> upper,
+                                                              final RangeBound<C> lower) {
+        boolean before = false;
+
+        if (false == upper.isAll() && false == lower.isAll()) {
+            final int comparison = value(upper).compareTo(value(lower));
+            before = comparison < 0 ||
+                0 == comparison && (upper.isExclusive() || lower.isExclusive());
+        }
+
+        return before;
+    }
+
+    /**
+     * Returns true if a range ending with the upper bound overlaps or touches a range starting with the lower bound,
+     * so the two may be merged without including any extra values.
+     */
+    private static <C extends Comparable<C>> boolean isTouching(final RangeBound<C> upper,
+                                                                final RangeBound<C> lower) {
+        boolean touching = true;
+
+        if (false == upper.isAll() && false == lower.isAll()) {
+            final int comparison = value(upper).compareTo(value(lower));
+            touching = comparison > 0 ||
+                0 == comparison && (upper.isInclusive() || lower.isInclusive());
+        }
+
+        return touching;
+    }
+
+    private static <C extends Comparable<C>> C value(final RangeBound<C> bound) {
+        return ((RangeBoundExclusiveInclusive<C>) bound).value;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.ranges);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof RangeSet &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final RangeSet<?> other) {
+        return Arrays.equals(
+            this.ranges,
+            other.ranges
+        );
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.ranges);
+    }
+}
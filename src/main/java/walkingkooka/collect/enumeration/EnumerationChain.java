@@ -17,6 +17,7 @@
 
 package walkingkooka.collect.enumeration;
 
+import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
 
 import java.util.Enumeration;
@@ -30,14 +31,24 @@ import java.util.Objects;
 final class EnumerationChain<E> implements Enumeration<E> {
 
     /**
-     * Wraps the given enumerations.
+     * Wraps the given enumerations, flattening any {@link EnumerationChain} so the chain never grows deeper.
      */
     static <E> EnumerationChain<E> with(final List<Enumeration<E>> enumerations) {
         Objects.requireNonNull(enumerations, "enumerations");
 
+        final List<Enumeration<E>> flattened = Lists.array();
+        for (final Enumeration<E> enumeration : enumerations) {
+            if (enumeration instanceof EnumerationChain) {
+                final EnumerationChain<E> chain = Cast.to(enumeration);
+                chain.remaining(flattened);
+            } else {
+                flattened.add(enumeration);
+            }
+        }
+
         return new EnumerationChain<>(
             Lists.immutable(
-                enumerations
+                flattened
             )
         );
     }
@@ -47,7 +58,9 @@ final class EnumerationChain<E> implements Enumeration<E> {
      */
     private EnumerationChain(final List<Enumeration<E>> enumerations) {
         super();
-        this.current = enumerations.get(0);
+        this.current = enumerations.isEmpty() ?
+            null :
+            enumerations.get(0);
         this.enumerations = enumerations;
         this.next = 1;
     }
@@ -93,6 +106,22 @@ final class EnumerationChain<E> implements Enumeration<E> {
         return current.nextElement();
     }
 
+    /**
+     * Adds the current and all following {@link Enumeration enumerations} to the given {@link List}.
+     */
+    private void remaining(final List<Enumeration<E>> enumerations) {
+        final Enumeration<E> current = this.current;
+        if (null != current) {
+            enumerations.add(current);
+            enumerations.addAll(
+                this.enumerations.subList(
+                    this.next,
+                    this.enumerations.size()
+                )
+            );
+        }
+    }
+
     /**
      * The current {@link Enumeration}. This will become null when exhausted.
      */
@@ -17,8 +17,12 @@
 
 package walkingkooka.collect.iterable;
 
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -26,25 +30,38 @@ import java.util.Objects;
  */
 final class ChainIterable<T> implements Iterable<T> {
 
+    /**
+     * Creates a {@link ChainIterable} flattening any {@link ChainIterable}, so the chain never grows deeper.
+     */
+    @SuppressWarnings("unchecked")
     static <T> Iterable<T> with(final Iterable<T>... iterables) {
         Objects.requireNonNull(iterables, "iterables");
 
+        final List<Iterable<T>> flattened = Lists.array();
+        for (final Iterable<T> iterable : iterables) {
+            if (iterable instanceof ChainIterable) {
+                final ChainIterable<T> chain = Cast.to(iterable);
+                flattened.addAll(
+                    Arrays.asList(chain.iterables)
+                );
+            } else {
+                flattened.add(iterable);
+            }
+        }
+
         final Iterable<T> result;
 
-        final int count = iterables.length;
+        final int count = flattened.size();
         switch (count) {
             case 0:
                 result = Iterables.empty();
                 break;
             case 1:
-                result = iterables[0];
+                result = flattened.get(0);
                 break;
             default:
                 result = new ChainIterable<>(
-                    Arrays.copyOf(
-                        iterables,
-                        count
-                    ) // GWT doesnt support Array.clone();
+                    flattened.toArray(new Iterable[count])
                 );
                 break;
         }
@@ -19,6 +19,8 @@ package walkingkooka.collect.iterable;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * The lazy {@link Iterator} used by {@link walkingkooka.collect.iterable.ChainIterable}
@@ -90,6 +92,21 @@ final class ChainIterableIterator<E> implements Iterator<E> {
         return next;
     }
 
+    /**
+     * Consumes all remaining elements from each {@link Iterator} in turn using their own
+     * {@link Iterator#forEachRemaining(Consumer)}.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        Iterator<E> current = this.current;
+        while (null != current) {
+            current.forEachRemaining(action);
+            current = this.loadNext();
+        }
+    }
+
     /**
      * The current {@link Iterator}. This will become null when exhausted.
      */
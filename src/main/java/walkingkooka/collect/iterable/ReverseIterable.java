@@ -21,11 +21,12 @@ import walkingkooka.Cast;
 import walkingkooka.collect.iterator.Iterators;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * An {@link Iterable} that wraps another returning an {@link Iterable} that returns items in
- * reverse order.
+ * reverse order. {@link List} are walked backwards without copying, all other {@link Iterable} are buffered.
  */
 final class ReverseIterable<T> implements Iterable<T> {
 
@@ -53,7 +54,11 @@ final class ReverseIterable<T> implements Iterable<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return Iterators.reverse(this.iterable.iterator());
+        final Iterable<T> iterable = this.iterable;
+
+        return iterable instanceof List ?
+            Iterators.reverseList(Cast.to(iterable)) :
+            Iterators.reverse(iterable.iterator());
     }
 
     private final Iterable<T> iterable;
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Provides an {@link Iterator} view over an array. Note the array is copied.
@@ -61,6 +62,21 @@ final class ArrayIterator<T> implements Iterator<T> {
         return Cast.to(items[next]);
     }
 
+    /**
+     * Consumes the remaining items directly from the array, updating the position once at the end.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action");
+
+        final Object[] items = this.items;
+        final int length = items.length;
+        for (int i = this.next; i < length; i++) {
+            action.accept(Cast.to(items[i]));
+        }
+        this.next = length;
+    }
+
     /**
      * Always throws {@link UnsupportedOperationException}.
      */
@@ -17,10 +17,14 @@
 
 package walkingkooka.collect.iterator;
 
-import java.util.Arrays;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} that zero or more {@link Iterator iterators} into one sequence of values.
@@ -28,13 +32,24 @@ import java.util.Objects;
 final class ChainIterator<E> implements Iterator<E> {
 
     /**
-     * Creates an {@link ChainIterator} from the given {@link Iterator iterators.}
+     * Creates an {@link ChainIterator} from the given {@link Iterator iterators.} Any {@link ChainIterator} are
+     * flattened, so the chain never grows deeper.
      */
     @SuppressWarnings("unchecked")
     static <E> Iterator<E> with(final Iterator<E>... iterators) {
         Objects.requireNonNull(iterators, "iterators");
 
-        final int count = iterators.length;
+        final List<Iterator<E>> flattened = Lists.array();
+        for (final Iterator<E> iterator : iterators) {
+            if (iterator instanceof ChainIterator) {
+                final ChainIterator<E> chain = Cast.to(iterator);
+                chain.remaining(flattened);
+            } else {
+                flattened.add(iterator);
+            }
+        }
+
+        final int count = flattened.size();
         Iterator<E> result;
 
         switch (count) {
@@ -42,14 +57,11 @@ final class ChainIterator<E> implements Iterator<E> {
                 result = Iterators.empty();
                 break;
             case 1:
-                result = iterators[0];
+                result = flattened.get(0);
                 break;
             default:
                 result = new ChainIterator<>(
-                    Arrays.copyOf(
-                        iterators,
-                        count
-                    ) // GWT doesnt support Array.clone();
+                    flattened.toArray(new Iterator[count])
                 );
                 break;
         }
@@ -113,6 +125,37 @@ final class ChainIterator<E> implements Iterator<E> {
         return next;
     }
 
+    /**
+     * Consumes all remaining elements from each {@link Iterator} in turn using their own
+     * {@link Iterator#forEachRemaining(Consumer)}.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        Iterator<E> current = this.current;
+        while (null != current) {
+            current.forEachRemaining(action);
+            current = this.loadNext();
+        }
+    }
+
+    /**
+     * Adds the current and all following {@link Iterator iterators} to the given {@link List}.
+     */
+    private void remaining(final List<Iterator<E>> iterators) {
+        final Iterator<E> current = this.current;
+        if (null != current) {
+            iterators.add(current);
+
+            final Iterator<E>[] all = this.iterators;
+            final int length = all.length;
+            for (int i = this.next; i < length; i++) {
+                iterators.add(all[i]);
+            }
+        }
+    }
+
     /**
      * The current {@link Iterator}. This will become null when exhausted.
      */
@@ -121,7 +164,8 @@ final class ChainIterator<E> implements Iterator<E> {
     /**
      * All the iterators
      */
-    private final Iterator<E>[] iterators;
+    // @VisibleForTesting
+    final Iterator<E>[] iterators;
 
     /**
      * The index that points to the next {@link Iterator}.
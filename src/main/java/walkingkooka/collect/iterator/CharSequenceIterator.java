@@ -22,6 +22,7 @@ import walkingkooka.text.CharSequences;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} that returns the individual {@link Character characters} from a {@link
@@ -63,6 +64,18 @@ final class CharSequenceIterator implements Iterator<Character> {
         return character;
     }
 
+    @Override
+    public void forEachRemaining(final Consumer<? super Character> action) {
+        Objects.requireNonNull(action, "action");
+
+        final CharSequence chars = this.charSequence;
+        final int length = chars.length();
+        for (int i = this.i; i < length; i++) {
+            action.accept(chars.charAt(i));
+        }
+        this.i = length;
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
@@ -21,6 +21,8 @@ import walkingkooka.Cast;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} that is always empty.
@@ -54,6 +56,11 @@ final class EmptyIterator<E> implements Iterator<E> {
         throw new NoSuchElementException();
     }
 
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+    }
+
     @Override
     public void remove() {
         throw new IllegalStateException();
@@ -20,6 +20,7 @@ package walkingkooka.collect.iterator;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Adaptor that presents an {@link Iterator} view of an {@link Enumeration}.
@@ -47,6 +48,16 @@ final class EnumerationIterator<E> implements Iterator<E> {
         return this.enumeration.nextElement();
     }
 
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        final Enumeration<E> enumeration = this.enumeration;
+        while (enumeration.hasMoreElements()) {
+            action.accept(enumeration.nextElement());
+        }
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
@@ -20,6 +20,7 @@ package walkingkooka.collect.iterator;
 import walkingkooka.test.Fake;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} that always throws {@link UnsupportedOperationException}
@@ -44,6 +45,11 @@ final class FakeIterator<T> implements Iterator<T>, Fake {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
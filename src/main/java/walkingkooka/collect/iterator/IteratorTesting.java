@@ -161,4 +161,31 @@ public interface IteratorTesting extends Testing {
         );
         this.nextFails(iterator);
     }
+
+    @SuppressWarnings("unchecked")
+    default <T> void forEachRemainingAndCheck(final Iterator<T> iterator,
+                                              final T... expected) {
+        this.forEachRemainingAndCheck(
+            iterator,
+            Lists.of(expected)
+        );
+    }
+
+    /**
+     * Consumes all remaining elements using {@link Iterator#forEachRemaining(java.util.function.Consumer)} and checks
+     * they match the expected, and that the {@link Iterator} is then exhausted.
+     */
+    default <T> void forEachRemainingAndCheck(final Iterator<T> iterator,
+                                              final List<T> expected) {
+        final List<T> consumed = Lists.array();
+        iterator.forEachRemaining(consumed::add);
+
+        this.checkEquals(
+            expected,
+            consumed,
+            iterator::toString
+        );
+        this.hasNextCheckFalse(iterator);
+        this.nextFails(iterator);
+    }
 }
@@ -21,6 +21,7 @@ import walkingkooka.reflect.PublicStaticHelper;
 
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -117,6 +118,13 @@ final public class Iterators implements PublicStaticHelper {
         return ReverseIterator.with(iterator);
     }
 
+    /**
+     * {@see ReverseListIterator}
+     */
+    public static <E> Iterator<E> reverseList(final List<E> list) {
+        return ReverseListIterator.with(list);
+    }
+
     /**
      * Stop creation
      */
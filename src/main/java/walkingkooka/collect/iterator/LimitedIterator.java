@@ -22,6 +22,7 @@ import walkingkooka.Cast;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} that includes an element limit for a wrapped {@link Iterator}.
@@ -81,6 +82,24 @@ final class LimitedIterator<E> implements Iterator<E> {
         return next;
     }
 
+    /**
+     * The wrapped {@link Iterator#forEachRemaining(Consumer)} cannot be used because it would consume elements past
+     * the limit.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        final Iterator<E> iterator = this.iterator;
+        int countdown = this.countdown;
+        while (countdown > 0 && iterator.hasNext()) {
+            final E next = iterator.next();
+            countdown--;
+            this.countdown = countdown;
+            action.accept(next);
+        }
+    }
+
     @Override
     public void remove() {
         if (this.countdown < 0) {
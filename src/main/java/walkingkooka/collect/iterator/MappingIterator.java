@@ -19,6 +19,7 @@ package walkingkooka.collect.iterator;
 
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -50,6 +51,19 @@ final class MappingIterator<S, D> implements Iterator<D> {
         return this.mapper.apply(this.iterator.next());
     }
 
+    /**
+     * Delegates to the wrapped {@link Iterator#forEachRemaining(Consumer)} mapping each value.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super D> action) {
+        Objects.requireNonNull(action, "action");
+
+        final Function<S, D> mapper = this.mapper;
+        this.iterator.forEachRemaining(
+            (s) -> action.accept(mapper.apply(s))
+        );
+    }
+
     /**
      * Mapping function to each returned value.
      */
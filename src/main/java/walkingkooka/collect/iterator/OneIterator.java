@@ -19,6 +19,8 @@ package walkingkooka.collect.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} with a single element which may be null. The {@link #remove()} always throws
@@ -53,6 +55,16 @@ final class OneIterator<E> implements Iterator<E> {
         return this.value;
     }
 
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        if (false == this.empty) {
+            this.empty = true;
+            action.accept(this.value);
+        }
+    }
+
     /**
      * Will be true when the iterator is exhausted.
      */
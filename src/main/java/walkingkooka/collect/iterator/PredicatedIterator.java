@@ -20,6 +20,7 @@ package walkingkooka.collect.iterator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -72,6 +73,31 @@ final class PredicatedIterator<E> implements Iterator<E> {
         return next;
     }
 
+    /**
+     * Consumes any cached element and then delegates to the wrapped {@link Iterator#forEachRemaining(Consumer)}
+     * filtering each value.
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        if (this.hasNext) {
+            final E next = this.next;
+            this.hasNext = false;
+            this.next = null;
+            action.accept(next);
+        }
+
+        final Predicate<E> predicate = this.predicate;
+        this.iterator.forEachRemaining(
+            (e) -> {
+                if (predicate.test(e)) {
+                    action.accept(e);
+                }
+            }
+        );
+    }
+
     private void tryNext() {
         this.hasNext = false;
         this.next = null;
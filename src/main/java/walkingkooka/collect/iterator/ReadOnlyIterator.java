@@ -21,6 +21,7 @@ import walkingkooka.Cast;
 
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An unmodifiable {@link Iterator}. All attempts to call {@link #remove()} will throw a {@link
@@ -54,6 +55,11 @@ final class ReadOnlyIterator<T> implements Iterator<T> {
         return this.iterator.next();
     }
 
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        this.iterator.forEachRemaining(action);
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
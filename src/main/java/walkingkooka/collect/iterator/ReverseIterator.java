@@ -18,18 +18,19 @@
 package walkingkooka.collect.iterator;
 
 import walkingkooka.Cast;
-import walkingkooka.collect.stack.Stack;
-import walkingkooka.collect.stack.Stacks;
 
-import java.util.EmptyStackException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * An {@link Iterator} that provides a view of all items but in reversed order. This is achieved by
- * copying all items from the source into a buffer and then iterating. The {@link #remove()} always
- * throws {@link UnsupportedOperationException}.
+ * copying all items from the source into a growable array and then iterating backwards. The {@link #remove()} always
+ * throws {@link UnsupportedOperationException}. Sources that are a {@link List} should use {@link Iterators#reverseList(List)}
+ * which avoids the copying.
  */
 final class ReverseIterator<E> implements Iterator<E> {
 
@@ -44,58 +45,111 @@ final class ReverseIterator<E> implements Iterator<E> {
         if (iterator instanceof ReverseIterator) {
             final ReverseIterator<E> reverseIterator = Cast.to(iterator);
 
-            // return the Stack.iterator() and make it read only
-            result = Iterators.readOnly(reverseIterator.stack.iterator());
+            // iterate over the remaining buffered items in their original order and make it read only
+            final List<E> remaining = Cast.to(
+                Arrays.asList(reverseIterator.items)
+                    .subList(
+                        0,
+                        reverseIterator.next
+                    )
+            );
+            result = Iterators.readOnly(remaining.iterator());
         } else {
-            final Stack<E> stack = Stacks.jdk();
+            Object[] items = new Object[INITIAL_CAPACITY];
+            int count = 0;
+
             while (iterator.hasNext()) {
-                stack.push(iterator.next());
+                if (count == items.length) {
+                    items = Arrays.copyOf(
+                        items,
+                        count * 2
+                    );
+                }
+                items[count] = iterator.next();
+                count++;
             }
-            result = new ReverseIterator<>(stack);
+            result = new ReverseIterator<>(
+                items,
+                count
+            );
         }
         return result;
     }
 
+    private final static int INITIAL_CAPACITY = 16;
+
     /**
      * Private constructor use factory
      */
-    private ReverseIterator(final Stack<E> stack) {
+    private ReverseIterator(final Object[] items,
+                            final int count) {
         super();
-        this.stack = stack;
+        this.items = items;
+        this.next = count;
     }
 
     @Override
     public boolean hasNext() {
-        return false == this.stack.isEmpty();
+        return this.next > 0;
     }
 
     @Override
     public E next() {
-        final Stack<E> stack = this.stack;
-        try {
-            final E next = stack.peek();
-            stack.pop();
-            return next;
-        } catch (final EmptyStackException cause) {
+        final int next = this.next - 1;
+        if (next < 0) {
             throw new NoSuchElementException();
         }
+
+        final Object[] items = this.items;
+        final E item = Cast.to(items[next]);
+        items[next] = null; // allow gc of consumed items
+        this.next = next;
+        return item;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        final Object[] items = this.items;
+        for (int i = this.next - 1; i >= 0; i--) {
+            final E item = Cast.to(items[i]);
+            items[i] = null; // allow gc of consumed items
+            action.accept(item);
+        }
+        this.next = 0;
     }
 
     /**
-     * The {@link Stack} that has items popped of the iterator is consumed.
+     * The buffered items in their original order, only the first {@link #next} remain to be returned.
      */
-    private final Stack<E> stack;
+    private final Object[] items;
 
     /**
-     * Always throws {@link IllegalStateException}.
+     * The count of items remaining, the next item returned is at {@link #next} - 1.
+     */
+    private int next;
+
+    /**
+     * Always throws {@link UnsupportedOperationException}.
      */
     @Override
     public void remove() {
-        throw new IllegalStateException();
+        throw new UnsupportedOperationException();
     }
 
+    /**
+     * Builds a {@link String} containing the remaining elements in the order they will be returned.
+     */
     @Override
     public String toString() {
-        return this.stack.toString();
+        final Object[] items = this.items;
+        final int next = this.next;
+        final Object[] left = new Object[next];
+
+        for (int i = 0; i < next; i++) {
+            left[i] = items[next - 1 - i];
+        }
+        return Arrays.toString(left);
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.iterator;
+
+import walkingkooka.collect.list.ImmutableList;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Iterator} that walks a {@link List} backwards using a {@link ListIterator}, without copying any items.
+ * The {@link #remove()} always throws {@link UnsupportedOperationException}.
+ */
+final class ReverseListIterator<E> implements Iterator<E> {
+
+    /**
+     * {@link RandomAccess} and {@link ImmutableList} lists are indexed directly, all others are walked using
+     * {@link List#listIterator(int)} starting at the end.
+     */
+    static <E> Iterator<E> with(final List<E> list) {
+        Objects.requireNonNull(list, "list");
+
+        return list instanceof RandomAccess || list instanceof ImmutableList ?
+            ReverseRandomAccessListIterator.with(list) :
+            new ReverseListIterator<>(list);
+    }
+
+    /**
+     * Private constructor use factory
+     */
+    private ReverseListIterator(final List<E> list) {
+        super();
+        this.list = list;
+        this.iterator = list.listIterator(
+            list.size()
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.iterator.hasPrevious();
+    }
+
+    @Override
+    public E next() {
+        return this.iterator.previous();
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        final ListIterator<E> iterator = this.iterator;
+        while (iterator.hasPrevious()) {
+            action.accept(iterator.previous());
+        }
+    }
+
+    /**
+     * Always throws {@link UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private final List<E> list;
+
+    private final ListIterator<E> iterator;
+
+    /**
+     * Lists the remaining items in the order they will be returned, walking a new {@link ListIterator} so the
+     * position of this iterator is not changed.
+     */
+    @Override
+    public String toString() {
+        final ListIterator<E> remaining = this.list.listIterator(
+            this.iterator.nextIndex()
+        );
+        final List<E> left = Lists.array();
+
+        while (remaining.hasPrevious()) {
+            left.add(remaining.previous());
+        }
+        return left.toString();
+    }
+}
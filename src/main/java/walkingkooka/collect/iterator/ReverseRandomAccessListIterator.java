@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.iterator;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Iterator} that walks a {@link RandomAccess} {@link List} backwards by index, without copying any items.
+ * The {@link #remove()} always throws {@link UnsupportedOperationException}.
+ */
+final class ReverseRandomAccessListIterator<E> implements Iterator<E> {
+
+    // ReverseListIterator
+    static <E> ReverseRandomAccessListIterator<E> with(final List<E> list) {
+        return new ReverseRandomAccessListIterator<>(list);
+    }
+
+    /**
+     * Private constructor use factory
+     */
+    private ReverseRandomAccessListIterator(final List<E> list) {
+        super();
+        this.list = list;
+        this.next = list.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next > 0;
+    }
+
+    @Override
+    public E next() {
+        final int next = this.next - 1;
+        if (next < 0) {
+            throw new NoSuchElementException();
+        }
+        this.next = next;
+        return this.list.get(next);
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action");
+
+        final List<E> list = this.list;
+        for (int i = this.next - 1; i >= 0; i--) {
+            action.accept(list.get(i));
+        }
+        this.next = 0;
+    }
+
+    /**
+     * Always throws {@link UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private final List<E> list;
+
+    /**
+     * The count of items remaining, the next item returned is at {@link #next} - 1.
+     */
+    private int next;
+
+    /**
+     * Builds a {@link String} containing the remaining elements in the order they will be returned.
+     */
+    @Override
+    public String toString() {
+        final List<E> list = this.list;
+        final int next = this.next;
+        final Object[] left = new Object[next];
+
+        for (int i = 0; i < next; i++) {
+            left[i] = list.get(next - 1 - i);
+        }
+        return Arrays.toString(left);
+    }
+}
@@ -18,12 +18,14 @@
 package walkingkooka.collect.list;
 
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * An immutable list of {@link Boolean} that allows null elements.
+ * An immutable list of {@link Boolean} that allows null elements. Values are packed into a bitset, one bit per element,
+ * with a second bitset only present when some elements are null.
  */
 public final class BooleanList extends AbstractList<Boolean>
     implements ImmutableListDefaults<BooleanList, Boolean> {
@@ -32,49 +34,237 @@ public final class BooleanList extends AbstractList<Boolean>
      * An empty {@link BooleanList}.
      */
     public final static BooleanList EMPTY = new BooleanList(
-        Lists.empty()
+        new long[0],
+        null,
+        0
     );
 
     // @VisibleForTesting
     BooleanList(final List<Boolean> booleans) {
-        this.booleans = booleans;
+        this(
+            booleans,
+            booleans.size()
+        );
+    }
+
+    private BooleanList(final Collection<Boolean> booleans,
+                        final int size) {
+        final long[] values = new long[words(size)];
+        long[] nulls = null;
+
+        int i = 0;
+        for (final Boolean value : booleans) {
+            if (null == value) {
+                if (null == nulls) {
+                    nulls = new long[values.length];
+                }
+                nulls[i >> ADDRESS_BITS] |= 1L << i;
+            } else {
+                if (value) {
+                    values[i >> ADDRESS_BITS] |= 1L << i;
+                }
+            }
+            i++;
+        }
+
+        this.values = values;
+        this.nulls = nulls;
+        this.size = size;
+    }
+
+    private BooleanList(final long[] values,
+                        final long[] nulls,
+                        final int size) {
+        this.values = values;
+        this.nulls = nulls;
+        this.size = size;
     }
 
     @Override
-    public Boolean get(int index) {
-        return this.booleans.get(index);
+    public Boolean get(final int index) {
+        this.checkIndex(index);
+
+        return isSet(this.nulls, index) ?
+            null :
+            isSet(this.values, index);
     }
 
     @Override
     public int size() {
-        return this.booleans.size();
+        return this.size;
     }
 
-    private final List<Boolean> booleans;
+    @Override
+    public boolean contains(final Object value) {
+        final boolean contains;
+
+        if (null == value) {
+            contains = this.nullCount() > 0;
+        } else {
+            if (value instanceof Boolean) {
+                contains = (Boolean) value ?
+                    this.trueCount() > 0 :
+                    this.falseCount() > 0;
+            } else {
+                contains = false;
+            }
+        }
+
+        return contains;
+    }
+
+    /**
+     * Returns the number of true elements.
+     */
+    public int trueCount() {
+        return bitCount(this.values);
+    }
+
+    /**
+     * Returns the number of false elements.
+     */
+    public int falseCount() {
+        return this.size - this.trueCount() - this.nullCount();
+    }
+
+    /**
+     * Returns the number of null elements.
+     */
+    public int nullCount() {
+        return bitCount(this.nulls);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds size=" + this.size);
+        }
+    }
+
+    /**
+     * True elements have their bit set, null elements always have a clear bit.
+     */
+    private final long[] values;
+
+    /**
+     * Null elements have their bit set, this is null when there are no null elements.
+     */
+    private final long[] nulls;
+
+    private final int size;
 
     @Override
     public void elementCheck(final Boolean booleanValue) {
         // nulls are allowed.
     }
 
+    // ImmutableList....................................................................................................
+
+    /**
+     * Appends the element by copying the bitsets rather than boxing every element into a temporary {@link List}.
+     */
+    @Override
+    public BooleanList concat(final Boolean element) {
+        final int size = this.size;
+        final int newSize = size + 1;
+        final int words = words(newSize);
+
+        final long[] values = Arrays.copyOf(
+            this.values,
+            words
+        );
+        long[] nulls = this.nulls;
+
+        if (null == element) {
+            nulls = null == nulls ?
+                new long[words] :
+                Arrays.copyOf(
+                    nulls,
+                    words
+                );
+            nulls[size >> ADDRESS_BITS] |= 1L << size;
+        } else {
+            if (null != nulls) {
+                nulls = Arrays.copyOf(
+                    nulls,
+                    words
+                );
+            }
+            if (element) {
+                values[size >> ADDRESS_BITS] |= 1L << size;
+            }
+        }
+
+        return new BooleanList(
+            values,
+            nulls,
+            newSize
+        );
+    }
+
+    /**
+     * Replaces the element at the given index by copying and updating the bitsets.
+     */
+    @Override
+    public BooleanList replace(final int index,
+                               final Boolean element) {
+        BooleanList replaced = this;
+
+        if (false == Objects.equals(this.get(index), element)) {
+            final long[] values = this.values.clone();
+            long[] nulls = this.nulls;
+
+            final int word = index >> ADDRESS_BITS;
+            final long bit = 1L << index;
+
+            values[word] &= ~bit;
+            if (null == element) {
+                nulls = null == nulls ?
+                    new long[values.length] :
+                    nulls.clone();
+                nulls[word] |= bit;
+            } else {
+                if (null != nulls) {
+                    nulls = nulls.clone();
+                    nulls[word] &= ~bit;
+                    if (0 == bitCount(nulls)) {
+                        nulls = null;
+                    }
+                }
+                if (element) {
+                    values[word] |= bit;
+                }
+            }
+
+            replaced = new BooleanList(
+                values,
+                nulls,
+                this.size
+            );
+        }
+
+        return replaced;
+    }
+
     @Override
     public BooleanList setElements(final Collection<Boolean> booleans) {
+        Objects.requireNonNull(booleans, "booleans");
+
         BooleanList booleanList;
 
         if (booleans instanceof BooleanList) {
             booleanList = (BooleanList) booleans;
         } else {
-            final List<Boolean> copy = Lists.array();
-            copy.addAll(
-                Objects.requireNonNull(booleans, "booleans")
-            );
+            final int size = booleans.size();
 
-            switch (booleans.size()) {
+            switch (size) {
                 case 0:
                     booleanList = EMPTY;
                     break;
                 default:
-                    booleanList = new BooleanList(copy);
+                    booleanList = new BooleanList(
+                        booleans,
+                        size
+                    );
                     break;
             }
         }
@@ -83,4 +273,54 @@ public final class BooleanList extends AbstractList<Boolean>
             this :
             booleanList;
     }
+
+    // Object...........................................................................................................
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof BooleanList ?
+                this.equals0((BooleanList) other) :
+                super.equals(other));
+    }
+
+    /**
+     * Unused bits are always clear, so the bitsets may be compared directly.
+     */
+    private boolean equals0(final BooleanList other) {
+        return this.size == other.size &&
+            Arrays.equals(this.values, other.values) &&
+            Arrays.equals(this.nulls, other.nulls);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    // bitset helpers...................................................................................................
+
+    private final static int ADDRESS_BITS = 6;
+
+    private static int words(final int size) {
+        return (size + 63) >> ADDRESS_BITS;
+    }
+
+    private static boolean isSet(final long[] bits,
+                                 final int index) {
+        return null != bits &&
+            0 != (bits[index >> ADDRESS_BITS] & (1L << index));
+    }
+
+    private static int bitCount(final long[] bits) {
+        int count = 0;
+
+        if (null != bits) {
+            for (final long word : bits) {
+                count += Long.bitCount(word);
+            }
+        }
+
+        return count;
+    }
 }
@@ -24,6 +24,8 @@ import java.util.AbstractList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * An immutable list of String elements. Note null elements are not allowed.
@@ -70,6 +72,17 @@ public final class CsvStringList extends AbstractList<String> implements Delimit
         return this.strings.get(index);
     }
 
+    /**
+     * Returns a {@link Spliterator} over a snapshot array of the strings, which splits evenly and reports its exact size.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(
+            this.strings.toArray(),
+            Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+        );
+    }
+
     @Override
     public int size() {
         return this.strings.size();
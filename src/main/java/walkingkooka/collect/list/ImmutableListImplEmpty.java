@@ -22,6 +22,8 @@ import walkingkooka.collect.iterator.Iterators;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * A {@link List} known to be immutable and has no elements.
@@ -62,6 +64,11 @@ final class ImmutableListImplEmpty<T> extends ImmutableListImpl<T> {
         return Iterators.empty();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.emptySpliterator();
+    }
+
     @Override
     public boolean remove(final Object value) {
         throw new UnsupportedOperationException();
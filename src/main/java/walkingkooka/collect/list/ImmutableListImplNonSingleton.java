@@ -20,6 +20,8 @@ package walkingkooka.collect.list;
 import walkingkooka.Cast;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * A {@link List} presents a read only view of a previously defensively copied {@link List} given to it.
@@ -43,6 +45,17 @@ final class ImmutableListImplNonSingleton<T> extends ImmutableListImpl<T> {
         return Cast.to(this.elements[index]);
     }
 
+    /**
+     * Returns an array backed {@link Spliterator} that splits evenly and reports its exact size.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(
+            this.elements,
+            Spliterator.ORDERED | Spliterator.IMMUTABLE
+        );
+    }
+
     @Override
     public int size() {
         return this.elements.length;
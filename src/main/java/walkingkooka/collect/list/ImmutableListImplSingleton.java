@@ -22,6 +22,8 @@ import walkingkooka.collect.iterator.Iterators;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * A {@link List} known to be immutable and holds a copy of any {@link List} given to it.
@@ -64,6 +66,14 @@ final class ImmutableListImplSingleton<T> extends ImmutableListImpl<T> {
         return Iterators.one(this.element);
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(
+            new Object[]{this.element},
+            Spliterator.ORDERED | Spliterator.IMMUTABLE
+        );
+    }
+
     @Override
     public int size() {
         return 1;
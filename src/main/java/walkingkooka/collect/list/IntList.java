@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.list;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable list of int values held in an int array, null elements are not allowed. Unboxed accessors and an
+ * {@link IntStream} avoid boxing when reading values.
+ */
+public final class IntList extends AbstractList<Integer>
+    implements ImmutableListDefaults<IntList, Integer> {
+
+    /**
+     * An empty {@link IntList}.
+     */
+    public final static IntList EMPTY = new IntList(new int[0]);
+
+    /**
+     * Creates a new {@link IntList} with a copy of the given values.
+     */
+    public static IntList with(final int... values) {
+        Objects.requireNonNull(values, "values");
+
+        return 0 == values.length ?
+            EMPTY :
+            new IntList(values.clone());
+    }
+
+    private IntList(final int[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public Integer get(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value at the given index without boxing.
+     */
+    public int getInt(final int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+        return -1 != this.indexOf(value);
+    }
+
+    @Override
+    public int indexOf(final Object value) {
+        int index = -1;
+
+        if (value instanceof Integer) {
+            final int intValue = (Integer) value;
+            final int[] values = this.values;
+
+            for (int i = 0; i < values.length; i++) {
+                if (intValue == values[i]) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns a copy of the values.
+     */
+    public int[] toIntArray() {
+        return this.values.clone();
+    }
+
+    /**
+     * Returns an {@link IntStream} over the values without boxing.
+     */
+    public IntStream intStream() {
+        return Arrays.stream(this.values);
+    }
+
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return Spliterators.spliterator(
+            this.values,
+            Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+        );
+    }
+
+    private final int[] values;
+
+    @Override
+    public void elementCheck(final Integer value) {
+        Objects.requireNonNull(value, "value");
+    }
+
+    // ImmutableList....................................................................................................
+
+    @Override
+    public IntList concat(final Integer value) {
+        this.elementCheck(value);
+
+        final int[] values = this.values;
+        final int length = values.length;
+
+        final int[] copy = Arrays.copyOf(
+            values,
+            length + 1
+        );
+        copy[length] = value;
+        return new IntList(copy);
+    }
+
+    @Override
+    public IntList replace(final int index,
+                           final Integer value) {
+        this.elementCheck(value);
+
+        IntList replaced = this;
+
+        if (this.values[index] != value) {
+            final int[] copy = this.values.clone();
+            copy[index] = value;
+            replaced = new IntList(copy);
+        }
+
+        return replaced;
+    }
+
+    @Override
+    public IntList setElements(final Collection<Integer> values) {
+        Objects.requireNonNull(values, "values");
+
+        IntList intList;
+
+        if (values instanceof IntList) {
+            intList = (IntList) values;
+        } else {
+            final int[] copy = new int[values.size()];
+
+            int i = 0;
+            for (final Integer value : values) {
+                this.elementCheck(value);
+                copy[i] = value;
+                i++;
+            }
+
+            intList = 0 == copy.length ?
+                EMPTY :
+                new IntList(copy);
+        }
+
+        return this.equals(intList) ?
+            this :
+            intList;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof IntList ?
+                Arrays.equals(this.values, ((IntList) other).values) :
+                super.equals(other));
+    }
+}
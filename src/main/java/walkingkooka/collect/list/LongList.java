@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.list;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable list of long values held in a long array, null elements are not allowed. Unboxed accessors and an
+ * {@link LongStream} avoid boxing when reading values.
+ */
+public final class LongList extends AbstractList<Long>
+    implements ImmutableListDefaults<LongList, Long> {
+
+    /**
+     * An empty {@link LongList}.
+     */
+    public final static LongList EMPTY = new LongList(new long[0]);
+
+    /**
+     * Creates a new {@link LongList} with a copy of the given values.
+     */
+    public static LongList with(final long... values) {
+        Objects.requireNonNull(values, "values");
+
+        return 0 == values.length ?
+            EMPTY :
+            new LongList(values.clone());
+    }
+
+    private LongList(final long[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public Long get(final int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value at the given index without boxing.
+     */
+    public long getLong(final int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+        return -1 != this.indexOf(value);
+    }
+
+    @Override
+    public int indexOf(final Object value) {
+        int index = -1;
+
+        if (value instanceof Long) {
+            final long longValue = (Long) value;
+            final long[] values = this.values;
+
+            for (int i = 0; i < values.length; i++) {
+                if (longValue == values[i]) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns a copy of the values.
+     */
+    public long[] toLongArray() {
+        return this.values.clone();
+    }
+
+    /**
+     * Returns a {@link LongStream} over the values without boxing.
+     */
+    public LongStream longStream() {
+        return Arrays.stream(this.values);
+    }
+
+    @Override
+    public Spliterator<Long> spliterator() {
+        return Spliterators.spliterator(
+            this.values,
+            Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL
+        );
+    }
+
+    private final long[] values;
+
+    @Override
+    public void elementCheck(final Long value) {
+        Objects.requireNonNull(value, "value");
+    }
+
+    // ImmutableList....................................................................................................
+
+    @Override
+    public LongList concat(final Long value) {
+        this.elementCheck(value);
+
+        final long[] values = this.values;
+        final int length = values.length;
+
+        final long[] copy = Arrays.copyOf(
+            values,
+            length + 1
+        );
+        copy[length] = value;
+        return new LongList(copy);
+    }
+
+    @Override
+    public LongList replace(final int index,
+                            final Long value) {
+        this.elementCheck(value);
+
+        LongList replaced = this;
+
+        if (this.values[index] != value) {
+            final long[] copy = this.values.clone();
+            copy[index] = value;
+            replaced = new LongList(copy);
+        }
+
+        return replaced;
+    }
+
+    @Override
+    public LongList setElements(final Collection<Long> values) {
+        Objects.requireNonNull(values, "values");
+
+        LongList longList;
+
+        if (values instanceof LongList) {
+            longList = (LongList) values;
+        } else {
+            final long[] copy = new long[values.size()];
+
+            int i = 0;
+            for (final Long value : values) {
+                this.elementCheck(value);
+                copy[i] = value;
+                i++;
+            }
+
+            longList = 0 == copy.length ?
+                EMPTY :
+                new LongList(copy);
+        }
+
+        return this.equals(longList) ?
+            this :
+            longList;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof LongList ?
+                Arrays.equals(this.values, ((LongList) other).values) :
+                super.equals(other));
+    }
+}
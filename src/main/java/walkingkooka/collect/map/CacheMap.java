@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import java.util.Map;
+
+/**
+ * A {@link Map} bounded by a maximum weight, which evicts the least recently used entries when full and optionally
+ * entries that have not been accessed for some time. Null keys and values are not supported, and the entry, key and
+ * value views are read only snapshots.
+ */
+public interface CacheMap<K, V> extends Map<K, V> {
+
+    /**
+     * The number of {@link #get(Object)} that returned a value.
+     */
+    long hitCount();
+
+    /**
+     * The number of {@link #get(Object)} that returned null.
+     */
+    long missCount();
+
+    /**
+     * The number of entries removed because the cache was full or they expired.
+     */
+    long evictionCount();
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.collect.set.Sets;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A single threaded {@link CacheMap} that keeps its entries in access order, evicting the least recently used until
+ * the total weight is within the maximum, while entries heavier than the maximum are never cached. When an expiry is
+ * set, entries not accessed within that many milliseconds are removed before every operation, starting with the least
+ * recently used.
+ */
+final class CacheMapLru<K, V> extends AbstractMap<K, V> implements CacheMap<K, V> {
+
+    static <K, V> CacheMapLru<K, V> with(final long maximumWeight,
+                                         final ToLongBiFunction<? super K, ? super V> weigher,
+                                         final long expireAfterAccess,
+                                         final LongSupplier clock) {
+        check(
+            maximumWeight,
+            weigher,
+            expireAfterAccess,
+            clock
+        );
+
+        return new CacheMapLru<>(
+            maximumWeight,
+            maximumWeight,
+            weigher,
+            expireAfterAccess,
+            clock
+        );
+    }
+
+    /**
+     * Creates a segment of a {@link CacheMapStriped}, which evicts down to its share of the weight, while only entries
+     * heavier than the maximum weight of the whole cache are never cached.
+     */
+    // CacheMapStriped
+    static <K, V> CacheMapLru<K, V> segment(final long maximumWeight,
+                                            final long maximumEntryWeight,
+                                            final ToLongBiFunction<? super K, ? super V> weigher,
+                                            final long expireAfterAccess,
+                                            final LongSupplier clock) {
+        return new CacheMapLru<>(
+            maximumWeight,
+            maximumEntryWeight,
+            weigher,
+            expireAfterAccess,
+            clock
+        );
+    }
+
+    // CacheMapStriped
+    static void check(final long maximumWeight,
+                      final ToLongBiFunction<?, ?> weigher,
+                      final long expireAfterAccess,
+                      final LongSupplier clock) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Invalid maximumWeight " + maximumWeight + " <= 0");
+        }
+        Objects.requireNonNull(weigher, "weigher");
+        if (expireAfterAccess < 0) {
+            throw new IllegalArgumentException("Invalid expireAfterAccess " + expireAfterAccess + " < 0");
+        }
+        Objects.requireNonNull(clock, "clock");
+    }
+
+    private CacheMapLru(final long maximumWeight,
+                        final long maximumEntryWeight,
+                        final ToLongBiFunction<? super K, ? super V> weigher,
+                        final long expireAfterAccess,
+                        final LongSupplier clock) {
+        super();
+        this.maximumWeight = maximumWeight;
+        this.maximumEntryWeight = maximumEntryWeight;
+        this.weigher = weigher;
+        this.expireAfterAccess = expireAfterAccess;
+        this.clock = clock;
+    }
+
+    @Override
+    public V get(final Object key) {
+        this.expire();
+
+        final CacheMapValue<V> value = this.entries.get(key);
+
+        final V get;
+        if (null == value) {
+            this.missCount++;
+            get = null;
+        } else {
+            this.hitCount++;
+            value.accessed = this.now();
+            get = value.value;
+        }
+        return get;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        this.expire();
+
+        return this.entries.containsKey(key);
+    }
+
+    @Override
+    public V put(final K key,
+                 final V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        this.expire();
+
+        final long weight = this.weigher.applyAsLong(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " < 0 for " + key);
+        }
+
+        final CacheMapValue<V> previous;
+        if (weight > this.maximumEntryWeight) {
+            // an entry heavier than the maximum is never cached, and the previous value it replaces is evicted
+            previous = this.entries.remove(key);
+            if (null != previous) {
+                this.evictionCount++;
+            }
+        } else {
+            previous = this.entries.put(
+                key,
+                new CacheMapValue<>(
+                    value,
+                    weight,
+                    this.now()
+                )
+            );
+            this.weight += weight;
+        }
+        if (null != previous) {
+            this.weight -= previous.weight;
+        }
+
+        // the new entry is the most recently used and is never evicted, even if it alone is heavier than a segment
+        final Iterator<CacheMapValue<V>> values = this.entries.values()
+            .iterator();
+        while (this.weight > this.maximumWeight && this.entries.size() > 1) {
+            this.evict(values);
+        }
+
+        return null != previous ?
+            previous.value :
+            null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        this.expire();
+
+        final CacheMapValue<V> removed = this.entries.remove(key);
+
+        final V value;
+        if (null != removed) {
+            this.weight -= removed.weight;
+            value = removed.value;
+        } else {
+            value = null;
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    @Override
+    public int size() {
+        this.expire();
+
+        return this.entries.size();
+    }
+
+    /**
+     * Returns a read only snapshot of the entries, from least to most recently used.
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        this.expire();
+
+        final Set<Entry<K, V>> entries = Sets.ordered();
+        for (final Entry<K, CacheMapValue<V>> entry : this.entries.entrySet()) {
+            entries.add(
+                Maps.entry(
+                    entry.getKey(),
+                    entry.getValue().value
+                )
+            );
+        }
+        return Sets.readOnly(entries);
+    }
+
+    /**
+     * Removes entries from the least recently used end until one accessed within the expiry is found.
+     */
+    private void expire() {
+        final long expireAfterAccess = this.expireAfterAccess;
+
+        if (expireAfterAccess > 0 && false == this.entries.isEmpty()) {
+            final long oldest = this.clock.getAsLong() - expireAfterAccess;
+
+            final Iterator<CacheMapValue<V>> values = this.entries.values()
+                .iterator();
+            while (values.hasNext()) {
+                final CacheMapValue<V> value = values.next();
+                if (value.accessed > oldest) {
+                    break;
+                }
+                values.remove();
+                this.weight -= value.weight;
+                this.evictionCount++;
+            }
+        }
+    }
+
+    private void evict(final Iterator<CacheMapValue<V>> values) {
+        final CacheMapValue<V> value = values.next();
+        values.remove();
+
+        this.weight -= value.weight;
+        this.evictionCount++;
+    }
+
+    /**
+     * The clock is only read when entries can expire.
+     */
+    private long now() {
+        return this.expireAfterAccess > 0 ?
+            this.clock.getAsLong() :
+            0;
+    }
+
+    /**
+     * Entries in access order, the first being the least recently used.
+     */
+    private final LinkedHashMap<K, CacheMapValue<V>> entries = new LinkedHashMap<>(
+        16,
+        0.75f,
+        true
+    );
+
+    private final long maximumWeight;
+
+    /**
+     * Entries heavier than this are never cached, for a segment this is the maximum weight of the whole cache.
+     */
+    private final long maximumEntryWeight;
+
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+
+    /**
+     * The milliseconds after the last access when an entry expires, zero means never.
+     */
+    private final long expireAfterAccess;
+
+    private final LongSupplier clock;
+
+    /**
+     * The sum of the weight of all entries.
+     */
+    private long weight;
+
+    // CacheMap.........................................................................................................
+
+    @Override
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    private long hitCount;
+
+    @Override
+    public long missCount() {
+        return this.missCount;
+    }
+
+    private long missCount;
+
+    @Override
+    public long evictionCount() {
+        return this.evictionCount;
+    }
+
+    private long evictionCount;
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
+import walkingkooka.collect.set.Sets;
+
+import java.util.AbstractMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A thread safe {@link CacheMap} that shares keys by hash between several {@link CacheMapLru} segments, each
+ * guarded by its own lock and given an equal share of the maximum weight. Every operation on a key, including the
+ * atomic {@link java.util.Map} defaults, runs entirely under the lock for its segment. Eviction is therefore an
+ * approximate least recently used across the whole cache, while threads using keys in different segments never
+ * contend. An entry heavier than its segment's share but within the maximum is still cached, evicting every other
+ * entry in that segment.
+ */
+@GwtIncompatible
+final class CacheMapStriped<K, V> extends AbstractMap<K, V> implements CacheMap<K, V> {
+
+    /**
+     * The most segments a cache will be divided into.
+     */
+    private final static int MAX_SEGMENTS = 16;
+
+    /**
+     * Small caches are divided into fewer segments so each still holds a useful number of entries.
+     */
+    private final static long MIN_SEGMENT_WEIGHT = 32;
+
+    static <K, V> CacheMapStriped<K, V> with(final long maximumWeight,
+                                             final ToLongBiFunction<? super K, ? super V> weigher,
+                                             final long expireAfterAccess,
+                                             final LongSupplier clock) {
+        CacheMapLru.check(
+            maximumWeight,
+            weigher,
+            expireAfterAccess,
+            clock
+        );
+
+        int count = 1;
+        while (count < MAX_SEGMENTS && maximumWeight / (count * 2) >= MIN_SEGMENT_WEIGHT) {
+            count *= 2;
+        }
+
+        // the remainder is shared so the segment weights add up to exactly the maximum
+        final CacheMapLru<K, V>[] segments = Cast.to(new CacheMapLru[count]);
+        for (int i = 0; i < count; i++) {
+            segments[i] = CacheMapLru.segment(
+                maximumWeight / count + (i < maximumWeight % count ? 1 : 0),
+                maximumWeight,
+                weigher,
+                expireAfterAccess,
+                clock
+            );
+        }
+
+        return new CacheMapStriped<>(segments);
+    }
+
+    private CacheMapStriped(final CacheMapLru<K, V>[] segments) {
+        super();
+        this.segments = segments;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final V value;
+
+        if (null == key) {
+            value = null;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                value = segment.get(key);
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final boolean contains;
+
+        if (null == key) {
+            contains = false;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                contains = segment.containsKey(key);
+            }
+        }
+
+        return contains;
+    }
+
+    @Override
+    public V put(final K key,
+                 final V value) {
+        Objects.requireNonNull(key, "key");
+
+        final CacheMapLru<K, V> segment = this.segment(key);
+        synchronized (segment) {
+            return segment.put(
+                key,
+                value
+            );
+        }
+    }
+
+    /**
+     * The mapping function is called while holding the lock for the key's segment, so each missing value is only
+     * computed once, and must not update this cache.
+     */
+    @Override
+    public V computeIfAbsent(final K key,
+                             final Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(key, "key");
+
+        final CacheMapLru<K, V> segment = this.segment(key);
+        synchronized (segment) {
+            return segment.computeIfAbsent(
+                key,
+                mappingFunction
+            );
+        }
+    }
+
+    @Override
+    public V getOrDefault(final Object key,
+                          final V defaultValue) {
+        final V value;
+
+        if (null == key) {
+            value = defaultValue;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                value = segment.getOrDefault(
+                    key,
+                    defaultValue
+                );
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public V putIfAbsent(final K key,
+                         final V value) {
+        Objects.requireNonNull(key, "key");
+
+        final CacheMapLru<K, V> segment = this.segment(key);
+        synchronized (segment) {
+            return segment.putIfAbsent(
+                key,
+                value
+            );
+        }
+    }
+
+    /**
+     * The remapping function is called while holding the lock for the key's segment, and must not update this cache.
+     */
+    @Override
+    public V compute(final K key,
+                     final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key, "key");
+
+        final CacheMapLru<K, V> segment = this.segment(key);
+        synchronized (segment) {
+            return segment.compute(
+                key,
+                remappingFunction
+            );
+        }
+    }
+
+    /**
+     * The remapping function is called while holding the lock for the key's segment, and must not update this cache.
+     */
+    @Override
+    public V computeIfPresent(final K key,
+                              final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key, "key");
+
+        final CacheMapLru<K, V> segment = this.segment(key);
+        synchronized (segment) {
+            return segment.computeIfPresent(
+                key,
+                remappingFunction
+            );
+        }
+    }
+
+    /**
+     * The remapping function is called while holding the lock for the key's segment, and must not update this cache.
+     */
+    @Override
+    public V merge(final K key,
+                   final V value,
+                   final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key, "key");
+
+        final CacheMapLru<K, V> segment = this.segment(key);
+        synchronized (segment) {
+            return segment.merge(
+                key,
+                value,
+                remappingFunction
+            );
+        }
+    }
+
+    @Override
+    public V replace(final K key,
+                     final V value) {
+        final V previous;
+
+        if (null == key) {
+            previous = null;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                previous = segment.replace(
+                    key,
+                    value
+                );
+            }
+        }
+
+        return previous;
+    }
+
+    @Override
+    public boolean replace(final K key,
+                           final V oldValue,
+                           final V newValue) {
+        final boolean replaced;
+
+        if (null == key) {
+            replaced = false;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                replaced = segment.replace(
+                    key,
+                    oldValue,
+                    newValue
+                );
+            }
+        }
+
+        return replaced;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final V value;
+
+        if (null == key) {
+            value = null;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                value = segment.remove(key);
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public boolean remove(final Object key,
+                          final Object value) {
+        final boolean removed;
+
+        if (null == key) {
+            removed = false;
+        } else {
+            final CacheMapLru<K, V> segment = this.segment(key);
+            synchronized (segment) {
+                removed = segment.remove(
+                    key,
+                    value
+                );
+            }
+        }
+
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (final CacheMapLru<K, V> segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (final CacheMapLru<K, V> segment : this.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a read only snapshot of the entries, taking each segment lock in turn.
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        final Set<Entry<K, V>> entries = Sets.ordered();
+        for (final CacheMapLru<K, V> segment : this.segments) {
+            synchronized (segment) {
+                entries.addAll(segment.entrySet());
+            }
+        }
+        return Sets.readOnly(entries);
+    }
+
+    private CacheMapLru<K, V> segment(final Object key) {
+        final int hash = key.hashCode();
+        final CacheMapLru<K, V>[] segments = this.segments;
+
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    // CacheMapStripedTest
+    final CacheMapLru<K, V>[] segments;
+
+    // CacheMap.........................................................................................................
+
+    @Override
+    public long hitCount() {
+        long count = 0;
+        for (final CacheMapLru<K, V> segment : this.segments) {
+            synchronized (segment) {
+                count += segment.hitCount();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long missCount() {
+        long count = 0;
+        for (final CacheMapLru<K, V> segment : this.segments) {
+            synchronized (segment) {
+                count += segment.missCount();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long evictionCount() {
+        long count = 0;
+        for (final CacheMapLru<K, V> segment : this.segments) {
+            synchronized (segment) {
+                count += segment.evictionCount();
+            }
+        }
+        return count;
+    }
+}
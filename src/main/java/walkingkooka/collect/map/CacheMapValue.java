@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+/**
+ * Holds a value within a {@link CacheMapLru} along with its weight and when it was last accessed.
+ */
+final class CacheMapValue<V> {
+
+    CacheMapValue(final V value,
+                  final long weight,
+                  final long accessed) {
+        this.value = value;
+        this.weight = weight;
+        this.accessed = accessed;
+    }
+
+    final V value;
+
+    final long weight;
+
+    /**
+     * Updated each time the value is read.
+     */
+    long accessed;
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.value);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+import walkingkooka.text.CaseSensitivity;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A mutable {@link Map} with {@link CharSequence} keys that are hashed and compared using a {@link CaseSensitivity},
+ * so lookups may use any {@link CharSequence} without first creating a folded {@link String}. Entries are held in
+ * parallel arrays using open addressing with linear probing, and the folded hash of each key is kept alongside it.
+ * Removed entries leave a tombstone until the next resize. Null keys are not supported, but null values are.
+ */
+final class CharSequenceMap<K extends CharSequence, V> extends AbstractMap<K, V> {
+
+    static <K extends CharSequence, V> CharSequenceMap<K, V> with(final CaseSensitivity caseSensitivity) {
+        Objects.requireNonNull(caseSensitivity, "caseSensitivity");
+
+        return new CharSequenceMap<>(caseSensitivity);
+    }
+
+    /**
+     * Marks a slot whose entry was removed, probing must continue past it.
+     */
+    private final static Object DELETED = new Object();
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    private CharSequenceMap(final CaseSensitivity caseSensitivity) {
+        super();
+        this.caseSensitivity = caseSensitivity;
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return -1 != this.indexOf(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int index = this.indexOf(key);
+        return -1 != index ?
+            Cast.to(this.values[index]) :
+            null;
+    }
+
+    @Override
+    public V put(final K key,
+                 final V value) {
+        Objects.requireNonNull(key, "key");
+
+        final int hash = this.hash(key);
+        final Object[] keys = this.keys;
+        final int mask = keys.length - 1;
+
+        int insert = -1;
+        int i = hash & mask;
+
+        for (; ; ) {
+            final Object slot = keys[i];
+            if (null == slot) {
+                break;
+            }
+            if (DELETED == slot) {
+                if (-1 == insert) {
+                    insert = i;
+                }
+            } else {
+                if (this.matches(i, slot, key, hash)) {
+                    final V previous = Cast.to(this.values[i]);
+                    this.values[i] = value;
+                    return previous;
+                }
+            }
+            i = (i + 1) & mask;
+        }
+
+        if (-1 == insert) {
+            insert = i;
+            this.used++;
+        }
+
+        keys[insert] = key;
+        this.values[insert] = value;
+        this.hashes[insert] = hash;
+        this.size++;
+        this.modCount++;
+
+        // keep at least a quarter of the slots empty so probe sequences stay short
+        if (this.used > keys.length - (keys.length >> 2)) {
+            this.resize();
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final int index = this.indexOf(key);
+
+        V removed = null;
+        if (-1 != index) {
+            removed = Cast.to(this.values[index]);
+            this.removeIndex(index);
+        }
+        return removed;
+    }
+
+    // CharSequenceMapIterator
+    void removeIndex(final int index) {
+        this.keys[index] = DELETED;
+        this.values[index] = null;
+        this.size--;
+        this.modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.used = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return CharSequenceMapEntrySet.with(this);
+    }
+
+    /**
+     * Returns the index of the given key or -1 if absent, keys that are not {@link CharSequence} are never present.
+     */
+    // CharSequenceMapEntry
+    int indexOf(final Object key) {
+        int index = -1;
+
+        if (key instanceof CharSequence) {
+            final CharSequence chars = (CharSequence) key;
+            final int hash = this.hash(chars);
+
+            final Object[] keys = this.keys;
+            final int mask = keys.length - 1;
+
+            int i = hash & mask;
+            for (; ; ) {
+                final Object slot = keys[i];
+                if (null == slot) {
+                    break;
+                }
+                if (DELETED != slot && this.matches(i, slot, chars, hash)) {
+                    index = i;
+                    break;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        return index;
+    }
+
+    private boolean matches(final int index,
+                            final Object slot,
+                            final CharSequence key,
+                            final int hash) {
+        final CharSequence slotKey = (CharSequence) slot;
+
+        return this.hashes[index] == hash &&
+            slotKey.length() == key.length() &&
+            this.caseSensitivity.equals(
+                slotKey,
+                key
+            );
+    }
+
+    /**
+     * Folds the key using the {@link CaseSensitivity} and then spreads the high bits into the low bits which select
+     * the slot.
+     */
+    private int hash(final CharSequence key) {
+        final int hash = this.caseSensitivity.hash(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Grows the arrays if most slots hold entries, otherwise rehashes at the same capacity to drop tombstones.
+     */
+    private void resize() {
+        final Object[] keys = this.keys;
+        final Object[] values = this.values;
+        final int[] hashes = this.hashes;
+
+        final int capacity = this.size >= keys.length >> 1 ?
+            keys.length << 1 :
+            keys.length;
+        this.allocate(capacity);
+
+        final Object[] newKeys = this.keys;
+        final Object[] newValues = this.values;
+        final int[] newHashes = this.hashes;
+        final int mask = capacity - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            final Object key = keys[i];
+            if (isKey(key)) {
+                final int hash = hashes[i];
+
+                int j = hash & mask;
+                while (null != newKeys[j]) {
+                    j = (j + 1) & mask;
+                }
+                newKeys[j] = key;
+                newValues[j] = values[i];
+                newHashes[j] = hash;
+            }
+        }
+
+        this.used = this.size;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+    }
+
+    private final CaseSensitivity caseSensitivity;
+
+    /**
+     * Each slot is null when empty, {@link #DELETED} or a key.
+     */
+    // CharSequenceMapEntry, CharSequenceMapIterator
+    Object[] keys;
+
+    // CharSequenceMapEntry
+    Object[] values;
+
+    /**
+     * The folded hash of the key in the same slot.
+     */
+    private int[] hashes;
+
+    private int size;
+
+    /**
+     * The number of slots holding a key or tombstone.
+     */
+    private int used;
+
+    // CharSequenceMapEntry, CharSequenceMapIterator
+    int modCount;
+
+    /**
+     * Tests if the slot holds a key rather than being empty or a tombstone.
+     */
+    // CharSequenceMapIterator
+    static boolean isKey(final Object slot) {
+        return null != slot && DELETED != slot;
+    }
+}
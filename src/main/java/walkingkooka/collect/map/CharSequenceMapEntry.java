@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+import walkingkooka.text.CharSequences;
+
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * An {@link Entry} bound to a key of a {@link CharSequenceMap}, where {@link #setValue(Object)} updates the map. The
+ * slot is found again whenever the map was structurally modified, as a resize or a removal may move or reuse it. Once
+ * the key is removed {@link #getValue()} returns the last value seen and {@link #setValue(Object)} fails.
+ */
+final class CharSequenceMapEntry<K extends CharSequence, V> implements Entry<K, V> {
+
+    static <K extends CharSequence, V> CharSequenceMapEntry<K, V> with(final CharSequenceMap<K, V> map,
+                                                                       final int slot) {
+        return new CharSequenceMapEntry<>(
+            map,
+            slot
+        );
+    }
+
+    private CharSequenceMapEntry(final CharSequenceMap<K, V> map,
+                                 final int slot) {
+        super();
+        this.map = map;
+        this.slot = slot;
+        this.modCount = map.modCount;
+        this.key = Cast.to(map.keys[slot]);
+        this.value = Cast.to(map.values[slot]);
+    }
+
+    @Override
+    public K getKey() {
+        return this.key;
+    }
+
+    private final K key;
+
+    @Override
+    public V getValue() {
+        final int slot = this.slot();
+        if (-1 != slot) {
+            this.value = Cast.to(this.map.values[slot]);
+        }
+        return this.value;
+    }
+
+    /**
+     * The last value read or written while the key was present.
+     */
+    private V value;
+
+    @Override
+    public V setValue(final V value) {
+        final int slot = this.slot();
+        if (-1 == slot) {
+            throw new IllegalStateException("Entry removed " + CharSequences.quoteAndEscape(this.key));
+        }
+
+        final Object[] values = this.map.values;
+        final V previous = Cast.to(values[slot]);
+        values[slot] = value;
+        this.value = value;
+        return previous;
+    }
+
+    /**
+     * Returns the slot holding the key, finding it again if the map was structurally modified, or -1 if removed.
+     */
+    private int slot() {
+        final CharSequenceMap<K, V> map = this.map;
+        final int modCount = map.modCount;
+
+        if (modCount != this.modCount) {
+            this.slot = map.indexOf(this.key);
+            this.modCount = modCount;
+        }
+        return this.slot;
+    }
+
+    private final CharSequenceMap<K, V> map;
+
+    private int slot;
+
+    private int modCount;
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.key) ^ Objects.hashCode(this.getValue());
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof Entry && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final Entry<?, ?> other) {
+        return Objects.equals(this.key, other.getKey()) &&
+            Objects.equals(this.getValue(), other.getValue());
+    }
+
+    @Override
+    public String toString() {
+        return this.key + "=" + this.getValue();
+    }
+}
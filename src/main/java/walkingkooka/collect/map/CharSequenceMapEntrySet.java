@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+/**
+ * The {@link java.util.Set} view of the entries of a {@link CharSequenceMap}.
+ */
+final class CharSequenceMapEntrySet<K extends CharSequence, V> extends AbstractSet<Entry<K, V>> {
+
+    static <K extends CharSequence, V> CharSequenceMapEntrySet<K, V> with(final CharSequenceMap<K, V> map) {
+        return new CharSequenceMapEntrySet<>(map);
+    }
+
+    private CharSequenceMapEntrySet(final CharSequenceMap<K, V> map) {
+        super();
+        this.map = map;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return CharSequenceMapIterator.with(this.map);
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    private final CharSequenceMap<K, V> map;
+}
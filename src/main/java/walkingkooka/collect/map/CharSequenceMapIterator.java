@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the occupied slots of a {@link CharSequenceMap}, supporting {@link #remove()}.
+ */
+final class CharSequenceMapIterator<K extends CharSequence, V> implements Iterator<Entry<K, V>> {
+
+    static <K extends CharSequence, V> CharSequenceMapIterator<K, V> with(final CharSequenceMap<K, V> map) {
+        return new CharSequenceMapIterator<>(map);
+    }
+
+    private CharSequenceMapIterator(final CharSequenceMap<K, V> map) {
+        super();
+        this.map = map;
+        this.modCount = map.modCount;
+        this.next = this.findNext(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next < this.map.keys.length;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+        this.checkModCount();
+
+        final int next = this.next;
+        if (next >= this.map.keys.length) {
+            throw new NoSuchElementException();
+        }
+        this.current = next;
+        this.next = this.findNext(next + 1);
+
+        return CharSequenceMapEntry.with(
+            this.map,
+            next
+        );
+    }
+
+    @Override
+    public void remove() {
+        this.checkModCount();
+
+        final int current = this.current;
+        if (-1 == current) {
+            throw new IllegalStateException();
+        }
+        this.map.removeIndex(current);
+        this.current = -1;
+        this.modCount = this.map.modCount;
+    }
+
+    private int findNext(final int start) {
+        final Object[] keys = this.map.keys;
+
+        int i = start;
+        while (i < keys.length && false == CharSequenceMap.isKey(keys[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private void checkModCount() {
+        if (this.modCount != this.map.modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private final CharSequenceMap<K, V> map;
+
+    private int modCount;
+
+    private int next;
+
+    /**
+     * The slot of the entry last returned by {@link #next()} or -1.
+     */
+    private int current = -1;
+}
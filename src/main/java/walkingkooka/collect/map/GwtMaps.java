@@ -19,6 +19,7 @@ package walkingkooka.collect.map;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.ToLongBiFunction;
 
 /**
  * This method contains shadowed methods which will be used when the equivalent static methods in {@link Maps}
@@ -26,6 +27,25 @@ import java.util.Map;
  */
 abstract class GwtMaps {
 
+    static public <K, V> CacheMap<K, V> cache(final int maximumSize) {
+        return cache(
+            maximumSize,
+            (k, v) -> 1,
+            0
+        );
+    }
+
+    static public <K, V> CacheMap<K, V> cache(final long maximumWeight,
+                                              final ToLongBiFunction<? super K, ? super V> weigher,
+                                              final long expireAfterAccess) {
+        return CacheMapLru.with(
+            maximumWeight,
+            weigher,
+            expireAfterAccess,
+            System::currentTimeMillis
+        );
+    }
+
     static public <K, V> Map<K, V> concurrent() {
         return new HashMap<>();
     }
@@ -21,6 +21,8 @@ import walkingkooka.collect.iterator.Iterators;
 
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 // ImmutableSet
 final class ImmutableMapNonSingletonArrayEntrySet<K, V> extends ImmutableMapEntrySet<Entry<K, V>> {
@@ -39,6 +41,17 @@ final class ImmutableMapNonSingletonArrayEntrySet<K, V> extends ImmutableMapEntr
         return Iterators.array(this.entries);
     }
 
+    /**
+     * Returns an array backed {@link Spliterator} that splits evenly and reports its exact size.
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(
+            this.entries,
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL
+        );
+    }
+
     @Override
     public int size() {
         return this.entries.length;
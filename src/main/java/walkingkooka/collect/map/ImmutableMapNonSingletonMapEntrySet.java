@@ -22,6 +22,7 @@ import walkingkooka.collect.iterator.Iterators;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Spliterator;
 
 // ImmutableSet
 final class ImmutableMapNonSingletonMapEntrySet<K, V> extends ImmutableMapEntrySet<Entry<K, V>> {
@@ -40,6 +41,15 @@ final class ImmutableMapNonSingletonMapEntrySet<K, V> extends ImmutableMapEntryS
         return Iterators.readOnly(this.map.entrySet().iterator());
     }
 
+    /**
+     * The defensive copy is never modified, so its sized and splittable {@link Spliterator} may be shared.
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return this.map.entrySet()
+            .spliterator();
+    }
+
     @Override
     public int size() {
         return this.map.size();
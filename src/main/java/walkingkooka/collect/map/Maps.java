@@ -20,6 +20,7 @@ package walkingkooka.collect.map;
 import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.Cast;
 import walkingkooka.reflect.PublicStaticHelper;
+import walkingkooka.text.CaseSensitivity;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -35,6 +36,7 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongBiFunction;
 
 final public class Maps extends GwtMaps implements PublicStaticHelper {
 
@@ -50,6 +52,44 @@ final public class Maps extends GwtMaps implements PublicStaticHelper {
         }
     }
 
+    /**
+     * {@see CacheMapStriped}
+     * This method is ignored, and will be replaced by the method it shadowes to return a single threaded {@link CacheMapLru}.
+     */
+    @GwtIncompatible
+    static public <K, V> CacheMap<K, V> cache(final int maximumSize) {
+        return cache(
+            maximumSize,
+            (k, v) -> 1,
+            0
+        );
+    }
+
+    /**
+     * {@see CacheMapStriped}
+     * The weigher returns the weight of each entry, and entries not accessed within expireAfterAccess milliseconds
+     * are removed, where zero means never.
+     * This method is ignored, and will be replaced by the method it shadowes to return a single threaded {@link CacheMapLru}.
+     */
+    @GwtIncompatible
+    static public <K, V> CacheMap<K, V> cache(final long maximumWeight,
+                                              final ToLongBiFunction<? super K, ? super V> weigher,
+                                              final long expireAfterAccess) {
+        return CacheMapStriped.with(
+            maximumWeight,
+            weigher,
+            expireAfterAccess,
+            System::currentTimeMillis
+        );
+    }
+
+    /**
+     * {@see CharSequenceMap}
+     */
+    static public <K extends CharSequence, V> Map<K, V> charSequence(final CaseSensitivity caseSensitivity) {
+        return CharSequenceMap.with(caseSensitivity);
+    }
+
     /**
      * {@see ConcurrentHashMap}
      * This method is ignored, and will be replaced by the method it shadowes to return a {@link HashMap}.
@@ -295,6 +335,14 @@ final public class Maps extends GwtMaps implements PublicStaticHelper {
         return new LinkedHashMap<>();
     }
 
+    /**
+     * Returns an empty {@link PersistentMap} backed by a hash array mapped trie, where {@link PersistentMap#set(Object, Object)}
+     * and {@link PersistentMap#delete(Object)} share most of their structure with the original.
+     */
+    static public <K, V> PersistentMap<K, V> persistent() {
+        return PersistentMapHamt.empty();
+    }
+
     /**
      * {@see Collections#unmodifiableMap(Map)
      */
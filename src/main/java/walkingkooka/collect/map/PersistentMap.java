@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import java.util.Map;
+
+/**
+ * An immutable {@link Map} with a few would be mutator methods that return a new instance sharing most of its
+ * structure with the original. Entries are returned in insertion order, and replacing the value of an existing key
+ * keeps its position. All {@link Map} mutator methods throw {@link UnsupportedOperationException}.
+ */
+public interface PersistentMap<K, V> extends Map<K, V> {
+
+    /**
+     * Returns a {@link PersistentMap} with the key mapped to the value, or this if it is already present with an equal value.
+     */
+    PersistentMap<K, V> set(final K key,
+                            final V value);
+
+    /**
+     * Returns a {@link PersistentMap} without the key, or this if the key is absent.
+     */
+    PersistentMap<K, V> delete(final K key);
+
+    /**
+     * Returns a mutable {@link Map} with the entries of this map in the same order. Modifying the given map does not
+     * update this map.
+     */
+    Map<K, V> toMap();
+}
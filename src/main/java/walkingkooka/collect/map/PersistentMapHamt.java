@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.HashArrayMappedTrie;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link PersistentMap} backed by a {@link HashArrayMappedTrie} of entries keyed by their map key, with a second persistent trie recording
+ * insertion order. {@link #set(Object, Object)} and {@link #delete(Object)} copy only the nodes along the path to the
+ * key and its position, sharing everything else with the original, making both O(log n). Removed positions are left
+ * as tombstones, and both tries are rebuilt once tombstones outnumber entries. Null keys are not supported.
+ */
+final class PersistentMapHamt<K, V> extends AbstractMap<K, V> implements PersistentMap<K, V> {
+
+    static {
+        Maps.registerImmutableType(PersistentMapHamt.class);
+    }
+
+    /**
+     * Returns an empty {@link PersistentMapHamt}.
+     */
+    static <K, V> PersistentMapHamt<K, V> empty() {
+        return Cast.to(EMPTY);
+    }
+
+    private final static PersistentMapHamt<?, ?> EMPTY = new PersistentMapHamt<>(
+        HashArrayMappedTrie.<PersistentMapHamtEntry<?, ?>>empty(PersistentMapHamtEntry::getKey),
+        PersistentMapHamtOrder.EMPTY
+    );
+
+    /**
+     * The minimum number of tombstones before the tries are rebuilt.
+     */
+    private final static int MIN_TOMBSTONES = 32;
+
+    private PersistentMapHamt(final HashArrayMappedTrie<?> entries,
+                              final PersistentMapHamtOrder<?, ?> order) {
+        super();
+        this.entries = Cast.to(entries);
+        this.order = Cast.to(order);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != this.entry(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        final PersistentMapHamtEntry<K, V> entry = this.entry(key);
+        return null != entry ?
+            entry.value :
+            null;
+    }
+
+    // PersistentMapHamtEntrySet
+    PersistentMapHamtEntry<K, V> entry(final Object key) {
+        return null != key ?
+            this.entries.get(key) :
+            null;
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return PersistentMapHamtEntrySet.with(this);
+    }
+
+    // PersistentMapHamtEntrySet
+    Iterator<PersistentMapHamtEntry<K, V>> entries() {
+        return this.order.iterator();
+    }
+
+    private final HashArrayMappedTrie<PersistentMapHamtEntry<K, V>> entries;
+
+    private final PersistentMapHamtOrder<K, V> order;
+
+    // PersistentMap....................................................................................................
+
+    @Override
+    public PersistentMapHamt<K, V> set(final K key,
+                                       final V value) {
+        Objects.requireNonNull(key, "key");
+
+        final HashArrayMappedTrie<PersistentMapHamtEntry<K, V>> entries = this.entries;
+        final PersistentMapHamtOrder<K, V> order = this.order;
+        final PersistentMapHamtEntry<K, V> existing = entries.get(key);
+
+        final PersistentMapHamt<K, V> set;
+
+        if (null != existing) {
+            if (Objects.equals(existing.value, value)) {
+                set = this;
+            } else {
+                // replacing a value keeps the original position
+                final int index = existing.index;
+                final PersistentMapHamtEntry<K, V> entry = PersistentMapHamtEntry.with(
+                    existing.key,
+                    value,
+                    index
+                );
+
+                set = new PersistentMapHamt<>(
+                    entries.set(entry),
+                    order.set(
+                        index,
+                        entry
+                    )
+                );
+            }
+        } else {
+            final PersistentMapHamtEntry<K, V> entry = PersistentMapHamtEntry.with(
+                key,
+                value,
+                order.count()
+            );
+
+            set = new PersistentMapHamt<>(
+                entries.set(entry),
+                order.append(entry)
+            );
+        }
+
+        return set;
+    }
+
+    @Override
+    public PersistentMapHamt<K, V> delete(final K key) {
+        final PersistentMapHamtEntry<K, V> existing = this.entry(key);
+
+        final PersistentMapHamt<K, V> delete;
+
+        if (null == existing) {
+            delete = this;
+        } else {
+            final HashArrayMappedTrie<PersistentMapHamtEntry<K, V>> entries = this.entries.delete(key);
+            final int size = entries.size();
+
+            if (0 == size) {
+                delete = empty();
+            } else {
+                final PersistentMapHamt<K, V> deleted = new PersistentMapHamt<>(
+                    entries,
+                    this.order.set(
+                        existing.index,
+                        null
+                    )
+                );
+
+                final int tombstones = deleted.order.count() - size;
+                delete = tombstones >= MIN_TOMBSTONES && tombstones > size ?
+                    deleted.compact() :
+                    deleted;
+            }
+        }
+
+        return delete;
+    }
+
+    /**
+     * Rebuilds both tries without any tombstones, renumbering positions while keeping the same order.
+     */
+    private PersistentMapHamt<K, V> compact() {
+        PersistentMapHamt<K, V> compact = empty();
+
+        final Iterator<PersistentMapHamtEntry<K, V>> entries = this.entries();
+        while (entries.hasNext()) {
+            final PersistentMapHamtEntry<K, V> entry = entries.next();
+            compact = compact.set(
+                entry.key,
+                entry.value
+            );
+        }
+
+        return compact;
+    }
+
+    @Override
+    public Map<K, V> toMap() {
+        final Map<K, V> map = Maps.ordered();
+        map.putAll(this);
+        return map;
+    }
+
+    // Map read only....................................................................................................
+
+    @Override
+    public V put(final K key,
+                 final V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V remove(final Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A read only {@link Map.Entry} held by a {@link PersistentMapHamt}, which also records its position within the
+ * insertion order.
+ */
+final class PersistentMapHamtEntry<K, V> implements Map.Entry<K, V> {
+
+    static <K, V> PersistentMapHamtEntry<K, V> with(final K key,
+                                                    final V value,
+                                                    final int index) {
+        return new PersistentMapHamtEntry<>(
+            key,
+            value,
+            index
+        );
+    }
+
+    private PersistentMapHamtEntry(final K key,
+                                   final V value,
+                                   final int index) {
+        this.key = key;
+        this.value = value;
+        this.index = index;
+    }
+
+    @Override
+    public K getKey() {
+        return this.key;
+    }
+
+    final K key;
+
+    @Override
+    public V getValue() {
+        return this.value;
+    }
+
+    final V value;
+
+    @Override
+    public V setValue(final V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The position of this entry within the {@link PersistentMapHamtOrder}.
+     */
+    final int index;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof Map.Entry && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final Map.Entry<?, ?> other) {
+        return Objects.equals(this.key, other.getKey()) &&
+            Objects.equals(this.value, other.getValue());
+    }
+
+    @Override
+    public String toString() {
+        return this.key + "=" + this.value;
+    }
+}
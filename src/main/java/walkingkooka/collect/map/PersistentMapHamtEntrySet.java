@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * The read only {@link java.util.Set} view of the entries of a {@link PersistentMapHamt} in insertion order.
+ */
+final class PersistentMapHamtEntrySet<K, V> extends AbstractSet<Entry<K, V>> {
+
+    static <K, V> PersistentMapHamtEntrySet<K, V> with(final PersistentMapHamt<K, V> map) {
+        return new PersistentMapHamtEntrySet<>(map);
+    }
+
+    private PersistentMapHamtEntrySet(final PersistentMapHamt<K, V> map) {
+        super();
+        this.map = map;
+    }
+
+    @Override
+    public boolean contains(final Object other) {
+        return other instanceof Entry && this.contains0(Cast.to(other));
+    }
+
+    private boolean contains0(final Entry<?, ?> other) {
+        final PersistentMapHamtEntry<K, V> entry = this.map.entry(other.getKey());
+        return null != entry && Objects.equals(entry.value, other.getValue());
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Cast.to(
+            this.map.entries()
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    private final PersistentMapHamt<K, V> map;
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * A persistent 32 way trie indexed by position, holding the entries of a {@link PersistentMapHamt} in insertion
+ * order. Entries are always appended and removed entries leave a null tombstone behind, both copying only the arrays
+ * along the path to that position. All leaves are at the same depth and only the last array at each level may be
+ * partially filled.
+ */
+final class PersistentMapHamtOrder<K, V> {
+
+    // PersistentMapHamtOrderIterator
+    final static int BITS = 5;
+
+    private final static int MASK = (1 << BITS) - 1;
+
+    /**
+     * An empty order with a single empty leaf.
+     */
+    final static PersistentMapHamtOrder<?, ?> EMPTY = new PersistentMapHamtOrder<>(
+        new Object[0],
+        0,
+        0
+    );
+
+    private PersistentMapHamtOrder(final Object[] root,
+                                   final int shift,
+                                   final int count) {
+        this.root = root;
+        this.shift = shift;
+        this.count = count;
+    }
+
+    /**
+     * Returns a new order with the entry added at {@link #count}.
+     */
+    PersistentMapHamtOrder<K, V> append(final PersistentMapHamtEntry<K, V> entry) {
+        final Object[] root = this.root;
+        final int shift = this.shift;
+        final int count = this.count;
+
+        return (long) count == 1L << (shift + BITS) ?
+            new PersistentMapHamtOrder<>(
+                new Object[]{
+                    root,
+                    path(shift, entry)
+                },
+                shift + BITS,
+                count + 1
+            ) :
+            new PersistentMapHamtOrder<>(
+                append(root, shift, count, entry),
+                shift,
+                count + 1
+            );
+    }
+
+    private static Object[] append(final Object[] array,
+                                   final int shift,
+                                   final int index,
+                                   final Object entry) {
+        final Object[] copy;
+
+        if (0 == shift) {
+            copy = Arrays.copyOf(array, array.length + 1);
+            copy[array.length] = entry;
+        } else {
+            final int child = (index >>> shift) & MASK;
+
+            if (child < array.length) {
+                copy = array.clone();
+                copy[child] = append(
+                    (Object[]) array[child],
+                    shift - BITS,
+                    index,
+                    entry
+                );
+            } else {
+                copy = Arrays.copyOf(array, array.length + 1);
+                copy[array.length] = path(shift - BITS, entry);
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates a new branch holding only the entry, down to a leaf.
+     */
+    private static Object[] path(final int shift,
+                                 final Object entry) {
+        return 0 == shift ?
+            new Object[]{entry} :
+            new Object[]{path(shift - BITS, entry)};
+    }
+
+    /**
+     * Returns a new order with the given position replaced, which may be null to mark a removed entry.
+     */
+    PersistentMapHamtOrder<K, V> set(final int index,
+                                     final PersistentMapHamtEntry<K, V> entry) {
+        return new PersistentMapHamtOrder<>(
+            set(this.root, this.shift, index, entry),
+            this.shift,
+            this.count
+        );
+    }
+
+    private static Object[] set(final Object[] array,
+                                final int shift,
+                                final int index,
+                                final Object entry) {
+        final Object[] copy = array.clone();
+        final int child = (index >>> shift) & MASK;
+
+        copy[child] = 0 == shift ?
+            entry :
+            set(
+                (Object[]) array[child],
+                shift - BITS,
+                index,
+                entry
+            );
+        return copy;
+    }
+
+    /**
+     * Returns the leaf array holding the given position.
+     */
+    Object[] leaf(final int index) {
+        Object[] array = this.root;
+
+        for (int shift = this.shift; shift > 0; shift -= BITS) {
+            array = (Object[]) array[(index >>> shift) & MASK];
+        }
+        return array;
+    }
+
+    /**
+     * The number of positions used including tombstones, which is also the position of the next appended entry.
+     */
+    int count() {
+        return this.count;
+    }
+
+    /**
+     * Returns an {@link Iterator} over the entries in insertion order, skipping tombstones.
+     */
+    Iterator<PersistentMapHamtEntry<K, V>> iterator() {
+        return Cast.to(
+            PersistentMapHamtOrderIterator.with(this)
+        );
+    }
+
+    private final Object[] root;
+
+    /**
+     * The number of bits to shift a position to find the child within the root, zero when the root is a leaf.
+     */
+    private final int shift;
+
+    private final int count;
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(this.root);
+    }
+}
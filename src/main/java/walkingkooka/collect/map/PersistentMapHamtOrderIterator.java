@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the entries of a {@link PersistentMapHamtOrder}, fetching each leaf once and skipping
+ * tombstones. {@link #remove()} is not supported.
+ */
+final class PersistentMapHamtOrderIterator<K, V> implements Iterator<PersistentMapHamtEntry<K, V>> {
+
+    static <K, V> PersistentMapHamtOrderIterator<K, V> with(final PersistentMapHamtOrder<K, V> order) {
+        return new PersistentMapHamtOrderIterator<>(order);
+    }
+
+    private PersistentMapHamtOrderIterator(final PersistentMapHamtOrder<K, V> order) {
+        super();
+        this.order = order;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null == this.next) {
+            final PersistentMapHamtOrder<K, V> order = this.order;
+            final int count = order.count();
+
+            while (this.index < count) {
+                final int index = this.index;
+                final int leafIndex = index & LEAF_MASK;
+                if (0 == leafIndex) {
+                    this.leaf = order.leaf(index);
+                }
+                this.index++;
+
+                final Object entry = this.leaf[leafIndex];
+                if (null != entry) {
+                    this.next = Cast.to(entry);
+                    break;
+                }
+            }
+        }
+
+        return null != this.next;
+    }
+
+    @Override
+    public PersistentMapHamtEntry<K, V> next() {
+        if (false == this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final PersistentMapHamtEntry<K, V> next = this.next;
+        this.next = null;
+        return next;
+    }
+
+    private final static int LEAF_MASK = (1 << PersistentMapHamtOrder.BITS) - 1;
+
+    private final PersistentMapHamtOrder<K, V> order;
+
+    /**
+     * The next position to examine.
+     */
+    private int index;
+
+    private Object[] leaf;
+
+    private PersistentMapHamtEntry<K, V> next;
+}
@@ -18,7 +18,6 @@
 package walkingkooka.collect.set;
 
 import walkingkooka.Cast;
-import walkingkooka.collect.iterator.Iterators;
 import walkingkooka.collect.list.CsvStringList;
 import walkingkooka.collect.list.HasCsvStringList;
 import walkingkooka.collect.list.HasTsvStringList;
@@ -32,6 +31,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.SortedSet;
+import java.util.Spliterator;
 import java.util.TreeSet;
 
 /**
@@ -67,14 +67,28 @@ public final class CsvStringSet extends AbstractSet<String>
             new CsvStringSet(strings);
     }
 
-    private CsvStringSet(final SortedSet<String> string) {
+    private CsvStringSet(final SortedSet<String> strings) {
         super();
-        this.strings = string;
+        this.strings = SortedSets.immutable(strings);
+    }
+
+    @Override
+    public boolean contains(final Object other) {
+        return other instanceof String && this.strings.contains(other);
     }
 
     @Override
     public Iterator<String> iterator() {
-        return Iterators.readOnly(this.strings.iterator());
+        return this.strings.iterator();
+    }
+
+    /**
+     * Returns the {@link Spliterator} of the sorted array holding the strings, which splits evenly and reports its
+     * exact size without copying.
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return this.strings.spliterator();
     }
 
     @Override
@@ -97,7 +111,7 @@ public final class CsvStringSet extends AbstractSet<String>
     @Override
     public CsvStringSet subSet(final String from,
                                     final String to) {
-        return this.setElements(
+        return this.setStrings(
             this.strings.subSet(
                 from,
                 to
@@ -107,18 +121,29 @@ public final class CsvStringSet extends AbstractSet<String>
 
     @Override
     public CsvStringSet headSet(final String to) {
-        return this.setElements(
+        return this.setStrings(
             this.strings.headSet(to)
         );
     }
 
     @Override
     public CsvStringSet tailSet(final String from) {
-        return this.setElements(
+        return this.setStrings(
             this.strings.tailSet(from)
         );
     }
 
+    /**
+     * Wraps a range view of {@link #strings}, which shares the same sorted array and requires no copying or checking.
+     */
+    private CsvStringSet setStrings(final SortedSet<String> strings) {
+        return strings.size() == this.size() ?
+            this :
+            strings.isEmpty() ?
+                EMPTY :
+                new CsvStringSet(strings);
+    }
+
     @Override
     public String first() {
         return this.strings.first();
@@ -157,7 +182,10 @@ public final class CsvStringSet extends AbstractSet<String>
         return csvStringSet;
     }
 
-    private final SortedSet<String> strings;
+    /**
+     * The strings held in a compact sorted array.
+     */
+    private final ImmutableSortedSet<String> strings;
 
     // HasCsvStringList.................................................................................................
 
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.set;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.HashArrayMappedTrie;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * A persistent {@link ImmutableSet} backed by a {@link HashArrayMappedTrie} using each element as its own key. Adding or
+ * removing a single element copies only the nodes along the path to that element, sharing all other nodes with the
+ * original, making {@link #concat(Object)} and {@link #delete(Object)} O(log n). Bulk operations modify the nodes they
+ * create in place, with each node only ever copied once per operation. Null elements are allowed, and elements are not
+ * returned in insertion order.
+ */
+final class ImmutableSetHamt<E> extends AbstractSet<E> implements ImmutableSetDefaults<ImmutableSet<E>, E> {
+
+    /**
+     * Returns an empty {@link ImmutableSetHamt}.
+     */
+    static <E> ImmutableSetHamt<E> empty() {
+        return Cast.to(EMPTY);
+    }
+
+    private final static ImmutableSetHamt<?> EMPTY = new ImmutableSetHamt<>(
+        HashArrayMappedTrie.empty(e -> e)
+    );
+
+    /**
+     * Returns a {@link ImmutableSetHamt} with the given elements.
+     */
+    static <E> ImmutableSetHamt<E> with(final Collection<E> elements) {
+        Objects.requireNonNull(elements, "elements");
+
+        return elements instanceof ImmutableSetHamt ?
+            Cast.to(elements) :
+            ImmutableSetHamt.<E>empty()
+                .concatAll(elements);
+    }
+
+    private ImmutableSetHamt(final HashArrayMappedTrie<?> trie) {
+        super();
+        this.trie = Cast.to(trie);
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+        return this.trie.containsKey(element);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return this.trie.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+            this,
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.trie.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.trie.isEmpty();
+    }
+
+    private final HashArrayMappedTrie<E> trie;
+
+    // ImmutableSet.....................................................................................................
+
+    @Override
+    public void elementCheck(final E element) {
+        // nulls are allowed
+    }
+
+    @Override
+    public ImmutableSetHamt<E> concat(final E element) {
+        return this.replace(
+            this.trie.concat(element)
+        );
+    }
+
+    @Override
+    public ImmutableSetHamt<E> concatAll(final Collection<E> elements) {
+        return this.replace(
+            this.trie.concatAll(elements)
+        );
+    }
+
+    @Override
+    public ImmutableSetHamt<E> delete(final E element) {
+        return this.replace(
+            this.trie.delete(element)
+        );
+    }
+
+    @Override
+    public ImmutableSetHamt<E> deleteAll(final Collection<E> elements) {
+        return this.replace(
+            this.trie.deleteAll(elements)
+        );
+    }
+
+    @Override
+    public ImmutableSetHamt<E> deleteIf(final Predicate<? super E> predicate) {
+        return this.replace(
+            this.trie.deleteIf(predicate)
+        );
+    }
+
+    @Override
+    public ImmutableSetHamt<E> replace(final E oldElement,
+                                      final E newElement) {
+        return Objects.equals(oldElement, newElement) || false == this.contains(oldElement) ?
+            this :
+            this.delete(oldElement)
+                .concat(newElement);
+    }
+
+    @Override
+    public ImmutableSetHamt<E> setElements(final Collection<E> elements) {
+        final ImmutableSetHamt<E> set = with(elements);
+
+        return this.equals(set) ?
+            this :
+            set;
+    }
+
+    private ImmutableSetHamt<E> replace(final HashArrayMappedTrie<E> trie) {
+        return trie == this.trie ?
+            this :
+            trie.isEmpty() ?
+                empty() :
+                new ImmutableSetHamt<>(trie);
+    }
+
+    @Override
+    public Set<E> toSet() {
+        return new HashSet<>(this);
+    }
+}
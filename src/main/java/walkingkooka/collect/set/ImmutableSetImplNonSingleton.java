@@ -25,6 +25,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * A {@link Set} presents a read only view of a defensively copied {@link Set} given to it.
@@ -64,6 +66,17 @@ final class ImmutableSetImplNonSingleton<E> extends ImmutableSetImpl<E> {
         );
     }
 
+    /**
+     * Returns an array backed {@link Spliterator} that splits evenly and reports its exact size.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+            this.elements,
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE
+        );
+    }
+
     @Override
     public int size() {
         return this.elements.length;
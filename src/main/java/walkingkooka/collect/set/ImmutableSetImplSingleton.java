@@ -23,6 +23,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * A {@link Set} known to be immutable and holds a copy of any {@link Set} given to it.
@@ -54,6 +56,14 @@ final class ImmutableSetImplSingleton<E> extends ImmutableSetImpl<E> {
         return Iterators.one(this.element);
     }
 
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+            new Object[]{this.element},
+            Spliterator.DISTINCT | Spliterator.IMMUTABLE
+        );
+    }
+
     @Override
     public int size() {
         return 1;
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.set;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * A persistent {@link ImmutableSortedSet} backed by a B-tree, intended for sets that are frequently edited.
+ * {@link #concat(Object)} and {@link #delete(Object)} copy only the nodes along the path to the element, sharing all
+ * other nodes with the original, which makes them O(log n) rather than the O(n) copy of a sorted array.
+ * {@link #subSet(Object, Object)}, {@link #headSet(Object)} and {@link #tailSet(Object)} split the tree along the
+ * search path of each bound, also sharing all nodes away from that path.
+ */
+final class ImmutableSortedSetBTree<E> extends AbstractSet<E> implements ImmutableSortedSetDefaults<ImmutableSortedSet<E>, E>,
+    ImmutableSortedSet<E> {
+
+    /**
+     * Returns an empty {@link ImmutableSortedSetBTree} using the given {@link Comparator}, which may be null for
+     * natural ordering.
+     */
+    static <E> ImmutableSortedSetBTree<E> empty(final Comparator<? super E> comparator) {
+        return new ImmutableSortedSetBTree<>(
+            comparator,
+            ImmutableSortedSetBTreeNode.EMPTY
+        );
+    }
+
+    /**
+     * Returns a {@link ImmutableSortedSetBTree} with the given elements, using the {@link Comparator} of a
+     * {@link SortedSet} or the given default for any other {@link Collection}.
+     */
+    static <E> ImmutableSortedSetBTree<E> with(final Collection<E> elements,
+                                               final Comparator<? super E> comparator) {
+        Objects.requireNonNull(elements, "elements");
+
+        final ImmutableSortedSetBTree<E> set;
+
+        if (elements instanceof ImmutableSortedSetBTree) {
+            set = Cast.to(elements);
+        } else {
+            final SortedSet<E> sortedSet;
+            if (elements instanceof SortedSet) {
+                sortedSet = (SortedSet<E>) elements;
+            } else {
+                sortedSet = new TreeSet<>(comparator);
+                sortedSet.addAll(elements);
+            }
+
+            final Object[] sorted = sortedSet.toArray();
+            set = new ImmutableSortedSetBTree<>(
+                sortedSet.comparator(),
+                ImmutableSortedSetBTreeNode.build(
+                    sorted,
+                    0,
+                    sorted.length
+                )
+            );
+        }
+
+        return set;
+    }
+
+    private ImmutableSortedSetBTree(final Comparator<? super E> comparator,
+                                    final ImmutableSortedSetBTreeNode<?> root) {
+        super();
+        this.comparator = comparator;
+        this.root = Cast.to(root);
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+        return this.root.contains(
+            Cast.to(element),
+            this.comparator
+        );
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return ImmutableSortedSetBTreeIterator.with(this.root);
+    }
+
+    @Override
+    public int size() {
+        return this.root.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    // @VisibleForTesting
+    final ImmutableSortedSetBTreeNode<E> root;
+
+    // SortedSet........................................................................................................
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    private final Comparator<? super E> comparator;
+
+    @Override
+    public ImmutableSortedSet<E> subSet(final E fromElement,
+                                        final E toElement) {
+        if (this.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("From " + fromElement + " > to " + toElement);
+        }
+
+        final Comparator<? super E> comparator = this.comparator;
+        return this.range(
+            this.root.greaterThanEquals(
+                fromElement,
+                comparator
+            ).lessThan(
+                toElement,
+                comparator
+            )
+        );
+    }
+
+    @Override
+    public ImmutableSortedSet<E> headSet(final E toElement) {
+        return this.range(
+            this.root.lessThan(
+                toElement,
+                this.comparator
+            )
+        );
+    }
+
+    @Override
+    public ImmutableSortedSet<E> tailSet(final E fromElement) {
+        return this.range(
+            this.root.greaterThanEquals(
+                fromElement,
+                this.comparator
+            )
+        );
+    }
+
+    private int compare(final E left,
+                        final E right) {
+        final Comparator<? super E> comparator = this.comparator;
+        return null != comparator ?
+            comparator.compare(left, right) :
+            Cast.<Comparable<E>>to(left).compareTo(right);
+    }
+
+    private ImmutableSortedSetBTree<E> range(final ImmutableSortedSetBTreeNode<E> root) {
+        return this.size() == root.size ?
+            this :
+            new ImmutableSortedSetBTree<>(
+                this.comparator,
+                root
+            );
+    }
+
+    @Override
+    public E first() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return this.root.first();
+    }
+
+    @Override
+    public E last() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return this.root.last();
+    }
+
+    // ImmutableSortedSet...............................................................................................
+
+    @Override
+    public void elementCheck(final E element) {
+        // NOP
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<E> concat(final E element) {
+        final ImmutableSortedSetBTreeNode<E> root = this.root;
+        final Comparator<? super E> comparator = this.comparator;
+
+        return root.contains(element, comparator) ?
+            this :
+            new ImmutableSortedSetBTree<>(
+                comparator,
+                root.insertRoot(
+                    element,
+                    comparator
+                )
+            );
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<E> concatAll(final Collection<E> elements) {
+        Objects.requireNonNull(elements, "elements");
+
+        ImmutableSortedSetBTree<E> set = this;
+        for (final E element : elements) {
+            set = set.concat(element);
+        }
+        return set;
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<E> delete(final E element) {
+        final ImmutableSortedSetBTreeNode<E> root = this.root;
+        final Comparator<? super E> comparator = this.comparator;
+
+        return root.contains(element, comparator) ?
+            new ImmutableSortedSetBTree<>(
+                comparator,
+                root.deleteRoot(
+                    element,
+                    comparator
+                )
+            ) :
+            this;
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<E> deleteAll(final Collection<E> elements) {
+        Objects.requireNonNull(elements, "elements");
+
+        ImmutableSortedSetBTree<E> set = this;
+        for (final E element : elements) {
+            set = set.delete(element);
+        }
+        return set;
+    }
+
+    /**
+     * Rather than removing matches one at a time, the surviving elements are gathered in order and a new balanced
+     * tree built.
+     */
+    @Override
+    public ImmutableSortedSetBTree<E> deleteIf(final Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        final int size = this.size();
+        final Object[] kept = new Object[size];
+        int count = 0;
+
+        for (final E element : this) {
+            if (false == predicate.test(element)) {
+                kept[count] = element;
+                count++;
+            }
+        }
+
+        return count == size ?
+            this :
+            new ImmutableSortedSetBTree<>(
+                this.comparator,
+                ImmutableSortedSetBTreeNode.build(
+                    kept,
+                    0,
+                    count
+                )
+            );
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<E> replace(final E oldElement,
+                                              final E newElement) {
+        return Objects.equals(oldElement, newElement) || false == this.contains(oldElement) ?
+            this :
+            this.delete(oldElement)
+                .concat(newElement);
+    }
+
+    @Override
+    public ImmutableSortedSet<E> setElements(final Collection<E> elements) {
+        final ImmutableSortedSetBTree<E> set = with(
+            elements,
+            this.comparator
+        );
+
+        return this.equals(set) ?
+            this :
+            set;
+    }
+
+    @Override
+    public SortedSet<E> toSet() {
+        final TreeSet<E> treeSet = new TreeSet<>(this.comparator);
+        treeSet.addAll(this);
+        return treeSet;
+    }
+}
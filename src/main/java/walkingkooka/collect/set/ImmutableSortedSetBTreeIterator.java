@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.set;
+
+import walkingkooka.Cast;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An in order {@link Iterator} over the keys of a {@link ImmutableSortedSetBTreeNode}, using an explicit stack
+ * of nodes and key indices rather than recursion. {@link #remove()} is not supported.
+ */
+final class ImmutableSortedSetBTreeIterator<E> implements Iterator<E> {
+
+    static <E> ImmutableSortedSetBTreeIterator<E> with(final ImmutableSortedSetBTreeNode<E> root) {
+        return new ImmutableSortedSetBTreeIterator<>(root);
+    }
+
+    private ImmutableSortedSetBTreeIterator(final ImmutableSortedSetBTreeNode<E> root) {
+        super();
+
+        final int height = root.height() + 1;
+        this.nodes = Cast.to(new ImmutableSortedSetBTreeNode[height]);
+        this.indices = new int[height];
+
+        this.pushLeftmost(root);
+    }
+
+    @Override
+    public boolean hasNext() {
+        final ImmutableSortedSetBTreeNode<E>[] nodes = this.nodes;
+        final int[] indices = this.indices;
+
+        while (this.depth > 0 && indices[this.depth - 1] >= nodes[this.depth - 1].keys.length) {
+            this.depth--;
+        }
+        return this.depth > 0;
+    }
+
+    @Override
+    public E next() {
+        if (false == this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final int top = this.depth - 1;
+        final ImmutableSortedSetBTreeNode<E> node = this.nodes[top];
+        final int index = this.indices[top];
+        this.indices[top] = index + 1;
+
+        if (false == node.isLeaf()) {
+            this.pushLeftmost(node.children[index + 1]);
+        }
+
+        return Cast.to(node.keys[index]);
+    }
+
+    /**
+     * Pushes the given node and all its first children down to a leaf.
+     */
+    private void pushLeftmost(final ImmutableSortedSetBTreeNode<E> node) {
+        ImmutableSortedSetBTreeNode<E> push = node;
+
+        for (; ; ) {
+            this.nodes[this.depth] = push;
+            this.indices[this.depth] = 0;
+            this.depth++;
+
+            if (push.isLeaf()) {
+                break;
+            }
+            push = push.children[0];
+        }
+    }
+
+    private final ImmutableSortedSetBTreeNode<E>[] nodes;
+
+    private final int[] indices;
+
+    private int depth;
+
+}
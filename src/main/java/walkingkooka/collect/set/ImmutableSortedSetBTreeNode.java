@@ -0,0 +1,733 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.set;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * An immutable node within a {@link ImmutableSortedSetBTree}. Keys are held in a sorted array, leaves have no
+ * children and internal nodes always have one more child than keys. Updates copy only the nodes along the path
+ * from the root to the modified leaf, sharing all other nodes.
+ */
+final class ImmutableSortedSetBTreeNode<E> {
+
+    /**
+     * The maximum number of keys in a node, nodes with more keys are split by their parent.
+     */
+    final static int MAX_KEYS = 32;
+
+    /**
+     * The minimum number of keys in any node except the root.
+     */
+    final static int MIN_KEYS = MAX_KEYS / 2;
+
+    /**
+     * The empty leaf used as the root of an empty tree.
+     */
+    final static ImmutableSortedSetBTreeNode<?> EMPTY = new ImmutableSortedSetBTreeNode<>(
+        new Object[0],
+        null
+    );
+
+    /**
+     * Builds a balanced tree from the given sorted and unique elements, where all leaves are at the same depth.
+     */
+    static <E> ImmutableSortedSetBTreeNode<E> build(final Object[] sorted,
+                                                    final int from,
+                                                    final int to) {
+        final int count = to - from;
+
+        int height = 0;
+        while (capacity(height) < count) {
+            height++;
+        }
+
+        return build(
+            sorted,
+            from,
+            to,
+            height
+        );
+    }
+
+    private static <E> ImmutableSortedSetBTreeNode<E> build(final Object[] sorted,
+                                                            final int from,
+                                                            final int to,
+                                                            final int height) {
+        final ImmutableSortedSetBTreeNode<E> node;
+
+        final int count = to - from;
+        if (0 == height) {
+            node = new ImmutableSortedSetBTreeNode<>(
+                Arrays.copyOfRange(sorted, from, to),
+                null
+            );
+        } else {
+            final long childCapacity = capacity(height - 1);
+            final int childCount = (int) Math.max(
+                2,
+                (count + 1 + childCapacity) / (childCapacity + 1)
+            );
+
+            // the keys not used as separators are shared evenly between the children
+            final int childKeys = count - (childCount - 1);
+            final Object[] keys = new Object[childCount - 1];
+            final ImmutableSortedSetBTreeNode<E>[] children = Cast.to(new ImmutableSortedSetBTreeNode[childCount]);
+
+            int start = from;
+            for (int i = 0; i < childCount; i++) {
+                final int end = start + childKeys / childCount + (i < childKeys % childCount ? 1 : 0);
+                children[i] = build(
+                    sorted,
+                    start,
+                    end,
+                    height - 1
+                );
+                if (i < keys.length) {
+                    keys[i] = sorted[end];
+                }
+                start = end + 1;
+            }
+
+            node = new ImmutableSortedSetBTreeNode<>(
+                keys,
+                children
+            );
+        }
+
+        return node;
+    }
+
+    /**
+     * The maximum number of keys a tree of the given height may hold, clamped to avoid overflow.
+     */
+    private static long capacity(final int height) {
+        long capacity = MAX_KEYS;
+        for (int i = 0; i < height && capacity < Integer.MAX_VALUE; i++) {
+            capacity = (MAX_KEYS + 1) * (capacity + 1) - 1;
+        }
+        return capacity;
+    }
+
+    private ImmutableSortedSetBTreeNode(final Object[] keys,
+                                        final ImmutableSortedSetBTreeNode<E>[] children) {
+        this.keys = keys;
+        this.children = children;
+
+        int size = keys.length;
+        if (null != children) {
+            for (final ImmutableSortedSetBTreeNode<E> child : children) {
+                size = size + child.size;
+            }
+        }
+        this.size = size;
+    }
+
+    boolean isLeaf() {
+        return null == this.children;
+    }
+
+    /**
+     * Searches the keys of this node only, returning the index or a negative insertion point.
+     */
+    int indexOf(final E key,
+                final Comparator<? super E> comparator) {
+        return Arrays.binarySearch(
+            Cast.<E[]>to(this.keys),
+            key,
+            comparator
+        );
+    }
+
+    boolean contains(final E key,
+                     final Comparator<? super E> comparator) {
+        ImmutableSortedSetBTreeNode<E> node = this;
+
+        for (; ; ) {
+            final int index = node.indexOf(key, comparator);
+            if (index >= 0) {
+                return true;
+            }
+            if (node.isLeaf()) {
+                return false;
+            }
+            node = node.children[-index - 1];
+        }
+    }
+
+    E first() {
+        ImmutableSortedSetBTreeNode<E> node = this;
+        while (false == node.isLeaf()) {
+            node = node.children[0];
+        }
+        return Cast.to(node.keys[0]);
+    }
+
+    E last() {
+        ImmutableSortedSetBTreeNode<E> node = this;
+        while (false == node.isLeaf()) {
+            node = node.children[node.children.length - 1];
+        }
+        return Cast.to(node.keys[node.keys.length - 1]);
+    }
+
+    /**
+     * The number of levels below this node, where a leaf has a height of zero.
+     */
+    int height() {
+        int height = 0;
+        ImmutableSortedSetBTreeNode<E> node = this;
+        while (false == node.isLeaf()) {
+            node = node.children[0];
+            height++;
+        }
+        return height;
+    }
+
+    // insert...........................................................................................................
+
+    /**
+     * Returns a new root with the key inserted, splitting the root if it overflows. The key must not be present.
+     */
+    ImmutableSortedSetBTreeNode<E> insertRoot(final E key,
+                                              final Comparator<? super E> comparator) {
+        return this.insert(key, comparator)
+            .splitRoot();
+    }
+
+    /**
+     * If this root holds more than {@link #MAX_KEYS} keys, returns a new root with its middle key and two children,
+     * otherwise returns this.
+     */
+    private ImmutableSortedSetBTreeNode<E> splitRoot() {
+        final int middle = this.keys.length / 2;
+
+        return this.keys.length > MAX_KEYS ?
+            new ImmutableSortedSetBTreeNode<>(
+                new Object[]{
+                    this.keys[middle]
+                },
+                Cast.to(
+                    new ImmutableSortedSetBTreeNode[]{
+                        this.left(middle),
+                        this.right(middle)
+                    }
+                )
+            ) :
+            this;
+    }
+
+    /**
+     * Returns a copy of this node with the key inserted, which may hold one more than {@link #MAX_KEYS} keys and
+     * must then be split by the caller.
+     */
+    private ImmutableSortedSetBTreeNode<E> insert(final E key,
+                                                  final Comparator<? super E> comparator) {
+        final int index = -this.indexOf(key, comparator) - 1;
+        final Object[] keys = this.keys;
+        final ImmutableSortedSetBTreeNode<E>[] children = this.children;
+
+        final ImmutableSortedSetBTreeNode<E> node;
+        if (this.isLeaf()) {
+            node = new ImmutableSortedSetBTreeNode<>(
+                insert(keys, index, key),
+                null
+            );
+        } else {
+            final ImmutableSortedSetBTreeNode<E> child = children[index].insert(key, comparator);
+
+            if (child.keys.length > MAX_KEYS) {
+                final int middle = child.keys.length / 2;
+
+                final ImmutableSortedSetBTreeNode<E>[] newChildren = insert(
+                    children,
+                    index + 1,
+                    child.right(middle)
+                );
+                newChildren[index] = child.left(middle);
+
+                node = new ImmutableSortedSetBTreeNode<>(
+                    insert(keys, index, child.keys[middle]),
+                    newChildren
+                );
+            } else {
+                final ImmutableSortedSetBTreeNode<E>[] newChildren = children.clone();
+                newChildren[index] = child;
+
+                node = new ImmutableSortedSetBTreeNode<>(
+                    keys,
+                    newChildren
+                );
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns a node with the keys and children before the given key index.
+     */
+    private ImmutableSortedSetBTreeNode<E> left(final int index) {
+        return new ImmutableSortedSetBTreeNode<>(
+            Arrays.copyOfRange(this.keys, 0, index),
+            this.isLeaf() ?
+                null :
+                Arrays.copyOfRange(this.children, 0, index + 1)
+        );
+    }
+
+    /**
+     * Returns a node with the keys and children after the given key index.
+     */
+    private ImmutableSortedSetBTreeNode<E> right(final int index) {
+        return new ImmutableSortedSetBTreeNode<>(
+            Arrays.copyOfRange(this.keys, index + 1, this.keys.length),
+            this.isLeaf() ?
+                null :
+                Arrays.copyOfRange(this.children, index + 1, this.children.length)
+        );
+    }
+
+    // delete...........................................................................................................
+
+    /**
+     * Returns a new root with the key removed, collapsing an empty internal root. The key must be present.
+     */
+    ImmutableSortedSetBTreeNode<E> deleteRoot(final E key,
+                                              final Comparator<? super E> comparator) {
+        final ImmutableSortedSetBTreeNode<E> root = this.delete(key, comparator);
+
+        return 0 == root.keys.length && false == root.isLeaf() ?
+            root.children[0] :
+            root;
+    }
+
+    /**
+     * Returns a copy of this node with the key removed, which may hold one less than {@link #MIN_KEYS} keys and
+     * must then be fixed by the caller.
+     */
+    private ImmutableSortedSetBTreeNode<E> delete(final E key,
+                                                  final Comparator<? super E> comparator) {
+        final int index = this.indexOf(key, comparator);
+
+        final ImmutableSortedSetBTreeNode<E> node;
+        if (this.isLeaf()) {
+            node = new ImmutableSortedSetBTreeNode<>(
+                remove(this.keys, index),
+                null
+            );
+        } else {
+            final Object[] keys;
+            final int childIndex;
+            final ImmutableSortedSetBTreeNode<E> child;
+
+            if (index >= 0) {
+                // replace the internal key with its predecessor, which is always found in a leaf
+                final E predecessor = this.children[index].last();
+
+                keys = this.keys.clone();
+                keys[index] = predecessor;
+                childIndex = index;
+                child = this.children[index].delete(predecessor, comparator);
+            } else {
+                keys = this.keys;
+                childIndex = -index - 1;
+                child = this.children[childIndex].delete(key, comparator);
+            }
+
+            final ImmutableSortedSetBTreeNode<E>[] children = this.children.clone();
+            children[childIndex] = child;
+
+            node = child.keys.length < MIN_KEYS ?
+                rebalance(keys, children, childIndex) :
+                new ImmutableSortedSetBTreeNode<>(
+                    keys,
+                    children
+                );
+        }
+
+        return node;
+    }
+
+    /**
+     * Fixes the under-full child at the given index by merging with a sibling when the combined keys fit in a
+     * single node, otherwise the keys of both siblings and their separator are shared evenly.
+     */
+    private static <E> ImmutableSortedSetBTreeNode<E> rebalance(final Object[] keys,
+                                                                final ImmutableSortedSetBTreeNode<E>[] children,
+                                                                final int index) {
+        final int leftIndex = index > 0 ?
+            index - 1 :
+            index;
+        final ImmutableSortedSetBTreeNode<E> left = children[leftIndex];
+        final ImmutableSortedSetBTreeNode<E> right = children[leftIndex + 1];
+
+        final ImmutableSortedSetBTreeNode<E> both = new ImmutableSortedSetBTreeNode<>(
+            concat(left.keys, keys[leftIndex], right.keys),
+            left.isLeaf() ?
+                null :
+                concat(left.children, right.children)
+        );
+
+        final ImmutableSortedSetBTreeNode<E> node;
+        if (both.keys.length <= MAX_KEYS) {
+            final ImmutableSortedSetBTreeNode<E>[] newChildren = remove(children, leftIndex + 1);
+            newChildren[leftIndex] = both;
+
+            node = new ImmutableSortedSetBTreeNode<>(
+                remove(keys, leftIndex),
+                newChildren
+            );
+        } else {
+            final int middle = both.keys.length / 2;
+
+            final Object[] newKeys = keys.clone();
+            newKeys[leftIndex] = both.keys[middle];
+
+            final ImmutableSortedSetBTreeNode<E>[] newChildren = children.clone();
+            newChildren[leftIndex] = both.left(middle);
+            newChildren[leftIndex + 1] = both.right(middle);
+
+            node = new ImmutableSortedSetBTreeNode<>(
+                newKeys,
+                newChildren
+            );
+        }
+
+        return node;
+    }
+
+    // split............................................................................................................
+
+    /**
+     * Returns a tree holding all keys less than the given key, copying only the nodes along its search path and
+     * joining the remaining left parts of each node.
+     */
+    ImmutableSortedSetBTreeNode<E> lessThan(final E key,
+                                            final Comparator<? super E> comparator) {
+        final Object[] keys = this.keys;
+        final int index = this.indexOf(key, comparator);
+
+        final ImmutableSortedSetBTreeNode<E> node;
+        if (this.isLeaf()) {
+            final int to = index >= 0 ?
+                index :
+                -index - 1;
+            node = keys.length == to ?
+                this :
+                leaf(Arrays.copyOfRange(keys, 0, to));
+        } else {
+            if (index >= 0) {
+                node = this.prefix(index);
+            } else {
+                final int childIndex = -index - 1;
+                final ImmutableSortedSetBTreeNode<E> child = this.children[childIndex]
+                    .lessThan(key, comparator);
+
+                node = 0 == childIndex ?
+                    child :
+                    join(
+                        this.prefix(childIndex - 1),
+                        Cast.to(keys[childIndex - 1]),
+                        child,
+                        comparator
+                    );
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns a tree holding all keys greater than or equal to the given key, copying only the nodes along its
+     * search path and joining the remaining right parts of each node.
+     */
+    ImmutableSortedSetBTreeNode<E> greaterThanEquals(final E key,
+                                                     final Comparator<? super E> comparator) {
+        final Object[] keys = this.keys;
+        final int index = this.indexOf(key, comparator);
+
+        final ImmutableSortedSetBTreeNode<E> node;
+        if (this.isLeaf()) {
+            final int from = index >= 0 ?
+                index :
+                -index - 1;
+            node = 0 == from ?
+                this :
+                leaf(Arrays.copyOfRange(keys, from, keys.length));
+        } else {
+            if (index >= 0) {
+                node = this.suffix(index + 1)
+                    .insertRoot(
+                        Cast.to(keys[index]),
+                        comparator
+                    );
+            } else {
+                final int childIndex = -index - 1;
+                final ImmutableSortedSetBTreeNode<E> child = this.children[childIndex]
+                    .greaterThanEquals(key, comparator);
+
+                node = keys.length == childIndex ?
+                    child :
+                    join(
+                        child,
+                        Cast.to(keys[childIndex]),
+                        this.suffix(childIndex + 1),
+                        comparator
+                    );
+            }
+        }
+
+        return node;
+    }
+
+    private static <E> ImmutableSortedSetBTreeNode<E> leaf(final Object[] keys) {
+        return 0 == keys.length ?
+            Cast.to(EMPTY) :
+            new ImmutableSortedSetBTreeNode<>(
+                keys,
+                null
+            );
+    }
+
+    /**
+     * Returns a tree with the keys before the given key index and their children.
+     */
+    private ImmutableSortedSetBTreeNode<E> prefix(final int index) {
+        return 0 == index ?
+            this.children[0] :
+            this.left(index);
+    }
+
+    /**
+     * Returns a tree with the keys from the given key index and the children after them.
+     */
+    private ImmutableSortedSetBTreeNode<E> suffix(final int index) {
+        final int count = this.keys.length;
+        return count == index ?
+            this.children[count] :
+            new ImmutableSortedSetBTreeNode<>(
+                Arrays.copyOfRange(this.keys, index, count),
+                Arrays.copyOfRange(this.children, index, count + 1)
+            );
+    }
+
+    /**
+     * Joins two trees and the key between them, where every key of the left tree is less than the key and every key
+     * of the right tree is greater. The shorter tree is merged into the node at the same height along the nearest
+     * edge of the taller tree, so only that edge is copied.
+     */
+    private static <E> ImmutableSortedSetBTreeNode<E> join(final ImmutableSortedSetBTreeNode<E> left,
+                                                           final E key,
+                                                           final ImmutableSortedSetBTreeNode<E> right,
+                                                           final Comparator<? super E> comparator) {
+        final ImmutableSortedSetBTreeNode<E> joined;
+
+        if (0 == left.size) {
+            joined = right.insertRoot(key, comparator);
+        } else {
+            if (0 == right.size) {
+                joined = left.insertRoot(key, comparator);
+            } else {
+                final int leftHeight = left.height();
+                final int rightHeight = right.height();
+
+                joined = (leftHeight >= rightHeight ?
+                    joinRight(left, key, right, leftHeight - rightHeight) :
+                    joinLeft(left, key, right, rightHeight - leftHeight)
+                ).splitRoot();
+            }
+        }
+
+        return joined;
+    }
+
+    /**
+     * Merges the right tree into the node at the given depth along the right edge of the left tree. The returned
+     * node may hold more than {@link #MAX_KEYS} keys and must then be split by the caller.
+     */
+    private static <E> ImmutableSortedSetBTreeNode<E> joinRight(final ImmutableSortedSetBTreeNode<E> left,
+                                                                final E key,
+                                                                final ImmutableSortedSetBTreeNode<E> right,
+                                                                final int depth) {
+        final ImmutableSortedSetBTreeNode<E> node;
+
+        if (0 == depth) {
+            node = merge(left, key, right);
+        } else {
+            final Object[] keys = left.keys;
+            final ImmutableSortedSetBTreeNode<E>[] children = left.children;
+            final int last = children.length - 1;
+
+            final ImmutableSortedSetBTreeNode<E> child = joinRight(
+                children[last],
+                key,
+                right,
+                depth - 1
+            );
+
+            if (child.keys.length > MAX_KEYS) {
+                final int middle = child.keys.length / 2;
+
+                final ImmutableSortedSetBTreeNode<E>[] newChildren = Arrays.copyOf(children, children.length + 1);
+                newChildren[last] = child.left(middle);
+                newChildren[last + 1] = child.right(middle);
+
+                node = new ImmutableSortedSetBTreeNode<>(
+                    insert(keys, keys.length, child.keys[middle]),
+                    newChildren
+                );
+            } else {
+                final ImmutableSortedSetBTreeNode<E>[] newChildren = children.clone();
+                newChildren[last] = child;
+
+                node = new ImmutableSortedSetBTreeNode<>(
+                    keys,
+                    newChildren
+                );
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Merges the left tree into the node at the given depth along the left edge of the right tree. The returned
+     * node may hold more than {@link #MAX_KEYS} keys and must then be split by the caller.
+     */
+    private static <E> ImmutableSortedSetBTreeNode<E> joinLeft(final ImmutableSortedSetBTreeNode<E> left,
+                                                               final E key,
+                                                               final ImmutableSortedSetBTreeNode<E> right,
+                                                               final int depth) {
+        final ImmutableSortedSetBTreeNode<E> node;
+
+        if (0 == depth) {
+            node = merge(left, key, right);
+        } else {
+            final Object[] keys = right.keys;
+            final ImmutableSortedSetBTreeNode<E>[] children = right.children;
+
+            final ImmutableSortedSetBTreeNode<E> child = joinLeft(
+                left,
+                key,
+                children[0],
+                depth - 1
+            );
+
+            if (child.keys.length > MAX_KEYS) {
+                final int middle = child.keys.length / 2;
+
+                final ImmutableSortedSetBTreeNode<E>[] newChildren = insert(
+                    children,
+                    1,
+                    child.right(middle)
+                );
+                newChildren[0] = child.left(middle);
+
+                node = new ImmutableSortedSetBTreeNode<>(
+                    insert(keys, 0, child.keys[middle]),
+                    newChildren
+                );
+            } else {
+                final ImmutableSortedSetBTreeNode<E>[] newChildren = children.clone();
+                newChildren[0] = child;
+
+                node = new ImmutableSortedSetBTreeNode<>(
+                    keys,
+                    newChildren
+                );
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Merges two nodes of the same height and the key between them into a single node, which may hold up to twice
+     * {@link #MAX_KEYS} keys. Because one of the nodes always has at least {@link #MIN_KEYS} keys, both halves of a
+     * later split also have at least {@link #MIN_KEYS}.
+     */
+    private static <E> ImmutableSortedSetBTreeNode<E> merge(final ImmutableSortedSetBTreeNode<E> left,
+                                                            final E key,
+                                                            final ImmutableSortedSetBTreeNode<E> right) {
+        return new ImmutableSortedSetBTreeNode<>(
+            concat(left.keys, key, right.keys),
+            left.isLeaf() ?
+                null :
+                concat(left.children, right.children)
+        );
+    }
+
+    // array helpers....................................................................................................
+
+    private static <T> T[] insert(final T[] array,
+                                  final int index,
+                                  final T value) {
+        final T[] copy = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        copy[index] = value;
+        return copy;
+    }
+
+    private static <T> T[] remove(final T[] array,
+                                  final int index) {
+        final T[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    private static Object[] concat(final Object[] left,
+                                   final Object separator,
+                                   final Object[] right) {
+        final Object[] copy = Arrays.copyOf(left, left.length + 1 + right.length);
+        copy[left.length] = separator;
+        System.arraycopy(right, 0, copy, left.length + 1, right.length);
+        return copy;
+    }
+
+    private static <T> T[] concat(final T[] left,
+                                  final T[] right) {
+        final T[] copy = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, copy, left.length, right.length);
+        return copy;
+    }
+
+    /**
+     * The sorted keys of this node.
+     */
+    final Object[] keys;
+
+    /**
+     * The children, or null when this node is a leaf.
+     */
+    final ImmutableSortedSetBTreeNode<E>[] children;
+
+    /**
+     * The number of keys in this node and all of its descendants.
+     */
+    final int size;
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.keys);
+    }
+}
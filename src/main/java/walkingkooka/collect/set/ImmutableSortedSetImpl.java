@@ -17,18 +17,27 @@
 
 package walkingkooka.collect.set;
 
+import walkingkooka.Cast;
 import walkingkooka.collect.iterator.Iterators;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
 
 /**
  * A {@link Set} known to be immutable and holds a copy of any {@link Set} given to it.
+ * <br>
+ * Elements are kept in a compact sorted array, with {@link #contains(Object)} performing a binary search and
+ * {@link #subSet(Object, Object)}, {@link #headSet(Object)} and {@link #tailSet(Object)} returning views that share
+ * the same array, making this the preferred representation for large read-mostly sets.
  */
 final class ImmutableSortedSetImpl<E> extends AbstractSet<E> implements ImmutableSortedSetDefaults<ImmutableSortedSet<E>, E>,
     ImmutableSortedSet<E> {
@@ -42,99 +51,194 @@ final class ImmutableSortedSetImpl<E> extends AbstractSet<E> implements Immutabl
         if (collection instanceof ImmutableSortedSet) {
             immutableSortedSet = (ImmutableSortedSet<E>) collection;
         } else {
-            final TreeSet<E> treeSet = new TreeSet<>(
-                collection instanceof SortedSet ?
-                    ((SortedSet<E>) collection).comparator() :
-                    null
+            final SortedSet<E> sortedSet;
+            if (collection instanceof SortedSet) {
+                sortedSet = (SortedSet<E>) collection;
+            } else {
+                sortedSet = new TreeSet<>(collection);
+            }
+
+            // the elements of a SortedSet are already sorted and unique, so only a single array copy is necessary
+            final Object[] elements = sortedSet.toArray();
+            immutableSortedSet = new ImmutableSortedSetImpl<>(
+                sortedSet.comparator(),
+                elements,
+                0,
+                elements.length
             );
-            treeSet.addAll(collection);
-            immutableSortedSet = new ImmutableSortedSetImpl<>(treeSet);
         }
         return immutableSortedSet;
     }
 
     /**
-     * Package private to limit sub classing.
+     * Private ctor use factory
      */
-    ImmutableSortedSetImpl(final SortedSet<E> sortedSet) {
+    private ImmutableSortedSetImpl(final Comparator<? super E> comparator,
+                                   final Object[] elements,
+                                   final int from,
+                                   final int to) {
         super();
-        this.sortedSet = sortedSet;
+        this.comparator = comparator;
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
     }
 
     @Override
     public boolean contains(final Object other) {
-        return this.sortedSet.contains(other);
+        return this.indexOf(
+            Cast.to(other)
+        ) >= 0;
     }
 
     @Override
     public Iterator<E> iterator() {
         return Iterators.readOnly(
-            this.sortedSet.iterator()
+            Cast.to(
+                Arrays.asList(this.elements)
+                    .subList(
+                        this.from,
+                        this.to
+                    ).iterator()
+            )
         );
     }
 
+    /**
+     * The array is never modified, so a sized and evenly splittable {@link Spliterator} over the range is returned.
+     * The {@link Spliterator#SORTED} characteristic is only reported for natural ordering because an array
+     * {@link Spliterator} always answers a null {@link Spliterator#getComparator()}.
+     */
     @Override
-    public int size() {
-        return this.sortedSet.size();
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(
+            this.elements,
+            this.from,
+            this.to,
+            Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.IMMUTABLE |
+                (null == this.comparator ? Spliterator.SORTED : 0)
+        );
     }
 
     @Override
-    public String toString() {
-        return this.sortedSet.toString();
+    public int size() {
+        return this.to - this.from;
     }
 
     // SortedSet........................................................................................................
 
     @Override
     public Comparator<? super E> comparator() {
-        return this.sortedSet.comparator();
+        return this.comparator;
     }
 
+    private final Comparator<? super E> comparator;
+
     @Override
     public SortedSet<E> subSet(final E fromElement,
                                final E toElement) {
-        return with(
-            this.sortedSet.subSet(
-                fromElement,
-                toElement
-            )
+        final Comparator<? super E> comparator = this.comparator;
+        if (
+            (null != comparator ?
+                comparator.compare(fromElement, toElement) :
+                Cast.<Comparable<E>>to(fromElement).compareTo(toElement)
+            ) > 0) {
+            throw new IllegalArgumentException("From " + fromElement + " > to " + toElement);
+        }
+
+        return this.range(
+            this.lowerBound(fromElement),
+            this.lowerBound(toElement)
         );
     }
 
     @Override
     public SortedSet<E> headSet(final E toElement) {
-        return with(
-            this.sortedSet.headSet(toElement)
+        return this.range(
+            this.from,
+            this.lowerBound(toElement)
         );
     }
 
     @Override
     public SortedSet<E> tailSet(final E fromElement) {
-        return with(
-            this.sortedSet.tailSet(fromElement)
+        return this.range(
+            this.lowerBound(fromElement),
+            this.to
         );
     }
 
+    /**
+     * Returns a view sharing the same array, or this if the range is unchanged.
+     */
+    private ImmutableSortedSetImpl<E> range(final int from,
+                                           final int to) {
+        return this.from == from && this.to == to ?
+            this :
+            new ImmutableSortedSetImpl<>(
+                this.comparator,
+                this.elements,
+                from,
+                to
+            );
+    }
+
     @Override
     public E first() {
-        return this.sortedSet.first();
+        return this.element(this.from);
     }
 
     @Override
     public E last() {
-        return this.sortedSet.last();
+        return this.element(this.to - 1);
+    }
+
+    private E element(final int index) {
+        if (this.from == this.to) {
+            throw new NoSuchElementException();
+        }
+        return Cast.to(this.elements[index]);
+    }
+
+    /**
+     * Returns the index of the element within the array or a negative insertion point following the
+     * {@link Arrays#binarySearch(Object[], int, int, Object, Comparator)} convention.
+     */
+    private int indexOf(final E element) {
+        return Arrays.binarySearch(
+            Cast.<E[]>to(this.elements),
+            this.from,
+            this.to,
+            element,
+            this.comparator
+        );
+    }
+
+    /**
+     * Returns the index of the first element greater than or equal to the given element.
+     */
+    private int lowerBound(final E element) {
+        final int index = this.indexOf(element);
+        return index >= 0 ?
+            index :
+            -index - 1;
     }
 
-    private final SortedSet<E> sortedSet;
+    /**
+     * The sorted elements, only the range between {@link #from} and {@link #to} belongs to this set.
+     */
+    private final Object[] elements;
+
+    private final int from;
+
+    private final int to;
 
     // ImmutableSortedSet...............................................................................................
 
     @Override
     public SortedSet<E> toSet() {
-        final SortedSet<E> sortedSet = this.sortedSet;
-
-        final TreeSet<E> treeSet = new TreeSet<>(sortedSet.comparator());
-        treeSet.addAll(sortedSet);
+        final TreeSet<E> treeSet = new TreeSet<>(this.comparator);
+        treeSet.addAll(this);
         return treeSet;
     }
 
@@ -143,6 +247,66 @@ final class ImmutableSortedSetImpl<E> extends AbstractSet<E> implements Immutabl
         // NOP
     }
 
+    /**
+     * Inserts the element into a copy of the array, avoiding rebuilding a {@link TreeSet}.
+     */
+    @Override
+    public ImmutableSortedSet<E> concat(final E element) {
+        this.elementCheck(element);
+
+        final int index = this.indexOf(element);
+
+        ImmutableSortedSet<E> concat = this;
+        if (index < 0) {
+            final int insert = -index - 1;
+            final int from = this.from;
+            final Object[] elements = this.elements;
+
+            final Object[] copy = new Object[this.size() + 1];
+            System.arraycopy(elements, from, copy, 0, insert - from);
+            copy[insert - from] = element;
+            System.arraycopy(elements, insert, copy, insert - from + 1, this.to - insert);
+
+            concat = new ImmutableSortedSetImpl<>(
+                this.comparator,
+                copy,
+                0,
+                copy.length
+            );
+        }
+
+        return concat;
+    }
+
+    /**
+     * Removes the element from a copy of the array, avoiding rebuilding a {@link TreeSet}.
+     */
+    @Override
+    public ImmutableSortedSet<E> delete(final E element) {
+        this.elementCheck(element);
+
+        final int index = this.indexOf(element);
+
+        ImmutableSortedSet<E> delete = this;
+        if (index >= 0) {
+            final int from = this.from;
+            final Object[] elements = this.elements;
+
+            final Object[] copy = new Object[this.size() - 1];
+            System.arraycopy(elements, from, copy, 0, index - from);
+            System.arraycopy(elements, index + 1, copy, index - from, this.to - index - 1);
+
+            delete = new ImmutableSortedSetImpl<>(
+                this.comparator,
+                copy,
+                0,
+                copy.length
+            );
+        }
+
+        return delete;
+    }
+
     @Override
     public ImmutableSortedSet<E> setElements(final Collection<E> elements) {
         final ImmutableSortedSet<E> copy = with(elements);
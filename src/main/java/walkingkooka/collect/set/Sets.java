@@ -72,6 +72,15 @@ final public class Sets implements PublicStaticHelper {
         return new TreeSet<>();
     }
 
+    /**
+     * Returns an empty persistent {@link ImmutableSet}, where {@link ImmutableSet#concat(Object)} and
+     * {@link ImmutableSet#delete(Object)} share structure with the original and are O(log n).
+     * Note elements are not returned in insertion order.
+     */
+    public static <E> ImmutableSet<E> persistent() {
+        return ImmutableSetHamt.empty();
+    }
+
     /**
      * {@see Collections#singleton(Object)}
      */
@@ -72,6 +72,24 @@ final public class SortedSets implements PublicStaticHelper {
         return ImmutableSortedSetImpl.with(sortedSet);
     }
 
+    /**
+     * Returns an empty persistent {@link ImmutableSortedSet} using natural ordering, backed by a B-tree, where
+     * {@link ImmutableSortedSet#concat(Object)} and {@link ImmutableSortedSet#delete(Object)} share most of their
+     * structure with the original. Prefer {@link #immutable(SortedSet)} for read-mostly sets.
+     */
+    public static <E> ImmutableSortedSet<E> persistent() {
+        return ImmutableSortedSetBTree.empty(null);
+    }
+
+    /**
+     * Returns an empty persistent {@link ImmutableSortedSet} using the given {@link Comparator}.
+     */
+    public static <E> ImmutableSortedSet<E> persistent(final Comparator<? super E> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+
+        return ImmutableSortedSetBTree.empty(comparator);
+    }
+
     /**
      * {@see TreeSet}
      */
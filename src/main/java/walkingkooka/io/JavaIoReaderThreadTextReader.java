@@ -0,0 +1,345 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.io;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.util.OpenChecker;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Wraps a {@link Reader}, which is read in bulk by a dedicated daemon thread. Each block of characters is handed to the
+ * reading thread through a bounded queue, which is polled with the remaining timeout, so readers wake as soon as text
+ * arrives without any {@link Reader#ready()} polling or sleeping. The daemon thread waits when the queue is full, so a
+ * fast source that is not being read is never buffered entirely in memory. The {@link Consumer} receives each block of text as
+ * it is consumed, allowing text to be echoed before the EOL of a line is entered.
+ */
+@GwtIncompatible
+final class JavaIoReaderThreadTextReader implements TextReader {
+
+    static JavaIoReaderThreadTextReader with(final Reader reader,
+                                             final Consumer<CharSequence> echo) {
+        return new JavaIoReaderThreadTextReader(
+            Objects.requireNonNull(reader, "reader"),
+            Objects.requireNonNull(echo, "echo")
+        );
+    }
+
+    private JavaIoReaderThreadTextReader(final Reader reader,
+                                         final Consumer<CharSequence> echo) {
+        this.reader = reader;
+        this.echo = echo;
+
+        this.openChecker = OpenChecker.with(
+            "Terminal closed",
+            (String message) -> new IllegalStateException(message)
+        );
+    }
+
+    @Override
+    public boolean isOpen() {
+        return false == this.openChecker.isClosed();
+    }
+
+    @Override
+    public void close() {
+        this.openChecker.close();
+
+        final Thread thread = this.thread;
+        if (null != thread) {
+            thread.interrupt();
+        }
+
+        try {
+            this.reader.close();
+        } catch (final IOException rethrow) {
+            throw new UncheckedIOException(rethrow);
+        }
+    }
+
+    @Override
+    public String readText(final int max,
+                           final long timeout) {
+        if (max < 0) {
+            throw new IllegalArgumentException("Invalid max " + max + " < 0");
+        }
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Invalid timeout " + timeout + " < 0");
+        }
+
+        this.openChecker.check();
+
+        String text = "";
+
+        if (max > 0) {
+            final StringBuilder readText = new StringBuilder();
+            final StringBuilder buffer = this.buffer;
+            final long stop = stop(timeout);
+
+            do {
+                this.skipLf();
+
+                // copy as many buffered characters as possible in one step
+                final int copy = Math.min(
+                    max - readText.length(),
+                    buffer.length()
+                );
+                readText.append(
+                    buffer,
+                    0,
+                    copy
+                );
+                buffer.delete(
+                    0,
+                    copy
+                );
+            } while (readText.length() < max && this.fill(stop));
+
+            text = readText.toString();
+        }
+
+        return text;
+    }
+
+    @Override
+    public Optional<String> readLine(final long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Invalid timeout " + timeout + " < 0");
+        }
+
+        this.openChecker.check();
+
+        final StringBuilder buffer = this.buffer;
+        final long stop = stop(timeout);
+
+        String line = null;
+        int scanStart = 0;
+
+        do {
+            this.skipLf();
+
+            final int length = buffer.length();
+            for (int i = scanStart; i < length; i++) {
+                final char c = buffer.charAt(i);
+
+                if (NL == c || CR == c) {
+                    line = buffer.substring(
+                        0,
+                        i
+                    );
+                    buffer.delete(
+                        0,
+                        i + 1
+                    );
+
+                    this.skipLf = CR == c;
+                    break;
+                }
+            }
+
+            scanStart = length;
+        } while (null == line && this.fill(stop));
+
+        return Optional.ofNullable(line);
+    }
+
+    /**
+     * Removes a leading NL from the {@link #buffer} if the last line was terminated by a CR.
+     */
+    private void skipLf() {
+        final StringBuilder buffer = this.buffer;
+
+        if (this.skipLf && buffer.length() > 0) {
+            this.skipLf = false;
+
+            if (NL == buffer.charAt(0)) {
+                buffer.deleteCharAt(0);
+            }
+        }
+    }
+
+    /**
+     * Waits until the given stop time for the next block of text, echoing and appending it to the {@link #buffer}.
+     * Returns false if the timeout expired or the end of the {@link Reader} was reached.
+     */
+    private boolean fill(final long stop) {
+        boolean filled = false;
+
+        if (false == this.eof) {
+            this.start();
+
+            char[] chars;
+            try {
+                chars = this.queue.poll(
+                    Math.max(
+                        stop - System.nanoTime(),
+                        0
+                    ),
+                    TimeUnit.NANOSECONDS
+                );
+            } catch (final InterruptedException interrupted) {
+                Thread.currentThread()
+                    .interrupt();
+                chars = null;
+            }
+
+            if (EOF == chars) {
+                this.eof = true;
+
+                final IOException failure = this.failure;
+                if (null != failure) {
+                    throw new UncheckedIOException(failure);
+                }
+            } else {
+                if (null != chars) {
+                    final String text = new String(chars);
+                    this.echo.accept(text);
+                    this.buffer.append(text);
+                    filled = true;
+                }
+            }
+        }
+
+        return filled;
+    }
+
+    private static long stop(final long timeout) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    /**
+     * Lazily starts the reader thread, so readers that are never read do not create a thread.
+     */
+    private void start() {
+        if (null == this.thread) {
+            final Thread thread = new Thread(
+                this::run,
+                "TextReader " + this.reader
+            );
+            thread.setDaemon(true);
+            thread.start();
+
+            this.thread = thread;
+        }
+    }
+
+    /**
+     * Reads blocks of characters from the {@link Reader} until the end or a failure and puts copies into the
+     * {@link #queue}, waiting while it is full. Closing interrupts this thread, which then stops without adding
+     * {@link #EOF}.
+     */
+    private void run() {
+        final Reader reader = this.reader;
+        final BlockingQueue<char[]> queue = this.queue;
+        final char[] buffer = new char[BUFFER_SIZE];
+
+        try {
+            try {
+                for (; ; ) {
+                    final int count = reader.read(buffer);
+                    if (-1 == count) {
+                        break;
+                    }
+                    if (count > 0) {
+                        queue.put(
+                            Arrays.copyOf(
+                                buffer,
+                                count
+                            )
+                        );
+                    }
+                }
+            } catch (final IOException cause) {
+                if (false == this.openChecker.isClosed()) {
+                    this.failure = cause;
+                }
+            }
+
+            queue.put(EOF);
+        } catch (final InterruptedException closed) {
+            // closed while waiting for the consumer
+        }
+    }
+
+    private static final char NL = '\n';
+    private static final char CR = '\r';
+
+    // @VisibleForTesting
+    final static int BUFFER_SIZE = 1024;
+
+    /**
+     * The maximum number of blocks waiting in the {@link #queue}.
+     */
+    // @VisibleForTesting
+    final static int QUEUE_CAPACITY = 16;
+
+    /**
+     * Marks the end of the {@link Reader} in the {@link #queue}, and is only ever tested by identity.
+     */
+    private final static char[] EOF = new char[0];
+
+    private final OpenChecker<IllegalStateException> openChecker;
+
+    private final Reader reader;
+
+    private final Consumer<CharSequence> echo;
+
+    /**
+     * Blocks of characters read by the {@link #thread} waiting to be consumed.
+     */
+    // @VisibleForTesting
+    final BlockingQueue<char[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * The failure that stopped the {@link #thread}, published before {@link #EOF} is offered.
+     */
+    private volatile IOException failure;
+
+    private Thread thread;
+
+    /**
+     * Becomes true once {@link #EOF} has been taken from the {@link #queue}.
+     */
+    private boolean eof;
+
+    // @VisibleForTesting
+    final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Only becomes true after a {@link #readLine(long)} that was terminated by CR.
+     */
+    // @VisibleForTesting
+    boolean skipLf;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.reader.toString();
+    }
+}
@@ -44,6 +44,18 @@ public final class TextReaders implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see JavaIoReaderThreadTextReader}
+     */
+    @GwtIncompatible
+    public static TextReader readerThread(final Reader reader,
+                                          final Consumer<CharSequence> echo) {
+        return JavaIoReaderThreadTextReader.with(
+            reader,
+            echo
+        );
+    }
+
     /**
      * Stop creation
      */
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.naming;
+
+import walkingkooka.collect.map.Maps;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A thread safe canonicalising interner for any {@link Name}, returning the same instance for names with equal
+ * values, which means equality tests between interned names are satisfied by the identity check. Names are never
+ * released, so an interner holds at most a maximum number of names, after which new names are still returned but not
+ * retained. An interner is best used for the relatively small and stable set of names such as class and package
+ * names that are created over and over again.
+ */
+public final class NameInterner<N extends Name> {
+
+    /**
+     * The maximum number of names retained by the shared interners such as {@link Names#stringInterner()}.
+     */
+    public final static int DEFAULT_MAX_SIZE = 4096;
+
+    /**
+     * Creates a new empty {@link NameInterner}, which will use the given factory to create and validate names
+     * that are not already present, retaining at most the given number of names.
+     */
+    public static <N extends Name> NameInterner<N> with(final Function<String, N> factory,
+                                                        final int maxSize) {
+        Objects.requireNonNull(factory, "factory");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid max size " + maxSize + " <= 0");
+        }
+
+        return new NameInterner<>(
+            factory,
+            maxSize
+        );
+    }
+
+    private NameInterner(final Function<String, N> factory,
+                         final int maxSize) {
+        super();
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical {@link Name} with the given value, creating it using the factory if absent. Any
+     * exception thrown by the factory for an invalid name is not cached.
+     */
+    public N intern(final String name) {
+        Objects.requireNonNull(name, "name");
+
+        N interned = this.names.get(name);
+        if (null != interned) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+            interned = this.add(
+                name,
+                this.factory.apply(name)
+            );
+        }
+        return interned;
+    }
+
+    /**
+     * Returns the canonical instance for the given {@link Name}, adding it if absent.
+     */
+    public N intern(final N name) {
+        Objects.requireNonNull(name, "name");
+
+        final String value = name.value();
+        N interned = this.names.get(value);
+        if (null != interned) {
+            this.hits.incrementAndGet();
+        } else {
+            this.misses.incrementAndGet();
+            interned = this.add(
+                value,
+                name
+            );
+        }
+        return interned;
+    }
+
+    /**
+     * Adds the new name, if another thread won the race its instance is returned. When the interner is full the name
+     * is returned without being retained. Concurrent adds may overshoot the maximum by at most one name per thread.
+     */
+    private N add(final String value,
+                  final N name) {
+        N added = name;
+
+        final Map<String, N> names = this.names;
+        if (names.size() < this.maxSize) {
+            final N previous = names.putIfAbsent(value, name);
+            if (null != previous) {
+                added = previous;
+            }
+        }
+
+        return added;
+    }
+
+    private final Function<String, N> factory;
+
+    /**
+     * The maximum number of names that are retained.
+     */
+    public int maxSize() {
+        return this.maxSize;
+    }
+
+    private final int maxSize;
+
+    /**
+     * Names are keyed by their value, this assumes names with different values are never equal.
+     */
+    private final Map<String, N> names = Maps.concurrent();
+
+    /**
+     * The number of names held by this interner.
+     */
+    public int size() {
+        return this.names.size();
+    }
+
+    /**
+     * The number of requests that returned an existing name.
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of requests that added a new name.
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    private final AtomicLong misses = new AtomicLong();
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "size=" + this.size() + " hits=" + this.hits() + " misses=" + this.misses();
+    }
+}
@@ -19,6 +19,8 @@ package walkingkooka.naming;
 
 import walkingkooka.reflect.PublicStaticHelper;
 
+import java.util.function.Function;
+
 final public class Names implements PublicStaticHelper {
 
     /**
@@ -35,6 +37,36 @@ final public class Names implements PublicStaticHelper {
         return StringName.with(name);
     }
 
+    /**
+     * {@see NameInterner}
+     */
+    public static <N extends Name> NameInterner<N> interner(final Function<String, N> factory,
+                                                            final int maxSize) {
+        return NameInterner.with(
+            factory,
+            maxSize
+        );
+    }
+
+    /**
+     * Returns a shared interned {@link StringName}, equal names will return the same instance.
+     */
+    public static StringName stringInterned(final String name) {
+        return STRING_NAME_INTERNER.intern(name);
+    }
+
+    /**
+     * Returns the {@link NameInterner} used by {@link #stringInterned(String)}, which may be used to query metrics.
+     */
+    public static NameInterner<StringName> stringInterner() {
+        return STRING_NAME_INTERNER;
+    }
+
+    private final static NameInterner<StringName> STRING_NAME_INTERNER = NameInterner.with(
+        StringName::with,
+        NameInterner.DEFAULT_MAX_SIZE
+    );
+
     /**
      * stop creation
      */
@@ -29,6 +29,11 @@ import walkingkooka.text.Whitespace;
 final public class StringName implements PathName,
     Comparable<StringName> {
 
+    /**
+     * Must be declared before {@link #ROOT} as it is used by the constructor.
+     */
+    private final static CaseSensitivity CASE_SENSITIVITY = CaseSensitivity.SENSITIVE;
+
     /**
      * Root singleton
      */
@@ -53,6 +58,7 @@ final public class StringName implements PathName,
 
     private StringName(final String name) {
         this.name = name;
+        this.hashCode = CASE_SENSITIVITY.hash(name);
     }
 
     @Override
@@ -66,9 +72,14 @@ final public class StringName implements PathName,
 
     @Override
     public int hashCode() {
-        return CASE_SENSITIVITY.hash(this.name);
+        return this.hashCode;
     }
 
+    /**
+     * The hash is computed once, as {@link CaseSensitivity#hash(CharSequence)} visits every character.
+     */
+    private final int hashCode;
+
     @Override
     public boolean equals(final Object other) {
         return this == other ||
@@ -77,7 +88,8 @@ final public class StringName implements PathName,
     }
 
     private boolean equals0(final StringName other) {
-        return this.compareTo(other) == 0;
+        return this.hashCode == other.hashCode &&
+            this.compareTo(other) == 0;
     }
 
     @Override
@@ -98,6 +110,4 @@ final public class StringName implements PathName,
     public CaseSensitivity caseSensitivity() {
         return CASE_SENSITIVITY;
     }
-
-    private final static CaseSensitivity CASE_SENSITIVITY = CaseSensitivity.SENSITIVE;
 }
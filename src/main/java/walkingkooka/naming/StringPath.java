@@ -17,6 +17,7 @@
 
 package walkingkooka.naming;
 
+import walkingkooka.UsesToStringBuilderCached;
 import walkingkooka.text.CharSequences;
 
 import java.util.Objects;
@@ -27,7 +28,8 @@ import java.util.Optional;
  */
 final public class StringPath
     implements Path<StringPath, StringName>,
-    Comparable<StringPath> {
+    Comparable<StringPath>,
+    UsesToStringBuilderCached {
 
     /**
      * {@link PathSeparator} instance
@@ -44,29 +46,72 @@ final public class StringPath
     );
 
     /**
-     * Parses the {@link String} into a {@link StringPath}
+     * Parses the {@link String} into a {@link StringPath}. The path is scanned once, with each parent taken as a
+     * substring of the given path, trailing separators are ignored.
      */
     public static StringPath parse(final String path) {
         SEPARATOR.checkBeginning(path);
 
         try {
+            final int end = end(path);
+
             StringPath result = ROOT;
+            int start = 1;
+
+            while (start < end) {
+                final int separator = separator(path, start, end);
 
-            if (path.length() > 1) {
-                for (String component : path.substring(1).split(SEPARATOR.string())) {
-                    result = result.append(StringName.with(component));
-                }
+                result = new StringPath(
+                    path.substring(0, separator), // path
+                    StringName.with(path.substring(start, separator)),
+                    Optional.of(result) // parent
+                );
+                start = separator + 1;
             }
             return result;
         } catch (final IllegalArgumentException cause) {
-            throw new IllegalArgumentException("Failed to parse " + CharSequences.quote(path) + ", message: " + cause.getMessage(), cause);
+            throw parseFailed(path, cause);
+        }
+    }
+
+    /**
+     * Returns the index after the last non separator character, this is used to ignore any trailing separators.
+     */
+    // StringPathInterner
+    static int end(final String path) {
+        final char separator = SEPARATOR.character();
+
+        int end = path.length();
+        while (end > 1 && separator == path.charAt(end - 1)) {
+            end--;
         }
+        return end;
+    }
+
+    /**
+     * Returns the index of the next separator or end if none was found.
+     */
+    // StringPathInterner
+    static int separator(final String path,
+                         final int start,
+                         final int end) {
+        final int separator = path.indexOf(SEPARATOR.character(), start);
+        return -1 == separator || separator > end ?
+            end :
+            separator;
+    }
+
+    // StringPathInterner
+    static IllegalArgumentException parseFailed(final String path,
+                                                final IllegalArgumentException cause) {
+        return new IllegalArgumentException("Failed to parse " + CharSequences.quote(path) + ", message: " + cause.getMessage(), cause);
     }
 
     /**
-     * Private constructor
+     * Package private constructor use {@link #parse(String)} or {@link StringPathInterner}.
      */
-    private StringPath(final String path, final StringName name, final Optional<StringPath> parent) {
+    // StringPathInterner
+    StringPath(final String path, final StringName name, final Optional<StringPath> parent) {
         super();
         this.path = path;
         this.name = name;
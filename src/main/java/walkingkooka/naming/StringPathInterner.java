@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.naming;
+
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A thread safe interner that returns the same {@link StringPath} instance for equal paths, with paths sharing a common
+ * prefix also sharing the same parent instances. Internally a trie keyed by {@link StringName} is maintained, which
+ * means paths are never released, and the interner should be scoped to the lifetime of the paths it holds.
+ */
+public final class StringPathInterner {
+
+    /**
+     * Creates a new empty {@link StringPathInterner}.
+     */
+    public static StringPathInterner empty() {
+        return new StringPathInterner();
+    }
+
+    private StringPathInterner() {
+        super();
+        this.root = new StringPathInternerNode(StringPath.ROOT);
+    }
+
+    /**
+     * Parses the path returning the canonical {@link StringPath}, walking the trie one component at a time and only
+     * creating {@link StringPath} for components that have not been seen before.
+     */
+    public StringPath parse(final String path) {
+        StringPath.SEPARATOR.checkBeginning(path);
+
+        try {
+            final int end = StringPath.end(path);
+
+            StringPathInternerNode node = this.root;
+            int start = 1;
+
+            while (start < end) {
+                final int separator = StringPath.separator(path, start, end);
+
+                node = node.child(
+                    StringName.with(path.substring(start, separator)),
+                    path,
+                    separator
+                );
+                start = separator + 1;
+            }
+            return node.path;
+        } catch (final IllegalArgumentException cause) {
+            throw StringPath.parseFailed(path, cause);
+        }
+    }
+
+    /**
+     * Returns the canonical instance for the given {@link StringPath}, adding it and any missing parents if necessary.
+     */
+    public StringPath intern(final StringPath path) {
+        Objects.requireNonNull(path, "path");
+
+        return this.node(path).path;
+    }
+
+    private StringPathInternerNode node(final StringPath path) {
+        final Optional<StringPath> parent = path.parent();
+
+        return parent.isPresent() ?
+            this.node(parent.get())
+                .child(path) :
+            this.root;
+    }
+
+    /**
+     * Returns the number of interned paths, excluding {@link StringPath#ROOT}.
+     */
+    public int size() {
+        return this.root.size();
+    }
+
+    private final StringPathInternerNode root;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "size=" + this.size();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.naming;
+
+import walkingkooka.collect.map.Maps;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A single node within a {@link StringPathInterner} trie, holding the canonical {@link StringPath} and its children.
+ */
+final class StringPathInternerNode {
+
+    StringPathInternerNode(final StringPath path) {
+        super();
+        this.path = path;
+    }
+
+    /**
+     * Returns the child node for the given {@link StringName}, creating the child {@link StringPath} as a substring of
+     * the given path only when absent.
+     */
+    StringPathInternerNode child(final StringName name,
+                                 final String path,
+                                 final int end) {
+        final StringPathInternerNode child = this.children.get(name);
+        return null != child ?
+            child :
+            this.children.computeIfAbsent(
+                name,
+                (n) -> new StringPathInternerNode(
+                    new StringPath(
+                        path.substring(0, end),
+                        n,
+                        Optional.of(this.path)
+                    )
+                )
+            );
+    }
+
+    /**
+     * Returns the child node for the given {@link StringPath}, reusing it if its parent is already the canonical instance.
+     */
+    StringPathInternerNode child(final StringPath path) {
+        final StringName name = path.name();
+        final StringPathInternerNode child = this.children.get(name);
+        return null != child ?
+            child :
+            this.children.computeIfAbsent(
+                name,
+                (n) -> new StringPathInternerNode(
+                    this.path == path.parent().get() ?
+                        path :
+                        new StringPath(
+                            path.value(),
+                            n,
+                            Optional.of(this.path)
+                        )
+                )
+            );
+    }
+
+    int size() {
+        int size = 0;
+        for (final StringPathInternerNode child : this.children.values()) {
+            size += 1 + child.size();
+        }
+        return size;
+    }
+
+    final StringPath path;
+
+    private final Map<StringName, StringPathInternerNode> children = Maps.concurrent();
+
+    @Override
+    public String toString() {
+        return this.path.toString();
+    }
+}
@@ -53,7 +53,8 @@ final class AnyPredicate<T> implements Predicate<T> {
         return result;
     }
 
-    private final Collection<Predicate<T>> predicates;
+    // PredicateOptimizer
+    final Collection<Predicate<T>> predicates;
 
     // Object ..........................................................................................................
 
@@ -59,7 +59,8 @@ final class NotPredicate<T> implements Predicate<T>,
         return this.predicate;
     }
 
-    private final Predicate<T> predicate;
+    // PredicateOptimizer
+    final Predicate<T> predicate;
 
     @Override
     public int hashCode() {
@@ -53,7 +53,8 @@ final class ObjectEqualityPredicate<T> implements Predicate<T> {
         );
     }
 
-    private final T value;
+    // PredicateOptimizer
+    final T value;
 
     // bject
     @Override
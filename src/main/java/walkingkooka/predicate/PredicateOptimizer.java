@@ -0,0 +1,245 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.predicate;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Normalises a tree of {@link Predicate predicates} built from {@link Predicates#any(Collection)},
+ * {@link Predicates#not(Predicate)} and {@link Predicates#customToString(Predicate, String)}.
+ * <ul>
+ * <li>nested any are flattened into a single any</li>
+ * <li>double negation is removed</li>
+ * <li>always and never children are folded away</li>
+ * <li>is and set contains children of an any are merged into a single hash lookup</li>
+ * <li>children of an any are ordered so the cheapest are tested first</li>
+ * </ul>
+ * The {@link Object#toString()} of the given {@link Predicate} is always preserved.
+ */
+final class PredicateOptimizer {
+
+    /**
+     * The cost given to any {@link Predicate} that is not known, such as a lambda.
+     */
+    private final static int UNKNOWN_COST = 8;
+
+    static <T> Predicate<T> optimize(final Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        return CustomToStringPredicate.wrap(
+            optimize0(predicate),
+            predicate.toString()
+        );
+    }
+
+    private static <T> Predicate<T> optimize0(final Predicate<T> predicate) {
+        final Predicate<T> optimized;
+
+        if (predicate instanceof AnyPredicate) {
+            optimized = any(Cast.to(predicate));
+        } else if (predicate instanceof NotPredicate) {
+            final NotPredicate<T> not = Cast.to(predicate);
+            optimized = NotPredicate.wrap(
+                unwrapNotable(
+                    optimize0(not.predicate)
+                )
+            );
+        } else if (predicate instanceof CustomToStringPredicate) {
+            final CustomToStringPredicate<T> custom = Cast.to(predicate);
+            final Predicate<T> wrapped = optimize0(custom.predicate);
+
+            optimized = isConstant(wrapped) ?
+                wrapped :
+                CustomToStringPredicate.wrap(
+                    wrapped,
+                    custom.toString
+                );
+        } else {
+            optimized = predicate;
+        }
+
+        return optimized;
+    }
+
+    private static <T> Predicate<T> any(final AnyPredicate<T> any) {
+        final List<Predicate<T>> children = Lists.array();
+        final Set<T> values = Sets.ordered();
+
+        final Predicate<T> optimized;
+
+        if (flattenAny(any.predicates, children, values)) {
+            optimized = Predicates.always();
+        } else {
+            switch (values.size()) {
+                case 0:
+                    break;
+                case 1:
+                    children.add(
+                        ObjectEqualityPredicate.with(
+                            values.iterator()
+                                .next()
+                        )
+                    );
+                    break;
+                default:
+                    children.add(
+                        SetContainsPredicate.with(values)
+                    );
+                    break;
+            }
+
+            children.sort(Comparator.comparingInt(PredicateOptimizer::cost));
+
+            switch (children.size()) {
+                case 0:
+                    optimized = Predicates.never();
+                    break;
+                case 1:
+                    optimized = children.get(0);
+                    break;
+                default:
+                    optimized = AnyPredicate.with(children);
+                    break;
+            }
+        }
+
+        return optimized;
+    }
+
+    /**
+     * Adds the optimized children of an any to the given {@link List}, collecting values for a single hash lookup,
+     * returning true if any child is always true.
+     */
+    private static <T> boolean flattenAny(final Collection<Predicate<T>> predicates,
+                                          final List<Predicate<T>> children,
+                                          final Set<T> values) {
+        boolean always = false;
+
+        for (final Predicate<T> predicate : predicates) {
+            final Predicate<T> optimized = optimize0(predicate);
+
+            if (optimized instanceof AlwaysPredicate) {
+                always = true;
+                break;
+            }
+            if (optimized instanceof NeverPredicate) {
+                continue;
+            }
+            if (optimized instanceof AnyPredicate) {
+                final AnyPredicate<T> any = Cast.to(optimized);
+                always = flattenAny(any.predicates, children, values);
+                if (always) {
+                    break;
+                }
+                continue;
+            }
+            if (optimized instanceof ObjectEqualityPredicate) {
+                final ObjectEqualityPredicate<T> is = Cast.to(optimized);
+                final T value = is.value;
+                if (null != value) {
+                    values.add(value);
+                    continue;
+                }
+            }
+            if (optimized instanceof SetContainsPredicate) {
+                final SetContainsPredicate<T> setContains = Cast.to(optimized);
+
+                // other sets such as sorted sets may test membership with something other than equals
+                if (setContains.hashSet) {
+                    values.addAll(setContains.set);
+                    continue;
+                }
+            }
+            if (false == children.contains(optimized)) {
+                children.add(optimized);
+            }
+        }
+
+        return always;
+    }
+
+    /**
+     * Removes a {@link CustomToStringPredicate} around a {@link Notable} so double negation may be eliminated, the
+     * {@link Object#toString()} of the root is preserved by {@link #optimize(Predicate)}.
+     */
+    private static <T> Predicate<T> unwrapNotable(final Predicate<T> predicate) {
+        Predicate<T> unwrapped = predicate;
+
+        if (predicate instanceof CustomToStringPredicate) {
+            final CustomToStringPredicate<T> custom = Cast.to(predicate);
+            final Predicate<T> wrapped = custom.predicate;
+            if (wrapped instanceof Notable) {
+                unwrapped = wrapped;
+            }
+        }
+
+        return unwrapped;
+    }
+
+    private static boolean isConstant(final Predicate<?> predicate) {
+        return predicate instanceof AlwaysPredicate ||
+            predicate instanceof NeverPredicate;
+    }
+
+    /**
+     * Estimates the relative cost of testing the given {@link Predicate}.
+     */
+    // @VisibleForTesting
+    static int cost(final Predicate<?> predicate) {
+        final int cost;
+
+        if (isConstant(predicate)) {
+            cost = 0;
+        } else if (predicate instanceof ObjectEqualityPredicate) {
+            cost = 1;
+        } else if (predicate instanceof SetContainsPredicate) {
+            cost = 2;
+        } else if (predicate instanceof NotPredicate) {
+            cost = 1 + cost(((NotPredicate<?>) predicate).predicate);
+        } else if (predicate instanceof CustomToStringPredicate) {
+            cost = cost(((CustomToStringPredicate<?>) predicate).predicate);
+        } else if (predicate instanceof AnyPredicate) {
+            int sum = 0;
+            for (final Predicate<?> child : ((AnyPredicate<?>) predicate).predicates) {
+                sum += cost(child);
+            }
+            cost = sum;
+        } else {
+            cost = UNKNOWN_COST;
+        }
+
+        return cost;
+    }
+
+    /**
+     * Stop creation
+     */
+    private PredicateOptimizer() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -121,16 +121,18 @@ final public class Predicates implements PublicStaticHelper {
                                                        final CaseSensitivity caseSensitivity) {
         Objects.requireNonNull(expression, "expression");
 
-        return Predicates.customToString(
-            Predicates.any(
-                Arrays.stream(
-                        expression.split(" "))
-                    .filter(s -> !s.isEmpty())
-                    .map(caseSensitivity::globPattern)
-                    .distinct()
-                    .collect(Collectors.<Predicate<CharSequence>>toList())
-            ),
-            expression
+        return Predicates.optimize(
+            Predicates.customToString(
+                Predicates.any(
+                    Arrays.stream(
+                            expression.split(" "))
+                        .filter(s -> !s.isEmpty())
+                        .map(caseSensitivity::globPattern)
+                        .distinct()
+                        .collect(Collectors.<Predicate<CharSequence>>toList())
+                ),
+                expression
+            )
         );
     }
 
@@ -176,6 +178,13 @@ final public class Predicates implements PublicStaticHelper {
         return NotPredicate.wrap(predicate);
     }
 
+    /**
+     * {@see PredicateOptimizer}
+     */
+    public static <T> Predicate<T> optimize(final Predicate<T> predicate) {
+        return PredicateOptimizer.optimize(predicate);
+    }
+
     /**
      * {@see SetContainsPredicate}
      */
@@ -19,6 +19,8 @@ package walkingkooka.predicate;
 
 import walkingkooka.collect.set.Sets;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -31,15 +33,29 @@ final class SetContainsPredicate<T> implements Predicate<T> {
      * Factory that takes a copy of the {@link Set} and creates a new {@link SetContainsPredicate}
      */
     static <T> SetContainsPredicate<T> with(final Set<T> set) {
-        return new SetContainsPredicate<>(Sets.immutable(set));
+        return new SetContainsPredicate<>(
+            Sets.immutable(set),
+            isHashSet(set)
+        );
+    }
+
+    /**
+     * Only a plain {@link HashSet} or {@link LinkedHashSet} is known to test membership using equals.
+     */
+    private static boolean isHashSet(final Set<?> set) {
+        final Class<?> type = set.getClass();
+        return HashSet.class == type ||
+            LinkedHashSet.class == type;
     }
 
     /**
      * Private ctor use factory
      */
-    private SetContainsPredicate(final Set<T> set) {
+    private SetContainsPredicate(final Set<T> set,
+                                 final boolean hashSet) {
         super();
         this.set = set;
+        this.hashSet = hashSet;
     }
 
     @Override
@@ -47,7 +63,14 @@ final class SetContainsPredicate<T> implements Predicate<T> {
         return this.set.contains(value);
     }
 
-    private final Set<T> set;
+    // PredicateOptimizer
+    final Set<T> set;
+
+    /**
+     * True when the original {@link Set} was a plain hash set, so its elements may be merged with other values.
+     */
+    // PredicateOptimizer
+    final boolean hashSet;
 
     @Override
     public String toString() {
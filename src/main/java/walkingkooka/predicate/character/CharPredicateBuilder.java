@@ -144,7 +144,7 @@ final public class CharPredicateBuilder
     // Builder
 
     /**
-     * Builds a {@link CharPredicate}
+     * Builds a {@link CharPredicate}, optimizing the {@link CharPredicate} tree of combined predicates.
      */
     @Override
     public CharPredicate build() {
@@ -152,8 +152,9 @@ final public class CharPredicateBuilder
         if (null == predicate) {
             throw new BuilderException("nothing built");
         }
+        final CharPredicate optimized = CharPredicates.optimize(predicate);
         final String toString = this.toString;
-        return null == toString ? predicate : CharPredicates.toString(predicate, toString);
+        return null == toString ? optimized : CharPredicates.toString(optimized, toString);
     }
 
     // Object
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.predicate.character;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.Notable;
+import walkingkooka.text.CaseSensitivity;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Normalises a tree of {@link CharPredicate predicates} built from {@link CharPredicates#and(CharPredicate, CharPredicate)},
+ * {@link CharPredicates#or(CharPredicate, CharPredicate)}, {@link CharPredicates#not(CharPredicate)} and
+ * {@link CharPredicates#toString(CharPredicate, String)}.
+ * <ul>
+ * <li>nested and and nested or are flattened</li>
+ * <li>double negation is removed</li>
+ * <li>always and never children are folded away</li>
+ * <li>is and any children of an or are merged into a single {@link CharPredicates#any(String)}</li>
+ * <li>children are ordered so the cheapest are tested first</li>
+ * </ul>
+ * The {@link Object#toString()} of the given {@link CharPredicate} is always preserved.
+ */
+final class CharPredicateOptimizer {
+
+    /**
+     * The cost given to any {@link CharPredicate} that is not known, such as a lambda.
+     */
+    private final static int UNKNOWN_COST = 8;
+
+    static CharPredicate optimize(final CharPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        final CharPredicate optimized = optimize0(predicate);
+        final String toString = predicate.toString();
+
+        return optimized == predicate || toString.trim().isEmpty() ?
+            optimized :
+            ToStringCharPredicate.wrap(
+                optimized,
+                toString
+            );
+    }
+
+    private static CharPredicate optimize0(final CharPredicate predicate) {
+        final CharPredicate optimized;
+
+        if (predicate instanceof OrCharPredicate) {
+            optimized = or(predicate);
+        } else if (predicate instanceof AndCharPredicate) {
+            optimized = and(predicate);
+        } else if (predicate instanceof AndNotCharPredicate) {
+            final AndNotCharPredicate andNot = Cast.to(predicate);
+            optimized = AndNotCharPredicate.wrap(
+                optimize0(andNot.left),
+                optimize0(andNot.right)
+            );
+        } else if (predicate instanceof NotCharPredicate) {
+            final NotCharPredicate not = Cast.to(predicate);
+            optimized = NotCharPredicate.wrap(
+                unwrapNotable(
+                    optimize0(not.predicate)
+                )
+            );
+        } else if (predicate instanceof ToStringCharPredicate) {
+            final ToStringCharPredicate toString = Cast.to(predicate);
+            final CharPredicate wrapped = optimize0(toString.predicate);
+
+            optimized = isConstant(wrapped) ?
+                wrapped :
+                ToStringCharPredicate.wrap(
+                    wrapped,
+                    toString.toString
+                );
+        } else {
+            optimized = predicate;
+        }
+
+        return optimized;
+    }
+
+    // or...............................................................................................................
+
+    private static CharPredicate or(final CharPredicate or) {
+        final List<CharPredicate> children = Lists.array();
+        final StringBuilder chars = new StringBuilder();
+
+        final CharPredicate optimized;
+
+        if (flattenOr(or, children, chars)) {
+            optimized = CharPredicates.always();
+        } else {
+            if (chars.length() > 0) {
+                children.add(
+                    CharPredicates.any(chars.toString())
+                );
+            }
+
+            optimized = join(
+                children,
+                CharPredicates.never()
+            );
+        }
+
+        return optimized;
+    }
+
+    /**
+     * Adds the optimized children of an or to the given {@link List}, collecting single characters for a single
+     * {@link AnyCharPredicate}, returning true if any child is always true.
+     */
+    private static boolean flattenOr(final CharPredicate predicate,
+                                     final List<CharPredicate> children,
+                                     final StringBuilder chars) {
+        boolean always = false;
+
+        if (predicate instanceof OrCharPredicate) {
+            final OrCharPredicate or = Cast.to(predicate);
+            always = flattenOr(or.left, children, chars) ||
+                flattenOr(or.right, children, chars);
+        } else {
+            final CharPredicate optimized = optimize0(predicate);
+
+            if (optimized instanceof AlwaysCharPredicate) {
+                always = true;
+            } else if (optimized instanceof OrCharPredicate) {
+                always = flattenOr(optimized, children, chars);
+            } else if (optimized instanceof AnyCharPredicate) {
+                chars.append(((AnyCharPredicate) optimized).array);
+            } else if (isCharPredicate(optimized)) {
+                chars.append(
+                    (char) CaseSensitivity.SENSITIVE.charPredicateChar(optimized)
+                );
+            } else if (false == optimized instanceof NeverCharPredicate) {
+                add(optimized, children);
+            }
+        }
+
+        return always;
+    }
+
+    // and..............................................................................................................
+
+    private static CharPredicate and(final CharPredicate and) {
+        final List<CharPredicate> children = Lists.array();
+
+        return flattenAnd(and, children) ?
+            CharPredicates.never() :
+            join(
+                children,
+                CharPredicates.always()
+            );
+    }
+
+    /**
+     * Adds the optimized children of an and to the given {@link List}, returning true if any child is never true.
+     */
+    private static boolean flattenAnd(final CharPredicate predicate,
+                                      final List<CharPredicate> children) {
+        boolean never = false;
+
+        if (predicate instanceof AndCharPredicate) {
+            final AndCharPredicate and = Cast.to(predicate);
+            never = flattenAnd(and.left, children) ||
+                flattenAnd(and.right, children);
+        } else {
+            final CharPredicate optimized = optimize0(predicate);
+
+            if (optimized instanceof NeverCharPredicate) {
+                never = true;
+            } else if (optimized instanceof AndCharPredicate) {
+                never = flattenAnd(optimized, children);
+            } else if (false == optimized instanceof AlwaysCharPredicate) {
+                add(optimized, children);
+            }
+        }
+
+        return never;
+    }
+
+    // helpers..........................................................................................................
+
+    private static void add(final CharPredicate predicate,
+                            final List<CharPredicate> children) {
+        if (false == children.contains(predicate)) {
+            children.add(predicate);
+        }
+    }
+
+    /**
+     * Sorts the children by cost and then joins them with either and or or, depending on the identity.
+     */
+    private static CharPredicate join(final List<CharPredicate> children,
+                                      final CharPredicate identity) {
+        children.sort(Comparator.comparingInt(CharPredicateOptimizer::cost));
+
+        CharPredicate joined = null;
+        for (final CharPredicate child : children) {
+            joined = null == joined ?
+                child :
+                identity instanceof NeverCharPredicate ?
+                    OrCharPredicate.wrap(joined, child) :
+                    AndCharPredicate.wrap(joined, child);
+        }
+
+        return null == joined ?
+            identity :
+            joined;
+    }
+
+    /**
+     * Removes a {@link ToStringCharPredicate} around a {@link Notable} so double negation may be eliminated, the
+     * {@link Object#toString()} of the root is preserved by {@link #optimize(CharPredicate)}.
+     */
+    private static CharPredicate unwrapNotable(final CharPredicate predicate) {
+        CharPredicate unwrapped = predicate;
+
+        if (predicate instanceof ToStringCharPredicate) {
+            final CharPredicate wrapped = ((ToStringCharPredicate) predicate).predicate;
+            if (wrapped instanceof Notable) {
+                unwrapped = wrapped;
+            }
+        }
+
+        return unwrapped;
+    }
+
+    private static boolean isConstant(final CharPredicate predicate) {
+        return predicate instanceof AlwaysCharPredicate ||
+            predicate instanceof NeverCharPredicate;
+    }
+
+    /**
+     * Tests if the {@link CharPredicate} was returned by {@link CharPredicates#is(char)}.
+     */
+    private static boolean isCharPredicate(final CharPredicate predicate) {
+        return -1 != CaseSensitivity.SENSITIVE.charPredicateChar(predicate);
+    }
+
+    /**
+     * Estimates the relative cost of testing the given {@link CharPredicate}.
+     */
+    // @VisibleForTesting
+    static int cost(final CharPredicate predicate) {
+        final int cost;
+
+        if (isConstant(predicate)) {
+            cost = 0;
+        } else if (predicate instanceof RangeCharPredicate || isCharPredicate(predicate)) {
+            cost = 1;
+        } else if (predicate instanceof AnyCharPredicate) {
+            cost = 2;
+        } else if (predicate instanceof NotCharPredicate) {
+            cost = 1 + cost(((NotCharPredicate) predicate).predicate);
+        } else if (predicate instanceof ToStringCharPredicate) {
+            cost = cost(((ToStringCharPredicate) predicate).predicate);
+        } else if (predicate instanceof LogicalCharPredicate) {
+            final LogicalCharPredicate logical = Cast.to(predicate);
+            cost = cost(logical.left) + cost(logical.right);
+        } else {
+            cost = UNKNOWN_COST;
+        }
+
+        return cost;
+    }
+
+    /**
+     * Stop creation
+     */
+    private CharPredicateOptimizer() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -227,6 +227,13 @@ final public class CharPredicates implements PublicStaticHelper {
         return NotCharPredicate.wrap(charPredicate);
     }
 
+    /**
+     * {@see CharPredicateOptimizer}.
+     */
+    public static CharPredicate optimize(final CharPredicate predicate) {
+        return CharPredicateOptimizer.optimize(predicate);
+    }
+
     /**
      * {@see OrCharPredicate}.
      */
@@ -59,7 +59,8 @@ final class NotCharPredicate implements CharPredicate,
         return this.predicate;
     }
 
-    private final CharPredicate predicate;
+    // CharPredicateOptimizer
+    final CharPredicate predicate;
 
     @Override
     public int hashCode() {
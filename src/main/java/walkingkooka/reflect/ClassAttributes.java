@@ -48,18 +48,55 @@ public enum ClassAttributes {
 
     abstract boolean testModifiers(final int modifiers);
 
+    /**
+     * Returns a read only {@link Set} with the attributes of the given {@link Class}, the result is cached by
+     * {@link ClassMetadata}.
+     */
     public static Set<ClassAttributes> get(final Class<?> classs) {
         Objects.requireNonNull(classs, "class");
 
-        Set<ClassAttributes> result = EnumSet.noneOf(ClassAttributes.class);
+        return ClassMetadata.get(classs)
+            .attributes;
+    }
+
+    /**
+     * Returns the shared read only {@link Set} for the given modifiers.
+     */
+    // ClassMetadata
+    static Set<ClassAttributes> get0(final int modifiers) {
+        int index = 0;
 
-        final int modifiers = classs.getModifiers();
-        for (ClassAttributes possible : values()) {
+        for (final ClassAttributes possible : VALUES) {
             if (possible.testModifiers(modifiers)) {
-                result.add(possible);
+                index |= 1 << possible.ordinal();
+            }
+        }
+
+        return SETS[index];
+    }
+
+    private final static ClassAttributes[] VALUES = values();
+
+    /**
+     * Read only sets for every combination of attributes, indexed by a bit mask of the {@link #ordinal()}.
+     */
+    private final static Set<ClassAttributes>[] SETS = sets();
+
+    @SuppressWarnings("unchecked")
+    private static Set<ClassAttributes>[] sets() {
+        final Set<ClassAttributes>[] sets = new Set[1 << VALUES.length];
+
+        for (int i = 0; i < sets.length; i++) {
+            final Set<ClassAttributes> set = EnumSet.noneOf(ClassAttributes.class);
+
+            for (final ClassAttributes possible : VALUES) {
+                if (0 != (i & 1 << possible.ordinal())) {
+                    set.add(possible);
+                }
             }
+            sets[i] = Sets.readOnly(set);
         }
 
-        return Sets.readOnly(result);
+        return sets;
     }
 }
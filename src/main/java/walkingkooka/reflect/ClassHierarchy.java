@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.reflect;
+
+import java.util.Arrays;
+
+/**
+ * A flattened pre-order list of the events fired by a {@link ClassVisitor} for a {@link Class}, including its super
+ * class, implemented interfaces and array component. Each start event records the index of its matching end event,
+ * which allows a {@link walkingkooka.visit.Visiting#SKIP} to jump over the skipped types without recursion.
+ */
+final class ClassHierarchy {
+
+    /**
+     * Builds the {@link ClassHierarchy} for the given {@link Class}, copying the cached hierarchies of its super types.
+     */
+    // ClassMetadata
+    static ClassHierarchy with(final Class<?> type) {
+        final Class<?> superClass = Object.class != type ?
+            type.getSuperclass() :
+            null;
+        final ClassHierarchy superHierarchy = hierarchy(superClass);
+
+        final Class<?>[] interfaces = type.getInterfaces();
+        final int interfaceCount = interfaces.length;
+        final ClassHierarchy[] interfaceHierarchies = new ClassHierarchy[interfaceCount];
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceHierarchies[i] = hierarchy(interfaces[i]);
+        }
+
+        final Class<?> component = type.getComponentType();
+        final ClassHierarchy componentHierarchy = hierarchy(component);
+
+        int size = 2 + size(superHierarchy) + size(componentHierarchy);
+        for (final ClassHierarchy interfaceHierarchy : interfaceHierarchies) {
+            size += size(interfaceHierarchy);
+        }
+
+        final ClassHierarchy hierarchy = new ClassHierarchy(size);
+
+        final int start = hierarchy.add(ClassHierarchyEvent.START_CLASS, type);
+        hierarchy.add(
+            ClassHierarchyEvent.START_SUPER_CLASS,
+            superClass,
+            superHierarchy,
+            ClassHierarchyEvent.END_SUPER_CLASS
+        );
+        for (int i = 0; i < interfaceCount; i++) {
+            hierarchy.add(
+                ClassHierarchyEvent.START_IMPLEMENTED_INTERFACE,
+                interfaces[i],
+                interfaceHierarchies[i],
+                ClassHierarchyEvent.END_IMPLEMENTED_INTERFACE
+            );
+        }
+        hierarchy.add(
+            ClassHierarchyEvent.START_ARRAY_COMPONENT,
+            component,
+            componentHierarchy,
+            ClassHierarchyEvent.END_ARRAY_COMPONENT
+        );
+        hierarchy.end(start, ClassHierarchyEvent.END_CLASS, type);
+
+        return hierarchy;
+    }
+
+    private static ClassHierarchy hierarchy(final Class<?> type) {
+        return null != type ?
+            ClassMetadata.get(type).hierarchy() :
+            null;
+    }
+
+    /**
+     * The number of events for a child including its start and end events.
+     */
+    private static int size(final ClassHierarchy hierarchy) {
+        return null != hierarchy ?
+            2 + hierarchy.size() :
+            0;
+    }
+
+    private ClassHierarchy(final int size) {
+        super();
+        this.types = new Class<?>[size];
+        this.events = new ClassHierarchyEvent[size];
+        this.skips = new int[size];
+    }
+
+    private int add(final ClassHierarchyEvent event,
+                    final Class<?> type) {
+        final int index = this.size;
+        this.types[index] = type;
+        this.events[index] = event;
+        this.skips[index] = index + 1;
+        this.size = index + 1;
+        return index;
+    }
+
+    /**
+     * Adds the start event, a copy of the child events followed by the matching end event.
+     */
+    private void add(final ClassHierarchyEvent startEvent,
+                     final Class<?> type,
+                     final ClassHierarchy child,
+                     final ClassHierarchyEvent endEvent) {
+        if (null != type) {
+            final int start = this.add(startEvent, type);
+
+            final int offset = this.size;
+            final int childSize = child.size;
+            System.arraycopy(child.types, 0, this.types, offset, childSize);
+            System.arraycopy(child.events, 0, this.events, offset, childSize);
+
+            final int[] childSkips = child.skips;
+            final int[] skips = this.skips;
+            for (int i = 0; i < childSize; i++) {
+                skips[offset + i] = offset + childSkips[i];
+            }
+            this.size = offset + childSize;
+
+            this.end(start, endEvent, type);
+        }
+    }
+
+    private void end(final int start,
+                     final ClassHierarchyEvent event,
+                     final Class<?> type) {
+        this.skips[start] = this.add(event, type);
+    }
+
+    /**
+     * Fires all events, with a {@link walkingkooka.visit.Visiting#SKIP} jumping to the matching end event.
+     */
+    // ClassVisitor
+    void accept(final ClassVisitor visitor) {
+        final Class<?>[] types = this.types;
+        final ClassHierarchyEvent[] events = this.events;
+        final int[] skips = this.skips;
+        final int size = this.size;
+
+        int i = 0;
+        while (i < size) {
+            i = events[i].accept(
+                visitor,
+                types[i],
+                i + 1,
+                skips[i]
+            );
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    private int size;
+
+    private final Class<?>[] types;
+
+    private final ClassHierarchyEvent[] events;
+
+    /**
+     * For start events the index of the matching end event, for end events the next index.
+     */
+    private final int[] skips;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.events);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.reflect;
+
+import walkingkooka.visit.Visiting;
+
+/**
+ * The events recorded by a {@link ClassHierarchy}, each dispatching to the matching {@link ClassVisitor} method and
+ * returning the index of the next event.
+ */
+enum ClassHierarchyEvent {
+    START_CLASS {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            return Visiting.CONTINUE == visitor.startVisitClass(type) ?
+                next :
+                skip;
+        }
+    },
+    END_CLASS {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            visitor.endVisitClass(type);
+            return next;
+        }
+    },
+    START_SUPER_CLASS {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            return Visiting.CONTINUE == visitor.startVisitSuperClass(type) ?
+                next :
+                skip;
+        }
+    },
+    END_SUPER_CLASS {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            visitor.endVisitSuperClass(type);
+            return next;
+        }
+    },
+    START_IMPLEMENTED_INTERFACE {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            return Visiting.CONTINUE == visitor.startVisitImplementedInterface(type) ?
+                next :
+                skip;
+        }
+    },
+    END_IMPLEMENTED_INTERFACE {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            visitor.endVisitImplementedInterface(type);
+            return next;
+        }
+    },
+    START_ARRAY_COMPONENT {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            return Visiting.CONTINUE == visitor.startVisitArrayComponent(type) ?
+                next :
+                skip;
+        }
+    },
+    END_ARRAY_COMPONENT {
+        @Override
+        int accept(final ClassVisitor visitor,
+                   final Class<?> type,
+                   final int next,
+                   final int skip) {
+            visitor.endVisitArrayComponent(type);
+            return next;
+        }
+    };
+
+    abstract int accept(final ClassVisitor visitor,
+                        final Class<?> type,
+                        final int next,
+                        final int skip);
+}
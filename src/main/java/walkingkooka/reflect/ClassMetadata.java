@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.reflect;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds metadata about a {@link Class} which is computed once and cached using a {@link ClassValue}, allowing
+ * frequent queries such as {@link ClassAttributes#get(Class)} to avoid repeated reflection.
+ */
+final class ClassMetadata extends ClassMetadataEmulated {
+
+    /**
+     * Returns the cached {@link ClassName} for the given {@link Class}.
+     */
+    @GwtIncompatible
+    static ClassName className(final Class<?> type) {
+        return get(type).className;
+    }
+
+    /**
+     * Returns the {@link ClassMetadata} for the given {@link Class}, creating it on first use.
+     */
+    @GwtIncompatible
+    static ClassMetadata get(final Class<?> type) {
+        return CLASS_VALUE.get(type);
+    }
+
+    @GwtIncompatible
+    private final static ClassMetadataClassValue CLASS_VALUE = new ClassMetadataClassValue();
+
+    // ClassMetadataClassValue
+    @GwtIncompatible
+    ClassMetadata(final Class<?> type) {
+        super();
+        this.type = type;
+        this.className = ClassName.fromClassName(type.getName());
+
+        final int modifiers = type.getModifiers();
+        this.attributes = ClassAttributes.get0(modifiers);
+        this.visibility = JavaVisibility.get0(modifiers);
+    }
+
+    @GwtIncompatible
+    private final Class<?> type;
+
+    @GwtIncompatible
+    final ClassName className;
+
+    @GwtIncompatible
+    final Set<ClassAttributes> attributes;
+
+    @GwtIncompatible
+    final JavaVisibility visibility;
+
+    /**
+     * Returns the cached attributes for a {@link Method} declared by this {@link Class}.
+     */
+    @GwtIncompatible
+    Set<MethodAttributes> methodAttributes(final Method method) {
+        Set<MethodAttributes> attributes = this.methodAttributes.get(method);
+        if (null == attributes) {
+            attributes = MethodAttributes.get0(method);
+            this.methodAttributes.put(method, attributes);
+        }
+        return attributes;
+    }
+
+    @GwtIncompatible
+    private final Map<Method, Set<MethodAttributes>> methodAttributes = Maps.concurrent();
+
+    /**
+     * Returns the flattened hierarchy used by {@link ClassVisitor}, reusing the hierarchies of super types.
+     */
+    @GwtIncompatible
+    ClassHierarchy hierarchy() {
+        ClassHierarchy hierarchy = this.hierarchy;
+        if (null == hierarchy) {
+            hierarchy = ClassHierarchy.with(this.type);
+            this.hierarchy = hierarchy;
+        }
+        return hierarchy;
+    }
+
+    @GwtIncompatible
+    private volatile ClassHierarchy hierarchy;
+
+    /**
+     * Returns all super classes and implemented interfaces without duplicates, with the super class and its super types
+     * before the interfaces in declaration order.
+     */
+    @GwtIncompatible
+    List<Class<?>> supertypes() {
+        List<Class<?>> supertypes = this.supertypes;
+        if (null == supertypes) {
+            supertypes = this.computeSupertypes();
+            this.supertypes = supertypes;
+        }
+        return supertypes;
+    }
+
+    @GwtIncompatible
+    private List<Class<?>> computeSupertypes() {
+        final Set<Class<?>> supertypes = new LinkedHashSet<>();
+
+        final Class<?> superClass = this.type.getSuperclass();
+        if (null != superClass) {
+            supertypes.add(superClass);
+            supertypes.addAll(get(superClass).supertypes());
+        }
+
+        for (final Class<?> implemented : this.type.getInterfaces()) {
+            supertypes.add(implemented);
+            supertypes.addAll(get(implemented).supertypes());
+        }
+
+        return Lists.immutable(
+            Arrays.asList(
+                supertypes.toArray(new Class<?>[0])
+            )
+        );
+    }
+
+    @GwtIncompatible
+    private volatile List<Class<?>> supertypes;
+
+    // Object...........................................................................................................
+
+    @Override
+    @GwtIncompatible
+    public String toString() {
+        return this.type.getName();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.reflect;
+
+/**
+ * The static methods in this class are shadowed by {@link ClassMetadata}, which are removed by the GWT/J2CL compiler
+ * where {@link ClassValue} is not available.
+ */
+abstract class ClassMetadataEmulated {
+
+    static ClassName className(final Class<?> type) {
+        return ClassName.fromClassName(type.getName());
+    }
+}
@@ -20,6 +20,7 @@ package walkingkooka.reflect;
 import walkingkooka.InvalidCharacterException;
 import walkingkooka.collect.map.Maps;
 import walkingkooka.io.FileExtension;
+import walkingkooka.naming.NameInterner;
 
 import java.util.Map;
 import java.util.Objects;
@@ -99,11 +100,18 @@ public final class ClassName extends JavaName<ClassName> {
     public static ClassName fromClass(final Class<?> klass) {
         Objects.requireNonNull(klass, "class");
 
-        final String name = klass.getName();
+        return ClassMetadata.className(klass);
+    }
+
+    /**
+     * Creates a {@link ClassName} for a name taken from {@link Class#getName()} which is not validated.
+     */
+    // ClassMetadata
+    static ClassName fromClassName(final String name) {
         final ClassName typeName = CONSTANTS.get(name);
         return null != typeName ?
             typeName :
-            new ClassName(klass.getName());
+            new ClassName(name);
     }
 
     /**
@@ -119,6 +127,26 @@ public final class ClassName extends JavaName<ClassName> {
             notConstant(name);
     }
 
+    /**
+     * Returns a shared interned {@link ClassName}, equal names will return the same instance. This is intended for
+     * callers such as reflection that create the same names repeatedly.
+     */
+    public static ClassName interned(final String name) {
+        return INTERNER.intern(name);
+    }
+
+    /**
+     * Returns the {@link NameInterner} used by {@link #interned(String)}, which may be used to query metrics.
+     */
+    public static NameInterner<ClassName> interner() {
+        return INTERNER;
+    }
+
+    private final static NameInterner<ClassName> INTERNER = NameInterner.with(
+        ClassName::with,
+        NameInterner.DEFAULT_MAX_SIZE
+    );
+
     /**
      * Handles the case where the input {@link String} is not a constant, and must be verified.
      */
@@ -23,7 +23,8 @@ import walkingkooka.visit.Visitor;
 import java.util.Objects;
 
 /**
- * A {@link Visitor} to visit a {@link Class} hierarchy, ignoring generics
+ * A {@link Visitor} to visit a {@link Class} hierarchy, ignoring generics. The hierarchy of each {@link Class} is
+ * flattened once and cached, so visiting does not repeat any reflection.
  */
 public abstract class ClassVisitor extends Visitor<Class<?>> {
 
@@ -34,20 +35,13 @@ public abstract class ClassVisitor extends Visitor<Class<?>> {
     public final void accept(final Class<?> classs) {
         Objects.requireNonNull(classs, "classs");
 
-        this.traverseClass(classs);
+        ClassMetadata.get(classs)
+            .hierarchy()
+            .accept(this);
     }
 
     // Class............................................................................................................
 
-    private void traverseClass(final Class<?> classs) {
-        if (Visiting.CONTINUE == this.startVisitClass(classs)) {
-            this.traverseSuperClass(classs);
-            this.traverseImplementedInterface(classs);
-            this.traverseArrayComponent(classs.getComponentType());
-        }
-        this.endVisitClass(classs);
-    }
-
     protected Visiting startVisitClass(final Class<?> classs) {
         return Visiting.CONTINUE;
     }
@@ -58,15 +52,6 @@ public abstract class ClassVisitor extends Visitor<Class<?>> {
 
     // Array component classs.............................................................................................
 
-    private void traverseArrayComponent(final Class<?> classs) {
-        if (null != classs) {
-            if (Visiting.CONTINUE == this.startVisitArrayComponent(classs)) {
-                this.traverseClass(classs);
-            }
-            this.endVisitArrayComponent(classs);
-        }
-    }
-
     protected Visiting startVisitArrayComponent(final Class<?> classs) {
         return Visiting.CONTINUE;
     }
@@ -77,18 +62,6 @@ public abstract class ClassVisitor extends Visitor<Class<?>> {
 
     // SuperClass.......................................................................................................
 
-    private void traverseSuperClass(final Class<?> classs) {
-        if (Object.class != classs) {
-            final Class<?> superClass = classs.getSuperclass();
-            if (null != superClass) {
-                if (Visiting.CONTINUE == this.startVisitSuperClass(superClass)) {
-                    this.traverseClass(superClass);
-                }
-                this.endVisitSuperClass(superClass);
-            }
-        }
-    }
-
     protected Visiting startVisitSuperClass(final Class<?> classs) {
         return Visiting.CONTINUE;
     }
@@ -99,15 +72,6 @@ public abstract class ClassVisitor extends Visitor<Class<?>> {
 
     // Implemented interfaces...........................................................................................
 
-    private void traverseImplementedInterface(final Class<?> classs) {
-        for (Class<?> implemented : classs.getInterfaces()) {
-            if (Visiting.CONTINUE == this.startVisitImplementedInterface(implemented)) {
-                this.traverseClass(implemented);
-            }
-            this.endVisitImplementedInterface(implemented);
-        }
-    }
-
     protected Visiting startVisitImplementedInterface(final Class<?> classs) {
         return Visiting.CONTINUE;
     }
@@ -17,6 +17,9 @@
 
 package walkingkooka.reflect;
 
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -112,6 +115,18 @@ final public class Classes implements PublicStaticHelper {
         return Optional.ofNullable(result);
     }
 
+    /**
+     * Returns all super classes and implemented interfaces of the given {@link Class} without duplicates, the super
+     * class and its super types appear before the implemented interfaces. The result is computed once and cached.
+     */
+    @GwtIncompatible
+    public static List<Class<?>> supertypes(final Class<?> classs) {
+        Objects.requireNonNull(classs, "class");
+
+        return ClassMetadata.get(classs)
+            .supertypes();
+    }
+
     /**
      * Stop creation
      */
@@ -100,6 +100,7 @@ abstract class JavaName<N extends JavaName<N>> implements Name, Comparable<N> {
     JavaName(final String name) {
         super();
         this.name = name;
+        this.hashCode = CASE_SENSITIVITY.hash(name);
     }
 
     @Override
@@ -113,9 +114,14 @@ abstract class JavaName<N extends JavaName<N>> implements Name, Comparable<N> {
 
     @Override
     public final int hashCode() {
-        return CASE_SENSITIVITY.hash(this.name);
+        return this.hashCode;
     }
 
+    /**
+     * The hash is computed once, as {@link CaseSensitivity#hash(CharSequence)} visits every character.
+     */
+    private final int hashCode;
+
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     public boolean equals(final Object other) {
@@ -127,7 +133,8 @@ abstract class JavaName<N extends JavaName<N>> implements Name, Comparable<N> {
     abstract boolean canBeEqual(final Object other);
 
     private boolean equals0(final JavaName<?> other) {
-        return CASE_SENSITIVITY.equals(this.name, other.name);
+        return this.hashCode == other.hashCode &&
+            CASE_SENSITIVITY.equals(this.name, other.name);
     }
 
     @Override
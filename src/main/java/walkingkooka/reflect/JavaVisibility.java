@@ -102,9 +102,13 @@ public enum JavaVisibility implements Visitable {
 
     // factory..........................................................................................................
 
+    /**
+     * Returns the visibility of the given {@link Class}, the result is cached by {@link ClassMetadata}.
+     */
     public static JavaVisibility of(final Class<?> type) {
         Objects.requireNonNull(type, "type");
-        return get0(type.getModifiers());
+        return ClassMetadata.get(type)
+            .visibility;
     }
 
     public static JavaVisibility of(final Member member) {
@@ -112,17 +116,18 @@ public enum JavaVisibility implements Visitable {
         return get0(member.getModifiers());
     }
 
-    private static JavaVisibility get0(final int modifiers) {
-        JavaVisibility result = null;
-
-        for (JavaVisibility possible : values()) {
-            if (possible.testModifiers(modifiers)) {
-                result = possible;
-                break;
-            }
-        }
-
-        return result;
+    /**
+     * Tests the visibility modifier bits directly, avoiding the copy of {@link #values()}.
+     */
+    // ClassMetadata
+    static JavaVisibility get0(final int modifiers) {
+        return Modifier.isPublic(modifiers) ?
+            PUBLIC :
+            Modifier.isProtected(modifiers) ?
+                PROTECTED :
+                Modifier.isPrivate(modifiers) ?
+                    PRIVATE :
+                    PACKAGE_PRIVATE;
     }
 
     // helper...........................................................................................................
@@ -67,17 +67,55 @@ public enum MethodAttributes {
 
     abstract boolean test(final Method method);
 
+    /**
+     * Returns a read only {@link Set} with the attributes of the given {@link Method}, the result is cached by the
+     * {@link ClassMetadata} of the declaring {@link Class}.
+     */
     public static Set<MethodAttributes> get(final Method method) {
         Objects.requireNonNull(method, "method");
 
-        Set<MethodAttributes> result = EnumSet.noneOf(MethodAttributes.class);
+        return ClassMetadata.get(method.getDeclaringClass())
+            .methodAttributes(method);
+    }
+
+    /**
+     * Computes the attributes of the given {@link Method}, returning a shared read only {@link Set}.
+     */
+    // ClassMetadata
+    static Set<MethodAttributes> get0(final Method method) {
+        int index = 0;
 
-        for (MethodAttributes possible : values()) {
+        for (final MethodAttributes possible : VALUES) {
             if (possible.test(method)) {
-                result.add(possible);
+                index |= 1 << possible.ordinal();
+            }
+        }
+
+        return SETS[index];
+    }
+
+    private final static MethodAttributes[] VALUES = values();
+
+    /**
+     * Read only sets for every combination of attributes, indexed by a bit mask of the {@link #ordinal()}.
+     */
+    private final static Set<MethodAttributes>[] SETS = sets();
+
+    @SuppressWarnings("unchecked")
+    private static Set<MethodAttributes>[] sets() {
+        final Set<MethodAttributes>[] sets = new Set[1 << VALUES.length];
+
+        for (int i = 0; i < sets.length; i++) {
+            final Set<MethodAttributes> set = EnumSet.noneOf(MethodAttributes.class);
+
+            for (final MethodAttributes possible : VALUES) {
+                if (0 != (i & 1 << possible.ordinal())) {
+                    set.add(possible);
+                }
             }
+            sets[i] = Sets.readOnly(set);
         }
 
-        return Sets.readOnly(result);
+        return sets;
     }
 }
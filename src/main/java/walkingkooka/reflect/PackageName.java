@@ -19,6 +19,7 @@ package walkingkooka.reflect;
 
 import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.naming.Name;
+import walkingkooka.naming.NameInterner;
 import walkingkooka.text.CharacterConstant;
 
 import java.util.Objects;
@@ -65,6 +66,25 @@ final public class PackageName extends JavaName<PackageName> {
             notUnnamed(name);
     }
 
+    /**
+     * Returns a shared interned {@link PackageName}, equal names will return the same instance.
+     */
+    public static PackageName interned(final String name) {
+        return INTERNER.intern(name);
+    }
+
+    /**
+     * Returns the {@link NameInterner} used by {@link #interned(String)}, which may be used to query metrics.
+     */
+    public static NameInterner<PackageName> interner() {
+        return INTERNER;
+    }
+
+    private final static NameInterner<PackageName> INTERNER = NameInterner.with(
+        PackageName::with,
+        NameInterner.DEFAULT_MAX_SIZE
+    );
+
     private static PackageName notUnnamed(final String name) {
         checkLength(name);
 
@@ -20,7 +20,7 @@ package walkingkooka.stream.push;
 import walkingkooka.Cast;
 import walkingkooka.NeverError;
 import walkingkooka.ToStringBuilder;
-import walkingkooka.UsesToStringBuilder;
+import walkingkooka.UsesToStringBuilderCached;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.set.Sets;
 
@@ -54,7 +54,7 @@ import java.util.stream.Stream;
  * It feeds a {@link PushableStreamConsumer} to interact with a source which will push values.
  */
 final class PushableStreamConsumerStream<T> implements Stream<T>,
-    UsesToStringBuilder {
+    UsesToStringBuilderCached {
 
     /**
      * Factory that creates a new {@link PushableStreamConsumerStream} without any registered closeables and intermediate ops.
@@ -598,9 +598,19 @@ final class PushableStreamConsumerStream<T> implements Stream<T>,
 
     @Override
     public String toString() {
-        return ToStringBuilder.buildFrom(this);
+        String toString = this.toString;
+        if (null == toString) {
+            toString = ToStringBuilder.buildFrom(this);
+            this.toString = toString;
+        }
+        return toString;
     }
 
+    /**
+     * A cached copy of the {@link #toString()}, this is safe because all fields are immutable.
+     */
+    private transient String toString;
+
     @Override
     public void buildToString(final ToStringBuilder builder) {
         builder.valueSeparator(" ");
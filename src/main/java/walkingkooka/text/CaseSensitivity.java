@@ -18,6 +18,8 @@
 package walkingkooka.text;
 
 import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.map.CacheMap;
+import walkingkooka.collect.map.Maps;
 import walkingkooka.compare.Comparators;
 import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.util.SystemProperty;
@@ -142,9 +144,10 @@ public enum CaseSensitivity {
             );
     }
 
-    private boolean startsWith0(final CharSequence chars,
-                                final CharSequence startsWith,
-                                final int offset) {
+    // GlobPattern
+    boolean startsWith0(final CharSequence chars,
+                        final CharSequence startsWith,
+                        final int offset) {
         boolean result = false;
 
         final int startsWithLength = startsWith.length();
@@ -353,6 +356,23 @@ public enum CaseSensitivity {
         return CaseSensitivityCharPredicate.with(c, this);
     }
 
+    /**
+     * Returns the character tested by a {@link CharPredicate} created by {@link #charPredicate(char)} with this
+     * {@link CaseSensitivity}, or -1 for any other {@link CharPredicate}.
+     */
+    final public int charPredicateChar(final CharPredicate predicate) {
+        int c = -1;
+
+        if (predicate instanceof CaseSensitivityCharPredicate) {
+            final CaseSensitivityCharPredicate charPredicate = (CaseSensitivityCharPredicate) predicate;
+            if (this == charPredicate.sensitivity) {
+                c = charPredicate.c;
+            }
+        }
+
+        return c;
+    }
+
     /**
      * Handles the toString implementation of {@link CaseSensitivityCharPredicate#toString()}
      */
@@ -407,14 +427,41 @@ public enum CaseSensitivity {
      * /user/Miroslav/A234.txt MATCHED
      * /user/Miroslav/Not.txt NOT MATCHED
      * </pre>
+     * Compiled patterns are immutable and cached, so repeated requests for the same pattern return the same instance.
      */
     final public GlobPattern globPattern(final String pattern) {
-        return GlobPattern.parse(
+        Objects.requireNonNull(pattern, "pattern");
+
+        return this.globPatterns.computeIfAbsent(
             pattern,
-            this
+            p -> GlobPattern.parse(
+                p,
+                this
+            )
         );
     }
 
+    /**
+     * The number of {@link #globPattern(String)} that returned a cached {@link GlobPattern}.
+     */
+    final public long globPatternCacheHitCount() {
+        return this.globPatterns.hitCount();
+    }
+
+    /**
+     * The number of {@link #globPattern(String)} that parsed a new {@link GlobPattern}.
+     */
+    final public long globPatternCacheMissCount() {
+        return this.globPatterns.missCount();
+    }
+
+    /**
+     * The maximum number of {@link GlobPattern} cached for each {@link CaseSensitivity}.
+     */
+    private final static int GLOB_PATTERN_CACHE_SIZE = 1024;
+
+    private final CacheMap<String, GlobPattern> globPatterns = Maps.cache(GLOB_PATTERN_CACHE_SIZE);
+
     /**
      * Factory used exclusively by {@link GlobPattern#parse(String, CaseSensitivity)}
      */
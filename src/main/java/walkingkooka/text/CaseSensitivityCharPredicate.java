@@ -44,9 +44,11 @@ final class CaseSensitivityCharPredicate implements CharPredicate {
         return this.sensitivity.isEqual(this.c, c);
     }
 
-    private final char c;
+    // CaseSensitivity
+    final char c;
 
-    private final CaseSensitivity sensitivity;
+    // CaseSensitivity
+    final CaseSensitivity sensitivity;
 
     // Object
 
@@ -21,9 +21,12 @@ import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.Cast;
 import walkingkooka.EmptyTextException;
 import walkingkooka.InvalidCharacterException;
+import walkingkooka.NeverError;
 import walkingkooka.reflect.PublicStaticHelper;
 
+import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -255,7 +258,7 @@ final public class CharSequences implements PublicStaticHelper {
 
     /**
      * Escapes all newline, carriage returns and other common characters that are escaped in java by
-     * a backslash prefix. Null inputs return null.
+     * a backslash prefix. Null inputs return null, and the original {@link CharSequence} is returned if nothing needs escaping.
      */
     public static CharSequence escape(final CharSequence chars) {
         return null == chars ?
@@ -265,124 +268,176 @@ final public class CharSequences implements PublicStaticHelper {
 
     private static CharSequence escapeNonNull(final CharSequence chars) {
         final int length = chars.length();
-        final StringBuilder builder = new StringBuilder((length * 10) / 9);
-        for (int i = 0; i < length; i++) {
-            final char c = chars.charAt(i);
+        final int first = escapeIndexOf(
+            chars,
+            0,
+            length
+        );
 
-            switch (c) {
-                case '\\':
-                    builder.append("\\\\");
-                    break;
-                case '\t':
-                    builder.append("\\t");
-                    break;
-                case '\r':
-                    builder.append("\\r");
-                    break;
-                case '\n':
-                    builder.append("\\n");
-                    break;
-                case '\0':
-                    builder.append("\\0");
-                    break;
-                case '\'':
-                    builder.append("\\'");
-                    break;
-                case '\"':
-                    builder.append("\\\"");
-                    break;
-                case 1:
-                    builder.append("\\u0001");
-                    break;
-                case 2:
-                    builder.append("\\u0002");
-                    break;
-                case 3:
-                    builder.append("\\u0003");
-                    break;
-                case 4:
-                    builder.append("\\u0004");
-                    break;
-                case 5:
-                    builder.append("\\u0005");
-                    break;
-                case 6:
-                    builder.append("\\u0006");
-                    break;
-                case 7:
-                    builder.append("\\u0007");
-                    break;
-                case 8:
-                    builder.append("\\u0008");
-                    break;
-                case 11:
-                    builder.append("\\u000B");
-                    break;
-                case 12:
-                    builder.append("\\u000C");
-                    break;
-                case 14:
-                    builder.append("\\u000E");
-                    break;
-                case 15:
-                    builder.append("\\u000F");
-                    break;
-                case 16:
-                    builder.append("\\u0010");
-                    break;
-                case 17:
-                    builder.append("\\u0011");
-                    break;
-                case 18:
-                    builder.append("\\u0012");
-                    break;
-                case 19:
-                    builder.append("\\u0013");
-                    break;
-                case 20:
-                    builder.append("\\u0014");
-                    break;
-                case 21:
-                    builder.append("\\u0015");
-                    break;
-                case 22:
-                    builder.append("\\u0016");
-                    break;
-                case 23:
-                    builder.append("\\u0017");
-                    break;
-                case 24:
-                    builder.append("\\u0018");
-                    break;
-                case 25:
-                    builder.append("\\u0019");
-                    break;
-                case 26:
-                    builder.append("\\u001A");
-                    break;
-                case 27:
-                    builder.append("\\u001B");
-                    break;
-                case 28:
-                    builder.append("\\u001C");
-                    break;
-                case 29:
-                    builder.append("\\u001D");
-                    break;
-                case 30:
-                    builder.append("\\u001E");
-                    break;
-                case 31:
-                    builder.append("\\u001F");
-                    break;
-                default:
-                    builder.append(c);
-                    break;
+        final CharSequence escaped;
+        if (-1 == first) {
+            escaped = chars;
+        } else {
+            final StringBuilder builder = new StringBuilder((length * 10) / 9);
+            try {
+                escape0(
+                    chars,
+                    first,
+                    builder
+                );
+            } catch (final IOException cause) {
+                throw new NeverError(cause.getMessage(), cause);
             }
+            escaped = builder.toString();
         }
-        return builder.toString();
+        return escaped;
     }
 
+    /**
+     * Appends the escaped form of the given {@link CharSequence} to the {@link StringBuilder}. Runs of characters
+     * without escaping are appended in bulk.
+     */
+    public static void escape(final CharSequence chars,
+                              final StringBuilder builder) {
+        try {
+            escape(
+                chars,
+                (Appendable) builder
+            );
+        } catch (final IOException cause) {
+            throw new NeverError(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Appends the escaped form of the given {@link CharSequence} to the {@link Appendable}. Runs of characters
+     * without escaping are appended in bulk.
+     */
+    public static void escape(final CharSequence chars,
+                              final Appendable appendable) throws IOException {
+        Objects.requireNonNull(chars, "chars");
+        Objects.requireNonNull(appendable, "appendable");
+
+        final int length = chars.length();
+        final int first = escapeIndexOf(
+            chars,
+            0,
+            length
+        );
+        if (-1 == first) {
+            appendable.append(chars);
+        } else {
+            escape0(
+                chars,
+                first,
+                appendable
+            );
+        }
+    }
+
+    /**
+     * Escapes starting with the first character that requires escaping.
+     */
+    private static void escape0(final CharSequence chars,
+                                final int first,
+                                final Appendable appendable) throws IOException {
+        final int length = chars.length();
+
+        int start = 0;
+        int i = first;
+        while (-1 != i) {
+            appendable.append(chars, start, i)
+                .append(ESCAPES[chars.charAt(i)]);
+            start = i + 1;
+            i = escapeIndexOf(
+                chars,
+                start,
+                length
+            );
+        }
+
+        appendable.append(chars, start, length);
+    }
+
+    /**
+     * Reads all the characters from the {@link Reader} writing their escaped form to the {@link Writer}, one buffer at a
+     * time. Neither the {@link Reader} or {@link Writer} are closed.
+     */
+    @GwtIncompatible
+    public static void escape(final Reader reader,
+                              final Writer writer) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(writer, "writer");
+
+        final char[] buffer = new char[ESCAPE_BUFFER_SIZE];
+
+        for (; ; ) {
+            final int read = reader.read(buffer);
+            if (-1 == read) {
+                break;
+            }
+
+            int start = 0;
+            for (int i = 0; i < read; i++) {
+                final char c = buffer[i];
+                if (c < ESCAPES.length && null != ESCAPES[c]) {
+                    writer.write(buffer, start, i - start);
+                    writer.write(ESCAPES[c]);
+                    start = i + 1;
+                }
+            }
+            writer.write(buffer, start, read - start);
+        }
+    }
+
+    private final static int ESCAPE_BUFFER_SIZE = 4096;
+
+    /**
+     * Returns the index of the first character that requires escaping or -1.
+     */
+    private static int escapeIndexOf(final CharSequence chars,
+                                     final int start,
+                                     final int end) {
+        final String[] escapes = ESCAPES;
+        final int escapesLength = escapes.length;
+
+        int found = -1;
+        for (int i = start; i < end; i++) {
+            final char c = chars.charAt(i);
+            if (c < escapesLength && null != escapes[c]) {
+                found = i;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * A lookup table holding the escape sequence for each character that requires escaping, all others are null.
+     */
+    private final static String[] ESCAPES = escapes();
+
+    private static String[] escapes() {
+        final String[] escapes = new String['\\' + 1];
+
+        // control characters without a backslash escape sequence use a unicode escape sequence
+        for (char c = 0; c < ' '; c++) {
+            escapes[c] = "\\u00" + HEX.charAt(c >> 4) + HEX.charAt(c & 0xf);
+        }
+
+        escapes['\\'] = "\\\\";
+        escapes['\t'] = "\\t";
+        escapes['\r'] = "\\r";
+        escapes['\n'] = "\\n";
+        escapes['\0'] = "\\0";
+        escapes['\''] = "\\'";
+        escapes['\"'] = "\\\"";
+
+        return escapes;
+    }
+
+    private final static String HEX = "0123456789ABCDEF";
+
     /**
      * Fails if the chars are null or empty.
      */
@@ -465,14 +520,52 @@ final public class CharSequences implements PublicStaticHelper {
      * Helper that combines {@link #escape} and adds double quotes if required and escapes.
      */
     private static CharSequence quoteAndEscapeNonNull(final CharSequence chars) {
+        final StringBuilder builder = new StringBuilder(chars.length() + 2);
+        quoteAndEscape(
+            chars,
+            builder
+        );
+        return builder.toString();
+    }
+
+    /**
+     * Appends the quoted and escaped {@link CharSequence} to the {@link StringBuilder}. Existing surrounding double
+     * quotes are not repeated.
+     */
+    public static void quoteAndEscape(final CharSequence chars,
+                                      final StringBuilder builder) {
+        try {
+            quoteAndEscape(
+                chars,
+                (Appendable) builder
+            );
+        } catch (final IOException cause) {
+            throw new NeverError(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Appends the quoted and escaped {@link CharSequence} to the {@link Appendable}. Existing surrounding double
+     * quotes are not repeated.
+     */
+    public static void quoteAndEscape(final CharSequence chars,
+                                      final Appendable appendable) throws IOException {
+        Objects.requireNonNull(chars, "chars");
+        Objects.requireNonNull(appendable, "appendable");
+
         final int length = chars.length();
         final boolean quoted = length > 1 &&
-            startsWith(chars, "\"") &&
-            endsWith(chars, "\"");
+            '"' == chars.charAt(0) &&
+            '"' == chars.charAt(length - 1);
 
-        return "\"" +
-            escape(quoted ? chars.subSequence(1, length - 1) : chars) +
-            '"';
+        appendable.append('"');
+        escape(
+            quoted ?
+                chars.subSequence(1, length - 1) :
+                chars,
+            appendable
+        );
+        appendable.append('"');
     }
 
     /**
@@ -507,6 +600,39 @@ final public class CharSequences implements PublicStaticHelper {
         return result;
     }
 
+    /**
+     * Appends the {@link CharSequence} to the {@link StringBuilder}, quoting and escaping only if it contains any whitespace.
+     */
+    public static void quoteIfNecessary(final CharSequence chars,
+                                        final StringBuilder builder) {
+        try {
+            quoteIfNecessary(
+                chars,
+                (Appendable) builder
+            );
+        } catch (final IOException cause) {
+            throw new NeverError(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Appends the {@link CharSequence} to the {@link Appendable}, quoting and escaping only if it contains any whitespace.
+     */
+    public static void quoteIfNecessary(final CharSequence chars,
+                                        final Appendable appendable) throws IOException {
+        Objects.requireNonNull(chars, "chars");
+        Objects.requireNonNull(appendable, "appendable");
+
+        if (Whitespace.has(chars)) {
+            quoteAndEscape(
+                chars,
+                appendable
+            );
+        } else {
+            appendable.append(chars);
+        }
+    }
+
     /**
      * Quotes and escapes {@link CharSequence}, {@link char[]} or {@link Character}. The later is
      * surrounded in single quotes and the others in double quotes. It is ok to pass in null. Note quoting is recursive
@@ -776,113 +902,189 @@ final public class CharSequences implements PublicStaticHelper {
 
     /**
      * Un-escapes {@link CharSequence chars} escaped by {@link #escape(CharSequence)}. Note support
-     * is included for backslash escape sequences and unicode escape sequences.
+     * is included for backslash escape sequences and unicode escape sequences. The original {@link CharSequence} is
+     * returned if it contains no backslashes.
      */
     public static CharSequence unescape(final CharSequence chars) {
         return null == chars ?
             null :
-            unescape0(chars);
+            unescapeNonNull(chars);
     }
 
-    private static CharSequence unescape0(final CharSequence chars) {
+    private static CharSequence unescapeNonNull(final CharSequence chars) {
         final int length = chars.length();
-        final StringBuilder builder = new StringBuilder(length);
+        final int first = indexOfBackslash(
+            chars,
+            0,
+            length
+        );
 
-        boolean wasBackslash = false;
+        final CharSequence unescaped;
+        if (-1 == first) {
+            unescaped = chars;
+        } else {
+            final StringBuilder builder = new StringBuilder(length);
+            try {
+                unescape0(
+                    chars,
+                    first,
+                    builder
+                );
+            } catch (final IOException cause) {
+                throw new NeverError(cause.getMessage(), cause);
+            }
+            unescaped = builder.toString();
+        }
+        return unescaped;
+    }
 
-        int i = 0;
-        while (i < length) {
-            final char c = chars.charAt(i);
-            i++;
+    /**
+     * Appends the un-escaped form of the {@link CharSequence} to the {@link StringBuilder}.
+     */
+    public static void unescape(final CharSequence chars,
+                                final StringBuilder builder) {
+        try {
+            unescape(
+                chars,
+                (Appendable) builder
+            );
+        } catch (final IOException cause) {
+            throw new NeverError(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Appends the un-escaped form of the {@link CharSequence} to the {@link Appendable}. Runs of characters between
+     * escape sequences are appended in bulk.
+     */
+    public static void unescape(final CharSequence chars,
+                                final Appendable appendable) throws IOException {
+        Objects.requireNonNull(chars, "chars");
+        Objects.requireNonNull(appendable, "appendable");
+
+        final int length = chars.length();
+        final int first = indexOfBackslash(
+            chars,
+            0,
+            length
+        );
+        if (-1 == first) {
+            appendable.append(chars);
+        } else {
+            unescape0(
+                chars,
+                first,
+                appendable
+            );
+        }
+    }
+
+    /**
+     * Un-escapes starting with the first backslash. A trailing backslash is dropped.
+     */
+    private static void unescape0(final CharSequence chars,
+                                  final int first,
+                                  final Appendable appendable) throws IOException {
+        final int length = chars.length();
+
+        int start = 0;
+        int backslash = first;
+
+        while (-1 != backslash) {
+            appendable.append(chars, start, backslash);
+
+            int i = backslash + 1;
+            if (i < length) {
+                final char c = chars.charAt(i);
+                i++;
 
-            if (wasBackslash) {
                 switch (c) {
                     case '\\':
-                        builder.append('\\');
+                        appendable.append('\\');
                         break;
                     case 't':
-                        builder.append('\t');
+                        appendable.append('\t');
                         break;
                     case 'r':
-                        builder.append('\r');
+                        appendable.append('\r');
                         break;
                     case 'n':
-                        builder.append('\n');
+                        appendable.append('\n');
                         break;
                     case '0':
-                        builder.append('\0');
+                        appendable.append('\0');
                         break;
                     case '\'':
-                        builder.append('\'');
+                        appendable.append('\'');
                         break;
                     case '"':
-                        builder.append('\"');
+                        appendable.append('\"');
                         break;
                     case 'u':
-                        // incomplete unicode character
-                        if ((i + 4) > length) {
-                            builder.append("\\u");
-                            break;
-                        }
-                        // \\u0000;
-                        final char firstChar = chars.charAt(i);
-                        final int firstValue = Character.digit(
-                            firstChar,
-                            16
-                        );
-                        if (firstValue < 0) {
-                            builder.append("\\u");
-                            break;
-                        }
-                        final char secondChar = chars.charAt(i + 1);
-                        final int secondValue = Character.digit(
-                            secondChar,
-                            16
-                        );
-                        if (secondValue < 0) {
-                            builder.append("\\u");
-                            break;
-                        }
-                        final char thirdChar = chars.charAt(i + 2);
-                        final int thirdValue = Character.digit(
-                            thirdChar,
-                            16
-                        );
-                        if (thirdValue < 0) {
-                            builder.append("\\u");
-                            break;
+                        final int unicode = (i + 4) > length ?
+                            -1 :
+                            unicode(
+                                chars,
+                                i
+                            );
+                        if (-1 == unicode) {
+                            // incomplete or invalid unicode character
+                            appendable.append("\\u");
+                        } else {
+                            appendable.append((char) unicode);
+                            i = i + 4;
                         }
-                        final char fourthChar = chars.charAt(i + 3);
-                        final int fourthValue = Character.digit(
-                            fourthChar,
-                            16
-                        );
-                        if (fourthValue < 0) {
-                            builder.append("\\u");
-                            break;
-                        }
-                        i = i + 4;
-                        builder.append(
-                            (char) ((firstValue * 0x1000) +
-                                (secondValue * 0x0100) +
-                                (thirdValue * 0x10) +
-                                fourthValue
-                            )
-                        );
                         break;
                     default:
-                        builder.append(c);
+                        appendable.append(c);
                         break;
                 }
-                wasBackslash = false;
-                continue;
             }
-            wasBackslash = '\\' == c;
-            if (false == wasBackslash) {
-                builder.append(c);
+
+            start = Math.min(i, length);
+            backslash = indexOfBackslash(
+                chars,
+                start,
+                length
+            );
+        }
+
+        appendable.append(chars, start, length);
+    }
+
+    /**
+     * Returns the value of the four hex digits starting at the given offset or -1 if any are invalid.
+     */
+    private static int unicode(final CharSequence chars,
+                               final int offset) {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(
+                chars.charAt(offset + i),
+                16
+            );
+            if (digit < 0) {
+                value = -1;
+                break;
+            }
+            value = value * 16 + digit;
+        }
+
+        return value;
+    }
+
+    private static int indexOfBackslash(final CharSequence chars,
+                                        final int start,
+                                        final int end) {
+        int found = -1;
+        for (int i = start; i < end; i++) {
+            if ('\\' == chars.charAt(i)) {
+                found = i;
+                break;
             }
         }
-        return builder.toString();
+        return found;
     }
 
     /**
@@ -193,6 +193,28 @@ public final class GlobPattern implements Predicate<CharSequence>,
         this.first = first;
         this.caseSensitivity = caseSensitivity;
         this.pattern = pattern;
+
+        int searchMinLength = 0;
+        GlobPatternComponent last = first;
+
+        for (GlobPatternComponent component = first;
+             null != component && GlobPatternComponentSentinel.INSTANCE != component;
+             component = component.next) {
+            searchMinLength += component.minLength();
+            last = component;
+        }
+
+        this.searchMinLength = searchMinLength;
+        this.prefix = textLiteral(first);
+        this.suffix = last != first ?
+            textLiteral(last) :
+            "";
+    }
+
+    private static String textLiteral(final GlobPatternComponent component) {
+        return component instanceof GlobPatternComponentTextLiteral ?
+            ((GlobPatternComponentTextLiteral) component).text :
+            "";
     }
 
     /**
@@ -252,7 +274,7 @@ public final class GlobPattern implements Predicate<CharSequence>,
         ) {
             foundIndex = startPos;
         } else {
-            final int stop = textLength - first.searchMinLength();
+            final int stop = textLength - this.searchMinLength;
 
             int tryingStartIndex = startPos;
 
@@ -274,9 +296,25 @@ public final class GlobPattern implements Predicate<CharSequence>,
 
     // Predicate.......................................................................................................
 
+    /**
+     * Texts shorter than the pattern or without its literal prefix or suffix are rejected before any wildcards are
+     * tried.
+     */
     @Override
     public boolean test(final CharSequence text) {
+        final CaseSensitivity caseSensitivity = this.caseSensitivity;
+
         return null != text &&
+            text.length() >= this.searchMinLength &&
+            caseSensitivity.startsWith0(
+                text,
+                this.prefix,
+                0
+            ) &&
+            caseSensitivity.endsWith(
+                text,
+                this.suffix
+            ) &&
             this.first.test(
                 text,
                 0,
@@ -286,6 +324,21 @@ public final class GlobPattern implements Predicate<CharSequence>,
 
     final GlobPatternComponent first;
 
+    /**
+     * The minimum length of any matched text, computed once rather than by each search.
+     */
+    private final int searchMinLength;
+
+    /**
+     * The leading text literal or empty if the pattern starts with a wildcard.
+     */
+    private final String prefix;
+
+    /**
+     * The trailing text literal or empty if the pattern ends with a wildcard or is a single text literal.
+     */
+    private final String suffix;
+
     // Object..........................................................................................................
 
     @Override
@@ -37,12 +37,10 @@ abstract class GlobPatternComponent {
 
     GlobPatternComponent next;
 
-    // search..........................................................................................................
-
     /**
-     * Used to stop advancing the starting text position by searchStart.
+     * The minimum number of characters matched by this component alone, ignoring {@link #next}.
      */
-    abstract int searchMinLength();
+    abstract int minLength();
 
     // test............................................................................................................
 
@@ -32,10 +32,8 @@ final class GlobPatternComponentSentinel extends GlobPatternComponent {
         return true;
     }
 
-    // search...........................................................................................................
-
     @Override
-    int searchMinLength() {
+    int minLength() {
         return 0;
     }
 
@@ -35,19 +35,11 @@ final class GlobPatternComponentTextLiteral extends GlobPatternComponent {
         return this.next.isOnlyTextLiteral();
     }
 
-    // search...........................................................................................................
-
     @Override
-    int searchMinLength() {
-        if (-1 == this.searchMinLength) {
-            this.searchMinLength = this.text.length() + this.next.searchMinLength();
-        }
-
-        return this.searchMinLength;
+    int minLength() {
+        return this.text.length();
     }
 
-    private int searchMinLength = -1;
-
     // test............................................................................................................
 
     @Override
@@ -69,7 +61,8 @@ final class GlobPatternComponentTextLiteral extends GlobPatternComponent {
             );
     }
 
-    private final String text;
+    // GlobPattern
+    final String text;
 
     // Object..........................................................................................................
 
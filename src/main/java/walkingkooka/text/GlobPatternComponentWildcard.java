@@ -41,18 +41,11 @@ final class GlobPatternComponentWildcard extends GlobPatternComponent {
         return false;
     }
 
-    // search...........................................................................................................
-
     @Override
-    int searchMinLength() {
-        if (-1 == this.searchMinLength) {
-            this.searchMinLength = this.min + this.next.searchMinLength();
-        }
-        return this.searchMinLength;
+    int minLength() {
+        return this.min;
     }
 
-    private int searchMinLength = -1;
-
     // test............................................................................................................
 
     @Override
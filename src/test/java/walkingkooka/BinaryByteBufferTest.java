@@ -0,0 +1,377 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.LongRange;
+import walkingkooka.collect.Range;
+import walkingkooka.collect.list.Lists;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BinaryByteBufferTest implements HashCodeEqualsDefinedTesting2<Binary>,
+    ToStringTesting<Binary> {
+
+    private final static byte[] BYTES = "ABCDEFGHIJ".getBytes(StandardCharsets.UTF_8);
+
+    // byteBuffer.......................................................................................................
+
+    @Test
+    public void testByteBufferNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Binary.byteBuffer(null)
+        );
+    }
+
+    @Test
+    public void testByteBufferEmpty() {
+        assertSame(
+            Binary.EMPTY,
+            Binary.byteBuffer(ByteBuffer.allocateDirect(0))
+        );
+    }
+
+    @Test
+    public void testByteBufferRemaining() {
+        final ByteBuffer buffer = ByteBuffer.wrap(BYTES);
+        buffer.position(2);
+        buffer.limit(5);
+
+        this.checkEquals(
+            Binary.with("CDE".getBytes(StandardCharsets.UTF_8)),
+            Binary.byteBuffer(buffer)
+        );
+    }
+
+    @Test
+    public void testValue() {
+        assertArrayEquals(
+            BYTES,
+            this.createObject()
+                .value()
+        );
+    }
+
+    @Test
+    public void testSize() {
+        this.checkEquals(
+            BYTES.length,
+            this.createObject()
+                .size()
+        );
+    }
+
+    @Test
+    public void testEqualsArray() {
+        this.checkEqualsAndHashCode(
+            Binary.with(BYTES)
+        );
+        this.checkEqualsAndHashCode(
+            Binary.with(BYTES),
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testEqualsComposite() {
+        this.checkEqualsAndHashCode(
+            Binary.composite(
+                Lists.of(
+                    Binary.with("ABC".getBytes(StandardCharsets.UTF_8)),
+                    Binary.with("DEFGHIJ".getBytes(StandardCharsets.UTF_8))
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(
+            Binary.with("ABCDEFGHIZ".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    public void testIndexOf() {
+        this.checkEquals(
+            3,
+            this.createObject()
+                .indexOf(
+                    "DEF".getBytes(StandardCharsets.UTF_8),
+                    0,
+                    BYTES.length
+                )
+        );
+    }
+
+    @Test
+    public void testExtract() {
+        this.checkEquals(
+            Binary.with("CDE".getBytes(StandardCharsets.UTF_8)),
+            this.createObject()
+                .extract(Range.greaterThanEquals(2L).and(Range.lessThanEquals(4L)))
+        );
+    }
+
+    @Test
+    public void testExtractExtract() {
+        this.checkEquals(
+            Binary.with("DE".getBytes(StandardCharsets.UTF_8)),
+            this.createObject()
+                .extract(Range.greaterThanEquals(2L))
+                .extract(Range.greaterThanEquals(1L).and(Range.lessThan(3L)))
+        );
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        try (final InputStream input = this.createObject().inputStream()) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[3];
+
+            for (; ; ) {
+                final int read = input.read(buffer);
+                if (-1 == read) {
+                    break;
+                }
+                output.write(buffer, 0, read);
+            }
+
+            assertArrayEquals(
+                BYTES,
+                output.toByteArray()
+            );
+        }
+    }
+
+    @Test
+    public void testWriteChannel() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.createObject()
+            .write(Channels.newChannel(output));
+
+        assertArrayEquals(
+            BYTES,
+            output.toByteArray()
+        );
+    }
+
+    // mapped...........................................................................................................
+
+    @Test
+    public void testMappedNullPathFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Binary.mapped(
+                null,
+                Range.all()
+            )
+        );
+    }
+
+    @Test
+    public void testMappedNullRangeFails() throws IOException {
+        final Path path = this.file();
+        try {
+            assertThrows(
+                NullPointerException.class,
+                () -> Binary.mapped(
+                    path,
+                    (Range<Long>) null
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testMappedOutOfBoundsFails() throws IOException {
+        final Path path = this.file();
+        try {
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> Binary.mapped(
+                    path,
+                    Range.lessThan(BYTES.length + 1L)
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testMappedAll() throws IOException {
+        final Path path = this.file();
+        try {
+            this.checkEquals(
+                Binary.with(BYTES),
+                Binary.mapped(
+                    path,
+                    Range.all()
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testMappedRange() throws IOException {
+        final Path path = this.file();
+        try {
+            this.checkEquals(
+                Binary.with("BCD".getBytes(StandardCharsets.UTF_8)),
+                Binary.mapped(
+                    path,
+                    Range.greaterThanEquals(1L).and(Range.lessThan(4L))
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testMappedLongRange() throws IOException {
+        final Path path = this.file();
+        try {
+            this.checkEquals(
+                Binary.with("BCD".getBytes(StandardCharsets.UTF_8)),
+                Binary.mapped(
+                    path,
+                    LongRange.with(1, 3)
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testMappedLongRangeAll() throws IOException {
+        final Path path = this.file();
+        try {
+            this.checkEquals(
+                Binary.with(BYTES),
+                Binary.mapped(
+                    path,
+                    LongRange.all()
+                )
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testMappedWriteChannelExtracted() throws IOException {
+        final Path path = this.file();
+        final Path target = Files.createTempFile(BinaryByteBufferTest.class.getSimpleName(), ".tmp");
+        try {
+            final Binary binary = Binary.mapped(
+                path,
+                Range.greaterThanEquals(1L)
+            ).extract(Range.greaterThanEquals(2L).and(Range.lessThan(5L)));
+
+            try (final FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                binary.write(channel);
+            }
+
+            assertArrayEquals(
+                "DEF".getBytes(StandardCharsets.UTF_8),
+                Files.readAllBytes(target)
+            );
+        } finally {
+            Files.delete(path);
+            Files.delete(target);
+        }
+    }
+
+    @Test
+    public void testMappedWriteChannelAfterFileTruncated() throws IOException {
+        final Path path = this.file();
+        final Path target = Files.createTempFile(BinaryByteBufferTest.class.getSimpleName(), ".tmp");
+        try {
+            final Binary binary = Binary.mapped(
+                path,
+                Range.greaterThanEquals(0L)
+            );
+
+            try (final FileChannel file = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                file.truncate(1);
+            }
+
+            try (final FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+                binary.write(channel);
+            }
+
+            this.checkEquals(
+                (long) binary.size(),
+                Files.size(target)
+            );
+        } finally {
+            Files.delete(path);
+            Files.delete(target);
+        }
+    }
+
+    private Path file() throws IOException {
+        final Path path = Files.createTempFile(BinaryByteBufferTest.class.getSimpleName(), ".tmp");
+        Files.write(path, BYTES);
+        return path;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public Binary createObject() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BYTES.length);
+        buffer.put(BYTES);
+        buffer.flip();
+        return Binary.byteBuffer(buffer);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "41 42 43 44 45 46 47 48 49 4a                               ABCDEFGHIJ          \n"
+        );
+    }
+
+    @Override
+    public Class<Binary> type() {
+        return Binary.class;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.Range;
+import walkingkooka.collect.list.Lists;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BinaryCompositeTest implements HashCodeEqualsDefinedTesting2<Binary> {
+
+    @Test
+    public void testWithNullElementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryComposite.with(
+                Lists.of(
+                    Binary.EMPTY,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testWithSkipsEmpty() {
+        final Binary binary = Binary.with(new byte[]{1, 2, 3});
+
+        assertSame(
+            binary,
+            BinaryComposite.with(
+                Lists.of(
+                    Binary.EMPTY,
+                    binary,
+                    Binary.EMPTY
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testWithJoinsAdjacentSlices() {
+        final Binary binary = Binary.with(new byte[]{1, 2, 3, 4});
+
+        final Binary joined = BinaryComposite.with(
+            Lists.of(
+                binary.extract(Range.lessThan(2L)),
+                binary.extract(Range.greaterThanEquals(2L))
+            )
+        );
+        assertTrue(
+            joined instanceof BinaryArray,
+            () -> joined.getClass().getName()
+        );
+        this.checkEquals(
+            binary,
+            joined
+        );
+    }
+
+    @Test
+    public void testWithFlattensComposites() {
+        final Binary composite = BinaryComposite.with(
+            Lists.of(
+                this.createObject(),
+                this.createObject()
+            )
+        );
+        assertArrayEquals(
+            new byte[]{1, 2, 3, 4, 5, 1, 2, 3, 4, 5},
+            composite.value()
+        );
+        this.checkEquals(
+            Binary.with(new byte[]{1, 2, 3, 4, 5, 1, 2, 3, 4, 5}),
+            composite
+        );
+    }
+
+    @Test
+    public void testConcatRepeated() {
+        Binary binary = this.createObject();
+        final byte[] expected = new byte[5 + 100];
+        System.arraycopy(
+            binary.value(),
+            0,
+            expected,
+            0,
+            5
+        );
+
+        for (int i = 0; i < 100; i++) {
+            binary = binary.concat(Binary.with(new byte[]{(byte) i}));
+            expected[5 + i] = (byte) i;
+        }
+
+        assertArrayEquals(
+            expected,
+            binary.value()
+        );
+    }
+
+    @Test
+    public void testConcatSameCompositeTwice() {
+        final Binary composite = this.createObject();
+
+        final Binary concat1 = composite.concat(Binary.with(new byte[]{6}));
+        final Binary concat2 = composite.concat(Binary.with(new byte[]{7, 8}));
+        final Binary concat3 = concat1.concat(Binary.with(new byte[]{9}));
+
+        assertArrayEquals(
+            new byte[]{1, 2, 3, 4, 5},
+            composite.value()
+        );
+        assertArrayEquals(
+            new byte[]{1, 2, 3, 4, 5, 6},
+            concat1.value()
+        );
+        assertArrayEquals(
+            new byte[]{1, 2, 3, 4, 5, 7, 8},
+            concat2.value()
+        );
+        assertArrayEquals(
+            new byte[]{1, 2, 3, 4, 5, 6, 9},
+            concat3.value()
+        );
+    }
+
+    @Test
+    public void testConcatComposite() {
+        this.checkEquals(
+            Binary.with(new byte[]{1, 2, 3, 4, 5, 1, 2, 3, 4, 5}),
+            this.createObject()
+                .concat(this.createObject())
+        );
+    }
+
+    @Test
+    public void testConcatAdjacentSlice() {
+        final Binary binary = Binary.with(new byte[]{1, 2, 3, 4});
+        final Binary composite = Binary.with(new byte[]{9})
+            .concat(binary.extract(Range.lessThan(2L)));
+
+        this.checkEquals(
+            Binary.with(new byte[]{9, 1, 2, 3, 4}),
+            composite.concat(binary.extract(Range.greaterThanEquals(2L)))
+        );
+        this.checkEquals(
+            Binary.with(new byte[]{9, 1, 2}),
+            composite
+        );
+    }
+
+    @Test
+    public void testSliceWithinSegment() {
+        this.checkEquals(
+            Binary.with(new byte[]{4, 5}),
+            this.createObject()
+                .extract(Range.greaterThanEquals(3L))
+        );
+    }
+
+    @Test
+    public void testSliceAcrossSegments() {
+        this.checkEquals(
+            Binary.with(new byte[]{2, 3, 4}),
+            this.createObject()
+                .extract(Range.greaterThanEquals(1L).and(Range.lessThan(4L)))
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSegments() {
+        this.checkEquals(
+            BinaryComposite.with(
+                Lists.of(
+                    Binary.with(new byte[]{1}),
+                    Binary.with(new byte[]{2, 3, 4}),
+                    Binary.with(new byte[]{5})
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentLastByte() {
+        this.checkNotEquals(
+            BinaryComposite.with(
+                Lists.of(
+                    Binary.with(new byte[]{1}),
+                    Binary.with(new byte[]{2, 3, 4}),
+                    Binary.with(new byte[]{6})
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSize() {
+        this.checkNotEquals(
+            Binary.with(new byte[]{1, 2, 3, 4})
+        );
+    }
+
+    @Override
+    public Binary createObject() {
+        return BinaryComposite.with(
+            Lists.of(
+                Binary.with(new byte[]{1, 2}),
+                Binary.with(new byte[]{3, 4, 5})
+            )
+        );
+    }
+}
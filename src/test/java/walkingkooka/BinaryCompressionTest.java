@@ -0,0 +1,475 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BinaryCompressionTest implements HashCodeEqualsDefinedTesting2<BinaryCompression>,
+    ToStringTesting<BinaryCompression> {
+
+    // setLevel.........................................................................................................
+
+    @Test
+    public void testSetLevelInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryCompression.gzip()
+                .setLevel(-2)
+        );
+    }
+
+    @Test
+    public void testSetLevelInvalidFails2() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryCompression.gzip()
+                .setLevel(10)
+        );
+    }
+
+    @Test
+    public void testSetLevelSame() {
+        final BinaryCompression compression = BinaryCompression.gzip();
+        assertSame(
+            compression,
+            compression.setLevel(compression.level())
+        );
+    }
+
+    @Test
+    public void testSetLevelDifferent() {
+        this.checkEquals(
+            9,
+            BinaryCompression.gzip()
+                .setLevel(9)
+                .level()
+        );
+    }
+
+    // setBufferSize....................................................................................................
+
+    @Test
+    public void testSetBufferSizeInvalidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryCompression.gzip()
+                .setBufferSize(0)
+        );
+    }
+
+    @Test
+    public void testSetBufferSizeSame() {
+        final BinaryCompression compression = BinaryCompression.gzip();
+        assertSame(
+            compression,
+            compression.setBufferSize(BinaryCompression.DEFAULT_BUFFER_SIZE)
+        );
+    }
+
+    // setParallel......................................................................................................
+
+    @Test
+    public void testSetParallelNullPoolFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryCompression.gzip()
+                .setParallel(null, 1)
+        );
+    }
+
+    @Test
+    public void testSetParallelInvalidBlockSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BinaryCompression.gzip()
+                .setParallel(ForkJoinPool.commonPool(), 0)
+        );
+    }
+
+    @Test
+    public void testSetParallelDeflateFails() {
+        final IllegalStateException thrown = assertThrows(
+            IllegalStateException.class,
+            () -> BinaryCompression.deflate()
+                .setParallel(ForkJoinPool.commonPool(), 100)
+        );
+        this.checkEquals(
+            "Parallel compression requires gzip",
+            thrown.getMessage(),
+            "message"
+        );
+    }
+
+    // compress.........................................................................................................
+
+    @Test
+    public void testCompressNullBinaryFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryCompression.gzip()
+                .compress(null)
+        );
+    }
+
+    @Test
+    public void testCompressNullOutputStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryCompression.gzip()
+                .compress(Binary.EMPTY, null)
+        );
+    }
+
+    @Test
+    public void testGzipEmpty() throws IOException {
+        this.compressAndDecompressAndCheck(
+            BinaryCompression.gzip(),
+            Binary.EMPTY
+        );
+    }
+
+    @Test
+    public void testGzip() throws IOException {
+        this.compressAndDecompressAndCheck(
+            BinaryCompression.gzip(),
+            this.binary(10000)
+        );
+    }
+
+    @Test
+    public void testGzipLevels() throws IOException {
+        for (int level = -1; level <= 9; level++) {
+            this.compressAndDecompressAndCheck(
+                BinaryCompression.gzip()
+                    .setLevel(level),
+                this.binary(5000)
+            );
+        }
+    }
+
+    @Test
+    public void testGzipBestSpeedAndBestCompression() throws IOException {
+        final Binary binary = this.binary(50000);
+
+        final Binary stored = BinaryCompression.gzip()
+            .setLevel(0)
+            .compress(binary);
+        final Binary best = BinaryCompression.gzip()
+            .setLevel(9)
+            .compress(binary);
+
+        assertTrue(
+            best.size() < stored.size(),
+            () -> "best " + best.size() + " < stored " + stored.size()
+        );
+    }
+
+    @Test
+    public void testGzipComposite() throws IOException {
+        this.compressAndDecompressAndCheck(
+            BinaryCompression.gzip(),
+            Binary.composite(
+                Lists.of(
+                    this.binary(1000),
+                    this.binary(2000),
+                    this.binary(3000)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testGzipCompatibleWithGZIPInputStream() throws IOException {
+        final Binary binary = this.binary(3000);
+
+        assertArrayEquals(
+            binary.value(),
+            this.gunzip(
+                BinaryCompression.gzip()
+                    .compress(binary)
+            )
+        );
+    }
+
+    @Test
+    public void testDeflate() throws IOException {
+        this.compressAndDecompressAndCheck(
+            BinaryCompression.deflate(),
+            this.binary(10000)
+        );
+    }
+
+    @Test
+    public void testDeflateSmallBuffer() throws IOException {
+        this.compressAndDecompressAndCheck(
+            BinaryCompression.deflate()
+                .setBufferSize(7)
+                .setLevel(1),
+            this.binary(10000)
+        );
+    }
+
+    @Test
+    public void testCompressOutputStream() throws IOException {
+        final Binary binary = this.binary(4000);
+        final BinaryCompression compression = BinaryCompression.deflate();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        compression.compress(
+            binary,
+            output
+        );
+
+        this.checkEquals(
+            compression.compress(binary),
+            Binary.with(output.toByteArray())
+        );
+    }
+
+    @Test
+    public void testGzipParallel() throws IOException {
+        this.compressAndDecompressAndCheck(
+            BinaryCompression.gzip()
+                .setParallel(ForkJoinPool.commonPool(), 1000),
+            this.binary(12345)
+        );
+    }
+
+    @Test
+    public void testGzipParallelCompatibleWithGZIPInputStream() throws IOException {
+        final Binary binary = this.binary(10000);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            assertArrayEquals(
+                binary.value(),
+                this.gunzip(
+                    BinaryCompression.gzip()
+                        .setParallel(pool, 999)
+                        .compress(binary)
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGzipParallelSmallerThanBlock() throws IOException {
+        final Binary binary = this.binary(100);
+
+        this.checkEquals(
+            BinaryCompression.gzip()
+                .compress(binary),
+            BinaryCompression.gzip()
+                .setParallel(ForkJoinPool.commonPool(), 1000)
+                .compress(binary)
+        );
+    }
+
+    // decompress.......................................................................................................
+
+    @Test
+    public void testDecompressNullBinaryFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryCompression.gzip()
+                .decompress(null)
+        );
+    }
+
+    @Test
+    public void testDecompressNullInputStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryCompression.gzip()
+                .decompress(null, new ByteArrayOutputStream())
+        );
+    }
+
+    @Test
+    public void testDecompressNullOutputStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinaryCompression.gzip()
+                .decompress(new ByteArrayInputStream(new byte[0]), null)
+        );
+    }
+
+    @Test
+    public void testDecompressInvalidFails() {
+        assertThrows(
+            IOException.class,
+            () -> BinaryCompression.gzip()
+                .decompress(this.binary(100))
+        );
+    }
+
+    @Test
+    public void testDecompressStreams() throws IOException {
+        final Binary binary = this.binary(5000);
+        final BinaryCompression compression = BinaryCompression.gzip();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        compression.decompress(
+            compression.compress(binary)
+                .inputStream(),
+            output
+        );
+
+        assertArrayEquals(
+            binary.value(),
+            output.toByteArray()
+        );
+    }
+
+    @Test
+    public void testDecompressStreamsDoesNotCloseInput() throws IOException {
+        final Binary binary = this.binary(5000);
+        final BinaryCompression compression = BinaryCompression.gzip();
+
+        final boolean[] closed = new boolean[1];
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        compression.decompress(
+            new ByteArrayInputStream(
+                compression.compress(binary)
+                    .value()
+            ) {
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            },
+            output
+        );
+
+        assertArrayEquals(
+            binary.value(),
+            output.toByteArray()
+        );
+        this.checkEquals(
+            false,
+            closed[0],
+            "input closed"
+        );
+    }
+
+    private void compressAndDecompressAndCheck(final BinaryCompression compression,
+                                               final Binary binary) throws IOException {
+        final Binary compressed = compression.compress(binary);
+
+        this.checkEquals(
+            binary,
+            compression.decompress(compressed),
+            () -> compression + " " + binary.size()
+        );
+    }
+
+    private byte[] gunzip(final Binary binary) throws IOException {
+        try (final InputStream input = new GZIPInputStream(binary.inputStream())) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[100];
+
+            for (; ; ) {
+                final int read = input.read(buffer);
+                if (-1 == read) {
+                    break;
+                }
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * Creates a {@link Binary} that compresses well, made up of a few random repeating bytes.
+     */
+    private Binary binary(final int size) {
+        final Random random = new Random(size);
+        final byte[] bytes = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) ('A' + random.nextInt(4));
+        }
+
+        return Binary.with(bytes);
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentFormat() {
+        this.checkNotEquals(
+            BinaryCompression.deflate()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentLevel() {
+        this.checkNotEquals(
+            BinaryCompression.gzip()
+                .setLevel(1)
+        );
+    }
+
+    @Override
+    public BinaryCompression createObject() {
+        return BinaryCompression.gzip();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            BinaryCompression.gzip()
+                .setLevel(9),
+            "gzip level=9 bufferSize=8192"
+        );
+    }
+
+    @Test
+    public void testToStringParallel() {
+        this.toStringAndCheck(
+            BinaryCompression.gzip()
+                .setParallel(ForkJoinPool.commonPool(), 1000),
+            "gzip level=-1 bufferSize=8192 parallel blockSize=1000"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BinaryCompression> type() {
+        return BinaryCompression.class;
+    }
+}
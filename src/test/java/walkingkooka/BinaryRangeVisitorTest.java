@@ -88,7 +88,10 @@ public final class BinaryRangeVisitorTest implements RangeVisitorTesting<BinaryR
 
     @Override
     public BinaryRangeVisitor createVisitor() {
-        return new BinaryRangeVisitor(this.range());
+        return new BinaryRangeVisitor(
+            this.range(),
+            100
+        );
     }
 
     private Range<Long> range() {
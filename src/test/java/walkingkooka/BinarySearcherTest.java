@@ -0,0 +1,508 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.Range;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class BinarySearcherTest implements HashCodeEqualsDefinedTesting2<BinarySearcher>,
+    ToStringTesting<BinarySearcher> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BinarySearcher.with(null)
+        );
+    }
+
+    @Test
+    public void testWithEmptyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BinarySearcher.with(new byte[0])
+        );
+    }
+
+    @Test
+    public void testWithCopied() {
+        final byte[] bytes = this.bytes("abc");
+        final BinarySearcher searcher = BinarySearcher.with(bytes);
+        bytes[0] = 'z';
+
+        this.indexOfAndCheck(
+            searcher,
+            Binary.with(this.bytes("zzabc")),
+            0,
+            5,
+            2
+        );
+    }
+
+    // indexOf..........................................................................................................
+
+    @Test
+    public void testIndexOfNullBinaryFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .indexOf(
+                    null,
+                    0,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testIndexOfStartLessThanZeroFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .indexOf(
+                    Binary.EMPTY,
+                    -1,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testIndexOfEndAfterEndFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .indexOf(
+                    Binary.with(new byte[3]),
+                    0,
+                    4
+                )
+        );
+    }
+
+    @Test
+    public void testIndexOfLonger() {
+        this.indexOfAndCheck(
+            "abc",
+            "abcd",
+            0,
+            3,
+            -1
+        );
+    }
+
+    @Test
+    public void testIndexOfNotFound() {
+        this.indexOfAndCheck(
+            "0123456789",
+            "ABC",
+            0,
+            10,
+            -1
+        );
+    }
+
+    @Test
+    public void testIndexOfSame() {
+        this.indexOfAndCheck(
+            "abc",
+            "abc",
+            0,
+            3,
+            0
+        );
+    }
+
+    @Test
+    public void testIndexOfFalseMatch() {
+        this.indexOfAndCheck(
+            "a123a1234",
+            "a1234",
+            0,
+            9,
+            4
+        );
+    }
+
+    @Test
+    public void testIndexOfEnd() {
+        this.indexOfAndCheck(
+            "abcdef",
+            "def",
+            0,
+            6,
+            3
+        );
+    }
+
+    @Test
+    public void testIndexOfWithStartOffset() {
+        this.indexOfAndCheck(
+            "abcabc",
+            "abc",
+            1,
+            6,
+            3
+        );
+    }
+
+    @Test
+    public void testIndexOfWithStartAndEnd() {
+        this.indexOfAndCheck(
+            "abcdefgh",
+            "def",
+            1,
+            5,
+            -1
+        );
+    }
+
+    @Test
+    public void testIndexOfHighBytes() {
+        this.indexOfAndCheck(
+            BinarySearcher.with(new byte[]{(byte) 0xfe, (byte) 0xff}),
+            Binary.with(new byte[]{(byte) 0xff, (byte) 0xfe, 0, (byte) 0xfe, (byte) 0xff}),
+            0,
+            5,
+            3
+        );
+    }
+
+    @Test
+    public void testIndexOfExtracted() {
+        final Binary binary = Binary.with(this.bytes("abc123abc"))
+            .extract(Range.greaterThanEquals(1L));
+
+        this.indexOfAndCheck(
+            BinarySearcher.with(this.bytes("abc")),
+            binary,
+            0,
+            binary.size(),
+            5
+        );
+    }
+
+    @Test
+    public void testIndexOfComposite() {
+        this.indexOfAndCheck(
+            BinarySearcher.with(this.bytes("cde")),
+            Binary.composite(
+                Lists.of(
+                    Binary.with(this.bytes("abc")),
+                    Binary.with(this.bytes("d")),
+                    Binary.with(this.bytes("ef"))
+                )
+            ),
+            0,
+            6,
+            2
+        );
+    }
+
+    @Test
+    public void testIndexOfSameAsBinaryIndexOf() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 500; i++) {
+            final byte[] haystack = new byte[random.nextInt(50)];
+            for (int j = 0; j < haystack.length; j++) {
+                haystack[j] = (byte) random.nextInt(3);
+            }
+            final byte[] needle = new byte[1 + random.nextInt(4)];
+            for (int j = 0; j < needle.length; j++) {
+                needle[j] = (byte) random.nextInt(3);
+            }
+            final Binary binary = Binary.with(haystack);
+
+            this.indexOfAndCheck(
+                BinarySearcher.with(needle),
+                binary,
+                0,
+                haystack.length,
+                binary.indexOf(
+                    needle,
+                    0,
+                    haystack.length
+                )
+            );
+        }
+    }
+
+    private void indexOfAndCheck(final String binary,
+                                 final String bytes,
+                                 final int start,
+                                 final int end,
+                                 final int expected) {
+        this.indexOfAndCheck(
+            BinarySearcher.with(this.bytes(bytes)),
+            Binary.with(this.bytes(binary)),
+            start,
+            end,
+            expected
+        );
+    }
+
+    private void indexOfAndCheck(final BinarySearcher searcher,
+                                 final Binary binary,
+                                 final int start,
+                                 final int end,
+                                 final int expected) {
+        this.checkEquals(
+            expected,
+            searcher.indexOf(
+                binary,
+                start,
+                end
+            ),
+            () -> searcher + " indexOf " + binary + " start " + start + " end " + end
+        );
+    }
+
+    // split............................................................................................................
+
+    @Test
+    public void testSplitNullInputStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .split(
+                    null,
+                    1,
+                    (b) -> {
+                    }
+                )
+        );
+    }
+
+    @Test
+    public void testSplitInvalidBufferSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .split(
+                    new ByteArrayInputStream(new byte[0]),
+                    0,
+                    (b) -> {
+                    }
+                )
+        );
+    }
+
+    @Test
+    public void testSplitNullConsumerFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .split(
+                    new ByteArrayInputStream(new byte[0]),
+                    1,
+                    null
+                )
+        );
+    }
+
+    @Test
+    public void testSplitEmpty() throws IOException {
+        this.splitAndCheck(
+            "",
+            "--",
+            ""
+        );
+    }
+
+    @Test
+    public void testSplitNoMatch() throws IOException {
+        this.splitAndCheck(
+            "abc",
+            "--",
+            "abc"
+        );
+    }
+
+    @Test
+    public void testSplitOnlyMatch() throws IOException {
+        this.splitAndCheck(
+            "--",
+            "--",
+            "",
+            ""
+        );
+    }
+
+    @Test
+    public void testSplitSeveral() throws IOException {
+        this.splitAndCheck(
+            "preamble--part1--part2--epilogue",
+            "--",
+            "preamble",
+            "part1",
+            "part2",
+            "epilogue"
+        );
+    }
+
+    @Test
+    public void testSplitAdjacentMatches() throws IOException {
+        this.splitAndCheck(
+            "a----b",
+            "--",
+            "a",
+            "",
+            "b"
+        );
+    }
+
+    @Test
+    public void testSplitPartialMatches() throws IOException {
+        this.splitAndCheck(
+            "a\r\n-b\r\n--boundaryc\r\n--boundar",
+            "\r\n--boundary",
+            "a\r\n-b",
+            "c\r\n--boundar"
+        );
+    }
+
+    @Test
+    public void testSplitFillsChunkFromShortReads() throws IOException {
+        final List<Binary> parts = Lists.array();
+
+        BinarySearcher.with(this.bytes("-"))
+            .split(
+                this.trickle(this.bytes("abc-def")),
+                64,
+                parts::add
+            );
+
+        this.checkEquals(
+            Lists.of(
+                Binary.with(this.bytes("abc")),
+                Binary.with(this.bytes("def"))
+            ),
+            parts
+        );
+
+        for (final Binary part : parts) {
+            assertTrue(
+                part instanceof BinaryArray,
+                () -> "part read by many short reads should be a single array " + part.getClass().getName()
+            );
+        }
+    }
+
+    private void splitAndCheck(final String input,
+                               final String bytes,
+                               final String... parts) throws IOException {
+        final List<Binary> expected = Lists.array();
+        for (final String part : parts) {
+            expected.add(
+                Binary.with(this.bytes(part))
+            );
+        }
+
+        for (int bufferSize = 1; bufferSize < input.length() + 2; bufferSize++) {
+            for (final boolean trickle : new boolean[]{false, true}) {
+                final List<Binary> actual = Lists.array();
+
+                final InputStream inputStream = trickle ?
+                    this.trickle(this.bytes(input)) :
+                    new ByteArrayInputStream(this.bytes(input));
+
+                BinarySearcher.with(this.bytes(bytes))
+                    .split(
+                        inputStream,
+                        bufferSize,
+                        actual::add
+                    );
+
+                final int b = bufferSize;
+                this.checkEquals(
+                    expected,
+                    actual,
+                    () -> "split " + CharSequences.quoteAndEscape(input) + " buffer size " + b + " trickle " + trickle
+                );
+            }
+        }
+    }
+
+    /**
+     * An {@link InputStream} that returns at most one byte per read.
+     */
+    private InputStream trickle(final byte[] bytes) {
+        return new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(final byte[] b,
+                                         final int offset,
+                                         final int length) {
+                return super.read(
+                    b,
+                    offset,
+                    Math.min(1, length)
+                );
+            }
+        };
+    }
+
+    private byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(
+            BinarySearcher.with(this.bytes("different"))
+        );
+    }
+
+    @Override
+    public BinarySearcher createObject() {
+        return BinarySearcher.with(this.bytes("ABC"));
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "41 42 43                                                    ABC                 \n"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BinarySearcher> type() {
+        return BinarySearcher.class;
+    }
+}
@@ -18,11 +18,14 @@
 package walkingkooka;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.LongRange;
 import walkingkooka.collect.Range;
+import walkingkooka.collect.list.Lists;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -359,7 +362,7 @@ public final class BinaryTest implements CanBeEmptyTesting,
         assertThrows(
             NullPointerException.class,
             () -> this.createObject()
-                .extract(null)
+                .extract((Range<Long>) null)
         );
     }
 
@@ -583,6 +586,299 @@ public final class BinaryTest implements CanBeEmptyTesting,
         );
     }
 
+    // extract LongRange................................................................................................
+
+    @Test
+    public void testExtractLongRangeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .extract((LongRange) null)
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeNegativeLowerFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .extract(LongRange.with(-1, 2))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeUpperOutOfBoundsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .extract(LongRange.with(0, 5))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeAll() {
+        final Binary binary = this.createObject();
+        assertSame(
+            binary,
+            binary.extract(LongRange.all())
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeLessThanEquals() {
+        this.checkEquals(
+            Binary.with(new byte[]{0, 11}),
+            this.createObject()
+                .extract(LongRange.lessThanEquals(1))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeGreaterThanEquals() {
+        this.checkEquals(
+            Binary.with(new byte[]{33, 44}),
+            this.createObject()
+                .extract(LongRange.greaterThanEquals(3))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeExplicitMinLowerFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .extract(LongRange.with(Long.MIN_VALUE, 1))
+        );
+    }
+
+    @Test
+    public void testExtractRangeExplicitMinLowerFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .extract(Range.greaterThanEquals(Long.MIN_VALUE).and(Range.lessThanEquals(1L)))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeExplicitMaxUpperFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .extract(LongRange.with(3, Long.MAX_VALUE))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeSameAsRangeLessThanEquals() {
+        final Binary binary = this.createObject();
+        final Range<Long> range = Range.lessThanEquals(2L);
+
+        this.checkEquals(
+            binary.extract(range),
+            binary.extract(LongRange.fromRange(range))
+        );
+    }
+
+    @Test
+    public void testExtractLongRangeSameAsRange() {
+        final Binary binary = this.createObject();
+        final Range<Long> range = Range.greaterThan(0L).and(Range.lessThan(4L));
+
+        this.checkEquals(
+            binary.extract(range),
+            binary.extract(LongRange.fromRange(range))
+        );
+    }
+
+    @Test
+    public void testExtractPartialValueCopied() {
+        final Binary extracted = this.createObject()
+            .extract(Range.greaterThanEquals(1L).and(Range.lessThanEquals(3L)));
+        final byte[] value = extracted.value();
+        value[0] = (byte) 0xff;
+
+        assertArrayEquals(
+            new byte[]{11, 22, 33},
+            extracted.value()
+        );
+    }
+
+    @Test
+    public void testExtractExtract() {
+        this.extractAndCheck(
+            this.createObject()
+                .extract(Range.greaterThanEquals(1L)),
+            Range.lessThan(2L),
+            Binary.with(new byte[]{11, 22})
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcatNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .concat(null)
+        );
+    }
+
+    @Test
+    public void testConcatEmpty() {
+        final Binary binary = this.createObject();
+        assertSame(
+            binary,
+            binary.concat(Binary.EMPTY)
+        );
+    }
+
+    @Test
+    public void testConcatEmpty2() {
+        final Binary binary = this.createObject();
+        assertSame(
+            binary,
+            Binary.EMPTY.concat(binary)
+        );
+    }
+
+    @Test
+    public void testConcat() {
+        this.concatAndCheck(
+            Binary.with(new byte[]{1, 2}),
+            Binary.with(new byte[]{3, 4, 5}),
+            new byte[]{1, 2, 3, 4, 5}
+        );
+    }
+
+    @Test
+    public void testConcatExtracted() {
+        final Binary binary = this.createObject();
+
+        this.concatAndCheck(
+            binary.extract(Range.lessThan(2L)),
+            binary.extract(Range.greaterThanEquals(2L)),
+            this.value()
+        );
+    }
+
+    private void concatAndCheck(final Binary binary,
+                                final Binary other,
+                                final byte[] expected) {
+        final Binary concat = binary.concat(other);
+        assertArrayEquals(
+            expected,
+            concat.value(),
+            () -> binary + " concat " + other
+        );
+        this.checkEquals(
+            Binary.with(expected),
+            concat
+        );
+        this.checkSize(
+            concat,
+            expected.length
+        );
+    }
+
+    // composite........................................................................................................
+
+    @Test
+    public void testCompositeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Binary.composite(null)
+        );
+    }
+
+    @Test
+    public void testCompositeEmpty() {
+        assertSame(
+            Binary.EMPTY,
+            Binary.composite(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testCompositeOne() {
+        final Binary binary = this.createObject();
+        assertSame(
+            binary,
+            Binary.composite(
+                Lists.of(binary)
+            )
+        );
+    }
+
+    @Test
+    public void testCompositeEqualsAndHashCode() {
+        final Binary composite = Binary.composite(
+            Lists.of(
+                Binary.with(new byte[]{0, 11}),
+                Binary.with(new byte[]{22}),
+                Binary.with(new byte[]{33, 44})
+            )
+        );
+        this.checkEquals(
+            this.createObject(),
+            composite
+        );
+        this.checkEquals(
+            composite,
+            this.createObject()
+        );
+        this.checkEquals(
+            this.createObject().hashCode(),
+            composite.hashCode()
+        );
+    }
+
+    @Test
+    public void testCompositeExtract() {
+        this.extractAndCheck(
+            Binary.composite(
+                Lists.of(
+                    Binary.with(new byte[]{0, 11}),
+                    Binary.with(new byte[]{22}),
+                    Binary.with(new byte[]{33, 44})
+                )
+            ),
+            Range.greaterThanEquals(1L).and(Range.lessThanEquals(3L)),
+            Binary.with(new byte[]{11, 22, 33})
+        );
+    }
+
+    @Test
+    public void testCompositeIndexOfAcrossSegments() {
+        this.indexOfAndCheck(
+            Binary.composite(
+                Lists.of(
+                    Binary.with("ab".getBytes(StandardCharsets.UTF_8)),
+                    Binary.with("cd".getBytes(StandardCharsets.UTF_8)),
+                    Binary.with("ef".getBytes(StandardCharsets.UTF_8))
+                )
+            ),
+            "bcde".getBytes(StandardCharsets.UTF_8),
+            0, // start
+            6, // end
+            1
+        );
+    }
+
+    @Test
+    public void testCompositeText() {
+        this.checkEquals(
+            "abcdef",
+            Binary.composite(
+                Lists.of(
+                    Binary.with("ab".getBytes(StandardCharsets.UTF_8)),
+                    Binary.with("cdef".getBytes(StandardCharsets.UTF_8))
+                )
+            ).text(StandardCharsets.UTF_8)
+        );
+    }
+
     // gzip.............................................................................................................
 
     @Test
@@ -597,6 +893,45 @@ public final class BinaryTest implements CanBeEmptyTesting,
         );
     }
 
+    @Test
+    public void testGunzip() throws IOException {
+        final Binary binary = Binary.with("ABC123ABC123ABC123".getBytes(StandardCharsets.UTF_8));
+
+        this.checkEquals(
+            binary,
+            binary.gzip()
+                .gunzip()
+        );
+    }
+
+    // write............................................................................................................
+
+    @Test
+    public void testWriteNullOutputStreamFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .write((OutputStream) null)
+        );
+    }
+
+    @Test
+    public void testWriteOutputStream() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Binary.composite(
+            Lists.of(
+                Binary.with(new byte[]{0, 11}),
+                Binary.with(new byte[]{22, 33, 44})
+            )
+        ).write(output);
+
+        assertArrayEquals(
+            this.value(),
+            output.toByteArray()
+        );
+    }
+
     // InputStream......................................................................................................
 
     @Test
@@ -619,6 +954,33 @@ public final class BinaryTest implements CanBeEmptyTesting,
         }
     }
 
+    @Test
+    public void testInputStreamComposite() throws Exception {
+        final byte[] bytes = "ABC123".getBytes(Charset.defaultCharset());
+
+        try (final ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            try (final InputStream input = Binary.composite(
+                Lists.of(
+                    Binary.with(new byte[]{'A'}),
+                    Binary.with(new byte[]{'B', 'C', '1'}),
+                    Binary.with(new byte[]{'2', '3'})
+                )
+            ).inputStream()) {
+                final byte[] buffer = new byte[2];
+
+                for (; ; ) {
+                    final int read = input.read(buffer);
+                    if (-1 == read) {
+                        break;
+                    }
+                    output.write(buffer, 0, read);
+                }
+            }
+
+            assertArrayEquals(bytes, output.toByteArray());
+        }
+    }
+
     // text.............................................................................................................
 
     @Test
@@ -652,8 +1014,129 @@ public final class BinaryTest implements CanBeEmptyTesting,
         );
     }
 
+    // hashCode.........................................................................................................
+
+    @Test
+    public void testHashCodeSameAsArraysHashCode() {
+        this.checkEquals(
+            Arrays.hashCode(this.value()),
+            this.createObject()
+                .hashCode()
+        );
+    }
+
+    @Test
+    public void testHashCodeZero() {
+        final Binary binary = Binary.with(new byte[]{-31});
+
+        this.checkEquals(
+            0,
+            binary.hashCode()
+        );
+        this.checkEquals(
+            0,
+            binary.hashCode()
+        );
+    }
+
+    @Test
+    public void testHashCodeCompositeSameAsArraysHashCode() {
+        this.checkEquals(
+            Arrays.hashCode(this.value()),
+            Binary.composite(
+                Lists.of(
+                    Binary.with(new byte[]{0, 11, 22}),
+                    Binary.with(new byte[]{33, 44})
+                )
+            ).hashCode()
+        );
+    }
+
+    // sha256...........................................................................................................
+
+    @Test
+    public void testSha256() {
+        this.checkEquals(
+            Binary.with(
+                new byte[]{
+                    (byte) 0xba, (byte) 0x78, (byte) 0x16, (byte) 0xbf, (byte) 0x8f, (byte) 0x01, (byte) 0xcf, (byte) 0xea,
+                    (byte) 0x41, (byte) 0x41, (byte) 0x40, (byte) 0xde, (byte) 0x5d, (byte) 0xae, (byte) 0x22, (byte) 0x23,
+                    (byte) 0xb0, (byte) 0x03, (byte) 0x61, (byte) 0xa3, (byte) 0x96, (byte) 0x17, (byte) 0x7a, (byte) 0x9c,
+                    (byte) 0xb4, (byte) 0x10, (byte) 0xff, (byte) 0x61, (byte) 0xf2, (byte) 0x00, (byte) 0x15, (byte) 0xad
+                }
+            ),
+            Binary.with("abc".getBytes(StandardCharsets.UTF_8))
+                .sha256()
+        );
+    }
+
+    @Test
+    public void testSha256Cached() {
+        final Binary binary = this.createObject();
+
+        assertSame(
+            binary.sha256(),
+            binary.sha256()
+        );
+    }
+
+    @Test
+    public void testSha256Composite() {
+        this.checkEquals(
+            this.createObject()
+                .sha256(),
+            Binary.composite(
+                Lists.of(
+                    Binary.with(new byte[]{0, 11}),
+                    Binary.with(new byte[]{22, 33, 44})
+                )
+            ).sha256()
+        );
+    }
+
     // equals...........................................................................................................
 
+    @Test
+    public void testEqualsDifferentCachedHashCode() {
+        final Binary binary = this.createObject();
+        final Binary different = Binary.with(new byte[]{0, 11, 22, 33, 45});
+        binary.hashCode();
+        different.hashCode();
+
+        this.checkNotEquals(
+            binary,
+            different
+        );
+    }
+
+    @Test
+    public void testEqualsSameCachedHashCodeAndSha256() {
+        final Binary binary = this.createObject();
+        final Binary same = this.createObject();
+        binary.hashCode();
+        same.hashCode();
+        binary.sha256();
+        same.sha256();
+
+        this.checkEquals(
+            binary,
+            same
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentCachedSha256() {
+        final Binary binary = this.createObject();
+        final Binary different = Binary.with(new byte[]{0, 11, 22, 33, 45});
+        binary.sha256();
+        different.sha256();
+
+        this.checkNotEquals(
+            binary,
+            different
+        );
+    }
+
     @Test
     public void testEqualsDifferent() {
         this.checkNotEquals(Binary.with(new byte[]{4, 5, 6}));
@@ -765,6 +1248,19 @@ public final class BinaryTest implements CanBeEmptyTesting,
         );
     }
 
+    @Test
+    public void testToStringComposite() {
+        this.toStringAndCheck(
+            Binary.composite(
+                Lists.of(
+                    Binary.with("AB".getBytes(StandardCharsets.UTF_8)),
+                    Binary.with("C".getBytes(StandardCharsets.UTF_8))
+                )
+            ),
+            "41 42 43                                                    ABC                 \n"
+        );
+    }
+
     // class............................................................................................................
 
     @Override
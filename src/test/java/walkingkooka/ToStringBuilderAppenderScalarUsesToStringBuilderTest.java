@@ -170,6 +170,92 @@ public final class ToStringBuilderAppenderScalarUsesToStringBuilderTest extends
                 LABEL3 + LABEL_SEPARATOR + 3);
     }
 
+    // UsesToStringBuilderCached.......................................................................................
+
+    @Test
+    public void testUsesToStringBuilderCachedSharesToString() {
+        final TestUsesToStringBuilderCached cached = new TestUsesToStringBuilderCached("abc");
+
+        this.buildAndCheck(ToStringBuilder.empty()
+                .label(LABEL1)
+                .value(cached)
+                .label(LABEL2)
+                .value(cached),
+            "Label1=\"abc\" label2=\"abc\"");
+
+        this.checkEquals(1, cached.buildCount, "buildCount");
+    }
+
+    @Test
+    public void testUsesToStringBuilderCachedNonDefaultOptionsRebuilt() {
+        final TestUsesToStringBuilderCached cached = new TestUsesToStringBuilderCached("abc");
+        cached.toString();
+
+        this.buildAndCheck(ToStringBuilder.empty()
+                .disable(ToStringBuilderOption.QUOTE)
+                .label(LABEL1)
+                .value(cached),
+            "Label1=abc");
+
+        this.checkEquals(2, cached.buildCount, "buildCount");
+    }
+
+    @Test
+    public void testUsesToStringBuilderCachedNonDefaultSeparatorRebuilt() {
+        final TestUsesToStringBuilderCached cached = new TestUsesToStringBuilderCached("abc");
+        cached.toString();
+
+        this.buildAndCheck(ToStringBuilder.empty()
+                .labelSeparator(":")
+                .label(LABEL1)
+                .value(cached),
+            "Label1:\"abc\"");
+
+        this.checkEquals(2, cached.buildCount, "buildCount");
+    }
+
+    @Test
+    public void testUsesToStringBuilderCachedValueLengthRebuilt() {
+        final TestUsesToStringBuilderCached cached = new TestUsesToStringBuilderCached("abcdef");
+        cached.toString();
+
+        this.buildAndCheck(ToStringBuilder.empty()
+                .valueLength(4)
+                .value(cached),
+            "\"abc");
+
+        this.checkEquals(2, cached.buildCount, "buildCount");
+    }
+
+    static final class TestUsesToStringBuilderCached implements UsesToStringBuilderCached {
+
+        TestUsesToStringBuilderCached(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void buildToString(final ToStringBuilder builder) {
+            this.buildCount++;
+            builder.value(this.value);
+        }
+
+        private final String value;
+
+        int buildCount;
+
+        @Override
+        public String toString() {
+            String toString = this.toString;
+            if (null == toString) {
+                toString = ToStringBuilder.buildFrom(this);
+                this.toString = toString;
+            }
+            return toString;
+        }
+
+        private String toString;
+    }
+
     @Override
     void append(final ToStringBuilder builder, final UsesToStringBuilder value) {
         builder.append(value);
@@ -24,6 +24,7 @@ import walkingkooka.collect.list.Lists;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.text.CharSequences;
 
+import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.util.Enumeration;
@@ -803,6 +804,216 @@ final public class ToStringBuilderTest extends ToStringBuilderTestCase<ToStringB
             result.toString());
     }
 
+    @Test
+    public void testBuildFromThreadLocalNullFails() {
+        assertThrows(NullPointerException.class, () -> ToStringBuilder.buildFromThreadLocal(null));
+    }
+
+    @Test
+    public void testBuildFromThreadLocal() {
+        final Object result = 1;
+        this.checkEquals(
+            result.toString(),
+            ToStringBuilder.buildFromThreadLocal(this.usesToStringBuilder(result))
+        );
+    }
+
+    @Test
+    public void testBuildFromThreadLocalTwice() {
+        this.checkEquals(
+            "\"first\"",
+            ToStringBuilder.buildFromThreadLocal(this.usesToStringBuilder("first"))
+        );
+        this.checkEquals(
+            "label=\"second\"",
+            ToStringBuilder.buildFromThreadLocal(this.usesToStringBuilder("label", "second"))
+        );
+    }
+
+    @Test
+    public void testBuildFromThreadLocalOptionsReset() {
+        ToStringBuilder.buildFromThreadLocal(
+            (b) -> b.disable(ToStringBuilderOption.QUOTE)
+                .globalLength(5)
+                .value("first")
+        );
+        this.checkEquals(
+            "\"second\"",
+            ToStringBuilder.buildFromThreadLocal(this.usesToStringBuilder("second"))
+        );
+    }
+
+    @Test
+    public void testBuildFromThreadLocalNested() {
+        final UsesToStringBuilder inner = this.usesToStringBuilder("inner");
+
+        this.checkEquals(
+            "\"outer\" \"\"inner\"\"",
+            ToStringBuilder.buildFromThreadLocal(
+                (b) -> b.value("outer")
+                    .value(ToStringBuilder.buildFromThreadLocal(inner))
+            )
+        );
+    }
+
+    @Test
+    public void testBuildFromThreadLocalAppendable() throws IOException {
+        final StringBuilder appendable = new StringBuilder("before ");
+
+        ToStringBuilder.buildFromThreadLocal(
+            this.usesToStringBuilder("label", 123),
+            appendable
+        );
+
+        this.checkEquals(
+            "before label=123",
+            appendable.toString()
+        );
+    }
+
+    // reset............................................................................................................
+
+    @Test
+    public void testReset() {
+        final ToStringBuilder builder = ToStringBuilder.empty()
+            .disable(ToStringBuilderOption.QUOTE)
+            .separator("$")
+            .globalLength(5)
+            .valueLength(2)
+            .value("abc")
+            .value("def");
+        this.checkEquals("ab$d", builder.build());
+
+        assertSame(builder, builder.reset());
+        this.buildAndCheck(builder);
+
+        builder.value("abc")
+            .value("def");
+        this.buildAndCheck(builder, "\"abc\" \"def\"");
+    }
+
+    @Test
+    public void testResetToString() {
+        this.toStringAndCheck(
+            ToStringBuilder.empty()
+                .labelSeparator("@")
+                .append("*value*")
+                .globalLength(3)
+                .reset(),
+            ToStringBuilder.empty()
+                .toString()
+        );
+    }
+
+    // buildTo..........................................................................................................
+
+    @Test
+    public void testBuildToNullFails() {
+        assertThrows(NullPointerException.class, () -> ToStringBuilder.empty().buildTo(null));
+    }
+
+    @Test
+    public void testBuildTo() throws IOException {
+        final StringBuilder appendable = new StringBuilder("before ");
+
+        ToStringBuilder.empty()
+            .label("label")
+            .value("value")
+            .buildTo(appendable);
+
+        this.checkEquals(
+            "before label=\"value\"",
+            appendable.toString()
+        );
+    }
+
+    // budget...........................................................................................................
+
+    @Test
+    public void testValueCharSequenceLongerThanValueLength() {
+        final ToStringBuilder builder = ToStringBuilder.empty()
+            .enable(ToStringBuilderOption.ESCAPE)
+            .valueLength(6);
+        builder.value(CharSequences.repeating('\t', 1000));
+        this.buildAndCheck(builder, "\"\\t\\t\\");
+    }
+
+    @Test
+    public void testValueCharSequenceLongerThanGlobalLength() {
+        final ToStringBuilder builder = ToStringBuilder.empty()
+            .globalLength(5);
+        builder.value(CharSequences.repeating('a', 1000));
+        this.buildAndCheck(builder, "\"aaaa");
+    }
+
+    @Test
+    public void testAppendStringBuilderLongerThanGlobalLength() {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            value.append(i % 10);
+        }
+
+        final ToStringBuilder builder = ToStringBuilder.empty()
+            .globalLength(12);
+        builder.append(value);
+        this.buildAndCheck(builder, "012345678901");
+    }
+
+    @Test
+    public void testAppendCharSequenceLongerThanGlobalLengthNotStringified() {
+        final CharSequence value = new CharSequence() {
+            @Override
+            public int length() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                return (char) ('0' + index % 10);
+            }
+
+            @Override
+            public CharSequence subSequence(final int start,
+                                            final int end) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String toString() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        final ToStringBuilder builder = ToStringBuilder.empty()
+            .globalLength(12);
+        builder.append(value);
+        this.buildAndCheck(builder, "012345678901");
+    }
+
+    @Test
+    public void testAppendNumbersNearGlobalLength() {
+        final ToStringBuilder builder = ToStringBuilder.empty()
+            .globalLength(6);
+        builder.append(1234)
+            .append(5678L)
+            .append(1.5);
+        this.buildAndCheck(builder, "123456");
+    }
+
+    @Test
+    public void testAppendNumbers() {
+        this.buildAndCheck(
+            ToStringBuilder.empty()
+                .append((byte) 1)
+                .append((short) 2)
+                .append(3)
+                .append(4L)
+                .append(5.5f)
+                .append(6.5),
+            "12345.56.5"
+        );
+    }
+
     // ToString.......................................................................................................
 
     @Test
@@ -0,0 +1,530 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HashArrayMappedTrieTest implements ClassTesting2<HashArrayMappedTrie<String>>,
+    IteratorTesting,
+    ToStringTesting<HashArrayMappedTrie<String>> {
+
+    /**
+     * Each element is a key and value separated by an equals sign, with null elements having a null key.
+     */
+    private final static Function<String, String> KEYS = (e) -> null != e ?
+        e.substring(0, e.indexOf('=')) :
+        null;
+
+    // "Aa" and "BB" have the same hash code
+    private final static String COLLISION1 = "Aa=1";
+    private final static String COLLISION2 = "BB=2";
+
+    @Test
+    public void testEmptyNullKeysFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> HashArrayMappedTrie.empty(null)
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        this.sizeAndCheck(
+            HashArrayMappedTrie.empty(KEYS)
+        );
+    }
+
+    @Test
+    public void testGetAbsent() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        this.checkEquals(
+            null,
+            trie.get("b")
+        );
+        this.checkEquals(
+            false,
+            trie.containsKey("b")
+        );
+    }
+
+    @Test
+    public void testSet() {
+        final HashArrayMappedTrie<String> empty = HashArrayMappedTrie.empty(KEYS);
+        final HashArrayMappedTrie<String> trie = empty.set("a=1")
+            .set("b=2");
+
+        this.sizeAndCheck(
+            trie,
+            "a=1",
+            "b=2"
+        );
+        this.sizeAndCheck(empty);
+    }
+
+    @Test
+    public void testSetReplaces() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1")
+            .set("b=2");
+        final HashArrayMappedTrie<String> replaced = trie.set("a=3");
+
+        this.sizeAndCheck(
+            replaced,
+            "a=3",
+            "b=2"
+        );
+        this.sizeAndCheck(
+            trie,
+            "a=1",
+            "b=2"
+        );
+    }
+
+    @Test
+    public void testSetSameElement() {
+        final String element = "a=1";
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set(element);
+
+        assertSame(
+            trie,
+            trie.set(element)
+        );
+    }
+
+    @Test
+    public void testSetNullElement() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set(null);
+
+        this.checkEquals(
+            true,
+            trie.containsKey(null)
+        );
+        this.sizeAndCheck(
+            trie,
+            (String) null
+        );
+    }
+
+    @Test
+    public void testConcatExistingKey() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        assertSame(
+            trie,
+            trie.concat("a=2")
+        );
+    }
+
+    @Test
+    public void testConcat() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        this.sizeAndCheck(
+            trie.concat("b=2"),
+            "a=1",
+            "b=2"
+        );
+        this.sizeAndCheck(
+            trie,
+            "a=1"
+        );
+    }
+
+    @Test
+    public void testDeleteAbsent() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        assertSame(
+            trie,
+            trie.delete("b")
+        );
+    }
+
+    @Test
+    public void testDelete() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1")
+            .set("b=2");
+
+        this.sizeAndCheck(
+            trie.delete("a"),
+            "b=2"
+        );
+        this.sizeAndCheck(
+            trie,
+            "a=1",
+            "b=2"
+        );
+    }
+
+    @Test
+    public void testDeleteLast() {
+        this.sizeAndCheck(
+            HashArrayMappedTrie.empty(KEYS)
+                .set("a=1")
+                .delete("a")
+        );
+    }
+
+    @Test
+    public void testCollisions() {
+        this.checkEquals(
+            KEYS.apply(COLLISION1).hashCode(),
+            KEYS.apply(COLLISION2).hashCode()
+        );
+
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set(COLLISION1)
+            .set(COLLISION2);
+
+        this.sizeAndCheck(
+            trie,
+            COLLISION1,
+            COLLISION2
+        );
+        this.sizeAndCheck(
+            trie.set("Aa=3"),
+            "Aa=3",
+            COLLISION2
+        );
+        this.sizeAndCheck(
+            trie.delete("BB"),
+            COLLISION1
+        );
+        this.sizeAndCheck(
+            trie,
+            COLLISION1,
+            COLLISION2
+        );
+    }
+
+    @Test
+    public void testConcatAllNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> HashArrayMappedTrie.empty(KEYS)
+                .concatAll(null)
+        );
+    }
+
+    @Test
+    public void testConcatAllExisting() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1")
+            .set("b=2");
+
+        assertSame(
+            trie,
+            trie.concatAll(
+                Lists.of(
+                    "a=3",
+                    "b=4"
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testConcatAll() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        this.sizeAndCheck(
+            trie.concatAll(
+                Lists.of(
+                    "a=2",
+                    "b=2",
+                    COLLISION1,
+                    COLLISION2
+                )
+            ),
+            "a=1",
+            "b=2",
+            COLLISION1,
+            COLLISION2
+        );
+        this.sizeAndCheck(
+            trie,
+            "a=1"
+        );
+    }
+
+    @Test
+    public void testDeleteAllNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> HashArrayMappedTrie.empty(KEYS)
+                .deleteAll(null)
+        );
+    }
+
+    @Test
+    public void testDeleteAllAbsent() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        assertSame(
+            trie,
+            trie.deleteAll(
+                Lists.of(
+                    "b",
+                    "c"
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteAll() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .concatAll(
+                Lists.of(
+                    "a=1",
+                    "b=2",
+                    COLLISION1,
+                    COLLISION2
+                )
+            );
+
+        this.sizeAndCheck(
+            trie.deleteAll(
+                Lists.of(
+                    "a",
+                    "BB",
+                    "z"
+                )
+            ),
+            "b=2",
+            COLLISION1
+        );
+        this.sizeAndCheck(
+            trie,
+            "a=1",
+            "b=2",
+            COLLISION1,
+            COLLISION2
+        );
+    }
+
+    @Test
+    public void testDeleteIfNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> HashArrayMappedTrie.empty(KEYS)
+                .deleteIf(null)
+        );
+    }
+
+    @Test
+    public void testDeleteIfNoneMatched() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1");
+
+        assertSame(
+            trie,
+            trie.deleteIf(e -> false)
+        );
+    }
+
+    @Test
+    public void testDeleteIfAll() {
+        this.sizeAndCheck(
+            HashArrayMappedTrie.empty(KEYS)
+                .set("a=1")
+                .set("b=2")
+                .deleteIf(e -> true)
+        );
+    }
+
+    @Test
+    public void testDeleteIf() {
+        final HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS)
+            .concatAll(
+                Lists.of(
+                    "a=1",
+                    "b=2",
+                    "c=1",
+                    COLLISION1,
+                    COLLISION2
+                )
+            );
+
+        this.sizeAndCheck(
+            trie.deleteIf(e -> e.endsWith("=1")),
+            "b=2",
+            COLLISION2
+        );
+        this.sizeAndCheck(
+            trie,
+            "a=1",
+            "b=2",
+            "c=1",
+            COLLISION1,
+            COLLISION2
+        );
+    }
+
+    @Test
+    public void testManyAgainstMap() {
+        final Random random = new Random(1);
+        final Map<String, String> expected = Maps.sorted();
+        HashArrayMappedTrie<String> trie = HashArrayMappedTrie.empty(KEYS);
+
+        for (int i = 0; i < 5000; i++) {
+            final String key = String.valueOf(random.nextInt(1000));
+
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                trie = trie.delete(key);
+            } else {
+                final String element = key + "=" + i;
+                expected.put(key, element);
+                trie = trie.set(element);
+            }
+        }
+
+        this.sizeAndCheck(
+            trie,
+            expected.values()
+                .toArray(new String[0])
+        );
+
+        for (final String element : expected.values()) {
+            assertSame(
+                element,
+                trie.get(KEYS.apply(element))
+            );
+        }
+    }
+
+    private void sizeAndCheck(final HashArrayMappedTrie<String> trie,
+                              final String... elements) {
+        this.checkEquals(
+            elements.length,
+            trie.size(),
+            () -> "size " + trie
+        );
+        this.checkEquals(
+            0 == elements.length,
+            trie.isEmpty(),
+            () -> "isEmpty " + trie
+        );
+
+        final Set<String> expected = Sets.hash();
+        expected.addAll(Arrays.asList(elements));
+
+        final Set<String> iterated = Sets.hash();
+        for (final String element : trie) {
+            iterated.add(element);
+        }
+        this.checkEquals(
+            expected,
+            iterated,
+            () -> "iterator " + trie
+        );
+
+        for (final String element : elements) {
+            this.checkEquals(
+                element,
+                trie.get(KEYS.apply(element)),
+                () -> "get " + element
+            );
+        }
+    }
+
+    // iterator.........................................................................................................
+
+    @Test
+    public void testIteratorEmpty() {
+        this.nextFails(
+            HashArrayMappedTrie.empty(KEYS)
+                .iterator()
+        );
+    }
+
+    @Test
+    public void testIteratorRemoveUnsupported() {
+        final Iterator<String> iterator = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1")
+            .iterator();
+        iterator.next();
+
+        this.removeUnsupportedFails(iterator);
+    }
+
+    @Test
+    public void testIteratorExhausted() {
+        final Iterator<String> iterator = HashArrayMappedTrie.empty(KEYS)
+            .set("a=1")
+            .iterator();
+        this.iterateAndCheck(
+            iterator,
+            "a=1"
+        );
+        this.nextFails(iterator);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            HashArrayMappedTrie.empty(KEYS)
+                .set("a=1"),
+            "[a=1]"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<HashArrayMappedTrie<String>> type() {
+        return Cast.to(HashArrayMappedTrie.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IntRangeTest implements ClassTesting2<IntRange>,
+    HashCodeEqualsDefinedTesting2<IntRange>,
+    ToStringTesting<IntRange> {
+
+    private final static int LOWER = 10;
+    private final static int UPPER = 20;
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithInvalidBoundsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntRange.with(
+                UPPER,
+                LOWER
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final IntRange range = IntRange.with(
+            LOWER,
+            UPPER
+        );
+        this.checkEquals(LOWER, range.lower(), "lower");
+        this.checkEquals(UPPER, range.upper(), "upper");
+    }
+
+    @Test
+    public void testWithMinMaxNotAll() {
+        final IntRange range = IntRange.with(
+            Integer.MIN_VALUE,
+            Integer.MAX_VALUE
+        );
+        this.checkEquals(false, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(false, range.isUpperAll(), "isUpperAll");
+        this.checkNotEquals(
+            IntRange.all(),
+            range
+        );
+    }
+
+    // all..............................................................................................................
+
+    @Test
+    public void testAll() {
+        final IntRange range = IntRange.all();
+        this.checkEquals(Integer.MIN_VALUE, range.lower(), "lower");
+        this.checkEquals(true, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(Integer.MAX_VALUE, range.upper(), "upper");
+        this.checkEquals(true, range.isUpperAll(), "isUpperAll");
+    }
+
+    // lessThanEquals...................................................................................................
+
+    @Test
+    public void testLessThanEquals() {
+        final IntRange range = IntRange.lessThanEquals(UPPER);
+        this.checkEquals(Integer.MIN_VALUE, range.lower(), "lower");
+        this.checkEquals(true, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(UPPER, range.upper(), "upper");
+        this.checkEquals(false, range.isUpperAll(), "isUpperAll");
+    }
+
+    // greaterThanEquals................................................................................................
+
+    @Test
+    public void testGreaterThanEquals() {
+        final IntRange range = IntRange.greaterThanEquals(LOWER);
+        this.checkEquals(LOWER, range.lower(), "lower");
+        this.checkEquals(false, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(Integer.MAX_VALUE, range.upper(), "upper");
+        this.checkEquals(true, range.isUpperAll(), "isUpperAll");
+    }
+
+    @Test
+    public void testSingleton() {
+        this.checkEquals(
+            IntRange.with(
+                LOWER,
+                LOWER
+            ),
+            IntRange.singleton(LOWER)
+        );
+    }
+
+    // test.............................................................................................................
+
+    @Test
+    public void testTestBelow() {
+        this.testAndCheck(LOWER - 1, false);
+    }
+
+    @Test
+    public void testTestLower() {
+        this.testAndCheck(LOWER, true);
+    }
+
+    @Test
+    public void testTestBetween() {
+        this.testAndCheck(LOWER + 1, true);
+    }
+
+    @Test
+    public void testTestUpper() {
+        this.testAndCheck(UPPER, true);
+    }
+
+    @Test
+    public void testTestAbove() {
+        this.testAndCheck(UPPER + 1, false);
+    }
+
+    @Test
+    public void testTestAll() {
+        this.checkEquals(
+            true,
+            IntRange.all()
+                .test(Integer.MIN_VALUE)
+        );
+    }
+
+    private void testAndCheck(final int value,
+                              final boolean expected) {
+        final IntRange range = this.createObject();
+        this.checkEquals(
+            expected,
+            range.test(value),
+            () -> range + " test " + value
+        );
+    }
+
+    // and..............................................................................................................
+
+    @Test
+    public void testAndNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .and(null)
+        );
+    }
+
+    @Test
+    public void testAndDisjointFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .and(IntRange.singleton(UPPER + 1))
+        );
+    }
+
+    @Test
+    public void testAndAll() {
+        final IntRange range = this.createObject();
+        assertSame(
+            range,
+            range.and(IntRange.all())
+        );
+    }
+
+    @Test
+    public void testAndAllKeepsExplicitMin() {
+        final IntRange range = IntRange.with(
+            Integer.MIN_VALUE,
+            UPPER
+        );
+        assertSame(
+            range,
+            range.and(IntRange.all())
+        );
+    }
+
+    @Test
+    public void testAndAbsentBounds() {
+        this.checkEquals(
+            IntRange.with(
+                LOWER,
+                UPPER
+            ),
+            IntRange.greaterThanEquals(LOWER)
+                .and(IntRange.lessThanEquals(UPPER))
+        );
+    }
+
+    @Test
+    public void testAndPartial() {
+        this.checkEquals(
+            IntRange.with(
+                15,
+                UPPER
+            ),
+            this.createObject()
+                .and(
+                    IntRange.with(
+                        15,
+                        Integer.MAX_VALUE
+                    )
+                )
+        );
+    }
+
+    // isOverlapping....................................................................................................
+
+    @Test
+    public void testIsOverlappingNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .isOverlapping(null)
+        );
+    }
+
+    @Test
+    public void testIsOverlappingTouching() {
+        this.isOverlappingAndCheck(
+            IntRange.singleton(UPPER),
+            true
+        );
+    }
+
+    @Test
+    public void testIsOverlappingBefore() {
+        this.isOverlappingAndCheck(
+            IntRange.with(
+                0,
+                LOWER - 1
+            ),
+            false
+        );
+    }
+
+    private void isOverlappingAndCheck(final IntRange other,
+                                       final boolean expected) {
+        final IntRange range = this.createObject();
+        this.checkEquals(
+            expected,
+            range.isOverlapping(other),
+            () -> range + " isOverlapping " + other
+        );
+        this.checkEquals(
+            expected,
+            other.isOverlapping(range),
+            () -> other + " isOverlapping " + range
+        );
+    }
+
+    // fromRange........................................................................................................
+
+    @Test
+    public void testFromRangeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> IntRange.fromRange(null)
+        );
+    }
+
+    @Test
+    public void testFromRangeAll() {
+        assertSame(
+            IntRange.all(),
+            IntRange.fromRange(Range.all())
+        );
+    }
+
+    @Test
+    public void testFromRangeExclusive() {
+        this.fromRangeAndCheck(
+            Range.greaterThan(LOWER - 1).and(Range.lessThan(UPPER + 1)),
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testFromRangeInclusive() {
+        this.fromRangeAndCheck(
+            Range.greaterThanEquals(LOWER).and(Range.lessThanEquals(UPPER)),
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testFromRangeLessThan() {
+        this.fromRangeAndCheck(
+            Range.lessThan(UPPER),
+            IntRange.lessThanEquals(UPPER - 1)
+        );
+    }
+
+    @Test
+    public void testFromRangeExplicitMin() {
+        final IntRange range = IntRange.fromRange(
+            Range.greaterThanEquals(Integer.MIN_VALUE)
+                .and(Range.lessThanEquals(UPPER))
+        );
+        this.checkEquals(
+            false,
+            range.isLowerAll(),
+            "isLowerAll"
+        );
+        this.checkEquals(
+            IntRange.with(
+                Integer.MIN_VALUE,
+                UPPER
+            ),
+            range
+        );
+    }
+
+    @Test
+    public void testFromRangeEmptyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntRange.fromRange(
+                Range.with(
+                    RangeBound.exclusive(LOWER),
+                    RangeBound.exclusive(LOWER + 1)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testFromRangeGreaterThanMaxFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntRange.fromRange(
+                Range.greaterThan(Integer.MAX_VALUE)
+            )
+        );
+    }
+
+    private void fromRangeAndCheck(final Range<Integer> range,
+                                   final IntRange expected) {
+        this.checkEquals(
+            expected,
+            IntRange.fromRange(range),
+            range::toString
+        );
+    }
+
+    // toRange..........................................................................................................
+
+    @Test
+    public void testToRangeAll() {
+        this.checkEquals(
+            Range.all(),
+            IntRange.all()
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeSingleton() {
+        this.checkEquals(
+            Range.singleton(LOWER),
+            IntRange.singleton(LOWER)
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeGreaterThanEquals() {
+        this.checkEquals(
+            Range.greaterThanEquals(LOWER),
+            IntRange.greaterThanEquals(LOWER)
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeExplicitMinMax() {
+        this.checkEquals(
+            Range.greaterThanEquals(Integer.MIN_VALUE)
+                .and(Range.lessThanEquals(Integer.MAX_VALUE)),
+            IntRange.with(
+                Integer.MIN_VALUE,
+                Integer.MAX_VALUE
+            ).toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeRoundtripExplicitMin() {
+        final Range<Integer> range = Range.with(
+            RangeBound.inclusive(Integer.MIN_VALUE),
+            RangeBound.inclusive(5)
+        );
+        this.checkEquals(
+            range,
+            IntRange.fromRange(range)
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeRoundtrip() {
+        final IntRange range = this.createObject();
+        this.checkEquals(
+            range,
+            IntRange.fromRange(range.toRange())
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentLower() {
+        this.checkNotEquals(
+            IntRange.with(
+                LOWER - 1,
+                UPPER
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentUpper() {
+        this.checkNotEquals(
+            IntRange.with(
+                LOWER,
+                UPPER + 1
+            )
+        );
+    }
+
+    @Override
+    public IntRange createObject() {
+        return IntRange.with(
+            LOWER,
+            UPPER
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            Range.greaterThanEquals(LOWER)
+                .and(Range.lessThanEquals(UPPER))
+                .toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<IntRange> type() {
+        return IntRange.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LongRangeTest implements ClassTesting2<LongRange>,
+    HashCodeEqualsDefinedTesting2<LongRange>,
+    ToStringTesting<LongRange> {
+
+    private final static long LOWER = 10;
+    private final static long UPPER = 20;
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithInvalidBoundsFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LongRange.with(
+                UPPER,
+                LOWER
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final LongRange range = LongRange.with(
+            LOWER,
+            UPPER
+        );
+        this.checkEquals(LOWER, range.lower(), "lower");
+        this.checkEquals(UPPER, range.upper(), "upper");
+    }
+
+    @Test
+    public void testWithMinMaxNotAll() {
+        final LongRange range = LongRange.with(
+            Long.MIN_VALUE,
+            Long.MAX_VALUE
+        );
+        this.checkEquals(false, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(false, range.isUpperAll(), "isUpperAll");
+        this.checkNotEquals(
+            LongRange.all(),
+            range
+        );
+    }
+
+    // all..............................................................................................................
+
+    @Test
+    public void testAll() {
+        final LongRange range = LongRange.all();
+        this.checkEquals(Long.MIN_VALUE, range.lower(), "lower");
+        this.checkEquals(true, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(Long.MAX_VALUE, range.upper(), "upper");
+        this.checkEquals(true, range.isUpperAll(), "isUpperAll");
+    }
+
+    // lessThanEquals...................................................................................................
+
+    @Test
+    public void testLessThanEquals() {
+        final LongRange range = LongRange.lessThanEquals(UPPER);
+        this.checkEquals(Long.MIN_VALUE, range.lower(), "lower");
+        this.checkEquals(true, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(UPPER, range.upper(), "upper");
+        this.checkEquals(false, range.isUpperAll(), "isUpperAll");
+    }
+
+    // greaterThanEquals................................................................................................
+
+    @Test
+    public void testGreaterThanEquals() {
+        final LongRange range = LongRange.greaterThanEquals(LOWER);
+        this.checkEquals(LOWER, range.lower(), "lower");
+        this.checkEquals(false, range.isLowerAll(), "isLowerAll");
+        this.checkEquals(Long.MAX_VALUE, range.upper(), "upper");
+        this.checkEquals(true, range.isUpperAll(), "isUpperAll");
+    }
+
+    @Test
+    public void testSingleton() {
+        this.checkEquals(
+            LongRange.with(
+                LOWER,
+                LOWER
+            ),
+            LongRange.singleton(LOWER)
+        );
+    }
+
+    // test.............................................................................................................
+
+    @Test
+    public void testTestBelow() {
+        this.testAndCheck(LOWER - 1, false);
+    }
+
+    @Test
+    public void testTestLower() {
+        this.testAndCheck(LOWER, true);
+    }
+
+    @Test
+    public void testTestBetween() {
+        this.testAndCheck(LOWER + 1, true);
+    }
+
+    @Test
+    public void testTestUpper() {
+        this.testAndCheck(UPPER, true);
+    }
+
+    @Test
+    public void testTestAbove() {
+        this.testAndCheck(UPPER + 1, false);
+    }
+
+    @Test
+    public void testTestAll() {
+        this.checkEquals(
+            true,
+            LongRange.all()
+                .test(Long.MIN_VALUE)
+        );
+    }
+
+    private void testAndCheck(final long value,
+                              final boolean expected) {
+        final LongRange range = this.createObject();
+        this.checkEquals(
+            expected,
+            range.test(value),
+            () -> range + " test " + value
+        );
+    }
+
+    // and..............................................................................................................
+
+    @Test
+    public void testAndNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .and(null)
+        );
+    }
+
+    @Test
+    public void testAndDisjointFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createObject()
+                .and(LongRange.singleton(UPPER + 1))
+        );
+    }
+
+    @Test
+    public void testAndAll() {
+        final LongRange range = this.createObject();
+        assertSame(
+            range,
+            range.and(LongRange.all())
+        );
+    }
+
+    @Test
+    public void testAndAllKeepsExplicitMin() {
+        final LongRange range = LongRange.with(
+            Long.MIN_VALUE,
+            UPPER
+        );
+        assertSame(
+            range,
+            range.and(LongRange.all())
+        );
+    }
+
+    @Test
+    public void testAndAbsentBounds() {
+        this.checkEquals(
+            LongRange.with(
+                LOWER,
+                UPPER
+            ),
+            LongRange.greaterThanEquals(LOWER)
+                .and(LongRange.lessThanEquals(UPPER))
+        );
+    }
+
+    @Test
+    public void testAndPartial() {
+        this.checkEquals(
+            LongRange.with(
+                15,
+                UPPER
+            ),
+            this.createObject()
+                .and(
+                    LongRange.with(
+                        15,
+                        Long.MAX_VALUE
+                    )
+                )
+        );
+    }
+
+    // isOverlapping....................................................................................................
+
+    @Test
+    public void testIsOverlappingNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createObject()
+                .isOverlapping(null)
+        );
+    }
+
+    @Test
+    public void testIsOverlappingTouching() {
+        this.isOverlappingAndCheck(
+            LongRange.singleton(UPPER),
+            true
+        );
+    }
+
+    @Test
+    public void testIsOverlappingBefore() {
+        this.isOverlappingAndCheck(
+            LongRange.with(
+                0,
+                LOWER - 1
+            ),
+            false
+        );
+    }
+
+    private void isOverlappingAndCheck(final LongRange other,
+                                       final boolean expected) {
+        final LongRange range = this.createObject();
+        this.checkEquals(
+            expected,
+            range.isOverlapping(other),
+            () -> range + " isOverlapping " + other
+        );
+        this.checkEquals(
+            expected,
+            other.isOverlapping(range),
+            () -> other + " isOverlapping " + range
+        );
+    }
+
+    // fromRange........................................................................................................
+
+    @Test
+    public void testFromRangeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LongRange.fromRange(null)
+        );
+    }
+
+    @Test
+    public void testFromRangeAll() {
+        assertSame(
+            LongRange.all(),
+            LongRange.fromRange(Range.all())
+        );
+    }
+
+    @Test
+    public void testFromRangeExclusive() {
+        this.fromRangeAndCheck(
+            Range.greaterThan(LOWER - 1).and(Range.lessThan(UPPER + 1)),
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testFromRangeInclusive() {
+        this.fromRangeAndCheck(
+            Range.greaterThanEquals(LOWER).and(Range.lessThanEquals(UPPER)),
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testFromRangeLessThan() {
+        this.fromRangeAndCheck(
+            Range.lessThan(UPPER),
+            LongRange.lessThanEquals(UPPER - 1)
+        );
+    }
+
+    @Test
+    public void testFromRangeExplicitMin() {
+        final LongRange range = LongRange.fromRange(
+            Range.greaterThanEquals(Long.MIN_VALUE)
+                .and(Range.lessThanEquals(UPPER))
+        );
+        this.checkEquals(
+            false,
+            range.isLowerAll(),
+            "isLowerAll"
+        );
+        this.checkEquals(
+            LongRange.with(
+                Long.MIN_VALUE,
+                UPPER
+            ),
+            range
+        );
+    }
+
+    @Test
+    public void testFromRangeEmptyFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LongRange.fromRange(
+                Range.with(
+                    RangeBound.exclusive(LOWER),
+                    RangeBound.exclusive(LOWER + 1)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testFromRangeGreaterThanMaxFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LongRange.fromRange(
+                Range.greaterThan(Long.MAX_VALUE)
+            )
+        );
+    }
+
+    private void fromRangeAndCheck(final Range<Long> range,
+                                   final LongRange expected) {
+        this.checkEquals(
+            expected,
+            LongRange.fromRange(range),
+            range::toString
+        );
+    }
+
+    // toRange..........................................................................................................
+
+    @Test
+    public void testToRangeAll() {
+        this.checkEquals(
+            Range.all(),
+            LongRange.all()
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeSingleton() {
+        this.checkEquals(
+            Range.singleton(LOWER),
+            LongRange.singleton(LOWER)
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeGreaterThanEquals() {
+        this.checkEquals(
+            Range.greaterThanEquals(LOWER),
+            LongRange.greaterThanEquals(LOWER)
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeExplicitMinMax() {
+        this.checkEquals(
+            Range.greaterThanEquals(Long.MIN_VALUE)
+                .and(Range.lessThanEquals(Long.MAX_VALUE)),
+            LongRange.with(
+                Long.MIN_VALUE,
+                Long.MAX_VALUE
+            ).toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeRoundtripExplicitMin() {
+        final Range<Long> range = Range.with(
+            RangeBound.inclusive(Long.MIN_VALUE),
+            RangeBound.inclusive(5L)
+        );
+        this.checkEquals(
+            range,
+            LongRange.fromRange(range)
+                .toRange()
+        );
+    }
+
+    @Test
+    public void testToRangeRoundtrip() {
+        final LongRange range = this.createObject();
+        this.checkEquals(
+            range,
+            LongRange.fromRange(range.toRange())
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentLower() {
+        this.checkNotEquals(
+            LongRange.with(
+                LOWER - 1,
+                UPPER
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentUpper() {
+        this.checkNotEquals(
+            LongRange.with(
+                LOWER,
+                UPPER + 1
+            )
+        );
+    }
+
+    @Override
+    public LongRange createObject() {
+        return LongRange.with(
+            LOWER,
+            UPPER
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            Range.greaterThanEquals(LOWER)
+                .and(Range.lessThanEquals(UPPER))
+                .toString()
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<LongRange> type() {
+        return LongRange.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
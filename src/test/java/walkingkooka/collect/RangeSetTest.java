@@ -0,0 +1,652 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.PredicateTesting2;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class RangeSetTest implements ClassTesting2<RangeSet<Integer>>,
+    PredicateTesting2<RangeSet<Integer>, Integer>,
+    HashCodeEqualsDefinedTesting2<RangeSet<Integer>> {
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RangeSet.with(null)
+        );
+    }
+
+    @Test
+    public void testWithNullRangeFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> RangeSet.with(
+                Lists.of(
+                    range(1, 2),
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            RangeSet.empty(),
+            RangeSet.with(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testWithEmptyRangeIgnored() {
+        assertSame(
+            RangeSet.empty(),
+            RangeSet.with(
+                Lists.of(
+                    Range.with(
+                        RangeBound.exclusive(1),
+                        RangeBound.exclusive(1)
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testWithSorts() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    range(7, 9),
+                    range(1, 2),
+                    range(4, 5)
+                )
+            ),
+            range(1, 2),
+            range(4, 5),
+            range(7, 9)
+        );
+    }
+
+    @Test
+    public void testWithMergesOverlapping() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    range(5, 9),
+                    range(1, 6)
+                )
+            ),
+            range(1, 9)
+        );
+    }
+
+    @Test
+    public void testWithMergesContained() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    range(1, 9),
+                    range(3, 4)
+                )
+            ),
+            range(1, 9)
+        );
+    }
+
+    @Test
+    public void testWithMergesInclusiveExclusiveTouching() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    Range.with(
+                        RangeBound.inclusive(1),
+                        RangeBound.exclusive(5)
+                    ),
+                    range(5, 9)
+                )
+            ),
+            range(1, 9)
+        );
+    }
+
+    @Test
+    public void testWithExclusiveExclusiveNotMerged() {
+        final Range<Integer> lessThan = Range.lessThan(5);
+        final Range<Integer> greaterThan = Range.greaterThan(5);
+
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    greaterThan,
+                    lessThan
+                )
+            ),
+            lessThan,
+            greaterThan
+        );
+    }
+
+    @Test
+    public void testWithAllMergesEverything() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    range(1, 2),
+                    Range.all(),
+                    range(4, 5)
+                )
+            ),
+            Range.all()
+        );
+    }
+
+    @Test
+    public void testWithLessThanGreaterThanEquals() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    Range.greaterThanEquals(5),
+                    Range.lessThan(5)
+                )
+            ),
+            Range.all()
+        );
+    }
+
+    // test.............................................................................................................
+
+    @Test
+    public void testTestEmpty() {
+        this.testFalse(
+            RangeSet.empty(),
+            1
+        );
+    }
+
+    @Test
+    public void testTestBelow() {
+        this.testFalse(0);
+    }
+
+    @Test
+    public void testTestLower() {
+        this.testTrue(1);
+    }
+
+    @Test
+    public void testTestInside() {
+        this.testTrue(2);
+    }
+
+    @Test
+    public void testTestUpper() {
+        this.testTrue(3);
+    }
+
+    @Test
+    public void testTestGap() {
+        this.testFalse(4);
+    }
+
+    @Test
+    public void testTestExclusiveLower() {
+        this.testFalse(10);
+    }
+
+    @Test
+    public void testTestExclusiveLowerAbove() {
+        this.testTrue(11);
+    }
+
+    @Test
+    public void testTestLessThan() {
+        this.testTrue(
+            RangeSet.with(
+                Lists.of(
+                    Range.lessThan(0),
+                    range(5, 6)
+                )
+            ),
+            -1000
+        );
+    }
+
+    @Test
+    public void testTestMany() {
+        final RangeSet<Integer> set = this.many();
+
+        for (int i = -5; i < 1005; i++) {
+            this.testAndCheck(
+                set,
+                i,
+                i >= 0 && i < 1000 && (i % 10) < 3
+            );
+        }
+    }
+
+    // isOverlapping....................................................................................................
+
+    @Test
+    public void testIsOverlappingNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createPredicate()
+                .isOverlapping(null)
+        );
+    }
+
+    @Test
+    public void testIsOverlappingEmpty() {
+        this.isOverlappingAndCheck(
+            RangeSet.empty(),
+            Range.all(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsOverlappingBefore() {
+        this.isOverlappingAndCheck(
+            Range.lessThan(1),
+            false
+        );
+    }
+
+    @Test
+    public void testIsOverlappingTouchingInclusive() {
+        this.isOverlappingAndCheck(
+            Range.lessThanEquals(1),
+            true
+        );
+    }
+
+    @Test
+    public void testIsOverlappingGap() {
+        this.isOverlappingAndCheck(
+            range(4, 9),
+            false
+        );
+    }
+
+    @Test
+    public void testIsOverlappingGapExclusive() {
+        this.isOverlappingAndCheck(
+            Range.with(
+                RangeBound.exclusive(3),
+                RangeBound.inclusive(10)
+            ),
+            false
+        );
+    }
+
+    @Test
+    public void testIsOverlappingSpanning() {
+        this.isOverlappingAndCheck(
+            range(4, 12),
+            true
+        );
+    }
+
+    @Test
+    public void testIsOverlappingAll() {
+        this.isOverlappingAndCheck(
+            Range.all(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsOverlappingMany() {
+        final RangeSet<Integer> set = this.many();
+
+        this.isOverlappingAndCheck(
+            set,
+            range(503, 509),
+            false
+        );
+        this.isOverlappingAndCheck(
+            set,
+            range(503, 510),
+            true
+        );
+    }
+
+    private void isOverlappingAndCheck(final Range<Integer> range,
+                                       final boolean expected) {
+        this.isOverlappingAndCheck(
+            this.createPredicate(),
+            range,
+            expected
+        );
+    }
+
+    private void isOverlappingAndCheck(final RangeSet<Integer> set,
+                                       final Range<Integer> range,
+                                       final boolean expected) {
+        this.checkEquals(
+            expected,
+            set.isOverlapping(range),
+            () -> set + " isOverlapping " + range
+        );
+    }
+
+    // union............................................................................................................
+
+    @Test
+    public void testUnionNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createPredicate()
+                .union(null)
+        );
+    }
+
+    @Test
+    public void testUnionEmpty() {
+        final RangeSet<Integer> set = this.createPredicate();
+        assertSame(
+            set,
+            set.union(RangeSet.empty())
+        );
+    }
+
+    @Test
+    public void testUnionEmptyWith() {
+        final RangeSet<Integer> set = this.createPredicate();
+        assertSame(
+            set,
+            RangeSet.<Integer>empty()
+                .union(set)
+        );
+    }
+
+    @Test
+    public void testUnion() {
+        this.rangesAndCheck(
+            this.createPredicate()
+                .union(
+                    RangeSet.with(
+                        Lists.of(
+                            range(3, 5),
+                            range(20, 30)
+                        )
+                    )
+                ),
+            range(1, 5),
+            Range.greaterThan(10)
+        );
+    }
+
+    // intersection.....................................................................................................
+
+    @Test
+    public void testIntersectionNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createPredicate()
+                .intersection(null)
+        );
+    }
+
+    @Test
+    public void testIntersectionEmpty() {
+        assertSame(
+            RangeSet.empty(),
+            this.createPredicate()
+                .intersection(RangeSet.empty())
+        );
+    }
+
+    @Test
+    public void testIntersection() {
+        this.rangesAndCheck(
+            this.createPredicate()
+                .intersection(
+                    RangeSet.with(
+                        Lists.of(
+                            range(2, 10),
+                            range(15, 20)
+                        )
+                    )
+                ),
+            range(2, 3),
+            range(15, 20)
+        );
+    }
+
+    @Test
+    public void testIntersectionTouchingSingleton() {
+        this.rangesAndCheck(
+            RangeSet.with(
+                Lists.of(
+                    Range.lessThanEquals(5)
+                )
+            ).intersection(
+                RangeSet.with(
+                    Lists.of(
+                        Range.greaterThanEquals(5)
+                    )
+                )
+            ),
+            range(5, 5)
+        );
+    }
+
+    @Test
+    public void testIntersectionExclusiveTouching() {
+        assertSame(
+            RangeSet.empty(),
+            RangeSet.with(
+                Lists.of(
+                    Range.lessThan(5)
+                )
+            ).intersection(
+                RangeSet.with(
+                    Lists.of(
+                        Range.greaterThanEquals(5)
+                    )
+                )
+            )
+        );
+    }
+
+    // complement.......................................................................................................
+
+    @Test
+    public void testComplementEmpty() {
+        this.rangesAndCheck(
+            RangeSet.<Integer>empty()
+                .complement(),
+            Range.all()
+        );
+    }
+
+    @Test
+    public void testComplementAll() {
+        assertSame(
+            RangeSet.empty(),
+            RangeSet.with(
+                Lists.of(
+                    Range.<Integer>all()
+                )
+            ).complement()
+        );
+    }
+
+    @Test
+    public void testComplement() {
+        this.rangesAndCheck(
+            this.createPredicate()
+                .complement(),
+            Range.lessThan(1),
+            Range.with(
+                RangeBound.exclusive(3),
+                RangeBound.inclusive(10)
+            )
+        );
+    }
+
+    @Test
+    public void testComplementComplement() {
+        final RangeSet<Integer> set = this.createPredicate();
+        this.checkEquals(
+            set,
+            set.complement()
+                .complement()
+        );
+    }
+
+    @Test
+    public void testComplementRandom() {
+        final Random random = new Random(1);
+        final RangeSet<Integer> set = this.many();
+        final RangeSet<Integer> complement = set.complement();
+
+        for (int i = 0; i < 1000; i++) {
+            final int value = random.nextInt(1200) - 100;
+            this.checkEquals(
+                false == set.test(value),
+                complement.test(value),
+                () -> "complement test " + value
+            );
+        }
+
+        assertSame(
+            RangeSet.empty(),
+            set.intersection(complement)
+        );
+        this.rangesAndCheck(
+            set.union(complement),
+            Range.all()
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    private static Range<Integer> range(final int lower,
+                                        final int upper) {
+        return Range.with(
+            RangeBound.inclusive(lower),
+            RangeBound.inclusive(upper)
+        );
+    }
+
+    private RangeSet<Integer> many() {
+        final List<Range<Integer>> ranges = Lists.array();
+        for (int i = 0; i < 1000; i += 10) {
+            ranges.add(range(i, i + 2));
+        }
+        return RangeSet.with(ranges);
+    }
+
+    @SafeVarargs
+    private final void rangesAndCheck(final RangeSet<Integer> set,
+                                      final Range<Integer>... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            set.ranges(),
+            set::toString
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentRanges() {
+        this.checkNotEquals(
+            RangeSet.with(
+                Lists.of(
+                    range(1, 2)
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsMerged() {
+        this.checkEqualsAndHashCode(
+            RangeSet.with(
+                Lists.of(
+                    range(1, 2),
+                    range(2, 3),
+                    Range.greaterThan(10)
+                )
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createPredicate(),
+            "[(1..3), >10]"
+        );
+    }
+
+    // PredicateTesting.................................................................................................
+
+    @Override
+    public RangeSet<Integer> createPredicate() {
+        return RangeSet.with(
+            Lists.of(
+                Range.greaterThan(10),
+                range(1, 3)
+            )
+        );
+    }
+
+    @Override
+    public RangeSet<Integer> createObject() {
+        return this.createPredicate();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "Set";
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<RangeSet<Integer>> type() {
+        return Cast.to(RangeSet.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
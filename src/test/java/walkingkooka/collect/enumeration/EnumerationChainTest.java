@@ -106,6 +106,57 @@ final public class EnumerationChainTest implements EnumerationTesting,
         );
     }
 
+    @Test
+    public void testWithFlattensChain() {
+        final Vector<String> first = Lists.vector();
+        first.add("1a");
+        final Vector<String> second = Lists.vector();
+        second.add("2b");
+        final Vector<String> third = Lists.vector();
+        third.add("3c");
+
+        final Enumeration<String> enumeration1 = first.elements();
+
+        final EnumerationChain<String> chain = EnumerationChain.with(
+            Lists.of(
+                EnumerationChain.with(
+                    Lists.of(
+                        enumeration1,
+                        second.elements()
+                    )
+                ),
+                third.elements()
+            )
+        );
+
+        this.toStringAndCheck(
+            chain,
+            enumeration1 + "..."
+        );
+        this.enumerateAndCheck(
+            chain,
+            "1a",
+            "2b",
+            "3c"
+        );
+    }
+
+    @Test
+    public void testWithExhaustedChain() {
+        final EnumerationChain<String> exhausted = EnumerationChain.with(
+            Lists.of(
+                new Vector<String>().elements()
+            )
+        );
+        exhausted.hasMoreElements();
+
+        this.enumerateAndCheck(
+            EnumerationChain.with(
+                Lists.of(exhausted)
+            )
+        );
+    }
+
     @Test
     public void testToStringWhenEmpty() {
         final Vector<String> first = Lists.vector();
@@ -73,6 +73,22 @@ public final class ChainIterableIteratorTest implements IteratorTesting, ClassTe
         );
     }
 
+    @Test
+    public void testForEachRemaining() {
+        final Iterator<String> iterator = ChainIterableIterator.with(
+            Lists.of("1a", "2b"),
+            Lists.empty(),
+            Lists.of("3c")
+        );
+        iterator.next();
+
+        this.forEachRemainingAndCheck(
+            iterator,
+            "2b",
+            "3c"
+        );
+    }
+
     @Test
     public void testLazyIterator() {
         final Iterator<String> iterator = ChainIterableIterator.with(
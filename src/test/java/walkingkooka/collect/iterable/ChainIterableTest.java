@@ -59,6 +59,26 @@ final public class ChainIterableTest implements IterableTesting<ChainIterable<St
         assertSame(only, ChainIterable.with(only));
     }
 
+    @Test
+    public void testWithFlattensChain() {
+        final Iterable<String> third = Lists.of("3c");
+        final Iterable<String> chain = ChainIterable.with(
+            this.createIterable(),
+            third
+        );
+
+        this.toStringAndCheck(
+            chain,
+            Lists.of(FIRST, SECOND, third).toString()
+        );
+        this.iterateAndCheck(
+            chain.iterator(),
+            "1a",
+            "2b",
+            "3c"
+        );
+    }
+
     @Test
     public void testIterator() {
         this.checkEquals(
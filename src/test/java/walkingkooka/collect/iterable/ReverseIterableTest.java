@@ -20,11 +20,14 @@ package walkingkooka.collect.iterable;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -64,6 +67,29 @@ final public class ReverseIterableTest implements ClassTesting2<ReverseIterable<
         assertFalse(iterator.hasNext(), "iterator should be empty");
     }
 
+    @Test
+    public void testIteratorLinkedList() {
+        final Iterator<String> iterator = ReverseIterable.wrap(new LinkedList<>(Lists.of("1", "2", "3"))).iterator();
+        this.checkEquals("3", iterator.next());
+        this.checkEquals("2", iterator.next());
+        this.checkEquals("1", iterator.next());
+        assertFalse(iterator.hasNext(), "iterator should be empty");
+    }
+
+    @Test
+    public void testIteratorSet() {
+        final Set<String> set = Sets.ordered();
+        set.add("1");
+        set.add("2");
+        set.add("3");
+
+        final Iterator<String> iterator = ReverseIterable.wrap(set).iterator();
+        this.checkEquals("3", iterator.next());
+        this.checkEquals("2", iterator.next());
+        this.checkEquals("1", iterator.next());
+        assertFalse(iterator.hasNext(), "iterator should be empty");
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createIterable(), ITERABLE.toString());
@@ -65,6 +65,18 @@ final public class ArrayIteratorTest extends IteratorTestCase<ArrayIterator<Stri
         this.removeUnsupportedFails(iterator);
     }
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(this.createIterator(), "A", "B", "C");
+    }
+
+    @Test
+    public void testForEachRemainingPartiallyConsumed() {
+        final ArrayIterator<String> iterator = this.createIterator();
+        iterator.next();
+        this.forEachRemainingAndCheck(iterator, "B", "C");
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createIterator(), Lists.of("A", "B", "C").toString());
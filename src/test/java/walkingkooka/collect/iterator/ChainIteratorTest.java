@@ -269,6 +269,71 @@ final public class ChainIteratorTest extends IteratorTestCase<ChainIterator<Stri
         this.removeWithoutNextFails(iterator);
     }
 
+    @Test
+    public void testWithFlattensChain() {
+        final Iterator<String> first = Iterators.one("1");
+        final Iterator<String> second = Iterators.one("2");
+        final Iterator<String> third = Iterators.one("3");
+
+        final ChainIterator<String> chain = Cast.to(
+            ChainIterator.with(
+                ChainIterator.with(
+                    first,
+                    second
+                ),
+                third
+            )
+        );
+        this.checkEquals(
+            3,
+            chain.iterators.length,
+            "flattened"
+        );
+        this.iterateAndCheck(
+            chain,
+            "1",
+            "2",
+            "3"
+        );
+    }
+
+    @Test
+    public void testWithFlattensPartiallyConsumedChain() {
+        final Iterator<String> nested = ChainIterator.with(
+            Iterators.one("1"),
+            Iterators.array("2", "3"),
+            Iterators.one("4")
+        );
+        nested.next();
+        nested.next();
+
+        this.iterateAndCheck(
+            ChainIterator.with(
+                nested,
+                Iterators.one("5")
+            ),
+            "3",
+            "4",
+            "5"
+        );
+    }
+
+    @Test
+    public void testForEachRemaining() {
+        final ChainIterator<String> iterator = this.createIterator(
+            Iterators.array("1", "2"),
+            Iterators.array("3", "4")
+        );
+        iterator.next();
+
+        this.forEachRemainingAndCheck(
+            iterator,
+            "2",
+            "3",
+            "4"
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createIterator(), FIRST + "...");
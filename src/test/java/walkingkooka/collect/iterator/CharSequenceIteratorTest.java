@@ -53,6 +53,13 @@ final public class CharSequenceIteratorTest
         this.removeUnsupportedFails(iterator);
     }
 
+    @Test
+    public void testForEachRemaining() {
+        final CharSequenceIterator iterator = this.createIterator();
+        iterator.next();
+        this.forEachRemainingAndCheck(iterator, 'B', 'C', '\t');
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createIterator(), "\"ABC\\t\"");
@@ -37,6 +37,11 @@ final public class EmptyIteratorTest extends IteratorTestCase<EmptyIterator<Void
         this.removeWithoutNextFails(EmptyIterator.instance());
     }
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(this.createIterator());
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(EmptyIterator.instance(), "<empty>");
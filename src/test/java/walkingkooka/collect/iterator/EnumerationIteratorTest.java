@@ -57,6 +57,21 @@ final public class EnumerationIteratorTest
         this.removeUnsupportedFails(iterator);
     }
 
+    @Test
+    public void testForEachRemaining() {
+        final Vector<String> vector = Lists.vector();
+        vector.add("1");
+        vector.add("2");
+        vector.add("3");
+
+        this.forEachRemainingAndCheck(
+            EnumerationIterator.adapt(vector.elements()),
+            "1",
+            "2",
+            "3"
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(EnumerationIterator.adapt(ENUMERATION), ENUMERATION.toString());
@@ -110,6 +110,49 @@ public final class IteratorTestingTest implements Testing {
         );
     }
 
+    // forEachRemainingAndCheck.........................................................................................
+
+    @Test
+    public void testForEachRemainingAndCheck() {
+        final List<String> list = Lists.of(
+            "A1",
+            "B2",
+            "C3"
+        );
+
+        new TestIteratorTesting()
+            .forEachRemainingAndCheck(
+                list.iterator(),
+                list
+            );
+    }
+
+    @Test
+    public void testForEachRemainingAndCheckFail() {
+        final List<String> list = Lists.of(
+            "A1",
+            "B2",
+            "C3"
+        );
+
+        boolean failed = false;
+
+        try {
+            new TestIteratorTesting()
+                .forEachRemainingAndCheck(
+                    list.iterator(),
+                    "A1",
+                    "B2"
+                );
+        } catch (final AssertionFailedError expected) {
+            failed = true;
+        }
+        this.checkEquals(
+            true,
+            failed
+        );
+    }
+
     // iterateUsingHasNextAndCheck......................................................................................
 
     @Test
@@ -109,6 +109,18 @@ final public class LimitedIteratorTest extends IteratorTestCase<LimitedIterator<
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(this.createIterator(), "1", "2");
+    }
+
+    @Test
+    public void testForEachRemainingPartiallyConsumed() {
+        final LimitedIterator<String> iterator = this.createIterator();
+        iterator.next();
+        this.forEachRemainingAndCheck(iterator, "2");
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(LimitedIterator.wrap(ITERATOR, COUNT), "at most 2 " + ITERATOR);
@@ -57,6 +57,11 @@ public final class MappingIteratorTest extends IteratorTestCase<MappingIterator<
         this.checkEquals(Lists.of("2", "3"), values);
     }
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(this.createIterator(), 11, 22, 33);
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(this.createIterator(), this.wrappedIterator().toString());
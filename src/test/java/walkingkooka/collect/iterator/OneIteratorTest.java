@@ -78,6 +78,16 @@ final public class OneIteratorTest extends IteratorTestCase<OneIterator<String>,
         this.removeUnsupportedFails(iterator);
     }
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(OneIterator.with(VALUE), VALUE);
+    }
+
+    @Test
+    public void testForEachRemainingNull() {
+        this.forEachRemainingAndCheck(OneIterator.with(NULL), NULL);
+    }
+
     @Override
     public OneIterator<String> createIterator() {
         return null;
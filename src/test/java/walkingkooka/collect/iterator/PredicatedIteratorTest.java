@@ -203,6 +203,43 @@ public final class PredicatedIteratorTest extends IteratorTestCase<PredicatedIte
 
     // toString.........................................................................................................
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(
+            PredicatedIterator.with(
+                Lists.of(
+                    "1a",
+                    "2b!",
+                    "3c",
+                    "4d!"
+                ).iterator(),
+                (s) -> s.endsWith("!")
+            ),
+            "2b!",
+            "4d!"
+        );
+    }
+
+    @Test
+    public void testForEachRemainingAfterHasNext() {
+        final PredicatedIterator<String> iterator = PredicatedIterator.with(
+            Lists.of(
+                "1a",
+                "2b!",
+                "3c",
+                "4d!"
+            ).iterator(),
+            (s) -> s.endsWith("!")
+        );
+        this.hasNextCheckTrue(iterator);
+
+        this.forEachRemainingAndCheck(
+            iterator,
+            "2b!",
+            "4d!"
+        );
+    }
+
     @Test
     public void testToString() {
         this.toStringAndCheck(
@@ -76,6 +76,11 @@ final public class ReadOnlyIteratorTest extends IteratorTestCase<ReadOnlyIterato
         this.removeUnsupportedFails(ReadOnlyIterator.wrap(this.iterator(ELEMENT)));
     }
 
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(this.iterator("1", "2", "3"), "1", "2", "3");
+    }
+
     @Test
     public void testToString() {
         final Iterator<Object> iterator
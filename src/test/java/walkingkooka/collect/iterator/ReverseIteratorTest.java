@@ -64,6 +64,41 @@ final public class ReverseIteratorTest extends IteratorTestCase<ReverseIterator<
         this.iterateAndCheck(iterator, "1", "2", "3");
     }
 
+    @Test
+    public void testIterateGrowsBuffer() {
+        final String[] strings = new String[100];
+        final String[] reversed = new String[100];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = String.valueOf(i);
+            reversed[strings.length - 1 - i] = strings[i];
+        }
+
+        this.iterateAndCheck(this.iterator(strings), reversed);
+    }
+
+    @Test
+    public void testReversePartiallyConsumedReversedIterator() {
+        final Iterator<String> reverse = this.iterator("1", "2", "3");
+        this.checkEquals("3", reverse.next());
+
+        this.iterateAndCheck(ReverseIterator.with(reverse), "1", "2");
+    }
+
+    @Test
+    public void testForEachRemaining() {
+        final Iterator<String> iterator = this.iterator("1", "2", "3");
+        iterator.next();
+        this.forEachRemainingAndCheck(iterator, "2", "1");
+    }
+
+    @Test
+    public void testToString() {
+        final Iterator<String> iterator = this.iterator("1", "2", "3");
+        iterator.next();
+
+        this.toStringAndCheck(iterator, "[2, 1]");
+    }
+
     @Test
     public void testRemove() {
         this.removeUnsupportedFails(ReverseIterator.with(this.iterator("1")));
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.iterator;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final public class ReverseListIteratorTest extends IteratorTestCase<ReverseListIterator<String>, String> {
+
+    @Test
+    public void testWithNullListFails() {
+        assertThrows(NullPointerException.class, () -> ReverseListIterator.with(null));
+    }
+
+    @Test
+    public void testWithArrayList() {
+        final Iterator<String> iterator = ReverseListIterator.with(Lists.array());
+        assertTrue(iterator instanceof ReverseRandomAccessListIterator, iterator.getClass().getName());
+    }
+
+    @Test
+    public void testWithImmutableList() {
+        final Iterator<String> iterator = ReverseListIterator.with(Lists.of("1", "2"));
+        assertTrue(iterator instanceof ReverseRandomAccessListIterator, iterator.getClass().getName());
+
+        this.iterateAndCheck(iterator, "2", "1");
+    }
+
+    @Test
+    public void testNextWhenEmpty() {
+        this.nextFails(this.iterator());
+    }
+
+    @Test
+    public void testIterateUsingHasNext() {
+        this.iterateUsingHasNextAndCheck(this.iterator("1", "2", "3"), "3", "2", "1");
+    }
+
+    @Test
+    public void testIterate() {
+        this.iterateAndCheck(this.iterator("1", "2", "3"), "3", "2", "1");
+    }
+
+    @Test
+    public void testRemove() {
+        final Iterator<String> iterator = this.iterator("1");
+        iterator.next();
+
+        this.removeUnsupportedFails(iterator);
+    }
+
+    @Test
+    public void testForEachRemaining() {
+        this.forEachRemainingAndCheck(this.iterator("1", "2", "3"), "3", "2", "1");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.iterator("1", "2", "3"),
+            "[3, 2, 1]"
+        );
+    }
+
+    @Test
+    public void testToStringPartiallyConsumed() {
+        final Iterator<String> iterator = this.iterator("1", "2", "3");
+        iterator.next();
+
+        this.toStringAndCheck(
+            iterator,
+            "[2, 1]"
+        );
+        this.iterateAndCheck(
+            iterator,
+            "2",
+            "1"
+        );
+    }
+
+    private ReverseListIterator<String> iterator(final String... strings) {
+        return Cast.to(ReverseListIterator.with(new LinkedList<>(Lists.of(strings))));
+    }
+
+    @Override
+    public ReverseListIterator<String> createIterator() {
+        return this.iterator();
+    }
+
+    @Override
+    public Class<ReverseListIterator<String>> type() {
+        return Cast.to(ReverseListIterator.class);
+    }
+}
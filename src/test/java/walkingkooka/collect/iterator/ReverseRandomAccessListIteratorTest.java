@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.iterator;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+final public class ReverseRandomAccessListIteratorTest extends IteratorTestCase<ReverseRandomAccessListIterator<String>, String> {
+
+    @Test
+    public void testNextWhenEmpty() {
+        this.nextFails(this.iterator());
+    }
+
+    @Test
+    public void testIterateUsingHasNext() {
+        this.iterateUsingHasNextAndCheck(this.iterator("1", "2", "3"), "3", "2", "1");
+    }
+
+    @Test
+    public void testIterate() {
+        this.iterateAndCheck(this.iterator("1", "2", "3"), "3", "2", "1");
+    }
+
+    @Test
+    public void testRemove() {
+        final Iterator<String> iterator = this.iterator("1");
+        iterator.next();
+
+        this.removeUnsupportedFails(iterator);
+    }
+
+    @Test
+    public void testForEachRemaining() {
+        final Iterator<String> iterator = this.iterator("1", "2", "3");
+        iterator.next();
+        this.forEachRemainingAndCheck(iterator, "2", "1");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.iterator("1", "2", "3"),
+            "[3, 2, 1]"
+        );
+    }
+
+    @Test
+    public void testToStringPartiallyConsumed() {
+        final Iterator<String> iterator = this.iterator("1", "2", "3");
+        iterator.next();
+
+        this.toStringAndCheck(
+            iterator,
+            "[2, 1]"
+        );
+    }
+
+    private ReverseRandomAccessListIterator<String> iterator(final String... strings) {
+        return ReverseRandomAccessListIterator.with(new ArrayList<>(Lists.of(strings)));
+    }
+
+    @Override
+    public ReverseRandomAccessListIterator<String> createIterator() {
+        return this.iterator();
+    }
+
+    @Override
+    public Class<ReverseRandomAccessListIterator<String>> type() {
+        return Cast.to(ReverseRandomAccessListIterator.class);
+    }
+}
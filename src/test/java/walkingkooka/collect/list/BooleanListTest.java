@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.reflect.ClassTesting;
 import walkingkooka.reflect.JavaVisibility;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class BooleanListTest implements ListTesting2<BooleanList, Boolean>,
@@ -107,6 +109,181 @@ public class BooleanListTest implements ListTesting2<BooleanList, Boolean>,
         );
     }
 
+    @Test
+    public void testGetNull() {
+        this.getAndCheck(
+            new BooleanList(
+                Lists.of(
+                    true,
+                    null,
+                    false
+                )
+            ),
+            1, // index
+            null // expected
+        );
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        this.getFails(
+            this.createList(),
+            2
+        );
+    }
+
+    @Test
+    public void testGetManyWords() {
+        final List<Boolean> booleans = Lists.array();
+        for (int i = 0; i < 200; i++) {
+            booleans.add(
+                0 == i % 3 ?
+                    null :
+                    0 == i % 2
+            );
+        }
+
+        this.checkEquals(
+            booleans,
+            new BooleanList(booleans)
+        );
+    }
+
+    @Test
+    public void testContains() {
+        final BooleanList list = new BooleanList(
+            Lists.of(
+                true,
+                true
+            )
+        );
+
+        this.containsAndCheck(
+            list,
+            true
+        );
+        this.containsAndCheckAbsent(
+            list,
+            false
+        );
+        this.containsAndCheckAbsent(
+            list,
+            null
+        );
+    }
+
+    @Test
+    public void testCounts() {
+        final List<Boolean> booleans = Lists.array();
+        for (int i = 0; i < 130; i++) {
+            booleans.add(
+                i < 70 ?
+                    Boolean.TRUE :
+                    i < 100 ?
+                        Boolean.FALSE :
+                        null
+            );
+        }
+
+        final BooleanList list = new BooleanList(booleans);
+        this.checkEquals(70, list.trueCount(), "trueCount");
+        this.checkEquals(30, list.falseCount(), "falseCount");
+        this.checkEquals(30, list.nullCount(), "nullCount");
+    }
+
+    @Test
+    public void testConcat() {
+        this.concatAndCheck(
+            this.createList(),
+            null,
+            new BooleanList(
+                Lists.of(
+                    BOOLEAN1,
+                    BOOLEAN2,
+                    null
+                )
+            )
+        );
+    }
+
+    @Test
+    public void testConcatNextWord() {
+        BooleanList list = BooleanList.EMPTY;
+        final List<Boolean> expected = Lists.array();
+
+        for (int i = 0; i < 65; i++) {
+            final Boolean value = 64 == i || 0 == i % 5;
+            list = list.concat(value);
+            expected.add(value);
+        }
+
+        this.checkEquals(
+            expected,
+            list
+        );
+        this.checkEquals(
+            new BooleanList(expected),
+            list
+        );
+    }
+
+    @Test
+    public void testReplaceSame() {
+        final BooleanList list = this.createList();
+
+        assertSame(
+            list,
+            list.replace(
+                0,
+                BOOLEAN1
+            )
+        );
+    }
+
+    @Test
+    public void testReplaceNullWithTrue() {
+        this.replaceAndCheck(
+            new BooleanList(
+                Lists.of(
+                    null,
+                    false
+                )
+            ),
+            0,
+            true,
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsList() {
+        this.checkEquals(
+            Lists.of(
+                BOOLEAN1,
+                BOOLEAN2
+            ),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testHashCode() {
+        this.checkEquals(
+            Lists.of(
+                BOOLEAN1,
+                null,
+                BOOLEAN2
+            ).hashCode(),
+            new BooleanList(
+                Lists.of(
+                    BOOLEAN1,
+                    null,
+                    BOOLEAN2
+                )
+            ).hashCode()
+        );
+    }
+
     @Override
     public BooleanList createList() {
         return new BooleanList(
@@ -23,6 +23,8 @@ import walkingkooka.test.ParseStringTesting;
 import walkingkooka.text.HasTextWithLineBreaksAndCollectionStringTesting;
 
 import java.util.Collection;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -551,6 +553,34 @@ public final class CsvStringListTest implements DelimiterStringImmutableListTest
         );
     }
 
+    // spliterator......................................................................................................
+
+    @Test
+    public void testSpliterator() {
+        final Spliterator<String> spliterator = CsvStringList.parse("a,b,c")
+            .spliterator();
+
+        this.checkEquals(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL,
+            spliterator.characteristics(),
+            "characteristics"
+        );
+        this.checkEquals(
+            3L,
+            spliterator.getExactSizeIfKnown()
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        this.checkEquals(
+            Lists.of("a", "b", "c", "d"),
+            CsvStringList.parse("a,b,c,d")
+                .parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
     // class............................................................................................................
 
     @Override
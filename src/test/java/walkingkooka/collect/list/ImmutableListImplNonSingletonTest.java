@@ -22,6 +22,8 @@ import walkingkooka.Cast;
 import walkingkooka.predicate.Predicates;
 
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 
@@ -131,6 +133,54 @@ public final class ImmutableListImplNonSingletonTest extends ImmutableListImplNo
         );
     }
 
+    @Test
+    public void testSpliterator() {
+        final Spliterator<String> spliterator = this.createList()
+            .spliterator();
+
+        this.checkEquals(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE,
+            spliterator.characteristics(),
+            "characteristics"
+        );
+        this.checkEquals(
+            2L,
+            spliterator.getExactSizeIfKnown()
+        );
+    }
+
+    @Test
+    public void testSpliteratorTrySplit() {
+        final Spliterator<String> right = ImmutableListImplNonSingleton.<String>with(
+            new Object[]{"1", "2", "3", "4"}
+        ).spliterator();
+        final Spliterator<String> left = right.trySplit();
+
+        this.checkEquals(
+            2L,
+            left.getExactSizeIfKnown(),
+            "left"
+        );
+        this.checkEquals(
+            2L,
+            right.getExactSizeIfKnown(),
+            "right"
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        final ImmutableListImplNonSingleton<String> list = ImmutableListImplNonSingleton.with(
+            new Object[]{"1", "2", "3", "4", "5", "6", "7", "8"}
+        );
+
+        this.checkEquals(
+            list,
+            list.parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
     @Override
     public ImmutableListImplNonSingleton<String> createList() {
         return ImmutableListImplNonSingleton.with(this.elements());
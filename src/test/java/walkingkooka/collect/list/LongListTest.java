@@ -0,0 +1,296 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.list;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LongListTest implements ListTesting2<LongList, Long>,
+    ClassTesting<LongList>,
+    ImmutableListTesting<LongList, Long> {
+
+    private final static Long VALUE1 = 1L;
+
+    private final static Long VALUE2 = 22L;
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> LongList.with(null)
+        );
+    }
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            LongList.EMPTY,
+            LongList.with()
+        );
+    }
+
+    @Test
+    public void testWithCopies() {
+        final long[] values = new long[]{1, 2};
+        final LongList list = LongList.with(values);
+        values[0] = 99;
+
+        this.getAndCheck(
+            list,
+            0,
+            1L
+        );
+    }
+
+    // list.............................................................................................................
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testGetInt() {
+        this.checkEquals(
+            22L,
+            this.createList()
+                .getLong(1)
+        );
+    }
+
+    @Test
+    public void testSetFails() {
+        this.setFails(
+            this.createList(),
+            0, // index
+            VALUE1 // expected
+        );
+    }
+
+    @Test
+    public void testContains() {
+        this.containsAndCheck(
+            this.createList(),
+            VALUE2
+        );
+    }
+
+    @Test
+    public void testContainsAbsent() {
+        this.containsAndCheckAbsent(
+            this.createList(),
+            2
+        );
+    }
+
+    @Test
+    public void testIndexOf() {
+        this.checkEquals(
+            1,
+            this.createList()
+                .indexOf(VALUE2)
+        );
+    }
+
+    @Test
+    public void testRemoveIndexFails() {
+        this.removeIndexFails(
+            this.createList(),
+            0
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsDoesntDoubleWrap() {
+        final LongList list = this.createList();
+        assertSame(
+            list,
+            list.setElements(list)
+        );
+    }
+
+    @Test
+    public void testSetElementsWithEmpty() {
+        assertSame(
+            LongList.EMPTY,
+            this.createList()
+                .setElements(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testSetElementsWithNullElementFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .setElements(Lists.of(1L, null))
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcat() {
+        this.concatAndCheck(
+            this.createList(),
+            333L,
+            LongList.with(1, 22, 333)
+        );
+    }
+
+    @Test
+    public void testConcatNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createList()
+                .concat(null)
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplace() {
+        this.replaceAndCheck(
+            this.createList(),
+            1,
+            333L,
+            LongList.with(1, 333)
+        );
+    }
+
+    @Test
+    public void testReplaceSame() {
+        final LongList list = this.createList();
+        assertSame(
+            list,
+            list.replace(
+                0,
+                VALUE1
+            )
+        );
+    }
+
+    // primitive........................................................................................................
+
+    @Test
+    public void testToIntArray() {
+        final LongList list = this.createList();
+        final long[] array = list.toLongArray();
+        array[0] = 99;
+
+        this.checkEquals(
+            VALUE1,
+            list.get(0)
+        );
+    }
+
+    @Test
+    public void testIntStream() {
+        this.checkEquals(
+            23L,
+            this.createList()
+                .longStream()
+                .sum()
+        );
+    }
+
+    @Test
+    public void testSpliterator() {
+        final Spliterator<Long> spliterator = this.createList()
+            .spliterator();
+
+        this.checkEquals(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL,
+            spliterator.characteristics(),
+            "characteristics"
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        final LongList list = LongList.with(1, 2, 3, 4, 5, 6, 7, 8);
+
+        this.checkEquals(
+            list,
+            list.parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
+    // Object...........................................................................................................
+
+    @Test
+    public void testEqualsList() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2
+            ),
+            this.createList()
+        );
+    }
+
+    @Test
+    public void testHashCode() {
+        this.checkEquals(
+            Lists.of(
+                VALUE1,
+                VALUE2
+            ).hashCode(),
+            this.createList()
+                .hashCode()
+        );
+    }
+
+    @Override
+    public LongList createList() {
+        return LongList.with(
+            VALUE1,
+            VALUE2
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<LongList> type() {
+        return LongList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CacheMapLruTest implements ClassTesting2<CacheMapLru<String, Integer>>,
+    MapTesting2<CacheMapLru<String, Integer>, String, Integer> {
+
+    @Test
+    public void testWithZeroMaximumWeightFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CacheMapLru.with(
+                0,
+                (k, v) -> 1,
+                0,
+                () -> 0
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullWeigherFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CacheMapLru.with(
+                1,
+                null,
+                0,
+                () -> 0
+            )
+        );
+    }
+
+    @Test
+    public void testWithNegativeExpireAfterAccessFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CacheMapLru.with(
+                1,
+                (k, v) -> 1,
+                -1,
+                () -> 0
+            )
+        );
+    }
+
+    @Test
+    public void testPutNullKeyFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createMap()
+                .put(null, 1)
+        );
+    }
+
+    @Test
+    public void testPutNullValueFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createMap()
+                .put("a", null)
+        );
+    }
+
+    @Test
+    public void testGetHitAndMiss() {
+        final CacheMapLru<String, Integer> cache = this.createMap();
+
+        this.getAndCheck(
+            cache,
+            "a",
+            1
+        );
+        this.getAndCheckAbsent(
+            cache,
+            "absent"
+        );
+        this.countsAndCheck(
+            cache,
+            1,
+            1,
+            0
+        );
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        final CacheMapLru<String, Integer> cache = this.cache(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        cache.get("a");
+        cache.put("d", 4);
+
+        this.keysAndCheck(
+            cache,
+            "c",
+            "a",
+            "d"
+        );
+        this.countsAndCheck(
+            cache,
+            1,
+            0,
+            1
+        );
+    }
+
+    @Test
+    public void testPutReplaceDoesntEvict() {
+        final CacheMapLru<String, Integer> cache = this.cache(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        this.checkEquals(
+            1,
+            cache.put("a", 11)
+        );
+        this.keysAndCheck(
+            cache,
+            "b",
+            "a"
+        );
+        this.countsAndCheck(
+            cache,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testWeightEvictsSeveral() {
+        final CacheMapLru<String, Integer> cache = CacheMapLru.with(
+            10,
+            (k, v) -> v,
+            0,
+            () -> 0
+        );
+        cache.put("a", 3);
+        cache.put("b", 3);
+        cache.put("c", 3);
+        cache.put("d", 7);
+
+        this.keysAndCheck(
+            cache,
+            "c",
+            "d"
+        );
+        this.countsAndCheck(
+            cache,
+            0,
+            0,
+            2
+        );
+    }
+
+    @Test
+    public void testWeightTooHeavyNotRetained() {
+        final CacheMapLru<String, Integer> cache = CacheMapLru.with(
+            10,
+            (k, v) -> v,
+            0,
+            () -> 0
+        );
+        cache.put("a", 3);
+        cache.put("b", 11);
+
+        this.keysAndCheck(
+            cache,
+            "a"
+        );
+        this.countsAndCheck(
+            cache,
+            0,
+            0,
+            0
+        );
+    }
+
+    @Test
+    public void testWeightTooHeavyRemovesPrevious() {
+        final CacheMapLru<String, Integer> cache = CacheMapLru.with(
+            10,
+            (k, v) -> v,
+            0,
+            () -> 0
+        );
+        cache.put("a", 3);
+        cache.put("b", 4);
+
+        this.checkEquals(
+            4,
+            cache.put("b", 11)
+        );
+
+        this.keysAndCheck(
+            cache,
+            "a"
+        );
+        this.countsAndCheck(
+            cache,
+            0,
+            0,
+            1
+        );
+
+        cache.put("c", 7);
+        this.keysAndCheck(
+            cache,
+            "a",
+            "c"
+        );
+    }
+
+    @Test
+    public void testNegativeWeightFails() {
+        final CacheMapLru<String, Integer> cache = CacheMapLru.with(
+            10,
+            (k, v) -> -1,
+            0,
+            () -> 0
+        );
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> cache.put("a", 1)
+        );
+    }
+
+    @Test
+    public void testRemoveRestoresWeight() {
+        final CacheMapLru<String, Integer> cache = this.cache(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        this.checkEquals(
+            1,
+            cache.remove("a")
+        );
+        cache.put("c", 3);
+
+        this.keysAndCheck(
+            cache,
+            "b",
+            "c"
+        );
+    }
+
+    @Test
+    public void testClear() {
+        final CacheMapLru<String, Integer> cache = this.createMap();
+        cache.clear();
+        cache.put("x", 1);
+        cache.put("y", 2);
+        cache.put("z", 3);
+
+        this.keysAndCheck(
+            cache,
+            "x",
+            "y",
+            "z"
+        );
+    }
+
+    @Test
+    public void testExpireAfterAccess() {
+        final long[] now = new long[1];
+        final CacheMapLru<String, Integer> cache = CacheMapLru.with(
+            100,
+            (k, v) -> 1,
+            10,
+            () -> now[0]
+        );
+        cache.put("a", 1);
+        now[0] = 5;
+        cache.put("b", 2);
+        now[0] = 9;
+        cache.get("a");
+
+        now[0] = 16;
+        this.keysAndCheck(
+            cache,
+            "a"
+        );
+
+        now[0] = 19;
+        this.getAndCheckAbsent(
+            cache,
+            "a"
+        );
+        this.countsAndCheck(
+            cache,
+            1,
+            1,
+            2
+        );
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        final CacheMapLru<String, Integer> cache = this.createMap();
+
+        this.checkEquals(
+            99,
+            cache.computeIfAbsent(
+                "z",
+                (k) -> 99
+            )
+        );
+        this.checkEquals(
+            99,
+            cache.computeIfAbsent(
+                "z",
+                (k) -> {
+                    throw new UnsupportedOperationException();
+                }
+            )
+        );
+    }
+
+    @Test
+    public void testEntrySetReadOnly() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> this.createMap()
+                .entrySet()
+                .clear()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createMap(),
+            "{a=1, b=2}"
+        );
+    }
+
+    private CacheMapLru<String, Integer> cache(final int size) {
+        return CacheMapLru.with(
+            size,
+            (k, v) -> 1,
+            0,
+            () -> {
+                throw new UnsupportedOperationException();
+            }
+        );
+    }
+
+    private void keysAndCheck(final CacheMapLru<String, Integer> cache,
+                              final String... keys) {
+        this.checkEquals(
+            Lists.of(keys),
+            new ArrayList<>(cache.keySet()),
+            cache::toString
+        );
+    }
+
+    private void countsAndCheck(final CacheMap<?, ?> cache,
+                                final long hits,
+                                final long misses,
+                                final long evictions) {
+        this.checkEquals(
+            hits,
+            cache.hitCount(),
+            "hitCount"
+        );
+        this.checkEquals(
+            misses,
+            cache.missCount(),
+            "missCount"
+        );
+        this.checkEquals(
+            evictions,
+            cache.evictionCount(),
+            "evictionCount"
+        );
+    }
+
+    @Override
+    public CacheMapLru<String, Integer> createMap() {
+        final CacheMapLru<String, Integer> cache = this.cache(10);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        return cache;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CacheMapLru<String, Integer>> type() {
+        return Cast.to(CacheMapLru.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    // TypeNameTesting..................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return CacheMap.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "";
+    }
+}
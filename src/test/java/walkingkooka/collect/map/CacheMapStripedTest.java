@@ -0,0 +1,427 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CacheMapStripedTest implements ClassTesting2<CacheMapStriped<String, Integer>>,
+    MapTesting2<CacheMapStriped<String, Integer>, String, Integer> {
+
+    @Test
+    public void testWithZeroMaximumWeightFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CacheMapStriped.with(
+                0,
+                (k, v) -> 1,
+                0,
+                () -> 0
+            )
+        );
+    }
+
+    @Test
+    public void testSmallSingleSegment() {
+        this.checkEquals(
+            1,
+            CacheMapStriped.with(
+                10,
+                (k, v) -> 1,
+                0,
+                () -> 0
+            ).segments.length
+        );
+    }
+
+    @Test
+    public void testLargeManySegments() {
+        this.checkEquals(
+            16,
+            CacheMapStriped.with(
+                10000,
+                (k, v) -> 1,
+                0,
+                () -> 0
+            ).segments.length
+        );
+    }
+
+    @Test
+    public void testGetHitAndMiss() {
+        final CacheMapStriped<String, Integer> cache = this.createMap();
+
+        this.getAndCheck(
+            cache,
+            "a",
+            1
+        );
+        this.getAndCheckAbsent(
+            cache,
+            "absent"
+        );
+        this.getAndCheckAbsent(
+            cache,
+            null
+        );
+
+        this.checkEquals(
+            1L,
+            cache.hitCount(),
+            "hitCount"
+        );
+        this.checkEquals(
+            1L,
+            cache.missCount(),
+            "missCount"
+        );
+    }
+
+    @Test
+    public void testBounded() {
+        final CacheMapStriped<Integer, Integer> cache = CacheMapStriped.with(
+            1000,
+            (k, v) -> 1,
+            0,
+            () -> 0
+        );
+
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, i);
+        }
+
+        final int size = cache.size();
+        this.checkEquals(
+            true,
+            size <= 1000 && size > 900,
+            () -> "size " + size
+        );
+        this.checkEquals(
+            10000L - size,
+            cache.evictionCount(),
+            "evictionCount"
+        );
+        this.checkEquals(
+            9999,
+            cache.get(9999)
+        );
+    }
+
+    @Test
+    public void testWeightHeavierThanSegmentRetained() {
+        final CacheMapStriped<Integer, Integer> cache = CacheMapStriped.with(
+            1024,
+            (k, v) -> v,
+            0,
+            () -> 0
+        );
+        this.checkEquals(
+            16,
+            cache.segments.length,
+            "segments"
+        );
+
+        cache.put(1, 100);
+
+        this.checkEquals(
+            true,
+            cache.containsKey(1),
+            "containsKey"
+        );
+        this.checkEquals(
+            100,
+            cache.get(1),
+            "get"
+        );
+        this.checkEquals(
+            0L,
+            cache.evictionCount(),
+            "evictionCount"
+        );
+    }
+
+    @Test
+    public void testWeightHeavierThanMaximumNotRetained() {
+        final CacheMapStriped<Integer, Integer> cache = CacheMapStriped.with(
+            1024,
+            (k, v) -> v,
+            0,
+            () -> 0
+        );
+
+        cache.put(1, 1025);
+
+        this.checkEquals(
+            false,
+            cache.containsKey(1),
+            "containsKey"
+        );
+        this.checkEquals(
+            0L,
+            cache.evictionCount(),
+            "evictionCount"
+        );
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        final CacheMapStriped<String, Integer> cache = this.createMap();
+
+        this.checkEquals(
+            1,
+            cache.remove("a")
+        );
+        this.containsKeyAndCheckAbsent(
+            cache,
+            "a"
+        );
+
+        cache.clear();
+        this.isEmptyAndCheck(
+            cache,
+            true
+        );
+    }
+
+    @Test
+    public void testComputeIfAbsentConcurrentOnce() throws Exception {
+        final CacheMapStriped<String, Integer> cache = this.createMap();
+        final AtomicInteger computed = new AtomicInteger();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(
+                () -> {
+                    for (int j = 0; j < 100; j++) {
+                        cache.computeIfAbsent(
+                            "key" + j,
+                            k -> computed.incrementAndGet()
+                        );
+                    }
+                }
+            );
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        this.checkEquals(
+            100,
+            computed.get(),
+            "computed"
+        );
+    }
+
+    @Test
+    public void testMergeConcurrent() throws Exception {
+        final CacheMapStriped<String, Integer> cache = this.createMap();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(
+                () -> {
+                    for (int j = 0; j < 1000; j++) {
+                        cache.merge(
+                            "counter",
+                            1,
+                            Integer::sum
+                        );
+                    }
+                }
+            );
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        this.getAndCheck(
+            cache,
+            "counter",
+            8000
+        );
+    }
+
+    @Test
+    public void testComputeConcurrent() throws Exception {
+        final CacheMapStriped<String, Integer> cache = this.createMap();
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(
+                () -> {
+                    for (int j = 0; j < 1000; j++) {
+                        cache.compute(
+                            "a",
+                            (k, v) -> v + 1
+                        );
+                    }
+                }
+            );
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        this.getAndCheck(
+            cache,
+            "a",
+            8001
+        );
+    }
+
+    @Test
+    public void testPutIfAbsentReplaceAndRemove() {
+        final CacheMapStriped<String, Integer> cache = this.createMap();
+
+        this.checkEquals(
+            1,
+            cache.putIfAbsent("a", 2),
+            "putIfAbsent existing"
+        );
+        this.checkEquals(
+            null,
+            cache.putIfAbsent("b", 2),
+            "putIfAbsent absent"
+        );
+        this.checkEquals(
+            false,
+            cache.replace("a", 99, 3),
+            "replace wrong old value"
+        );
+        this.checkEquals(
+            true,
+            cache.replace("a", 1, 3),
+            "replace"
+        );
+        this.checkEquals(
+            3,
+            cache.replace("a", 4),
+            "replace"
+        );
+        this.checkEquals(
+            null,
+            cache.replace(null, 4),
+            "replace null key"
+        );
+        this.checkEquals(
+            true,
+            cache.remove("b", 2),
+            "remove"
+        );
+        this.checkEquals(
+            5,
+            cache.getOrDefault("b", 5),
+            "getOrDefault absent"
+        );
+        this.checkEquals(
+            4,
+            cache.getOrDefault("a", 5),
+            "getOrDefault"
+        );
+        this.checkEquals(
+            6,
+            cache.getOrDefault(null, 6),
+            "getOrDefault null key"
+        );
+    }
+
+    @Test
+    public void testEntrySetReadOnly() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> this.createMap()
+                .entrySet()
+                .clear()
+        );
+    }
+
+    @Test
+    public void testMapsCache() {
+        final CacheMap<String, Integer> cache = Maps.cache(100);
+        cache.put("a", 1);
+
+        this.checkEquals(
+            CacheMapStriped.class,
+            cache.getClass()
+        );
+        this.getAndCheck(
+            cache,
+            "a",
+            1
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createMap(),
+            "{a=1}"
+        );
+    }
+
+    @Override
+    public CacheMapStriped<String, Integer> createMap() {
+        final CacheMapStriped<String, Integer> cache = CacheMapStriped.with(
+            1000,
+            (k, v) -> 1,
+            0,
+            () -> 0
+        );
+        cache.put("a", 1);
+        return cache;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CacheMapStriped<String, Integer>> type() {
+        return Cast.to(CacheMapStriped.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    // TypeNameTesting..................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return CacheMap.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "";
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.text.CaseSensitivity;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CharSequenceMapTest implements ClassTesting2<CharSequenceMap<String, Integer>>,
+    MapTesting2<CharSequenceMap<String, Integer>, String, Integer> {
+
+    @Test
+    public void testWithNullCaseSensitivityFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequenceMap.with(null)
+        );
+    }
+
+    @Test
+    public void testPutNullKeyFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createMap()
+                .put(null, 1)
+        );
+    }
+
+    @Test
+    public void testGetCaseInsensitive() {
+        this.getAndCheck(
+            this.createMap(),
+            "CONTENT-TYPE",
+            1
+        );
+    }
+
+    @Test
+    public void testGetCaseSensitive() {
+        final Map<String, Integer> map = CharSequenceMap.with(CaseSensitivity.SENSITIVE);
+        map.put("Accept", 1);
+
+        this.getAndCheck(
+            map,
+            "Accept",
+            1
+        );
+        this.getAndCheckAbsent(
+            map,
+            "ACCEPT"
+        );
+    }
+
+    @Test
+    public void testGetStringBuilder() {
+        this.checkEquals(
+            2,
+            this.createMap()
+                .get(new StringBuilder("accept"))
+        );
+    }
+
+    @Test
+    public void testGetSubSequence() {
+        this.checkEquals(
+            2,
+            this.createMap()
+                .get("GET /x HTTP/1.1 ACCEPT: */*".subSequence(16, 22))
+        );
+    }
+
+    @Test
+    public void testGetNonCharSequence() {
+        this.getAndCheckAbsent(
+            this.createMap(),
+            123
+        );
+    }
+
+    @Test
+    public void testGetNullValue() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+        map.put("null", null);
+
+        this.containsKeyAndCheck(
+            map,
+            "NULL"
+        );
+        this.checkEquals(
+            null,
+            map.get("NULL")
+        );
+    }
+
+    @Test
+    public void testPutReplacesKeepsOriginalKey() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+
+        this.checkEquals(
+            1,
+            map.put("CONTENT-TYPE", 3)
+        );
+        this.sizeAndCheck(
+            map,
+            2
+        );
+        this.checkEquals(
+            "{Content-Type=3, Accept=2}",
+            new TreeMap<>(map).descendingMap().toString()
+        );
+    }
+
+    @Test
+    public void testRemoveThenPutReusesTombstone() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+
+        this.checkEquals(
+            1,
+            map.remove("Content-Type")
+        );
+        this.containsKeyAndCheckAbsent(
+            map,
+            "content-type"
+        );
+        this.getAndCheck(
+            map,
+            "ACCEPT",
+            2
+        );
+
+        map.put("Content-Type", 11);
+        this.getAndCheck(
+            map,
+            "content-type",
+            11
+        );
+        this.sizeAndCheck(
+            map,
+            2
+        );
+    }
+
+    @Test
+    public void testClear() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+        map.clear();
+
+        this.isEmptyAndCheck(
+            map,
+            true
+        );
+        this.getAndCheckAbsent(
+            map,
+            "accept"
+        );
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+
+        final Iterator<Entry<String, Integer>> iterator = map.entrySet()
+            .iterator();
+        final String key = iterator.next()
+            .getKey();
+        iterator.remove();
+
+        this.containsKeyAndCheckAbsent(
+            map,
+            key
+        );
+        this.sizeAndCheck(
+            map,
+            1
+        );
+    }
+
+    @Test
+    public void testIteratorRemoveTwiceFails() {
+        final Iterator<Entry<String, Integer>> iterator = this.createMap()
+            .entrySet()
+            .iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertThrows(
+            IllegalStateException.class,
+            iterator::remove
+        );
+    }
+
+    @Test
+    public void testIteratorConcurrentModificationFails() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+
+        final Iterator<Entry<String, Integer>> iterator = map.entrySet()
+            .iterator();
+        iterator.next();
+        map.put("new", 3);
+
+        assertThrows(
+            ConcurrentModificationException.class,
+            iterator::next
+        );
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+
+        for (final Entry<String, Integer> entry : map.entrySet()) {
+            entry.setValue(entry.getValue() * 10);
+        }
+
+        this.getAndCheck(
+            map,
+            "accept",
+            20
+        );
+    }
+
+    @Test
+    public void testEntrySetValueAfterResize() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+        final Entry<String, Integer> entry = this.entry(
+            map,
+            "Accept"
+        );
+
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, i);
+        }
+
+        this.checkEquals(
+            2,
+            entry.getValue()
+        );
+        this.checkEquals(
+            2,
+            entry.setValue(3)
+        );
+        this.getAndCheck(
+            map,
+            "accept",
+            3
+        );
+        this.getAndCheck(
+            map,
+            "key99",
+            99
+        );
+    }
+
+    @Test
+    public void testEntrySetValueAfterSlotReused() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+        final Entry<String, Integer> entry = this.entry(
+            map,
+            "Accept"
+        );
+
+        map.remove("Accept");
+        map.put("Other", 4);
+        map.put("Accept", 5);
+
+        this.checkEquals(
+            5,
+            entry.getValue()
+        );
+        entry.setValue(6);
+
+        this.getAndCheck(
+            map,
+            "accept",
+            6
+        );
+        this.getAndCheck(
+            map,
+            "other",
+            4
+        );
+    }
+
+    @Test
+    public void testEntrySetValueAfterRemoveFails() {
+        final CharSequenceMap<String, Integer> map = this.createMap();
+        final Entry<String, Integer> entry = this.entry(
+            map,
+            "Accept"
+        );
+
+        map.remove("Accept");
+        map.put("Other", 4);
+
+        this.checkEquals(
+            2,
+            entry.getValue()
+        );
+        assertThrows(
+            IllegalStateException.class,
+            () -> entry.setValue(3)
+        );
+        this.getAndCheck(
+            map,
+            "other",
+            4
+        );
+    }
+
+    private Entry<String, Integer> entry(final CharSequenceMap<String, Integer> map,
+                                         final String key) {
+        for (final Entry<String, Integer> entry : map.entrySet()) {
+            if (key.equals(entry.getKey())) {
+                return entry;
+            }
+        }
+        throw new AssertionError("Missing entry " + key);
+    }
+
+    @Test
+    public void testManyAgainstTreeMap() {
+        final Random random = new Random(1);
+        final Map<String, Integer> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final CharSequenceMap<String, Integer> map = CharSequenceMap.with(CaseSensitivity.INSENSITIVE);
+
+        for (int i = 0; i < 50000; i++) {
+            final String key = random.nextBoolean() ?
+                "key" + random.nextInt(2000) :
+                "KEY" + random.nextInt(2000);
+
+            switch (random.nextInt(4)) {
+                case 0:
+                    this.checkEquals(
+                        expected.remove(key),
+                        map.remove(key),
+                        () -> "remove " + key
+                    );
+                    break;
+                case 1:
+                    this.checkEquals(
+                        expected.get(key),
+                        map.get(key),
+                        () -> "get " + key
+                    );
+                    break;
+                default:
+                    this.checkEquals(
+                        expected.put(key, i),
+                        map.put(key, i),
+                        () -> "put " + key
+                    );
+                    break;
+            }
+        }
+
+        this.checkEquals(
+            expected.size(),
+            map.size(),
+            "size"
+        );
+        for (final Entry<String, Integer> entry : map.entrySet()) {
+            this.checkEquals(
+                expected.get(entry.getKey()),
+                entry.getValue(),
+                entry::toString
+            );
+        }
+    }
+
+    @Test
+    public void testMapsCharSequence() {
+        final Map<String, Integer> map = Maps.charSequence(CaseSensitivity.INSENSITIVE);
+        map.put("Accept", 1);
+
+        this.getAndCheck(
+            map,
+            "ACCEPT",
+            1
+        );
+    }
+
+    @Override
+    public CharSequenceMap<String, Integer> createMap() {
+        final CharSequenceMap<String, Integer> map = CharSequenceMap.with(CaseSensitivity.INSENSITIVE);
+        map.put("Content-Type", 1);
+        map.put("Accept", 2);
+        return map;
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<CharSequenceMap<String, Integer>> type() {
+        return Cast.to(CharSequenceMap.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
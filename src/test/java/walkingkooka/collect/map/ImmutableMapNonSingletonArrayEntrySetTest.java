@@ -17,11 +17,29 @@
 
 package walkingkooka.collect.map;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 
 import java.util.Map.Entry;
+import java.util.Spliterator;
 
 public final class ImmutableMapNonSingletonArrayEntrySetTest extends ImmutableMapEntrySetTestCase2<ImmutableMapNonSingletonArrayEntrySet<String, Integer>> {
+    @Test
+    public void testSpliterator() {
+        final Spliterator<Entry<String, Integer>> spliterator = this.createSet()
+            .spliterator();
+
+        this.checkEquals(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.NONNULL,
+            spliterator.characteristics(),
+            "characteristics"
+        );
+        this.checkEquals(
+            2L,
+            spliterator.getExactSizeIfKnown()
+        );
+    }
+
     @Override
     ImmutableMapNonSingletonArrayEntrySet<String, Integer> createSet(final String key0,
                                                                      final Integer value0,
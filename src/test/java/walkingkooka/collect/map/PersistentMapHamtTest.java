@@ -0,0 +1,451 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PersistentMapHamtTest implements ClassTesting2<PersistentMapHamt<String, Integer>>,
+    MapTesting2<PersistentMapHamt<String, Integer>, String, Integer> {
+
+    private final static String KEY1 = "a1";
+    private final static Integer VALUE1 = 111;
+
+    private final static String KEY2 = "b2";
+    private final static Integer VALUE2 = 222;
+
+    @Test
+    public void testEmpty() {
+        this.isEmptyAndCheck(
+            PersistentMapHamt.empty(),
+            true
+        );
+    }
+
+    @Test
+    public void testGet() {
+        this.getAndCheck(
+            this.createMap(),
+            KEY1,
+            VALUE1
+        );
+    }
+
+    @Test
+    public void testGetAbsent() {
+        this.getAndCheckAbsent(
+            this.createMap(),
+            "absent"
+        );
+    }
+
+    @Test
+    public void testGetNull() {
+        this.getAndCheckAbsent(
+            this.createMap(),
+            null
+        );
+    }
+
+    @Test
+    public void testContainsKey() {
+        this.containsKeyAndCheck(
+            this.createMap(),
+            KEY2
+        );
+    }
+
+    @Test
+    public void testContainsKeyAbsent() {
+        this.containsKeyAndCheckAbsent(
+            this.createMap(),
+            "absent"
+        );
+    }
+
+    @Test
+    public void testPutFails() {
+        this.putFails(
+            this.createMap(),
+            KEY1,
+            VALUE2
+        );
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(
+            this.createMap(),
+            KEY1
+        );
+    }
+
+    @Test
+    public void testClearFails() {
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> this.createMap()
+                .clear()
+        );
+    }
+
+    @Test
+    public void testEntryIteratorRemoveFails() {
+        final Iterator<Entry<String, Integer>> iterator = this.createMap()
+            .entrySet()
+            .iterator();
+        iterator.next();
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            iterator::remove
+        );
+    }
+
+    @Test
+    public void testEntrySetValueFails() {
+        final Entry<String, Integer> entry = this.createMap()
+            .entrySet()
+            .iterator()
+            .next();
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> entry.setValue(VALUE2)
+        );
+    }
+
+    @Test
+    public void testEqualsAndHashCodeLinkedHashMap() {
+        final Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put(KEY1, VALUE1);
+        expected.put(KEY2, VALUE2);
+
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+        this.checkEquals(
+            expected,
+            map
+        );
+        this.checkEquals(
+            expected.hashCode(),
+            map.hashCode(),
+            "hashCode"
+        );
+    }
+
+    // set..............................................................................................................
+
+    @Test
+    public void testSetNullKeyFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createMap()
+                .set(
+                    null,
+                    VALUE1
+                )
+        );
+    }
+
+    @Test
+    public void testSetSame() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+
+        assertSame(
+            map,
+            map.set(
+                KEY1,
+                VALUE1
+            )
+        );
+    }
+
+    @Test
+    public void testSetNew() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+        final PersistentMapHamt<String, Integer> set = map.set(
+            "c3",
+            333
+        );
+
+        this.checkEquals(
+            Lists.of(KEY1, KEY2, "c3"),
+            new ArrayList<>(set.keySet())
+        );
+        this.sizeAndCheck(
+            map,
+            2
+        );
+    }
+
+    @Test
+    public void testSetReplaceKeepsOrder() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+        final PersistentMapHamt<String, Integer> set = map.set(
+            KEY1,
+            VALUE2
+        );
+
+        this.checkEquals(
+            Lists.of(KEY1, KEY2),
+            new ArrayList<>(set.keySet())
+        );
+        this.getAndCheck(
+            set,
+            KEY1,
+            VALUE2
+        );
+        this.getAndCheck(
+            map,
+            KEY1,
+            VALUE1
+        );
+    }
+
+    @Test
+    public void testSetNullValue() {
+        final PersistentMapHamt<String, Integer> set = this.createMap()
+            .set(
+                "c3",
+                null
+            );
+
+        this.containsKeyAndCheck(
+            set,
+            "c3"
+        );
+        this.sizeAndCheck(
+            set,
+            3
+        );
+    }
+
+    @Test
+    public void testSetHashCollisions() {
+        // "Aa" and "BB" share the same hash code
+        final PersistentMapHamt<String, Integer> map = PersistentMapHamt.<String, Integer>empty()
+            .set("Aa", 1)
+            .set("BB", 2)
+            .set("AaAa", 3)
+            .set("BBBB", 4)
+            .set("AaBB", 5);
+
+        this.checkEquals(
+            Lists.of("Aa", "BB", "AaAa", "BBBB", "AaBB"),
+            new ArrayList<>(map.keySet())
+        );
+        this.getAndCheck(
+            map,
+            "BB",
+            2
+        );
+
+        final PersistentMapHamt<String, Integer> deleted = map.delete("AaAa")
+            .delete("Aa");
+        this.checkEquals(
+            Lists.of("BB", "BBBB", "AaBB"),
+            new ArrayList<>(deleted.keySet())
+        );
+        this.getAndCheck(
+            deleted,
+            "BBBB",
+            4
+        );
+    }
+
+    // delete...........................................................................................................
+
+    @Test
+    public void testDeleteAbsent() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+
+        assertSame(
+            map,
+            map.delete("absent")
+        );
+    }
+
+    @Test
+    public void testDelete() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+        final PersistentMapHamt<String, Integer> deleted = map.delete(KEY1);
+
+        this.checkEquals(
+            Maps.of(KEY2, VALUE2),
+            deleted
+        );
+        this.sizeAndCheck(
+            map,
+            2
+        );
+    }
+
+    @Test
+    public void testDeleteAll() {
+        assertSame(
+            PersistentMapHamt.empty(),
+            this.createMap()
+                .delete(KEY1)
+                .delete(KEY2)
+        );
+    }
+
+    @Test
+    public void testManyAgainstLinkedHashMap() {
+        final Random random = new Random(1);
+        final Map<Integer, Integer> expected = new LinkedHashMap<>();
+        PersistentMapHamt<Integer, Integer> map = PersistentMapHamt.empty();
+
+        for (int i = 0; i < 30000; i++) {
+            // multiples of 2^16 spread keys across all levels of the trie
+            final Integer key = (random.nextInt(3000) - 1500) * (random.nextBoolean() ? 1 : 65536);
+
+            final PersistentMapHamt<Integer, Integer> before = map;
+            final List<Entry<Integer, Integer>> beforeEntries = 0 == i % 1000 ?
+                new ArrayList<>(before.entrySet()) :
+                null;
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.delete(key);
+            } else {
+                expected.put(key, i);
+                map = map.set(key, i);
+            }
+
+            if (null != beforeEntries) {
+                this.checkEquals(
+                    beforeEntries,
+                    new ArrayList<>(before.entrySet()),
+                    "original modified"
+                );
+                this.checkEquals(
+                    new ArrayList<>(expected.entrySet()),
+                    new ArrayList<>(map.entrySet()),
+                    "entries"
+                );
+            }
+        }
+
+        this.checkEquals(
+            expected.size(),
+            map.size(),
+            "size"
+        );
+        this.checkEquals(
+            new ArrayList<>(expected.entrySet()),
+            new ArrayList<>(map.entrySet()),
+            "entries"
+        );
+    }
+
+    // toMap............................................................................................................
+
+    @Test
+    public void testToMap() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+        final Map<String, Integer> toMap = map.toMap();
+
+        this.checkEquals(
+            map,
+            toMap
+        );
+
+        toMap.put("c3", 333);
+        this.sizeAndCheck(
+            map,
+            2
+        );
+    }
+
+    // Maps.............................................................................................................
+
+    @Test
+    public void testMapsPersistent() {
+        assertSame(
+            PersistentMapHamt.empty(),
+            Maps.persistent()
+        );
+    }
+
+    @Test
+    public void testMapsImmutableNotCopied() {
+        final PersistentMapHamt<String, Integer> map = this.createMap();
+
+        assertSame(
+            map,
+            Maps.immutable(map)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createMap(),
+            "{a1=111, b2=222}"
+        );
+    }
+
+    @Override
+    public PersistentMapHamt<String, Integer> createMap() {
+        return PersistentMapHamt.<String, Integer>empty()
+            .set(KEY1, VALUE1)
+            .set(KEY2, VALUE2);
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<PersistentMapHamt<String, Integer>> type() {
+        return Cast.to(PersistentMapHamt.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    // TypeNameTesting..................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return PersistentMap.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "";
+    }
+}
@@ -21,11 +21,14 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.EndOfTextException;
 import walkingkooka.collect.list.HasCsvStringListTesting;
 import walkingkooka.collect.list.HasTsvStringListTesting;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.test.ParseStringTesting;
 import walkingkooka.text.HasTextWithLineBreaksAndCollectionString;
 import walkingkooka.text.HasTextWithLineBreaksAndCollectionStringTesting;
 
 import java.util.Collection;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -467,6 +470,34 @@ public final class CsvStringSetTest implements DelimiterStringImmutableSetTestin
         );
     }
 
+    // spliterator......................................................................................................
+
+    @Test
+    public void testSpliterator() {
+        final Spliterator<String> spliterator = CsvStringSet.parse("a,b,c")
+            .spliterator();
+
+        this.checkEquals(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE,
+            spliterator.characteristics(),
+            "characteristics"
+        );
+        this.checkEquals(
+            3L,
+            spliterator.getExactSizeIfKnown()
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        this.checkEquals(
+            Lists.of("a", "b", "c", "d"),
+            CsvStringSet.parse("d,c,b,a")
+                .parallelStream()
+                .collect(Collectors.toList())
+        );
+    }
+
     // class............................................................................................................
 
     @Override
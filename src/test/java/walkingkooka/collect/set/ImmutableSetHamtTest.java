@@ -0,0 +1,485 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.set;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ImmutableSetHamtTest implements ClassTesting2<ImmutableSetHamt<String>>,
+    SetTesting2<ImmutableSetHamt<String>, String>,
+    HashCodeEqualsDefinedTesting2<ImmutableSetHamt<String>>,
+    IteratorTesting,
+    ImmutableSetTesting<ImmutableSetHamt<String>, String> {
+
+    private final static String ELEMENT1 = "1a";
+    private final static String ELEMENT2 = "2b";
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ImmutableSetHamt.with(null)
+        );
+    }
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            ImmutableSetHamt.empty(),
+            ImmutableSetHamt.with(Lists.empty())
+        );
+    }
+
+    @Test
+    public void testWithDoesntDoubleWrap() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        assertSame(
+            set,
+            ImmutableSetHamt.with(set)
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        final ImmutableSetHamt<String> set = ImmutableSetHamt.empty();
+
+        this.sizeAndCheck(
+            set,
+            0
+        );
+        this.isEmptyAndCheck(
+            (Set<String>) set,
+            true
+        );
+        this.iterateAndCheck(set.iterator());
+    }
+
+    @Test
+    public void testAddFails() {
+        this.addFails(this.createSet(), "fails!!!");
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testContains() {
+        this.containsAndCheck(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testContainsAbsent() {
+        this.containsAndCheckAbsent(this.createSet(), "!absent!");
+    }
+
+    @Test
+    public void testContainsNull() {
+        this.containsAndCheck(
+            this.createSet()
+                .concat(null),
+            null
+        );
+    }
+
+    @Test
+    public void testIteratorRemoveFails() {
+        final Iterator<String> iterator = this.createSet().iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void testIteratorNextWhenEmptyFails() {
+        this.nextFails(
+            ImmutableSetHamt.empty()
+                .iterator()
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcat() {
+        this.concatAndCheck(
+            this.createSet(),
+            "3c",
+            ImmutableSetHamt.with(Lists.of(ELEMENT1, ELEMENT2, "3c"))
+        );
+    }
+
+    @Test
+    public void testConcatExisting() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        assertSame(
+            set,
+            set.concat(ELEMENT1)
+        );
+    }
+
+    @Test
+    public void testConcatDoesntModifyOriginal() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        set.concat("3c");
+
+        this.checkEquals(
+            Sets.of(ELEMENT1, ELEMENT2),
+            set
+        );
+    }
+
+    @Test
+    public void testConcatAll() {
+        this.concatAllAndCheck(
+            this.createSet(),
+            Lists.of("3c", ELEMENT1, "4d"),
+            ImmutableSetHamt.with(Lists.of(ELEMENT1, ELEMENT2, "3c", "4d"))
+        );
+    }
+
+    @Test
+    public void testConcatAllExisting() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        assertSame(
+            set,
+            set.concatAll(Lists.of(ELEMENT2, ELEMENT1))
+        );
+    }
+
+    @Test
+    public void testConcatAllDoesntModifyOriginal() {
+        final ImmutableSetHamt<Integer> set = ImmutableSetHamt.with(integers(0, 1000));
+        final ImmutableSetHamt<Integer> set2 = set.concatAll(integers(1000, 2000));
+
+        this.checkEquals(
+            new HashSet<>(integers(0, 1000)),
+            set
+        );
+        this.checkEquals(
+            new HashSet<>(integers(0, 2000)),
+            set2
+        );
+    }
+
+    // delete...........................................................................................................
+
+    @Test
+    public void testDelete() {
+        this.deleteAndCheck(
+            this.createSet(),
+            ELEMENT1,
+            ImmutableSetHamt.with(Lists.of(ELEMENT2))
+        );
+    }
+
+    @Test
+    public void testDeleteAbsent() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        assertSame(
+            set,
+            set.delete("!absent!")
+        );
+    }
+
+    @Test
+    public void testDeleteLast() {
+        assertSame(
+            ImmutableSetHamt.empty(),
+            ImmutableSetHamt.with(Lists.of(ELEMENT1))
+                .delete(ELEMENT1)
+        );
+    }
+
+    @Test
+    public void testDeleteAll() {
+        this.deleteAllAndCheck(
+            ImmutableSetHamt.with(Lists.of(ELEMENT1, ELEMENT2, "3c")),
+            Lists.of(ELEMENT1, "3c", "!absent!"),
+            ImmutableSetHamt.with(Lists.of(ELEMENT2))
+        );
+    }
+
+    @Test
+    public void testDeleteIf() {
+        final ImmutableSetHamt<Integer> set = ImmutableSetHamt.with(integers(0, 1000));
+        final ImmutableSetHamt<Integer> odd = set.deleteIf(i -> 0 == i % 2);
+
+        this.sizeAndCheck(
+            odd,
+            500
+        );
+        for (int i = 0; i < 1000; i++) {
+            this.checkEquals(
+                1 == i % 2,
+                odd.contains(i),
+                () -> "contains " + odd
+            );
+        }
+        this.sizeAndCheck(
+            set,
+            1000
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplace() {
+        this.replaceAndCheck(
+            this.createSet(),
+            ELEMENT1,
+            "3c",
+            ImmutableSetHamt.with(Lists.of("3c", ELEMENT2))
+        );
+    }
+
+    @Test
+    public void testReplaceAbsent() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        assertSame(
+            set,
+            set.replace("!absent!", "3c")
+        );
+    }
+
+    // collisions.......................................................................................................
+
+    @Test
+    public void testCollisions() {
+        final TestCollision a = new TestCollision("a");
+        final TestCollision b = new TestCollision("b");
+        final TestCollision c = new TestCollision("c");
+
+        final ImmutableSetHamt<TestCollision> set = ImmutableSetHamt.<TestCollision>empty()
+            .concat(a)
+            .concat(b)
+            .concat(c);
+
+        this.sizeAndCheck(
+            set,
+            3
+        );
+        this.checkEquals(
+            Sets.of(a, b, c),
+            set
+        );
+
+        final ImmutableSetHamt<TestCollision> deleted = set.delete(b)
+            .delete(a);
+        this.checkEquals(
+            Sets.of(c),
+            deleted
+        );
+        this.containsAndCheckAbsent(
+            deleted,
+            a
+        );
+    }
+
+    @Test
+    public void testManyAgainstHashSet() {
+        final Random random = new Random(1);
+        final Set<Integer> expected = new HashSet<>();
+        ImmutableSetHamt<Integer> set = ImmutableSetHamt.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            // negative values and multiples of 2^16 spread across all levels of the trie
+            final Integer value = (random.nextInt(4000) - 2000) * (random.nextBoolean() ? 1 : 65536);
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                set = set.delete(value);
+            } else {
+                expected.add(value);
+                set = set.concat(value);
+            }
+        }
+
+        this.checkEquals(
+            expected.size(),
+            set.size(),
+            "size"
+        );
+        this.checkEquals(
+            expected,
+            new HashSet<>(set)
+        );
+        this.checkEquals(
+            expected,
+            set
+        );
+    }
+
+    @Test
+    public void testManyBulkAgainstHashSet() {
+        final Random random = new Random(2);
+        final Set<Integer> expected = new HashSet<>();
+        ImmutableSetHamt<Integer> set = ImmutableSetHamt.empty();
+
+        for (int i = 0; i < 50; i++) {
+            final List<Integer> values = Lists.array();
+            for (int j = 0; j < 500; j++) {
+                values.add((random.nextInt(4000) - 2000) * (random.nextBoolean() ? 1 : 65536));
+            }
+
+            final ImmutableSetHamt<Integer> before = set;
+            final Set<Integer> beforeExpected = new HashSet<>(expected);
+
+            if (random.nextInt(3) == 0) {
+                expected.removeAll(values);
+                set = set.deleteAll(values);
+            } else {
+                expected.addAll(values);
+                set = set.concatAll(values);
+            }
+
+            this.checkEquals(
+                beforeExpected,
+                before,
+                "original modified"
+            );
+        }
+
+        this.checkEquals(
+            expected,
+            set
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsDifferent() {
+        final ImmutableSetHamt<String> set = this.createSet();
+        final List<String> elements = Lists.of("3c");
+
+        this.checkEquals(
+            Sets.of("3c"),
+            set.setElements(elements)
+        );
+    }
+
+    // toSet............................................................................................................
+
+    @Test
+    public void testToSet() {
+        this.toSetAndCheck(
+            this.createSet(),
+            ELEMENT1,
+            ELEMENT2
+        );
+    }
+
+    // Sets.............................................................................................................
+
+    @Test
+    public void testSetsPersistent() {
+        assertSame(
+            ImmutableSetHamt.empty(),
+            Sets.persistent()
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    private static List<Integer> integers(final int from,
+                                          final int to) {
+        final List<Integer> integers = Lists.array();
+        for (int i = from; i < to; i++) {
+            integers.add(i);
+        }
+        return integers;
+    }
+
+    /**
+     * All instances share the same hash code.
+     */
+    static final class TestCollision {
+
+        TestCollision(final String value) {
+            this.value = value;
+        }
+
+        private final String value;
+
+        @Override
+        public int hashCode() {
+            return 123;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof TestCollision && this.value.equals(((TestCollision) other).value);
+        }
+
+        @Override
+        public String toString() {
+            return this.value;
+        }
+    }
+
+    @Override
+    public ImmutableSetHamt<String> createSet() {
+        return ImmutableSetHamt.with(Lists.of(ELEMENT1, ELEMENT2));
+    }
+
+    @Override
+    public ImmutableSetHamt<String> createObject() {
+        return this.createSet();
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ImmutableSetHamt<String>> type() {
+        return Cast.to(ImmutableSetHamt.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    // TypeNameTesting..................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return "Immutable" + Set.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "";
+    }
+}
@@ -23,6 +23,8 @@ import walkingkooka.predicate.Predicates;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 public final class ImmutableSetImplNonSingletonTest extends ImmutableSetImplTestCase2<ImmutableSetImplNonSingleton<String>> {
 
@@ -127,6 +129,35 @@ public final class ImmutableSetImplNonSingletonTest extends ImmutableSetImplTest
         );
     }
 
+    @Test
+    public void testSpliterator() {
+        final Spliterator<String> spliterator = this.createSet()
+            .spliterator();
+
+        this.checkEquals(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.IMMUTABLE,
+            spliterator.characteristics(),
+            "characteristics"
+        );
+        this.checkEquals(
+            2L,
+            spliterator.getExactSizeIfKnown()
+        );
+    }
+
+    @Test
+    public void testParallelStream() {
+        final ImmutableSetImplNonSingleton<String> set = ImmutableSetImplNonSingleton.nonSingleton(
+            new Object[]{"1", "2", "3", "4", "5", "6", "7", "8"}
+        );
+
+        this.checkEquals(
+            set,
+            set.parallelStream()
+                .collect(Collectors.toSet())
+        );
+    }
+
     @Override
     public ImmutableSetImplNonSingleton<String> createSet() {
         return ImmutableSetImplNonSingleton.nonSingleton(this.elements());
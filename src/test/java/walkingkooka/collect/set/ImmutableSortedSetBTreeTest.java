@@ -0,0 +1,722 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.collect.set;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ImmutableSortedSetBTreeTest implements ClassTesting2<ImmutableSortedSetBTree<String>>,
+    HashCodeEqualsDefinedTesting2<ImmutableSortedSetBTree<String>>,
+    IteratorTesting,
+    ImmutableSortedSetTesting<ImmutableSortedSetBTree<String>, String> {
+
+    private final static String ELEMENT1 = "1a";
+    private final static String ELEMENT2 = "2b";
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ImmutableSortedSetBTree.with(
+                null,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithDoesntDoubleWrap() {
+        final ImmutableSortedSetBTree<String> set = this.createSet();
+
+        assertSame(
+            set,
+            ImmutableSortedSetBTree.with(
+                set,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithSortedSetComparator() {
+        final SortedSet<String> sortedSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        sortedSet.add("a1");
+        sortedSet.add("b2");
+
+        final ImmutableSortedSetBTree<String> set = ImmutableSortedSetBTree.with(
+            sortedSet,
+            null
+        );
+        assertSame(
+            String.CASE_INSENSITIVE_ORDER,
+            set.comparator(),
+            "comparator"
+        );
+        this.containsAndCheck(
+            set,
+            "A1"
+        );
+    }
+
+    @Test
+    public void testEmpty() {
+        this.isEmptyAndCheck(
+            (Set<String>) ImmutableSortedSetBTree.<String>empty(null),
+            true
+        );
+    }
+
+    @Test
+    public void testAddFails() {
+        this.addFails(this.createSet(), "fails!!!");
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testContains() {
+        this.containsAndCheck(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testContainsAbsent() {
+        this.containsAndCheckAbsent(this.createSet(), "!absent!");
+    }
+
+    @Test
+    public void testFirstLast() {
+        final ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+            integers(0, 1000),
+            null
+        );
+
+        this.checkEquals(
+            0,
+            set.first(),
+            "first"
+        );
+        this.checkEquals(
+            999,
+            set.last(),
+            "last"
+        );
+    }
+
+    @Test
+    public void testFirstEmptyFails() {
+        assertThrows(
+            NoSuchElementException.class,
+            () -> ImmutableSortedSetBTree.empty(null)
+                .first()
+        );
+    }
+
+    @Test
+    public void testLastEmptyFails() {
+        assertThrows(
+            NoSuchElementException.class,
+            () -> ImmutableSortedSetBTree.empty(null)
+                .last()
+        );
+    }
+
+    @Test
+    public void testIteratorRemoveFails() {
+        final Iterator<String> iterator = this.createSet().iterator();
+        iterator.next();
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            iterator::remove
+        );
+    }
+
+    @Test
+    public void testIteratorNextWhenEmptyFails() {
+        this.iterateAndCheck(
+            ImmutableSortedSetBTree.<String>empty(null)
+                .iterator()
+        );
+    }
+
+    @Test
+    public void testIteratorOrder() {
+        final List<Integer> integers = integers(0, 5000);
+
+        this.iterateAndCheck(
+            ImmutableSortedSetBTree.with(
+                integers,
+                null
+            ).iterator(),
+            integers.toArray(new Integer[0])
+        );
+    }
+
+    // concat...........................................................................................................
+
+    @Test
+    public void testConcat() {
+        this.concatAndCheck(
+            this.createSet(),
+            "3c",
+            ImmutableSortedSetBTree.with(
+                Lists.of(
+                    ELEMENT1,
+                    ELEMENT2,
+                    "3c"
+                ),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testConcatExisting() {
+        final ImmutableSortedSetBTree<String> set = this.createSet();
+
+        assertSame(
+            set,
+            set.concat(ELEMENT1)
+        );
+    }
+
+    @Test
+    public void testConcatDoesntModifyOriginal() {
+        final ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+            integers(0, 1000),
+            null
+        );
+        set.concat(1000);
+
+        this.checkEquals(
+            new TreeSet<>(integers(0, 1000)),
+            set
+        );
+    }
+
+    @Test
+    public void testConcatWithComparator() {
+        final ImmutableSortedSetBTree<String> set = ImmutableSortedSetBTree.<String>empty(String.CASE_INSENSITIVE_ORDER)
+            .concat("b")
+            .concat("A")
+            .concat("a");
+
+        this.iterateAndCheck(
+            set.iterator(),
+            "A",
+            "b"
+        );
+    }
+
+    // delete...........................................................................................................
+
+    @Test
+    public void testDelete() {
+        this.deleteAndCheck(
+            this.createSet(),
+            ELEMENT1,
+            ImmutableSortedSetBTree.with(
+                Lists.of(ELEMENT2),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testDeleteAbsent() {
+        final ImmutableSortedSetBTree<String> set = this.createSet();
+
+        assertSame(
+            set,
+            set.delete("absent")
+        );
+    }
+
+    @Test
+    public void testDeleteAll() {
+        final ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+            integers(0, 1000),
+            null
+        );
+
+        this.checkEquals(
+            new TreeSet<>(integers(500, 1000)),
+            set.deleteAll(integers(0, 500))
+        );
+    }
+
+    @Test
+    public void testDeleteIf() {
+        final ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+            integers(0, 1000),
+            null
+        );
+        final ImmutableSortedSetBTree<Integer> odd = set.deleteIf(i -> 0 == i % 2);
+
+        this.sizeAndCheck(
+            odd,
+            500
+        );
+        for (int i = 0; i < 1000; i++) {
+            this.checkEquals(
+                1 == i % 2,
+                odd.contains(i),
+                "contains " + i
+            );
+        }
+        this.sizeAndCheck(
+            set,
+            1000
+        );
+    }
+
+    @Test
+    public void testDeleteIfNone() {
+        final ImmutableSortedSetBTree<String> set = this.createSet();
+
+        assertSame(
+            set,
+            set.deleteIf(s -> false)
+        );
+    }
+
+    // replace..........................................................................................................
+
+    @Test
+    public void testReplace() {
+        this.replaceAndCheck(
+            this.createSet(),
+            ELEMENT1,
+            "3c",
+            ImmutableSortedSetBTree.with(
+                Lists.of(
+                    ELEMENT2,
+                    "3c"
+                ),
+                null
+            )
+        );
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testSubSet() {
+        final ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+            integers(0, 1000),
+            null
+        );
+
+        final ImmutableSortedSet<Integer> subSet = set.subSet(100, 900);
+        this.checkEquals(
+            new TreeSet<>(integers(100, 900)),
+            subSet
+        );
+        assertSame(
+            set.comparator(),
+            subSet.comparator(),
+            "comparator"
+        );
+    }
+
+    @Test
+    public void testSubSetFromGreaterThanToFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.createSet()
+                .subSet(
+                    ELEMENT2,
+                    ELEMENT1
+                )
+        );
+    }
+
+    @Test
+    public void testSubSetAll() {
+        final ImmutableSortedSetBTree<String> set = this.createSet();
+
+        assertSame(
+            set,
+            set.subSet(
+                "0",
+                "9"
+            )
+        );
+    }
+
+    @Test
+    public void testHeadSet() {
+        this.checkEquals(
+            new TreeSet<>(integers(0, 123)),
+            ImmutableSortedSetBTree.with(
+                integers(0, 1000),
+                null
+            ).headSet(123)
+        );
+    }
+
+    @Test
+    public void testTailSet() {
+        this.checkEquals(
+            new TreeSet<>(integers(123, 1000)),
+            ImmutableSortedSetBTree.with(
+                integers(0, 1000),
+                null
+            ).tailSet(123)
+        );
+    }
+
+    @Test
+    public void testRangesAgainstTreeSet() {
+        final Random random = new Random(3);
+
+        for (final int count : new int[]{0, 1, 31, 32, 33, 500, 1100, 40000}) {
+            final TreeSet<Integer> treeSet = new TreeSet<>();
+            for (int i = 0; i < count; i++) {
+                treeSet.add(i * 2);
+            }
+            final ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+                treeSet,
+                null
+            );
+
+            for (int i = 0; i < 200; i++) {
+                final int from = random.nextInt(count * 2 + 6) - 3;
+                final int to = from + random.nextInt(count * 2 + 6);
+
+                this.rangeAndCheck(
+                    treeSet.subSet(from, to),
+                    set.subSet(from, to),
+                    "subSet " + from + " " + to
+                );
+                this.rangeAndCheck(
+                    treeSet.headSet(to),
+                    set.headSet(to),
+                    "headSet " + to
+                );
+                this.rangeAndCheck(
+                    treeSet.tailSet(from),
+                    set.tailSet(from),
+                    "tailSet " + from
+                );
+            }
+        }
+    }
+
+    private void rangeAndCheck(final SortedSet<Integer> expected,
+                               final ImmutableSortedSet<Integer> range,
+                               final String message) {
+        this.checkEquals(
+            new ArrayList<>(expected),
+            new ArrayList<>(range),
+            message
+        );
+        this.checkEquals(
+            expected.size(),
+            range.size(),
+            () -> message + " size"
+        );
+
+        final ImmutableSortedSetBTreeNode<Integer> root = ((ImmutableSortedSetBTree<Integer>) range).root;
+        this.checkNode(
+            root,
+            true,
+            root.height(),
+            message
+        );
+
+        // the range must remain a valid tree after further edits
+        ImmutableSortedSetBTree<Integer> edited = (ImmutableSortedSetBTree<Integer>) range;
+        final TreeSet<Integer> editedExpected = new TreeSet<>(expected);
+        for (int i = -1; i < 80; i = i + 3) {
+            edited = edited.concat(i)
+                .delete(i + 1);
+            editedExpected.add(i);
+            editedExpected.remove(i + 1);
+        }
+        this.checkEquals(
+            new ArrayList<>(editedExpected),
+            new ArrayList<>(edited),
+            () -> message + " edited"
+        );
+    }
+
+    /**
+     * Checks the B-tree invariants, every node but the root holds between the minimum and maximum keys, every leaf is
+     * at the same depth and every node knows its size.
+     */
+    private int checkNode(final ImmutableSortedSetBTreeNode<Integer> node,
+                          final boolean root,
+                          final int height,
+                          final String message) {
+        final int keyCount = node.keys.length;
+        if (false == root) {
+            this.checkEquals(
+                true,
+                keyCount >= ImmutableSortedSetBTreeNode.MIN_KEYS,
+                () -> message + " under full " + node
+            );
+        }
+        this.checkEquals(
+            true,
+            keyCount <= ImmutableSortedSetBTreeNode.MAX_KEYS,
+            () -> message + " over full " + node
+        );
+
+        int size = keyCount;
+        if (node.isLeaf()) {
+            this.checkEquals(
+                0,
+                height,
+                () -> message + " leaf depth " + node
+            );
+        } else {
+            this.checkEquals(
+                keyCount + 1,
+                node.children.length,
+                () -> message + " children " + node
+            );
+            for (final ImmutableSortedSetBTreeNode<Integer> child : node.children) {
+                size = size + this.checkNode(
+                    child,
+                    false,
+                    height - 1,
+                    message
+                );
+            }
+        }
+
+        this.checkEquals(
+            size,
+            node.size,
+            () -> message + " size " + node
+        );
+        return size;
+    }
+
+    // random...........................................................................................................
+
+    @Test
+    public void testManyAgainstTreeSet() {
+        final Random random = new Random(1);
+        final TreeSet<Integer> expected = new TreeSet<>();
+        ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.empty(null);
+
+        for (int i = 0; i < 30000; i++) {
+            final Integer value = random.nextInt(5000) - 2500;
+
+            final ImmutableSortedSetBTree<Integer> before = set;
+            final int beforeSize = before.size();
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                set = set.delete(value);
+            } else {
+                expected.add(value);
+                set = set.concat(value);
+            }
+
+            if (0 == i % 1000) {
+                this.checkEquals(
+                    new ArrayList<>(expected),
+                    new ArrayList<>(set),
+                    "iteration order"
+                );
+                this.checkEquals(
+                    beforeSize,
+                    new ArrayList<>(before).size(),
+                    "original modified"
+                );
+            }
+        }
+
+        this.checkEquals(
+            expected.size(),
+            set.size(),
+            "size"
+        );
+        this.checkEquals(
+            new ArrayList<>(expected),
+            new ArrayList<>(set),
+            "iteration order"
+        );
+        this.checkEquals(
+            expected.first(),
+            set.first(),
+            "first"
+        );
+        this.checkEquals(
+            expected.last(),
+            set.last(),
+            "last"
+        );
+    }
+
+    @Test
+    public void testDeleteEverythingAgainstTreeSet() {
+        final Random random = new Random(2);
+        final List<Integer> integers = integers(0, 3000);
+        final TreeSet<Integer> expected = new TreeSet<>(integers);
+        ImmutableSortedSetBTree<Integer> set = ImmutableSortedSetBTree.with(
+            integers,
+            null
+        );
+
+        while (false == expected.isEmpty()) {
+            final Integer value = integers.remove(random.nextInt(integers.size()));
+            final ImmutableSortedSetBTree<Integer> before = set;
+
+            expected.remove(value);
+            set = set.delete(value);
+
+            this.containsAndCheck(
+                before,
+                value
+            );
+            this.containsAndCheckAbsent(
+                set,
+                value
+            );
+        }
+
+        this.isEmptyAndCheck(
+            (Set<Integer>) set,
+            true
+        );
+    }
+
+    // setElements......................................................................................................
+
+    @Test
+    public void testSetElementsDifferent() {
+        final ImmutableSortedSetBTree<String> set = this.createSet();
+
+        this.checkEquals(
+            new TreeSet<>(Sets.of("3c")),
+            set.setElements(Lists.of("3c"))
+        );
+    }
+
+    // toSet............................................................................................................
+
+    @Test
+    public void testToSet() {
+        this.toSetAndCheck(
+            this.createSet(),
+            ELEMENT1,
+            ELEMENT2
+        );
+    }
+
+    // SortedSets.......................................................................................................
+
+    @Test
+    public void testSortedSetsPersistent() {
+        final ImmutableSortedSet<String> set = SortedSets.persistent();
+
+        this.isEmptyAndCheck(
+            (Set<String>) set,
+            true
+        );
+        this.checkEquals(
+            null,
+            set.comparator()
+        );
+    }
+
+    @Test
+    public void testSortedSetsPersistentComparator() {
+        assertSame(
+            String.CASE_INSENSITIVE_ORDER,
+            SortedSets.persistent(String.CASE_INSENSITIVE_ORDER)
+                .comparator()
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    private static List<Integer> integers(final int from,
+                                          final int to) {
+        final List<Integer> integers = Lists.array();
+        for (int i = from; i < to; i++) {
+            integers.add(i);
+        }
+        return integers;
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<String> createSet() {
+        return ImmutableSortedSetBTree.with(
+            Lists.of(
+                ELEMENT1,
+                ELEMENT2
+            ),
+            null
+        );
+    }
+
+    @Override
+    public ImmutableSortedSetBTree<String> createObject() {
+        return this.createSet();
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ImmutableSortedSetBTree<String>> type() {
+        return Cast.to(ImmutableSortedSetBTree.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+
+    // TypeNameTesting..................................................................................................
+
+    @Override
+    public String typeNamePrefix() {
+        return "Immutable" + SortedSet.class.getSimpleName();
+    }
+
+    @Override
+    public String typeNameSuffix() {
+        return "";
+    }
+}
@@ -22,10 +22,12 @@ import walkingkooka.Cast;
 import walkingkooka.collect.iterator.IteratorTesting;
 
 import java.util.Comparator;
+import java.util.NoSuchElementException;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ImmutableSortedSetImplTest implements ImmutableSortedSetTesting<ImmutableSortedSetImpl<String>, String>,
     IteratorTesting {
@@ -137,6 +139,216 @@ public final class ImmutableSortedSetImplTest implements ImmutableSortedSetTesti
         );
     }
 
+    @Test
+    public void testContainsWithComparatorBinarySearch() {
+        final SortedSet<String> sortedSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < 100; i++) {
+            sortedSet.add("a" + i);
+        }
+
+        final ImmutableSortedSet<String> immutableSortedSet = ImmutableSortedSetImpl.with(sortedSet);
+
+        this.containsAndCheck(
+            immutableSortedSet,
+            "A50"
+        );
+        this.containsAndCheckAbsent(
+            immutableSortedSet,
+            "A100"
+        );
+    }
+
+    @Test
+    public void testConcatDoesntModifyOriginal() {
+        final ImmutableSortedSetImpl<String> set = this.createSet();
+        set.concat("0");
+
+        this.checkEquals(
+            new TreeSet<>(
+                Sets.of(
+                    "1a",
+                    "2b"
+                )
+            ),
+            set
+        );
+    }
+
+    @Test
+    public void testConcatExisting() {
+        final ImmutableSortedSetImpl<String> set = this.createSet();
+
+        assertSame(
+            set,
+            set.concat("1a")
+        );
+    }
+
+    @Test
+    public void testDeleteAbsent() {
+        final ImmutableSortedSetImpl<String> set = this.createSet();
+
+        assertSame(
+            set,
+            set.delete("absent")
+        );
+    }
+
+    // range............................................................................................................
+
+    @Test
+    public void testSubSet() {
+        final ImmutableSortedSet<String> set = this.abcde();
+
+        this.checkEquals(
+            new TreeSet<>(
+                Sets.of(
+                    "b",
+                    "c"
+                )
+            ),
+            set.subSet(
+                "b",
+                "d"
+            )
+        );
+    }
+
+    @Test
+    public void testSubSetFromGreaterThanToFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> this.abcde()
+                .subSet(
+                    "d",
+                    "b"
+                )
+        );
+    }
+
+    @Test
+    public void testSubSetAll() {
+        final ImmutableSortedSet<String> set = this.abcde();
+
+        assertSame(
+            set,
+            set.subSet(
+                "a",
+                "z"
+            )
+        );
+    }
+
+    @Test
+    public void testHeadSet() {
+        this.checkEquals(
+            new TreeSet<>(
+                Sets.of(
+                    "a",
+                    "b"
+                )
+            ),
+            this.abcde()
+                .headSet("bb")
+        );
+    }
+
+    @Test
+    public void testTailSet() {
+        this.checkEquals(
+            new TreeSet<>(
+                Sets.of(
+                    "d",
+                    "e"
+                )
+            ),
+            this.abcde()
+                .tailSet("d")
+        );
+    }
+
+    @Test
+    public void testSubSetFirstLastContains() {
+        final SortedSet<String> subSet = this.abcde()
+            .subSet(
+                "b",
+                "e"
+            );
+
+        this.checkEquals(
+            "b",
+            subSet.first(),
+            "first"
+        );
+        this.checkEquals(
+            "d",
+            subSet.last(),
+            "last"
+        );
+        this.containsAndCheckAbsent(
+            subSet,
+            "a"
+        );
+        this.containsAndCheckAbsent(
+            subSet,
+            "e"
+        );
+    }
+
+    @Test
+    public void testSubSetConcatDelete() {
+        final ImmutableSortedSet<String> subSet = (ImmutableSortedSet<String>) this.abcde()
+            .subSet(
+                "b",
+                "e"
+            );
+
+        this.checkEquals(
+            new TreeSet<>(
+                Sets.of(
+                    "b",
+                    "bb",
+                    "c",
+                    "d"
+                )
+            ),
+            subSet.concat("bb")
+        );
+        this.checkEquals(
+            new TreeSet<>(
+                Sets.of(
+                    "b",
+                    "d"
+                )
+            ),
+            subSet.delete("c")
+        );
+    }
+
+    @Test
+    public void testEmptyRangeFirstFails() {
+        assertThrows(
+            NoSuchElementException.class,
+            () -> this.abcde()
+                .tailSet("z")
+                .first()
+        );
+    }
+
+    private ImmutableSortedSet<String> abcde() {
+        return ImmutableSortedSetImpl.with(
+            new TreeSet<>(
+                Sets.of(
+                    "a",
+                    "b",
+                    "c",
+                    "d",
+                    "e"
+                )
+            )
+        );
+    }
+
     @Test
     public void testToSet() {
         final SortedSet<String> sortedSet = new TreeSet<>();
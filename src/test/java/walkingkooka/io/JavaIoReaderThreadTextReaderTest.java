@@ -0,0 +1,567 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.io;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class JavaIoReaderThreadTextReaderTest implements TextReaderTesting<JavaIoReaderThreadTextReader>,
+    ToStringTesting<JavaIoReaderThreadTextReader> {
+
+    /**
+     * A silent {@link Consumer}.
+     */
+    private final static Consumer<CharSequence> ECHO = (c) -> {};
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithNullReaderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JavaIoReaderThreadTextReader.with(
+                null,
+                ECHO
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullEchoFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> JavaIoReaderThreadTextReader.with(
+                new StringReader(""),
+                null // echo
+            )
+        );
+    }
+
+    // close............................................................................................................
+
+    @Test
+    public void testCloseThenReadTextFails() {
+        final JavaIoReaderThreadTextReader reader = this.createTextReader("abc");
+        reader.close();
+
+        this.checkEquals(
+            false,
+            reader.isOpen()
+        );
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> reader.readText(
+                1,
+                100
+            )
+        );
+    }
+
+    // readText.........................................................................................................
+
+    @Test
+    public void testReadTextWithMaxZero() {
+        this.readTextAndCheck(
+            "abcdef",
+            0,
+            100,
+            "",
+            ""
+        );
+    }
+
+    @Test
+    public void testReadText() {
+        this.readTextAndCheck(
+            "abcdef",
+            3,
+            100,
+            "abc",
+            "abcdef"
+        );
+    }
+
+    @Test
+    public void testReadTextEndOfReader() {
+        this.readTextAndCheck(
+            "ab",
+            5,
+            10_000,
+            "ab",
+            "ab"
+        );
+    }
+
+    @Test
+    public void testReadTextWithSkipLfTrue() {
+        final JavaIoReaderThreadTextReader reader = this.createTextReader("\nabcdef");
+        reader.skipLf = true;
+
+        this.readTextAndCheck(
+            reader,
+            3,
+            100,
+            "abc"
+        );
+    }
+
+    @Test
+    public void testReadTextTwice() {
+        final JavaIoReaderThreadTextReader reader = this.createTextReader("abcdef");
+
+        this.readTextAndCheck(
+            reader,
+            2,
+            100,
+            "ab"
+        );
+        this.bufferAndCheck(
+            reader,
+            "cdef"
+        );
+
+        this.readTextAndCheck(
+            reader,
+            3,
+            100,
+            "cde"
+        );
+        this.bufferAndCheck(
+            reader,
+            "f"
+        );
+    }
+
+    @Test
+    public void testReadTextTimeout() throws IOException {
+        final PipedWriter writer = new PipedWriter();
+        final JavaIoReaderThreadTextReader reader = JavaIoReaderThreadTextReader.with(
+            new PipedReader(writer),
+            ECHO
+        );
+
+        writer.write("ab");
+        writer.flush();
+
+        this.readTextAndCheck(
+            reader,
+            10,
+            250,
+            "ab"
+        );
+    }
+
+    @Test
+    public void testReadTextFails() {
+        final JavaIoReaderThreadTextReader reader = JavaIoReaderThreadTextReader.with(
+            new Reader() {
+                @Override
+                public int read(final char[] buffer,
+                                final int offset,
+                                final int length) throws IOException {
+                    throw new IOException("Failed!");
+                }
+
+                @Override
+                public void close() {
+                }
+            },
+            ECHO
+        );
+
+        final UncheckedIOException thrown = assertThrows(
+            UncheckedIOException.class,
+            () -> reader.readText(
+                1,
+                10_000
+            )
+        );
+        this.checkEquals(
+            "Failed!",
+            thrown.getCause()
+                .getMessage()
+        );
+    }
+
+    @Test
+    public void testReadTextSlowConsumerBoundsQueue() throws InterruptedException {
+        final AtomicInteger reads = new AtomicInteger();
+
+        final JavaIoReaderThreadTextReader reader = JavaIoReaderThreadTextReader.with(
+            new Reader() {
+                @Override
+                public int read(final char[] buffer,
+                                final int offset,
+                                final int length) {
+                    reads.incrementAndGet();
+                    Arrays.fill(
+                        buffer,
+                        offset,
+                        offset + length,
+                        'a'
+                    );
+                    return length;
+                }
+
+                @Override
+                public void close() {
+                }
+            },
+            ECHO
+        );
+
+        this.readTextAndCheck(
+            reader,
+            1,
+            10_000,
+            "a"
+        );
+
+        Thread.sleep(250);
+
+        this.checkEquals(
+            true,
+            reads.get() <= JavaIoReaderThreadTextReader.QUEUE_CAPACITY + 2,
+            () -> "reads " + reads.get()
+        );
+        this.checkEquals(
+            true,
+            reader.queue.size() <= JavaIoReaderThreadTextReader.QUEUE_CAPACITY,
+            () -> "queue size " + reader.queue.size()
+        );
+
+        reader.close();
+    }
+
+    private void readTextAndCheck(final String reader,
+                                  final int max,
+                                  final long timeout,
+                                  final String expected,
+                                  final String expectedEcho) {
+        final StringBuilder echo = new StringBuilder();
+
+        this.readTextAndCheck(
+            JavaIoReaderThreadTextReader.with(
+                new StringReader(reader),
+                echo::append
+            ),
+            max,
+            timeout,
+            expected
+        );
+
+        this.echoCheck(
+            echo,
+            expectedEcho
+        );
+    }
+
+    // readLine.........................................................................................................
+
+    @Test
+    public void testReadLineMissingEol() {
+        final StringBuilder echo = new StringBuilder();
+
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "abcdef",
+            echo::append,
+            100
+        );
+        this.skipLfAndCheck(
+            reader,
+            false
+        );
+        this.bufferAndCheck(
+            reader,
+            "abcdef"
+        );
+
+        this.echoCheck(
+            echo,
+            "abcdef"
+        );
+    }
+
+    @Test
+    public void testReadLineEmptyEndsWithCr() {
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "\rabc",
+            ECHO,
+            100,
+            ""
+        );
+
+        this.skipLfAndCheck(
+            reader,
+            true
+        );
+        this.bufferAndCheck(
+            reader,
+            "abc"
+        );
+    }
+
+    @Test
+    public void testReadLineEndsWithCr() {
+        final StringBuilder echo = new StringBuilder();
+
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "abc\rdef",
+            echo::append,
+            100,
+            "abc"
+        );
+
+        this.skipLfAndCheck(
+            reader,
+            true
+        );
+        this.bufferAndCheck(
+            reader,
+            "def"
+        );
+
+        this.echoCheck(
+            echo,
+            "abc\rdef"
+        );
+    }
+
+    @Test
+    public void testReadLineEndsWithNl() {
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "abc\ndef",
+            ECHO,
+            100,
+            "abc"
+        );
+
+        this.skipLfAndCheck(
+            reader,
+            false
+        );
+        this.bufferAndCheck(
+            reader,
+            "def"
+        );
+    }
+
+    @Test
+    public void testReadLineCrNlReadLine() {
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "abc\r\ndef\r\n",
+            ECHO,
+            100,
+            "abc"
+        );
+
+        this.readLineAndCheck(
+            reader,
+            100,
+            "def"
+        );
+
+        this.readLineAndCheck(
+            reader,
+            100
+        );
+    }
+
+    @Test
+    public void testReadLineCrThenReadText() {
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "abc\rdefghijklmnopqrstuv",
+            ECHO,
+            100,
+            "abc"
+        );
+
+        this.readTextAndCheck(
+            reader,
+            3,
+            100,
+            "def"
+        );
+    }
+
+    @Test
+    public void testReadLineCrLfThenReadText() {
+        final JavaIoReaderThreadTextReader reader = this.readLineAndCheck(
+            "abc\r\ndefghijklmnopqrstuv",
+            ECHO,
+            100,
+            "abc"
+        );
+
+        this.readTextAndCheck(
+            reader,
+            3,
+            100,
+            "def"
+        );
+    }
+
+    @Test
+    public void testReadLineWaitsForEol() throws IOException {
+        final PipedWriter writer = new PipedWriter();
+        final JavaIoReaderThreadTextReader reader = JavaIoReaderThreadTextReader.with(
+            new PipedReader(writer),
+            ECHO
+        );
+
+        writer.write("abc");
+        writer.flush();
+
+        this.readLineAndCheck(
+            reader,
+            100
+        );
+
+        writer.write("def\n");
+        writer.flush();
+
+        this.readLineAndCheck(
+            reader,
+            10_000,
+            "abcdef"
+        );
+    }
+
+    private JavaIoReaderThreadTextReader readLineAndCheck(final String text,
+                                                          final Consumer<CharSequence> echo,
+                                                          final long timeout) {
+        return this.readLineAndCheck(
+            text,
+            echo,
+            timeout,
+            Optional.empty()
+        );
+    }
+
+    private JavaIoReaderThreadTextReader readLineAndCheck(final String text,
+                                                          final Consumer<CharSequence> echo,
+                                                          final long timeout,
+                                                          final String expected) {
+        return this.readLineAndCheck(
+            text,
+            echo,
+            timeout,
+            Optional.of(expected)
+        );
+    }
+
+    private JavaIoReaderThreadTextReader readLineAndCheck(final String text,
+                                                          final Consumer<CharSequence> echo,
+                                                          final long timeout,
+                                                          final Optional<String> expected) {
+        final JavaIoReaderThreadTextReader reader = JavaIoReaderThreadTextReader.with(
+            new StringReader(text),
+            echo
+        );
+
+        this.readLineAndCheck(
+            reader,
+            timeout,
+            expected
+        );
+
+        return reader;
+    }
+
+    private void skipLfAndCheck(final JavaIoReaderThreadTextReader reader,
+                                final boolean expected) {
+        this.checkEquals(
+            expected,
+            reader.skipLf
+        );
+    }
+
+    private void bufferAndCheck(final JavaIoReaderThreadTextReader reader,
+                                final String expected) {
+        this.checkEquals(
+            expected,
+            reader.buffer.toString()
+        );
+    }
+
+    private void echoCheck(final StringBuilder echo,
+                           final String expected) {
+        this.checkEquals(
+            expected,
+            echo.toString(),
+            "echo"
+        );
+    }
+
+    // TextReaderTesting................................................................................................
+
+    @Override
+    public JavaIoReaderThreadTextReader createTextReader() {
+        return this.createTextReader("");
+    }
+
+    private JavaIoReaderThreadTextReader createTextReader(final String text) {
+        return JavaIoReaderThreadTextReader.with(
+            new StringReader(text),
+            ECHO
+        );
+    }
+
+    // ToString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final Reader reader = new StringReader("hello");
+
+        this.toStringAndCheck(
+            JavaIoReaderThreadTextReader.with(
+                reader,
+                ECHO
+            ),
+            reader.toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<JavaIoReaderThreadTextReader> type() {
+        return JavaIoReaderThreadTextReader.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
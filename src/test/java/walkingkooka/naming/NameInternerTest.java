@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.naming;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class NameInternerTest implements ClassTesting2<NameInterner<StringName>>,
+    ToStringTesting<NameInterner<StringName>> {
+
+    @Test
+    public void testWithNullFactoryFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> NameInterner.with(
+                null,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidMaxSizeFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> NameInterner.with(
+                StringName::with,
+                0
+            )
+        );
+    }
+
+    @Test
+    public void testInternNullStringFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createInterner().intern((String) null)
+        );
+    }
+
+    @Test
+    public void testInternNullNameFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createInterner().intern((StringName) null)
+        );
+    }
+
+    @Test
+    public void testInternInvalidFails() {
+        final NameInterner<StringName> interner = this.createInterner();
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> interner.intern(" ")
+        );
+        this.sizeHitsMissesCheck(
+            interner,
+            0,
+            0,
+            1
+        );
+    }
+
+    @Test
+    public void testIntern() {
+        final NameInterner<StringName> interner = this.createInterner();
+        final StringName name = interner.intern("abc");
+
+        this.checkEquals(
+            StringName.with("abc"),
+            name
+        );
+        this.sizeHitsMissesCheck(
+            interner,
+            1,
+            0,
+            1
+        );
+    }
+
+    @Test
+    public void testInternSame() {
+        final NameInterner<StringName> interner = this.createInterner();
+        final StringName name = interner.intern("abc");
+
+        assertSame(
+            name,
+            interner.intern(new String("abc"))
+        );
+        this.sizeHitsMissesCheck(
+            interner,
+            1,
+            1,
+            1
+        );
+    }
+
+    @Test
+    public void testInternDifferent() {
+        final NameInterner<StringName> interner = this.createInterner();
+        interner.intern("abc");
+        interner.intern("def");
+
+        this.sizeHitsMissesCheck(
+            interner,
+            2,
+            0,
+            2
+        );
+    }
+
+    @Test
+    public void testInternName() {
+        final NameInterner<StringName> interner = this.createInterner();
+        final StringName name = StringName.with("abc");
+
+        assertSame(
+            name,
+            interner.intern(name)
+        );
+        assertSame(
+            name,
+            interner.intern(StringName.with("abc"))
+        );
+        assertSame(
+            name,
+            interner.intern("abc")
+        );
+        this.sizeHitsMissesCheck(
+            interner,
+            1,
+            2,
+            1
+        );
+    }
+
+    @Test
+    public void testInternWhenFull() {
+        final NameInterner<StringName> interner = NameInterner.with(
+            StringName::with,
+            1
+        );
+        final StringName abc = interner.intern("abc");
+        final StringName def = interner.intern("def");
+
+        this.checkEquals(
+            StringName.with("def"),
+            def
+        );
+        assertNotSame(
+            def,
+            interner.intern("def")
+        );
+        assertSame(
+            abc,
+            interner.intern("abc")
+        );
+        this.sizeHitsMissesCheck(
+            interner,
+            1,
+            1,
+            3
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final NameInterner<StringName> interner = this.createInterner();
+        interner.intern("abc");
+        interner.intern("abc");
+        interner.intern("def");
+
+        this.toStringAndCheck(
+            interner,
+            "size=2 hits=1 misses=2"
+        );
+    }
+
+    private NameInterner<StringName> createInterner() {
+        return NameInterner.with(
+            StringName::with,
+            100
+        );
+    }
+
+    private void sizeHitsMissesCheck(final NameInterner<?> interner,
+                                     final int size,
+                                     final long hits,
+                                     final long misses) {
+        this.checkEquals(
+            size,
+            interner.size(),
+            "size"
+        );
+        this.checkEquals(
+            hits,
+            interner.hits(),
+            "hits"
+        );
+        this.checkEquals(
+            misses,
+            interner.misses(),
+            "misses"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<NameInterner<StringName>> type() {
+        return Cast.to(NameInterner.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -17,13 +17,52 @@
 
 package walkingkooka.naming;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.reflect.PublicStaticHelperTesting;
 
 import java.lang.reflect.Method;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 final public class NamesTest implements PublicStaticHelperTesting<Names> {
 
+    @Test
+    public void testStringInterned() {
+        final String name = "string-interned";
+        final StringName interned = Names.stringInterned(name);
+
+        this.checkEquals(
+            StringName.with(name),
+            interned
+        );
+        assertSame(
+            interned,
+            Names.stringInterned(new String(name))
+        );
+    }
+
+    @Test
+    public void testStringInternerMetrics() {
+        final NameInterner<StringName> interner = Names.stringInterner();
+        final long hits = interner.hits();
+        final String name = "string-interner-metrics";
+
+        Names.stringInterned(name);
+        Names.stringInterned(name);
+
+        this.checkEquals(
+            NameInterner.DEFAULT_MAX_SIZE,
+            interner.maxSize(),
+            "maxSize"
+        );
+        this.checkEquals(
+            true,
+            interner.hits() > hits,
+            "hits"
+        );
+    }
+
     @Override
     public Class<Names> type() {
         return Names.class;
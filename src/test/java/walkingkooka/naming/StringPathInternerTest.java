@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.naming;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class StringPathInternerTest implements ClassTesting2<StringPathInterner>,
+    ToStringTesting<StringPathInterner> {
+
+    @Test
+    public void testParseNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> StringPathInterner.empty().parse(null)
+        );
+    }
+
+    @Test
+    public void testParseMissingLeadingSlashFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> StringPathInterner.empty().parse("without-leading-slash")
+        );
+    }
+
+    @Test
+    public void testParseEmptyComponentFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> StringPathInterner.empty().parse("/before//after")
+        );
+        assertEquals(
+            true,
+            thrown.getMessage().startsWith("Failed to parse \"/before//after\""),
+            thrown::getMessage
+        );
+    }
+
+    @Test
+    public void testParseRoot() {
+        assertSame(
+            StringPath.ROOT,
+            StringPathInterner.empty().parse("/")
+        );
+    }
+
+    @Test
+    public void testParse() {
+        final StringPath path = StringPathInterner.empty()
+            .parse("/a/b/c");
+        assertEquals(
+            StringPath.parse("/a/b/c"),
+            path
+        );
+        assertEquals(
+            StringName.with("c"),
+            path.name()
+        );
+        assertEquals(
+            StringPath.parse("/a/b"),
+            path.parent().get()
+        );
+    }
+
+    @Test
+    public void testParseTrailingSeparator() {
+        final StringPathInterner interner = StringPathInterner.empty();
+        assertSame(
+            interner.parse("/a/b"),
+            interner.parse("/a/b/")
+        );
+    }
+
+    @Test
+    public void testParseSame() {
+        final StringPathInterner interner = StringPathInterner.empty();
+        final StringPath path = interner.parse("/a/b/c");
+
+        assertSame(
+            path,
+            interner.parse(new String("/a/b/c"))
+        );
+        assertEquals(
+            3,
+            interner.size()
+        );
+    }
+
+    @Test
+    public void testParseSharedParents() {
+        final StringPathInterner interner = StringPathInterner.empty();
+        final StringPath c = interner.parse("/a/b/c");
+        final StringPath d = interner.parse("/a/b/d");
+
+        assertSame(
+            c.parent().get(),
+            d.parent().get()
+        );
+        assertSame(
+            interner.parse("/a/b"),
+            c.parent().get()
+        );
+        assertSame(
+            interner.parse("/a"),
+            c.parent().get().parent().get()
+        );
+        assertEquals(
+            4,
+            interner.size()
+        );
+    }
+
+    @Test
+    public void testInternNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> StringPathInterner.empty().intern(null)
+        );
+    }
+
+    @Test
+    public void testInternRoot() {
+        assertSame(
+            StringPath.ROOT,
+            StringPathInterner.empty().intern(StringPath.ROOT)
+        );
+    }
+
+    @Test
+    public void testInternFirstReturnsSame() {
+        final StringPath path = StringPath.parse("/a/b");
+        final StringPathInterner interner = StringPathInterner.empty();
+
+        assertSame(
+            path,
+            interner.intern(path)
+        );
+        assertSame(
+            path.parent().get(),
+            interner.parse("/a")
+        );
+    }
+
+    @Test
+    public void testInternEqual() {
+        final StringPathInterner interner = StringPathInterner.empty();
+        final StringPath parsed = interner.parse("/a/b/c");
+        final StringPath path = StringPath.parse("/a/b/c");
+
+        assertNotSame(parsed, path);
+        assertSame(
+            parsed,
+            interner.intern(path)
+        );
+    }
+
+    @Test
+    public void testInternDifferentParentInstance() {
+        final StringPathInterner interner = StringPathInterner.empty();
+        final StringPath a = interner.parse("/a");
+        final StringPath path = StringPath.parse("/a/b");
+
+        final StringPath interned = interner.intern(path);
+        assertEquals(path, interned);
+        assertSame(
+            a,
+            interned.parent().get()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final StringPathInterner interner = StringPathInterner.empty();
+        interner.parse("/a/b");
+
+        this.toStringAndCheck(
+            interner,
+            "size=2"
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<StringPathInterner> type() {
+        return StringPathInterner.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
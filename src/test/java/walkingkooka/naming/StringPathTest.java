@@ -87,6 +87,48 @@ final public class StringPathTest implements PathTesting<StringPath, StringName>
         this.parentCheck(path, "/path");
     }
 
+    @Test
+    public void testParseWhitespaceComponentFails() {
+        this.parseStringFails(
+            "/before/ /after",
+            IllegalArgumentException.class
+        );
+    }
+
+    @Test
+    public void testParseTrailingSeparator() {
+        final StringPath path = StringPath.parse("/path/to/");
+        this.valueAndCheck(path, "/path/to");
+        this.nameCheck(path, StringName.with("to"));
+        this.parentCheck(path, "/path");
+    }
+
+    @Test
+    public void testParseOnlySeparators() {
+        assertSame(
+            StringPath.ROOT,
+            StringPath.parse("//")
+        );
+    }
+
+    @Test
+    public void testParseDeep() {
+        final StringPath path = StringPath.parse("/a/b/c/d");
+        this.valueAndCheck(path, "/a/b/c/d");
+        this.nameCheck(path, StringName.with("d"));
+
+        final StringPath c = path.parent().get();
+        this.valueAndCheck(c, "/a/b/c");
+        this.nameCheck(c, StringName.with("c"));
+
+        final StringPath b = c.parent().get();
+        this.valueAndCheck(b, "/a/b");
+
+        final StringPath a = b.parent().get();
+        this.valueAndCheck(a, "/a");
+        this.parentSame(a, StringPath.ROOT);
+    }
+
     @Test
     public void testRoot() {
         final StringPath path = StringPath.ROOT;
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.predicate;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.collect.set.SortedSets;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.LinkedHashSet;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PredicateOptimizerTest implements ClassTesting2<PredicateOptimizer>,
+    PredicateTesting {
+
+    private final static Predicate<String> LAMBDA = new Predicate<>() {
+        @Override
+        public boolean test(final String value) {
+            return value.startsWith("lambda");
+        }
+
+        @Override
+        public String toString() {
+            return "lambda";
+        }
+    };
+
+    @Test
+    public void testOptimizeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> PredicateOptimizer.optimize(null)
+        );
+    }
+
+    @Test
+    public void testOptimizeUnknown() {
+        assertSame(
+            LAMBDA,
+            PredicateOptimizer.optimize(LAMBDA)
+        );
+    }
+
+    @Test
+    public void testOptimizeIs() {
+        final Predicate<String> is = Predicates.is("a");
+        assertSame(
+            is,
+            PredicateOptimizer.optimize(is)
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyEmpty() {
+        final Predicate<String> any = Predicates.any(Lists.empty());
+        final Predicate<String> optimized = this.optimizeAndCheck(any);
+
+        this.checkEquals(
+            Predicates.customToString(
+                Predicates.never(),
+                ""
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyAlways() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    LAMBDA,
+                    Predicates.always()
+                )
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                Predicates.always(),
+                "lambda | *"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyNeverRemoved() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    Predicates.never(),
+                    LAMBDA
+                )
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                LAMBDA,
+                "<none> | lambda"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyNotAlways() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    Predicates.not(
+                        Predicates.any(
+                            Lists.of(
+                                Predicates.always()
+                            )
+                        )
+                    ),
+                    LAMBDA
+                )
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                LAMBDA,
+                "!* | lambda"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyMergesIs() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    Predicates.is("a"),
+                    LAMBDA,
+                    Predicates.is("b")
+                )
+            )
+        );
+
+        final AnyPredicate<String> any = this.unwrapAny(optimized);
+        this.checkEquals(
+            "[a, b] | lambda",
+            any.toString()
+        );
+        this.checkEquals(
+            SetContainsPredicate.class,
+            any.predicates.iterator()
+                .next()
+                .getClass()
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyFlattensNestedAndMergesSetContains() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    LAMBDA,
+                    Predicates.any(
+                        Lists.of(
+                            Predicates.setContains(
+                                new LinkedHashSet<>(
+                                    Lists.of("b", "c")
+                                )
+                            ),
+                            Predicates.any(
+                                Lists.of(
+                                    Predicates.is("a")
+                                )
+                            )
+                        )
+                    )
+                )
+            )
+        );
+
+        this.checkEquals(
+            "[b, c, a] | lambda",
+            this.unwrapAny(optimized)
+                .toString()
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyImmutableSetNotMerged() {
+        final Predicate<String> immutable = Predicates.setContains(
+            Sets.of("b")
+        );
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    LAMBDA,
+                    immutable,
+                    Predicates.is("a")
+                )
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                Predicates.is("a"),
+                immutable,
+                LAMBDA
+            ),
+            this.unwrapAny(optimized)
+                .predicates
+        );
+    }
+
+    @Test
+    public void testOptimizeAnySortedSetNotMerged() {
+        final Predicate<String> sorted = Predicates.setContains(
+            SortedSets.immutable(
+                SortedSets.of("b")
+            )
+        );
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    LAMBDA,
+                    sorted,
+                    Predicates.is("a")
+                )
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                Predicates.is("a"),
+                sorted,
+                LAMBDA
+            ),
+            this.unwrapAny(optimized)
+                .predicates
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyNullIsNotMerged() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    Predicates.is(null),
+                    Predicates.is("a"),
+                    LAMBDA
+                )
+            )
+        );
+        this.testTrue(
+            optimized,
+            null
+        );
+    }
+
+    @Test
+    public void testOptimizeAnyDuplicatesRemoved() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.any(
+                Lists.of(
+                    LAMBDA,
+                    Predicates.any(
+                        Lists.of(
+                            LAMBDA
+                        )
+                    )
+                )
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                LAMBDA,
+                "lambda | lambda"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeCustomToStringPreserved() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.customToString(
+                Predicates.any(
+                    Lists.of(
+                        Predicates.never(),
+                        Predicates.not(LAMBDA)
+                    )
+                ),
+                "custom"
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                Predicates.not(LAMBDA),
+                "custom"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeNotCustomToStringNever() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.not(
+                Predicates.customToString(
+                    Predicates.any(
+                        Lists.of(
+                            Predicates.never()
+                        )
+                    ),
+                    "nothing"
+                )
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                Predicates.always(),
+                "!nothing"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeNotCustomToStringNot() {
+        final Predicate<String> optimized = this.optimizeAndCheck(
+            Predicates.not(
+                Predicates.customToString(
+                    Predicates.not(LAMBDA),
+                    "custom"
+                )
+            )
+        );
+
+        this.checkEquals(
+            Predicates.customToString(
+                LAMBDA,
+                "!custom"
+            ),
+            optimized
+        );
+    }
+
+    /**
+     * Optimizes the {@link Predicate} and verifies the {@link Object#toString()} and results for a few values are
+     * unchanged.
+     */
+    private Predicate<String> optimizeAndCheck(final Predicate<String> predicate) {
+        final Predicate<String> optimized = PredicateOptimizer.optimize(predicate);
+
+        this.checkEquals(
+            predicate.toString(),
+            optimized.toString(),
+            "toString"
+        );
+
+        for (final String value : new String[]{"a", "b", "c", "d", "lambda1"}) {
+            this.checkEquals(
+                predicate.test(value),
+                optimized.test(value),
+                () -> predicate + " test " + value
+            );
+        }
+
+        return optimized;
+    }
+
+    private AnyPredicate<String> unwrapAny(final Predicate<String> predicate) {
+        final CustomToStringPredicate<String> custom = Cast.to(predicate);
+        return Cast.to(custom.predicate);
+    }
+
+    // cost.............................................................................................................
+
+    @Test
+    public void testCost() {
+        this.checkEquals(
+            true,
+            PredicateOptimizer.cost(Predicates.is("a")) < PredicateOptimizer.cost(Predicates.not(LAMBDA))
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<PredicateOptimizer> type() {
+        return PredicateOptimizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package walkingkooka.predicate.character;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CharPredicateOptimizerTest implements ClassTesting2<CharPredicateOptimizer> {
+
+    private final static CharPredicate LAMBDA = new CharPredicate() {
+        @Override
+        public boolean test(final char c) {
+            return Character.isDigit(c);
+        }
+
+        @Override
+        public String toString() {
+            return "lambda";
+        }
+    };
+
+    @Test
+    public void testOptimizeNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharPredicateOptimizer.optimize(null)
+        );
+    }
+
+    @Test
+    public void testOptimizeUnknown() {
+        assertSame(
+            LAMBDA,
+            CharPredicateOptimizer.optimize(LAMBDA)
+        );
+    }
+
+    @Test
+    public void testOptimizeOrMergesIsAndAny() {
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.or(
+                CharPredicates.or(
+                    CharPredicates.is('a'),
+                    LAMBDA
+                ),
+                CharPredicates.or(
+                    CharPredicates.any("bc"),
+                    CharPredicates.is('d')
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                CharPredicates.or(
+                    CharPredicates.any("abcd"),
+                    LAMBDA
+                ),
+                "'a' || lambda || \"bc\" || 'd'"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeOrNeverRemoved() {
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.or(
+                LAMBDA,
+                CharPredicates.toString(
+                    CharPredicates.not(
+                        CharPredicates.always()
+                    ),
+                    "nothing"
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                LAMBDA,
+                "lambda || nothing"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeOrAlways() {
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.or(
+                LAMBDA,
+                CharPredicates.toString(
+                    CharPredicates.always(),
+                    "everything"
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                CharPredicates.always(),
+                "lambda || everything"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAndFlattensAndSorts() {
+        final CharPredicate range = CharPredicates.range('0', '5');
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.and(
+                LAMBDA,
+                CharPredicates.and(
+                    CharPredicates.toString(
+                        CharPredicates.always(),
+                        "everything"
+                    ),
+                    range
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                CharPredicates.and(
+                    range,
+                    LAMBDA
+                ),
+                "lambda && everything && '0'..'5'"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAndNever() {
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.and(
+                LAMBDA,
+                CharPredicates.toString(
+                    CharPredicates.never(),
+                    "nothing"
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                CharPredicates.never(),
+                "lambda && nothing"
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeAndDuplicatesRemoved() {
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.and(
+                LAMBDA,
+                CharPredicates.and(
+                    CharPredicates.letter(),
+                    LAMBDA
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                CharPredicates.and(
+                    LAMBDA,
+                    CharPredicates.letter()
+                ),
+                optimized.toString()
+            ),
+            optimized
+        );
+    }
+
+    @Test
+    public void testOptimizeNotToStringNot() {
+        final CharPredicate optimized = this.optimizeAndCheck(
+            CharPredicates.not(
+                CharPredicates.toString(
+                    CharPredicates.or(
+                        CharPredicates.never(),
+                        CharPredicates.not(LAMBDA)
+                    ),
+                    "custom"
+                )
+            )
+        );
+
+        this.checkEquals(
+            CharPredicates.toString(
+                LAMBDA,
+                "!custom"
+            ),
+            optimized
+        );
+    }
+
+    /**
+     * Optimizes the {@link CharPredicate} and verifies the {@link Object#toString()} and results for all ascii
+     * characters are unchanged.
+     */
+    private CharPredicate optimizeAndCheck(final CharPredicate predicate) {
+        final CharPredicate optimized = CharPredicateOptimizer.optimize(predicate);
+
+        this.checkEquals(
+            predicate.toString(),
+            optimized.toString(),
+            "toString"
+        );
+
+        for (char c = 0; c < 128; c++) {
+            final char value = c;
+            this.checkEquals(
+                predicate.test(value),
+                optimized.test(value),
+                () -> predicate + " test " + value
+            );
+        }
+
+        return optimized;
+    }
+
+    // cost.............................................................................................................
+
+    @Test
+    public void testCost() {
+        this.checkEquals(
+            true,
+            CharPredicateOptimizer.cost(CharPredicates.is('a')) < CharPredicateOptimizer.cost(CharPredicates.any("ab"))
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CharPredicateOptimizer> type() {
+        return CharPredicateOptimizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -20,6 +20,11 @@ package walkingkooka.reflect;
 import org.junit.jupiter.api.Test;
 import walkingkooka.collect.set.Sets;
 
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class ClassAttributesTest implements ClassTesting2<ClassAttributes> {
 
     @Test
@@ -52,6 +57,36 @@ public final class ClassAttributesTest implements ClassTesting2<ClassAttributes>
     abstract static class TestAbstractStaticClass {
     }
 
+    @Test
+    public void testNone() {
+        this.checkEquals(Sets.empty(), ClassAttributes.get(Object.class));
+    }
+
+    @Test
+    public void testGetCached() {
+        assertSame(
+            ClassAttributes.get(TestAbstractStaticClass.class),
+            ClassAttributes.get(TestAbstractStaticClass.class)
+        );
+    }
+
+    @Test
+    public void testGetSharedBetweenClasses() {
+        assertSame(
+            ClassAttributes.get(this.getClass()),
+            ClassAttributes.get(ClassesTest.class)
+        );
+    }
+
+    @Test
+    public void testGetReadOnly() {
+        final Set<ClassAttributes> attributes = ClassAttributes.get(this.getClass());
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> attributes.add(ClassAttributes.ABSTRACT)
+        );
+    }
+
     @Override
     public Class<ClassAttributes> type() {
         return ClassAttributes.class;
@@ -24,6 +24,7 @@ import walkingkooka.predicate.character.CharPredicate;
 import java.util.Map;
 import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ClassNameTest extends PackageNameOrTypeNameJavaNameTestCase<ClassName> {
@@ -218,6 +219,62 @@ public final class ClassNameTest extends PackageNameOrTypeNameJavaNameTestCase<C
 
     }
 
+    @Test
+    public void testParentPackageNotInterned() {
+        final int size = PackageName.interner().size();
+
+        this.checkEquals(
+            PackageName.with("a1.b2.notinterned"),
+            ClassName.with("a1.b2.notinterned.C3").parentPackage()
+        );
+        this.checkEquals(
+            size,
+            PackageName.interner().size(),
+            "interner size"
+        );
+    }
+
+    // interned.........................................................................................................
+
+    @Test
+    public void testInternedSame() {
+        final String name = "walkingkooka.reflect.Interned";
+        assertSame(
+            ClassName.interned(name),
+            ClassName.interned(new String(name))
+        );
+    }
+
+    @Test
+    public void testInternedConstant() {
+        assertSame(
+            ClassName.INT,
+            ClassName.interned("int")
+        );
+    }
+
+    @Test
+    public void testInternedInvalidFails() {
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> ClassName.interned("before..After")
+        );
+    }
+
+    @Test
+    public void testInternedMetrics() {
+        final long hits = ClassName.interner().hits();
+        final String name = "walkingkooka.reflect.InternedMetrics";
+
+        ClassName.interned(name);
+        ClassName.interned(name);
+
+        this.checkEquals(
+            true,
+            ClassName.interner().hits() > hits
+        );
+    }
+
     // filename.........................................................................................................
 
     @Test
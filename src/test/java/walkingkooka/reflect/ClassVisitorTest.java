@@ -346,6 +346,70 @@ public final class ClassVisitorTest implements ClassVisitorTesting<ClassVisitor>
             b.toString());
     }
 
+    @Test
+    public void testImplementsInterfaceSkipSuperClass() {
+        final StringBuilder b = new StringBuilder();
+
+        new FakeClassVisitor() {
+
+            @Override
+            protected Visiting startVisitClass(final Class<?> classs) {
+                b.append(",start class:").append(name(classs));
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitClass(final Class<?> classs) {
+                b.append(",end class:").append(name(classs));
+            }
+
+            @Override
+            protected Visiting startVisitSuperClass(final Class<?> classs) {
+                b.append(",start super:").append(name(classs));
+                return Visiting.SKIP;
+            }
+
+            @Override
+            protected void endVisitSuperClass(final Class<?> classs) {
+                b.append(",end super:").append(name(classs));
+            }
+
+            @Override
+            protected Visiting startVisitImplementedInterface(final Class<?> classs) {
+                b.append(",start intf:").append(name(classs));
+                return Visiting.CONTINUE;
+            }
+
+            @Override
+            protected void endVisitImplementedInterface(final Class<?> classs) {
+                b.append(",end intf:").append(name(classs));
+            }
+        }.accept(TestImplIntf2.class);
+
+        this.checkEquals(",start class:ImplIntf2,start super:ImplIntf,end super:ImplIntf,start intf:Intf2,start class:Intf2,end class:Intf2,end intf:Intf2,end class:ImplIntf2",
+            b.toString());
+    }
+
+    @Test
+    public void testAcceptTwice() {
+        final StringBuilder b = new StringBuilder();
+
+        final ClassVisitor visitor = new ClassVisitor() {
+
+            @Override
+            protected Visiting startVisitClass(final Class<?> classs) {
+                b.append(",start class:").append(name(classs));
+                return Visiting.CONTINUE;
+            }
+        };
+        visitor.accept(TestImplIntf2.class);
+        visitor.accept(TestImplIntf2.class);
+
+        this.checkEquals(",start class:ImplIntf2,start class:ImplIntf,start class:Object,start class:Intf,start class:Intf2" +
+                ",start class:ImplIntf2,start class:ImplIntf,start class:Object,start class:Intf,start class:Intf2",
+            b.toString());
+    }
+
     static class TestImplIntf2 extends TestImplIntf implements TestIntf2 {
     }
 
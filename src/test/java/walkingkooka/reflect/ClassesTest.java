@@ -18,10 +18,15 @@
 package walkingkooka.reflect;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public final class ClassesTest implements PublicStaticHelperTesting<Classes> {
 
     // primitive........................................................................................................
@@ -223,6 +228,88 @@ public final class ClassesTest implements PublicStaticHelperTesting<Classes> {
             classs::getName);
     }
 
+    // supertypes.......................................................................................................
+
+    @Test
+    public void testSupertypesNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> Classes.supertypes(null)
+        );
+    }
+
+    @Test
+    public void testSupertypesObject() {
+        this.supertypesAndCheck(Object.class);
+    }
+
+    @Test
+    public void testSupertypesInterface() {
+        this.supertypesAndCheck(
+            TestSupertypesInterface2.class,
+            TestSupertypesInterface1.class
+        );
+    }
+
+    @Test
+    public void testSupertypesClass() {
+        this.supertypesAndCheck(
+            TestSupertypesClass1.class,
+            Object.class,
+            TestSupertypesInterface1.class
+        );
+    }
+
+    @Test
+    public void testSupertypesSubClass() {
+        this.supertypesAndCheck(
+            TestSupertypesClass2.class,
+            TestSupertypesClass1.class,
+            Object.class,
+            TestSupertypesInterface1.class,
+            TestSupertypesInterface2.class
+        );
+    }
+
+    @Test
+    public void testSupertypesArray() {
+        this.supertypesAndCheck(
+            int[].class,
+            Object.class,
+            Cloneable.class,
+            Serializable.class
+        );
+    }
+
+    @Test
+    public void testSupertypesCached() {
+        assertSame(
+            Classes.supertypes(TestSupertypesClass2.class),
+            Classes.supertypes(TestSupertypesClass2.class)
+        );
+    }
+
+    private void supertypesAndCheck(final Class<?> classs,
+                                    final Class<?>... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            Classes.supertypes(classs),
+            classs::getName
+        );
+    }
+
+    interface TestSupertypesInterface1 {
+    }
+
+    interface TestSupertypesInterface2 extends TestSupertypesInterface1 {
+    }
+
+    static class TestSupertypesClass1 implements TestSupertypesInterface1 {
+    }
+
+    static class TestSupertypesClass2 extends TestSupertypesClass1 implements TestSupertypesInterface2 {
+    }
+
     // ClassTesting.....................................................................................................
 
     @Override
@@ -23,6 +23,8 @@ import walkingkooka.collect.set.Sets;
 
 import java.lang.reflect.Method;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class MethodAttributesTest implements ClassTesting2<MethodAttributes>,
     ToStringTesting<MethodAttributes> {
 
@@ -53,6 +55,15 @@ public final class MethodAttributesTest implements ClassTesting2<MethodAttribute
         methodAndCheck("finalStaticMethod", MethodAttributes.FINAL, MethodAttributes.STATIC);
     }
 
+    @Test
+    public void testGetCached() throws Exception {
+        final Method method = MethodAttributesTestTest.class.getDeclaredMethod("finalStaticMethod");
+        assertSame(
+            MethodAttributes.get(method),
+            MethodAttributes.get(MethodAttributesTestTest.class.getDeclaredMethod("finalStaticMethod"))
+        );
+    }
+
     private void methodAndCheck(final String name, final MethodAttributes... attributes) throws Exception {
         final Method method = MethodAttributesTestTest.class.getDeclaredMethod(name);
         this.checkEquals(Sets.of(attributes), MethodAttributes.get(method));
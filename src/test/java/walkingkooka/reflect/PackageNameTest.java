@@ -161,6 +161,48 @@ public final class PackageNameTest extends PackageNameOrTypeNameJavaNameTestCase
         this.checkEquals(p, p3.parent(), "parent");
     }
 
+    // interned.......................................................................................................
+
+    @Test
+    public void testInternedSame() {
+        final String name = "walkingkooka.reflect.interned";
+        assertSame(
+            PackageName.interned(name),
+            PackageName.interned(new String(name))
+        );
+    }
+
+    @Test
+    public void testInternedEmpty() {
+        assertSame(
+            PackageName.UNNAMED,
+            PackageName.interned("")
+        );
+    }
+
+    @Test
+    public void testInternedInvalidFails() {
+        assertThrows(
+            InvalidCharacterException.class,
+            () -> PackageName.interned("before..after")
+        );
+    }
+
+    @Test
+    public void testParentNotInterned() {
+        final int size = PackageName.interner().size();
+
+        this.checkEquals(
+            PackageName.with("a1.b2.notinterned"),
+            PackageName.with("a1.b2.notinterned.c3").parent()
+        );
+        this.checkEquals(
+            size,
+            PackageName.interner().size(),
+            "interner size"
+        );
+    }
+
     @Override
     public PackageName createName(final String name) {
         return PackageName.with(name);
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import walkingkooka.compare.Comparators;
 import walkingkooka.predicate.PredicateTesting;
+import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.util.SystemProperty;
@@ -1230,6 +1231,54 @@ final public class CaseSensitivityTest implements ClassTesting2<CaseSensitivity>
         return null == chars ? null : CharSequences.quote(chars);
     }
 
+    // charPredicateChar................................................................................................
+
+    @Test
+    public void testCharPredicateChar() {
+        this.charPredicateCharAndCheck(
+            CaseSensitivity.SENSITIVE,
+            CaseSensitivity.SENSITIVE.charPredicate('A'),
+            'A'
+        );
+    }
+
+    @Test
+    public void testCharPredicateCharInsensitive() {
+        this.charPredicateCharAndCheck(
+            CaseSensitivity.INSENSITIVE,
+            CaseSensitivity.INSENSITIVE.charPredicate('A'),
+            'A'
+        );
+    }
+
+    @Test
+    public void testCharPredicateCharDifferentCaseSensitivity() {
+        this.charPredicateCharAndCheck(
+            CaseSensitivity.SENSITIVE,
+            CaseSensitivity.INSENSITIVE.charPredicate('A'),
+            -1
+        );
+    }
+
+    @Test
+    public void testCharPredicateCharOtherCharPredicate() {
+        this.charPredicateCharAndCheck(
+            CaseSensitivity.SENSITIVE,
+            (c) -> 'A' == c,
+            -1
+        );
+    }
+
+    private void charPredicateCharAndCheck(final CaseSensitivity sensitivity,
+                                           final CharPredicate predicate,
+                                           final int expected) {
+        this.checkEquals(
+            expected,
+            sensitivity.charPredicateChar(predicate),
+            () -> sensitivity + " charPredicateChar " + predicate
+        );
+    }
+
     // predicate SENSITIVE...............................................................................................
 
     @Test
@@ -1460,6 +1509,48 @@ final public class CaseSensitivityTest implements ClassTesting2<CaseSensitivity>
         );
     }
 
+    @Test
+    public void testGlobPatternCached() {
+        final CaseSensitivity caseSensitivity = CaseSensitivity.SENSITIVE;
+        final String pattern = "testGlobPatternCached*.txt";
+
+        final long hits = caseSensitivity.globPatternCacheHitCount();
+        final long misses = caseSensitivity.globPatternCacheMissCount();
+
+        final GlobPattern glob = caseSensitivity.globPattern(pattern);
+        assertSame(
+            glob,
+            caseSensitivity.globPattern(pattern)
+        );
+
+        this.checkEquals(
+            true,
+            caseSensitivity.globPatternCacheHitCount() > hits,
+            "hitCount"
+        );
+        this.checkEquals(
+            true,
+            caseSensitivity.globPatternCacheMissCount() > misses,
+            "missCount"
+        );
+    }
+
+    @Test
+    public void testGlobPatternCachedByCaseSensitivity() {
+        final String pattern = "testGlobPatternCachedByCaseSensitivity*.txt";
+
+        this.checkEquals(
+            CaseSensitivity.INSENSITIVE,
+            CaseSensitivity.INSENSITIVE.globPattern(pattern)
+                .caseSensitivity()
+        );
+        this.checkEquals(
+            CaseSensitivity.SENSITIVE,
+            CaseSensitivity.SENSITIVE.globPattern(pattern)
+                .caseSensitivity()
+        );
+    }
+
     @AfterEach
     public void after() {
         CaseSensitivity.FILE_SYSTEM = null;
@@ -26,6 +26,10 @@ import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.reflect.PublicStaticHelperTesting;
 import walkingkooka.reflect.ThrowableTesting;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Optional;
@@ -627,6 +631,150 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
         this.escapeUnescapeAndCheck("apple\u001F;banana", "apple\\u001F;banana");
     }
 
+    @Test
+    public void testEscapeUnescapeUnicodeControlCharacters() {
+        this.escapeUnescapeAndCheck("\u0001\u0008\u000B\u001Fz", "\\u0001\\u0008\\u000B\\u001Fz");
+    }
+
+    @Test
+    public void testEscapeUnescapeSeveral() {
+        this.escapeUnescapeAndCheck("a\tb\nc\"d\\", "a\\tb\\nc\\\"d\\\\");
+    }
+
+    @Test
+    public void testEscapeNothingToEscapeSame() {
+        final String chars = "apple banana";
+        assertSame(
+            chars,
+            CharSequences.escape(chars)
+        );
+    }
+
+    @Test
+    public void testEscapeStringBuilderNullCharsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.escape(null, new StringBuilder())
+        );
+    }
+
+    @Test
+    public void testEscapeStringBuilderNullStringBuilderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.escape("abc", (StringBuilder) null)
+        );
+    }
+
+    @Test
+    public void testEscapeStringBuilderAppends() {
+        final StringBuilder b = new StringBuilder("before ");
+        CharSequences.escape("a\tb", b);
+
+        this.checkEquals(
+            "before a\\tb",
+            b.toString()
+        );
+    }
+
+    @Test
+    public void testEscapeReaderWriterNullReaderFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.escape((Reader) null, new StringWriter())
+        );
+    }
+
+    @Test
+    public void testEscapeReaderWriterNullWriterFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.escape(new StringReader(""), null)
+        );
+    }
+
+    @Test
+    public void testEscapeReaderWriterLarge() throws IOException {
+        final StringBuilder chars = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 10000; i++) {
+            chars.append("abc\n");
+            expected.append("abc\\n");
+        }
+
+        final StringWriter writer = new StringWriter();
+        CharSequences.escape(
+            new StringReader(chars.toString()),
+            writer
+        );
+
+        this.checkEquals(
+            expected.toString(),
+            writer.toString()
+        );
+    }
+
+    @Test
+    public void testUnescapeNothingToUnescapeSame() {
+        final String chars = "apple banana";
+        assertSame(
+            chars,
+            CharSequences.unescape(chars)
+        );
+    }
+
+    @Test
+    public void testUnescapeTrailingBackslash() {
+        this.checkEquals(
+            "abc",
+            CharSequences.unescape("abc\\")
+        );
+    }
+
+    @Test
+    public void testUnescapeIncompleteUnicode() {
+        this.checkEquals(
+            "a\\u12",
+            CharSequences.unescape("a\\u12")
+        );
+    }
+
+    @Test
+    public void testUnescapeInvalidUnicode() {
+        this.checkEquals(
+            "a\\u12G4",
+            CharSequences.unescape("a\\u12G4")
+        );
+    }
+
+    @Test
+    public void testUnescapeUnknownEscape() {
+        this.checkEquals(
+            "axb",
+            CharSequences.unescape("a\\xb")
+        );
+    }
+
+    @Test
+    public void testUnescapeStringBuilderNullCharsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.unescape(null, new StringBuilder())
+        );
+    }
+
+    @Test
+    public void testUnescapeStringBuilderAppends() {
+        final StringBuilder b = new StringBuilder("before ");
+        CharSequences.unescape("a\\tb", b);
+
+        this.checkEquals(
+            "before a\tb",
+            b.toString()
+        );
+    }
+
     private void escapeUnescapeAndCheck(final CharSequence chars,
                                         final String expected) {
         this.checkEquals(
@@ -639,6 +787,45 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
             CharSequences.unescape(expected),
             () -> "unescape " + CharSequences.quote(chars)
         );
+
+        final StringBuilder escapeBuilder = new StringBuilder();
+        CharSequences.escape(chars, escapeBuilder);
+        this.checkEquals(
+            expected,
+            escapeBuilder.toString(),
+            () -> "escape StringBuilder " + CharSequences.quote(chars)
+        );
+
+        final StringBuilder unescapeBuilder = new StringBuilder();
+        CharSequences.unescape(expected, unescapeBuilder);
+        this.checkEquals(
+            chars.toString(),
+            unescapeBuilder.toString(),
+            () -> "unescape StringBuilder " + CharSequences.quote(chars)
+        );
+
+        try {
+            final StringWriter appendable = new StringWriter();
+            CharSequences.escape(chars, (Appendable) appendable);
+            this.checkEquals(
+                expected,
+                appendable.toString(),
+                () -> "escape Appendable " + CharSequences.quote(chars)
+            );
+
+            final StringWriter writer = new StringWriter();
+            CharSequences.escape(
+                new StringReader(chars.toString()),
+                writer
+            );
+            this.checkEquals(
+                expected,
+                writer.toString(),
+                () -> "escape Reader " + CharSequences.quote(chars)
+            );
+        } catch (final IOException cause) {
+            throw new AssertionError(cause.getMessage(), cause);
+        }
     }
 
     // isNullOrEmpty....................................................................................................
@@ -1089,6 +1276,22 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
             CharSequences.quoteAndEscape(chars),
             () -> "Escape " + CharSequences.quote(chars)
         );
+
+        final StringBuilder b = new StringBuilder();
+        CharSequences.quoteAndEscape(chars, b);
+        this.checkEquals(
+            expected,
+            b.toString(),
+            () -> "Escape StringBuilder " + CharSequences.quote(chars)
+        );
+    }
+
+    @Test
+    public void testQuoteAndEscapeStringBuilderNullCharsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.quoteAndEscape(null, new StringBuilder())
+        );
     }
 
     // quote if chars ..................................................................................................
@@ -1295,6 +1498,22 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
             CharSequences.quoteIfNecessary(sequence).toString(),
             () -> "Quote if necessary \"" + sequence + "\" "
         );
+
+        final StringBuilder b = new StringBuilder();
+        CharSequences.quoteIfNecessary(sequence, b);
+        this.checkEquals(
+            expected,
+            b.toString(),
+            () -> "Quote if necessary StringBuilder \"" + sequence + "\" "
+        );
+    }
+
+    @Test
+    public void testQuoteIfNecessaryStringBuilderNullCharsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> CharSequences.quoteIfNecessary(null, new StringBuilder())
+        );
     }
 
     // startsWith.......................................................................................................
@@ -881,6 +881,71 @@ public final class GlobPatternTest implements ClassTesting<GlobPattern>,
         );
     }
 
+    @Test
+    public void testPrefixSuffixSameTextTooShort() {
+        this.parseThenTestAndCheck(
+            "ab*ab",
+            "aba",
+            false
+        );
+    }
+
+    @Test
+    public void testPrefixSuffixOverlapping() {
+        this.parseThenTestAndCheck(
+            "ab*ab",
+            "abab",
+            true
+        );
+    }
+
+    @Test
+    public void testPrefixMismatch() {
+        this.parseThenTestAndCheck(
+            "abc*",
+            "xbcdef",
+            false
+        );
+    }
+
+    @Test
+    public void testSuffixMismatch() {
+        this.parseThenTestAndCheck(
+            "*.txt",
+            "hello.tx",
+            false
+        );
+    }
+
+    @Test
+    public void testSuffixCaseInsensitive() {
+        this.parseThenTestAndCheck(
+            "?*.txt",
+            CaseSensitivity.INSENSITIVE,
+            "HELLO.TXT",
+            true
+        );
+    }
+
+    @Test
+    public void testSuffixCaseSensitiveMismatch() {
+        this.parseThenTestAndCheck(
+            "?*.txt",
+            CaseSensitivity.SENSITIVE,
+            "HELLO.TXT",
+            false
+        );
+    }
+
+    @Test
+    public void testEmptyPatternEmptyText() {
+        this.parseThenTestAndCheck(
+            "",
+            "",
+            true
+        );
+    }
+
     private void parseThenTestAndCheck(final String pattern,
                                        final CharSequence test,
                                        final boolean expected) {